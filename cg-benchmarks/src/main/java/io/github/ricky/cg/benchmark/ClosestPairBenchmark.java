@@ -0,0 +1,77 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.proximity.ClosestPair;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className ClosestPairBenchmark
+ * @desc 最近点对的基准测试：分治算法（顺序/并行）与两两调用 distance 的暴力搜索对比<br>
+ * 暴力搜索为 O(n²)，大规模时请用 -p size 只选较小的规模
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClosestPairBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "CLUSTERED", "DEGENERATE"})
+    public Distribution distribution;
+
+    private Point[] points;
+
+    private double[] xs;
+
+    private double[] ys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        points = Datasets.points(distribution, size);
+        xs = new double[size];
+        ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = points[i].getX();
+            ys[i] = points[i].getY();
+        }
+    }
+
+    @Benchmark
+    public int[] divideAndConquer() {
+        return ClosestPair.compute(xs, ys, size);
+    }
+
+    @Benchmark
+    public int[] divideAndConquerParallel() {
+        return ClosestPair.computeParallel(xs, ys, size);
+    }
+
+    @Benchmark
+    public int[] bruteForce() {
+        int bestI = -1, bestJ = -1;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < points.length; i++) {
+            for (int j = i + 1; j < points.length; j++) {
+                double distance = ComputationalGeometryUtils.distance(points[i], points[j]);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    bestI = i;
+                    bestJ = j;
+                }
+            }
+        }
+        return new int[]{bestI, bestJ};
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.line.Segment;
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.overlay.ConvexClipper;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className ConvexClipperBenchmark
+ * @desc 批量凸多边形裁剪的基准测试：每次操作把 size 个小多边形逐个裁剪到同一个窗口<br>
+ * RECTANGLE 为轴对齐的视口，HEXAGON 为一般的凸窗口；被裁剪的多边形随机散布在窗口周围，约一半与窗口边界相交<br>
+ * buffers 使用复用的缓冲区，稳态下不分配对象；polygon 为返回 {@link Polygon} 的便捷接口；
+ * lineIntersect 为原先用 {@link ComputationalGeometryUtils#lineIntersect(Segment, Segment)} 逐边求交的写法，作为对照
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvexClipperBenchmark {
+
+    /**
+     * 被裁剪多边形的最大顶点数
+     */
+    private static final int MAX_VERTICES = 8;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"RECTANGLE", "HEXAGON"})
+    public String window;
+
+    private Polygon clip;
+
+    private ConvexClipper clipper;
+
+    private Polygon[] subjects;
+
+    private double[][] subjectXs, subjectYs;
+
+    private double[] outXs, outYs, scratchXs, scratchYs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        clip = switch (window) {
+            case "RECTANGLE" -> new Polygon(new Point[]{
+                    new Point(0, 0), new Point(1000, 0), new Point(1000, 1000), new Point(0, 1000),
+            });
+            case "HEXAGON" -> new Polygon(6, 500, new Point(500, 500));
+            default -> throw new IllegalArgumentException("Unknown window: " + window);
+        };
+        clipper = new ConvexClipper(clip);
+        SplittableRandom random = new SplittableRandom(0x5EED_C0DEL);
+        subjects = new Polygon[size];
+        subjectXs = new double[size][];
+        subjectYs = new double[size][];
+        for (int i = 0; i < size; i++) {
+            int n = 3 + random.nextInt(MAX_VERTICES - 2);
+            double cx = random.nextDouble(-100, 1100), cy = random.nextDouble(-100, 1100);
+            double radius = random.nextDouble(10, 100);
+            Point[] vertexes = new Point[n];
+            subjectXs[i] = new double[n];
+            subjectYs[i] = new double[n];
+            for (int k = 0; k < n; k++) {
+                double theta = 2 * Math.PI * k / n;
+                subjectXs[i][k] = cx + radius * Math.cos(theta);
+                subjectYs[i][k] = cy + radius * Math.sin(theta);
+                vertexes[k] = new Point(subjectXs[i][k], subjectYs[i][k]);
+            }
+            subjects[i] = new Polygon(vertexes);
+        }
+        int capacity = clipper.capacity(MAX_VERTICES);
+        outXs = new double[capacity];
+        outYs = new double[capacity];
+        scratchXs = new double[capacity];
+        scratchYs = new double[capacity];
+    }
+
+    @Benchmark
+    public int buffers() {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            total += clipper.clip(subjectXs[i], subjectYs[i], subjectXs[i].length, outXs, outYs, scratchXs, scratchYs);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int polygon() {
+        int total = 0;
+        for (Polygon subject : subjects) {
+            Polygon result = clipper.clip(subject);
+            total += result == null ? 0 : result.count();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int lineIntersect() {
+        int total = 0;
+        for (Polygon subject : subjects) {
+            total += lineIntersectClip(subject, clip).size();
+        }
+        return total;
+    }
+
+    /**
+     * 逐条窗口边用 lineIntersect 求交的 Sutherland–Hodgman 裁剪，窗口按逆时针排列
+     */
+    private static List<Point> lineIntersectClip(Polygon subject, Polygon clip) {
+        List<Point> output = new ArrayList<>(List.of(subject.getVertexes()));
+        for (int k = 0; k < clip.count() && !output.isEmpty(); k++) {
+            Point a = clip.getVertex(k), b = clip.getVertex(k + 1 == clip.count() ? 0 : k + 1);
+            Segment edge = new Segment(a, b);
+            List<Point> input = output;
+            output = new ArrayList<>();
+            Point previous = input.get(input.size() - 1);
+            for (Point current : input) {
+                boolean currentInside = ComputationalGeometryUtils.cross(a, b, current) >= 0;
+                boolean previousInside = ComputationalGeometryUtils.cross(a, b, previous) >= 0;
+                if (currentInside != previousInside) {
+                    Point crossing = ComputationalGeometryUtils.lineIntersect(new Segment(previous, current), edge);
+                    if (crossing != null) {
+                        output.add(crossing);
+                    }
+                }
+                if (currentInside) {
+                    output.add(current);
+                }
+                previous = current;
+            }
+        }
+        return output;
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.hull.ConvexHull;
+import io.github.ricky.cg.hull.ParallelConvexHull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className ConvexHullBenchmark
+ * @desc 凸包的基准测试：findingConvexHulls 与 ConvexHull 引擎（带/不带 Akl–Toussaint 预过滤）及其并行分治版本
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvexHullBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "CLUSTERED", "DEGENERATE"})
+    public Distribution distribution;
+
+    private Point[] points;
+
+    private double[] xs;
+
+    private double[] ys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        points = Datasets.points(distribution, size);
+        xs = new double[size];
+        ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = points[i].getX();
+            ys[i] = points[i].getY();
+        }
+    }
+
+    @Benchmark
+    public Point[] findingConvexHulls() {
+        return ComputationalGeometryUtils.findingConvexHulls(points);
+    }
+
+    @Benchmark
+    public int[] monotoneChain() {
+        return ConvexHull.monotoneChain(xs, ys, size);
+    }
+
+    @Benchmark
+    public int[] aklToussaintMonotoneChain() {
+        return ConvexHull.compute(xs, ys, size);
+    }
+
+    @Benchmark
+    public int[] parallelConvexHull() {
+        return ParallelConvexHull.compute(xs, ys, size);
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.triangulation.DelaunayTriangulation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className DelaunayBenchmark
+ * @desc Delaunay 三角剖分的基准测试：构建扁平网格，以及构建后再创建全部 Triangle 对象
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DelaunayBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"RANDOM", "CLUSTERED", "DEGENERATE"})
+    public Distribution distribution;
+
+    private double[] xs;
+
+    private double[] ys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Point[] points = Datasets.points(distribution, size);
+        xs = new double[size];
+        ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = points[i].getX();
+            ys[i] = points[i].getY();
+        }
+    }
+
+    @Benchmark
+    public DelaunayTriangulation build() {
+        return new DelaunayTriangulation(xs, ys, size);
+    }
+
+    @Benchmark
+    public Object buildAndMaterialize() {
+        return new DelaunayTriangulation(xs, ys, size).toTriangles();
+    }
+}
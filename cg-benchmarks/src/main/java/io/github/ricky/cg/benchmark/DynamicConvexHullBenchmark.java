@@ -0,0 +1,101 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.hull.DynamicConvexHull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/18
+ * @className DynamicConvexHullBenchmark
+ * @desc 滑动窗口凸包的基准测试：窗口内保持 size 个点，每个事件移出最早的点、加入一个新点，之后读取一次当前凸包；
+ * 每次调用处理 EVENTS 个事件，点在 2 * size 个点上循环<br>
+ * dynamic 在 {@link DynamicConvexHull} 上删除与插入；recompute 在每个事件之后对窗口重新调用 findingConvexHulls
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicConvexHullBenchmark {
+
+    private static final int EVENTS = 100;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"RANDOM", "CLUSTERED", "DEGENERATE"})
+    public Distribution distribution;
+
+    private Point[] points;
+
+    private double[] xs;
+
+    private double[] ys;
+
+    private double[] hullXs;
+
+    private double[] hullYs;
+
+    private DynamicConvexHull hull;
+
+    private Point[] window;
+
+    /**
+     * 窗口中最早的点在 points 中的位置
+     */
+    private int oldest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        points = Datasets.points(distribution, 2 * size);
+        xs = new double[2 * size];
+        ys = new double[2 * size];
+        for (int i = 0; i < 2 * size; i++) {
+            xs[i] = points[i].getX();
+            ys[i] = points[i].getY();
+        }
+        hullXs = new double[2 * size];
+        hullYs = new double[2 * size];
+        hull = new DynamicConvexHull();
+        window = new Point[size];
+        for (int i = 0; i < size; i++) {
+            hull.add(xs[i], ys[i]);
+            window[i] = points[i];
+        }
+        oldest = 0;
+    }
+
+    @Benchmark
+    public int dynamic() {
+        int total = 0;
+        for (int e = 0; e < EVENTS; e++) {
+            int incoming = (oldest + size) % (2 * size);
+            hull.remove(xs[oldest], ys[oldest]);
+            hull.add(xs[incoming], ys[incoming]);
+            oldest = (oldest + 1) % (2 * size);
+            total += hull.copyTo(hullXs, hullYs);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int recompute() {
+        int total = 0;
+        for (int e = 0; e < EVENTS; e++) {
+            int incoming = (oldest + size) % (2 * size);
+            window[oldest % size] = points[incoming];
+            oldest = (oldest + 1) % (2 * size);
+            Point[] vertexes = ComputationalGeometryUtils.findingConvexHulls(window);
+            total += vertexes == null ? 0 : vertexes.length;
+        }
+        return total;
+    }
+}
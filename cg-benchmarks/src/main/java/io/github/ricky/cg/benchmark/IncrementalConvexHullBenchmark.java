@@ -0,0 +1,78 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.hull.IncrementalConvexHull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className IncrementalConvexHullBenchmark
+ * @desc 点流凸包的基准测试：size 个点分 TICKS 批到达，每批之后读取一次当前凸包<br>
+ * incremental 逐点插入 {@link IncrementalConvexHull} 并在每批之后取快照；
+ * recompute 在每批之后对已到达的全部点重新调用 findingConvexHulls
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncrementalConvexHullBenchmark {
+
+    private static final int TICKS = 10;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    @Param({"RANDOM", "CLUSTERED", "DEGENERATE"})
+    public Distribution distribution;
+
+    private Point[] points;
+
+    private double[] xs;
+
+    private double[] ys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        points = Datasets.points(distribution, size);
+        xs = new double[size];
+        ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = points[i].getX();
+            ys[i] = points[i].getY();
+        }
+    }
+
+    @Benchmark
+    public int incremental() {
+        IncrementalConvexHull hull = new IncrementalConvexHull();
+        int total = 0;
+        for (int tick = 1, i = 0; tick <= TICKS; tick++) {
+            for (int end = (int) ((long) size * tick / TICKS); i < end; i++) {
+                hull.add(xs[i], ys[i]);
+            }
+            total += hull.snapshot().size();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int recompute() {
+        int total = 0;
+        for (int tick = 1; tick <= TICKS; tick++) {
+            Point[] hull = ComputationalGeometryUtils.findingConvexHulls(
+                    Arrays.copyOf(points, (int) ((long) size * tick / TICKS)));
+            total += hull == null ? 0 : hull.length;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.enclosing.MinimumEnclosingCircle;
+import io.github.ricky.cg.shape.circle.CenterRadiusCircle;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className MinimumEnclosingCircleBenchmark
+ * @desc 最小覆盖圆的基准测试：Welzl 算法、批量模式（每组 GROUP_SIZE 个点），以及用多边形直径近似覆盖半径的旧做法
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MinimumEnclosingCircleBenchmark {
+
+    private static final int GROUP_SIZE = 16;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "CLUSTERED", "DEGENERATE"})
+    public Distribution distribution;
+
+    private Point[] points;
+
+    private double[] xs;
+
+    private double[] ys;
+
+    private int[] offsets;
+
+    private double[] circles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        points = Datasets.points(distribution, size);
+        xs = new double[size];
+        ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = points[i].getX();
+            ys[i] = points[i].getY();
+        }
+        int groups = (size + GROUP_SIZE - 1) / GROUP_SIZE;
+        offsets = new int[groups + 1];
+        for (int g = 0; g < groups; g++) {
+            offsets[g + 1] = Math.min(size, offsets[g] + GROUP_SIZE);
+        }
+        circles = new double[3 * groups];
+    }
+
+    @Benchmark
+    public CenterRadiusCircle welzl() {
+        return MinimumEnclosingCircle.compute(xs, ys, size);
+    }
+
+    @Benchmark
+    public double[] welzlBatch() {
+        MinimumEnclosingCircle.computeBatch(xs, ys, offsets, offsets.length - 1, circles);
+        return circles;
+    }
+
+    @Benchmark
+    public double polygonDiameter() {
+        return new Polygon(points).diameter() / 2;
+    }
+}
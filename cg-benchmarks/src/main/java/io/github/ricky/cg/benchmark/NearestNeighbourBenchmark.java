@@ -0,0 +1,94 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.index.KdTree;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className NearestNeighbourBenchmark
+ * @desc 最近邻的基准测试：二维树查询与逐点调用 distance 的暴力搜索对比，以及二维树的顺序/并行构建<br>
+ * 查询类基准每次调用执行 QUERIES 次查询
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NearestNeighbourBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "CLUSTERED", "DEGENERATE"})
+    public Distribution distribution;
+
+    private Point[] points;
+
+    private KdTree tree;
+
+    private Point[] queries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        points = Datasets.points(distribution, size);
+        tree = new KdTree(points);
+        queries = Datasets.points(Distribution.RANDOM, QUERIES, Datasets.SEED + 1);
+    }
+
+    @Benchmark
+    public int kdTreeNearest() {
+        int sum = 0;
+        for (Point q : queries) {
+            sum += tree.nearest(q);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int kdTreeNearest10() {
+        int sum = 0;
+        for (Point q : queries) {
+            sum += tree.nearest(q, 10)[0];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int bruteForceNearest() {
+        int sum = 0;
+        for (Point q : queries) {
+            int best = -1;
+            double bestDistance = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < points.length; i++) {
+                double distance = ComputationalGeometryUtils.distance(q, points[i]);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = i;
+                }
+            }
+            sum += best;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public KdTree build() {
+        return new KdTree(points);
+    }
+
+    @Benchmark
+    public KdTree buildParallel() {
+        return KdTree.buildParallel(points);
+    }
+}
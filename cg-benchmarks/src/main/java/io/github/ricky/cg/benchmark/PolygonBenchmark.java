@@ -0,0 +1,63 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PolygonBenchmark
+ * @desc 多边形属性的基准测试：area、gravityCenter、firstAccess<br>
+ * size 为多边形顶点数，多边形为由数据集构造的星形多边形；
+ * area、gravityCenter 命中缓存，firstAccess 每次构造新多边形并读取全部派生属性，衡量一次遍历的代价
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolygonBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "CLUSTERED", "DEGENERATE"})
+    public Distribution distribution;
+
+    private Polygon polygon;
+
+    private Point[] vertexes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        polygon = Datasets.starPolygon(Datasets.points(distribution, size));
+        vertexes = polygon.getVertexes();
+    }
+
+    @Benchmark
+    public double area() {
+        return polygon.area();
+    }
+
+    @Benchmark
+    public Point gravityCenter() {
+        return polygon.gravityCenter();
+    }
+
+    @Benchmark
+    public void firstAccess(Blackhole blackhole) {
+        Polygon fresh = new Polygon(vertexes);
+        blackhole.consume(fresh.area());
+        blackhole.consume(fresh.perimeter());
+        blackhole.consume(fresh.gravityCenter());
+        blackhole.consume(fresh.boundingBox());
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.overlay.PolygonBooleanOperations;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PolygonBooleanOperationsBenchmark
+ * @desc 多边形布尔运算的基准测试：并集与交集<br>
+ * size 为每个多边形的顶点数；STAR 为两个随机点集构造的星形多边形，边界交点数与顶点数同阶；
+ * WAVY 为两个边界呈波浪形、彼此错开的多边形，交点数远小于顶点数，接近地块与分区图层叠置的情形；
+ * CONVEX 为两个正多边形，交集走凸多边形的快速路径
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolygonBooleanOperationsBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Param({"STAR", "WAVY", "CONVEX"})
+    public String shape;
+
+    private Polygon a;
+
+    private Polygon b;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (shape) {
+            case "STAR" -> {
+                a = Datasets.starPolygon(Datasets.points(Distribution.RANDOM, size));
+                b = Datasets.starPolygon(Datasets.points(Distribution.RANDOM, size, Datasets.SEED + 1));
+            }
+            case "WAVY" -> {
+                a = wavy(size, 0);
+                b = wavy(size, 0.3);
+            }
+            case "CONVEX" -> {
+                a = new Polygon(size, 100, new Point(0, 0));
+                b = new Polygon(size, 100, new Point(30, 20));
+            }
+            default -> throw new IllegalArgumentException("Unknown shape: " + shape);
+        }
+    }
+
+    /**
+     * 半径在 100 附近起伏 8 次的多边形，中心按 offset 平移
+     */
+    private static Polygon wavy(int size, double offset) {
+        Point[] vertexes = new Point[size];
+        for (int i = 0; i < size; i++) {
+            double theta = 2 * Math.PI * i / size;
+            double r = 100 + 10 * Math.sin(8 * theta + offset);
+            vertexes[i] = new Point(offset * 20 + r * Math.cos(theta), r * Math.sin(theta));
+        }
+        return new Polygon(vertexes);
+    }
+
+    @Benchmark
+    public Polygon[] union() {
+        return PolygonBooleanOperations.union(a, b);
+    }
+
+    @Benchmark
+    public Polygon[] intersection() {
+        return PolygonBooleanOperations.intersection(a, b);
+    }
+}
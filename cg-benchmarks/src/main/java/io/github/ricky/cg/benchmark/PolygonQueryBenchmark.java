@@ -0,0 +1,112 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.location.PreparedConvexPolygon;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PolygonQueryBenchmark
+ * @desc 点与多边形位置关系的基准测试：positionalRelationship、insideConvexPolygon、PreparedConvexPolygon<br>
+ * size 为多边形顶点数；每次调用对同一多边形执行 {@value #QUERIES} 次查询
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolygonQueryBenchmark {
+
+    /**
+     * 每次调用的查询次数
+     */
+    public static final int QUERIES = 1024;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "CLUSTERED", "DEGENERATE"})
+    public Distribution distribution;
+
+    /**
+     * 由数据集构造的星形多边形
+     */
+    private Polygon starPolygon;
+
+    /**
+     * 覆盖数据范围的正多边形
+     */
+    private Polygon convexPolygon;
+
+    private PreparedConvexPolygon preparedConvexPolygon;
+
+    private Point[] queries;
+
+    private double[] queryXs, queryYs;
+
+    private boolean[] results;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        starPolygon = Datasets.starPolygon(Datasets.points(distribution, size));
+        convexPolygon = new Polygon(size, 500, new Point(500, 500));
+        preparedConvexPolygon = new PreparedConvexPolygon(convexPolygon);
+        queries = Datasets.points(distribution, QUERIES, Datasets.SEED + 1);
+        queryXs = new double[QUERIES];
+        queryYs = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queryXs[i] = queries[i].getX();
+            queryYs[i] = queries[i].getY();
+        }
+        results = new boolean[QUERIES];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int positionalRelationship() {
+        int sum = 0;
+        for (Point q : queries) {
+            sum += ComputationalGeometryUtils.positionalRelationship(starPolygon, q).ordinal();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int insideConvexPolygon() {
+        int count = 0;
+        for (Point q : queries) {
+            if (ComputationalGeometryUtils.insideConvexPolygon(convexPolygon, q)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int preparedConvexPolygon() {
+        int count = 0;
+        for (Point q : queries) {
+            if (preparedConvexPolygon.contains(q)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int preparedConvexPolygonBatch() {
+        return preparedConvexPolygon.contains(queryXs, queryYs, QUERIES, results);
+    }
+}
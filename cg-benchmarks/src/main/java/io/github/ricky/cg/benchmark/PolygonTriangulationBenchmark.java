@@ -0,0 +1,56 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import io.github.ricky.cg.shape.polygon.Triangle;
+import io.github.ricky.cg.triangulation.PolygonTriangulation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PolygonTriangulationBenchmark
+ * @desc 简单多边形三角剖分的基准测试：输出索引三元组，以及输出 Triangle 对象<br>
+ * size 为多边形顶点数；STAR 为随机点集构造的星形多边形，COMB 为梳状多边形（大量分裂、合并顶点），SPIRAL 为螺线带状多边形。
+ * 退化点集构造的星形多边形可能不是简单多边形，因此这里按形状而不是点的分布取参数
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolygonTriangulationBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"STAR", "COMB", "SPIRAL"})
+    public String shape;
+
+    private Polygon polygon;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        polygon = switch (shape) {
+            case "STAR" -> Datasets.starPolygon(Datasets.points(Distribution.RANDOM, size));
+            case "COMB" -> Datasets.combPolygon(size);
+            case "SPIRAL" -> Datasets.spiralPolygon(size);
+            default -> throw new IllegalArgumentException("Unknown shape: " + shape);
+        };
+    }
+
+    @Benchmark
+    public int[] triangulate() {
+        return PolygonTriangulation.triangulate(polygon);
+    }
+
+    @Benchmark
+    public Triangle[] toTriangles() {
+        return PolygonTriangulation.toTriangles(polygon);
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.simplification.PolylineSimplification;
+import io.github.ricky.cg.simplification.StreamingSimplifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PolylineSimplificationBenchmark
+ * @desc 折线化简的基准测试：随机游走的轨迹，步长为1，航向每步随机偏转，接近 GPS 轨迹<br>
+ * 容差取5个步长，Visvalingam–Whyatt 的面积阈值取容差的平方；streaming 的窗口为 256 个点
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolylineSimplificationBenchmark {
+
+    private static final double TOLERANCE = 5;
+
+    private static final int WINDOW = 256;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private double[] xs;
+
+    private double[] ys;
+
+    private StreamingSimplifier simplifier;
+
+    private long emitted;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(Datasets.SEED);
+        xs = new double[size];
+        ys = new double[size];
+        double heading = 0;
+        for (int i = 1; i < size; i++) {
+            heading += random.nextDouble(-0.5, 0.5);
+            xs[i] = xs[i - 1] + Math.cos(heading);
+            ys[i] = ys[i - 1] + Math.sin(heading);
+        }
+        simplifier = new StreamingSimplifier(TOLERANCE, WINDOW, (x, y, index) -> emitted++);
+    }
+
+    @Benchmark
+    public int[] douglasPeucker() {
+        return PolylineSimplification.douglasPeucker(xs, ys, size, TOLERANCE);
+    }
+
+    @Benchmark
+    public int[] visvalingamWhyatt() {
+        return PolylineSimplification.visvalingamWhyatt(xs, ys, size, TOLERANCE * TOLERANCE);
+    }
+
+    @Benchmark
+    public long streaming() {
+        emitted = 0;
+        for (int i = 0; i < size; i++) {
+            simplifier.add(xs[i], ys[i]);
+        }
+        simplifier.finish();
+        return emitted;
+    }
+}
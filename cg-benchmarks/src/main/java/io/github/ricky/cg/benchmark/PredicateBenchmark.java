@@ -0,0 +1,85 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.line.Segment;
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.predicate.RobustPredicates;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PredicateBenchmark
+ * @desc 基本谓词的基准测试：cross、orientation、isIntersect、lineIntersect<br>
+ * 每次调用遍历整个数据集，吞吐量的单位为“遍/秒”
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PredicateBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "CLUSTERED", "DEGENERATE"})
+    public Distribution distribution;
+
+    private Point[] points;
+
+    private Segment[] segments;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        points = Datasets.points(distribution, size);
+        segments = Datasets.segments(points);
+    }
+
+    @Benchmark
+    public double cross() {
+        double sum = 0;
+        for (int i = 2; i < points.length; i++) {
+            sum += ComputationalGeometryUtils.cross(points[i - 2], points[i - 1], points[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int orientation() {
+        int sum = 0;
+        for (int i = 2; i < points.length; i++) {
+            Point a = points[i - 2], b = points[i - 1], c = points[i];
+            sum += RobustPredicates.orientation(a.getX(), a.getY(), b.getX(), b.getY(), c.getX(), c.getY());
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int isIntersect() {
+        int count = 0;
+        for (int i = 1; i < segments.length; i++) {
+            if (ComputationalGeometryUtils.isIntersect(segments[i - 1], segments[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int lineIntersect() {
+        int count = 0;
+        for (int i = 1; i < segments.length; i++) {
+            if (ComputationalGeometryUtils.lineIntersect(segments[i - 1], segments[i]) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
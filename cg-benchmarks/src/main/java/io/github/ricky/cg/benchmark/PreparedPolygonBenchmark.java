@@ -0,0 +1,104 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.location.PreparedPolygon;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PreparedPolygonBenchmark
+ * @desc 预处理多边形点定位的基准测试：PreparedPolygon.locate 与逐边射线法 positionalRelationship 对比，以及批量顺序/并行定位<br>
+ * size 为多边形顶点数；单点定位每次调用执行 {@value #QUERIES} 次查询，批量定位每次调用定位 {@value #BATCH} 个点
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PreparedPolygonBenchmark {
+
+    /**
+     * 每次调用的查询次数
+     */
+    public static final int QUERIES = 1024;
+
+    /**
+     * 批量定位的点数
+     */
+    public static final int BATCH = 1 << 20;
+
+    @Param({"10", "1000", "20000", "1000000"})
+    public int size;
+
+    @Param({"RANDOM", "CLUSTERED", "DEGENERATE"})
+    public Distribution distribution;
+
+    private Polygon polygon;
+
+    private PreparedPolygon prepared;
+
+    private Point[] queries;
+
+    private double[] batchXs, batchYs;
+
+    private byte[] codes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        polygon = Datasets.starPolygon(Datasets.points(distribution, size));
+        prepared = new PreparedPolygon(polygon);
+        queries = Datasets.points(distribution, QUERIES, Datasets.SEED + 1);
+        Point[] batch = Datasets.points(distribution, BATCH, Datasets.SEED + 2);
+        batchXs = new double[BATCH];
+        batchYs = new double[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            batchXs[i] = batch[i].getX();
+            batchYs[i] = batch[i].getY();
+        }
+        codes = new byte[BATCH];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int positionalRelationship() {
+        int sum = 0;
+        for (Point q : queries) {
+            sum += ComputationalGeometryUtils.positionalRelationship(polygon, q).ordinal();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int preparedPolygon() {
+        int sum = 0;
+        for (Point q : queries) {
+            sum += prepared.locate(q).ordinal();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public byte[] batchSequential() {
+        prepared.locate(batchXs, batchYs, BATCH, codes);
+        return codes;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public byte[] batchParallel() {
+        prepared.locateParallel(batchXs, batchYs, BATCH, codes, ForkJoinPool.commonPool(), PreparedPolygon.DEFAULT_PARALLEL_THRESHOLD);
+        return codes;
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.hull.ConvexHull;
+import io.github.ricky.cg.hull.OrientedRectangle;
+import io.github.ricky.cg.hull.RotatingCalipers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className RotatingCalipersBenchmark
+ * @desc 旋转卡壳的基准测试：diameter、width、minimumAreaRectangle、minimumPerimeterRectangle<br>
+ * size 为凸包顶点数，点均匀分布在圆上，因此全部是凸包顶点；凸包在准备阶段求出，只测量卡壳本身
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RotatingCalipersBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private double[] xs;
+
+    private double[] ys;
+
+    private int[] hull;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        xs = new double[size];
+        ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            double angle = 2 * Math.PI * i / size;
+            xs[i] = 1000 * Math.cos(angle);
+            ys[i] = 600 * Math.sin(angle);
+        }
+        hull = ConvexHull.compute(xs, ys, size);
+    }
+
+    @Benchmark
+    public double diameter() {
+        return RotatingCalipers.diameter(xs, ys, hull);
+    }
+
+    @Benchmark
+    public double width() {
+        return RotatingCalipers.width(xs, ys, hull);
+    }
+
+    @Benchmark
+    public OrientedRectangle minimumAreaRectangle() {
+        return RotatingCalipers.minimumAreaRectangle(xs, ys, hull);
+    }
+
+    @Benchmark
+    public OrientedRectangle minimumPerimeterRectangle() {
+        return RotatingCalipers.minimumPerimeterRectangle(xs, ys, hull);
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.line.Segment;
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.intersection.SegmentIntersections;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className SegmentIntersectionBenchmark
+ * @desc 线段集合求交的基准测试：Bentley–Ottmann 扫描线与两两调用 isIntersect + lineIntersect 的对比<br>
+ * 线段为长度不超过20的短线段，交点数与线段数大致成正比；两两比较为 O(n²)，大规模下仅作参考
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SegmentIntersectionBenchmark {
+
+    private static final double MAX_LENGTH = 20.0;
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Param({"RANDOM", "CLUSTERED", "DEGENERATE"})
+    public Distribution distribution;
+
+    private List<Segment> segments;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        segments = Arrays.asList(Datasets.shortSegments(distribution, size, MAX_LENGTH));
+    }
+
+    @Benchmark
+    public int sweepLine() {
+        int[] count = new int[1];
+        SegmentIntersections.findAll(segments, (x, y, i, j) -> count[0]++);
+        return count[0];
+    }
+
+    @Benchmark
+    public int pairwise() {
+        int count = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            for (int j = i + 1; j < segments.size(); j++) {
+                if (ComputationalGeometryUtils.isIntersect(segments.get(i), segments.get(j)) &&
+                        ComputationalGeometryUtils.lineIntersect(segments.get(i), segments.get(j)) != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
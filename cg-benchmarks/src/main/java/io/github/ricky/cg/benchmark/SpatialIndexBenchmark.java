@@ -0,0 +1,79 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.index.PolygonIndex;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import io.github.ricky.cg.shape.polygon.enums.PositionalRelationshipEnum;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className SpatialIndexBenchmark
+ * @desc 空间索引的基准测试：R树点查询与逐个调用 positionalRelationship 的线性扫描对比<br>
+ * 多边形为以数据集中的点为中心的小正六边形，每次调用执行 QUERIES 次点查询
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpatialIndexBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    private static final double RADIUS = 2.0;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"RANDOM", "CLUSTERED", "DEGENERATE"})
+    public Distribution distribution;
+
+    private Polygon[] polygons;
+
+    private PolygonIndex index;
+
+    private Point[] queries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Point[] centers = Datasets.points(distribution, size);
+        polygons = new Polygon[size];
+        for (int i = 0; i < size; i++) {
+            polygons[i] = new Polygon(6, RADIUS, centers[i]);
+        }
+        index = new PolygonIndex(Arrays.asList(polygons));
+        queries = Datasets.points(Distribution.RANDOM, QUERIES, Datasets.SEED + 1);
+    }
+
+    @Benchmark
+    public int rtreeLocate() {
+        int count = 0;
+        for (Point q : queries) {
+            count += index.locate(q).size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int count = 0;
+        for (Point q : queries) {
+            for (Polygon polygon : polygons) {
+                if (ComputationalGeometryUtils.positionalRelationship(polygon, q) != PositionalRelationshipEnum.EXTERNAL) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.benchmark.support.Distribution;
+import io.github.ricky.cg.shape.BoundingBox;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import io.github.ricky.cg.triangulation.DelaunayTriangulation;
+import io.github.ricky.cg.triangulation.VoronoiDiagram;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className VoronoiBenchmark
+ * @desc Voronoi 图的基准测试：由已有的 Delaunay 三角剖分构建对偶结构，以及创建全部单元格<br>
+ * 边界为点集的包围盒
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VoronoiBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"RANDOM", "CLUSTERED", "DEGENERATE"})
+    public Distribution distribution;
+
+    private DelaunayTriangulation delaunay;
+
+    private Polygon bounds;
+
+    private VoronoiDiagram voronoi;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Point[] points = Datasets.points(distribution, size);
+        delaunay = new DelaunayTriangulation(points);
+        BoundingBox box = BoundingBox.of(points);
+        bounds = new Polygon(new Point[]{
+                new Point(box.getMinX(), box.getMinY()),
+                new Point(box.getMaxX(), box.getMinY()),
+                new Point(box.getMaxX(), box.getMaxY()),
+                new Point(box.getMinX(), box.getMaxY()),
+        });
+        voronoi = new VoronoiDiagram(delaunay, bounds);
+    }
+
+    @Benchmark
+    public VoronoiDiagram build() {
+        return new VoronoiDiagram(delaunay, bounds);
+    }
+
+    @Benchmark
+    public double allCells() {
+        double area = 0;
+        for (int i = 0; i < size; i++) {
+            Polygon cell = voronoi.cell(i);
+            if (cell != null) {
+                area += cell.area();
+            }
+        }
+        return area;
+    }
+}
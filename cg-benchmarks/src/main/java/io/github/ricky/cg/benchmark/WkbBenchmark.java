@@ -0,0 +1,92 @@
+package io.github.ricky.cg.benchmark;
+
+import io.github.ricky.cg.benchmark.support.Datasets;
+import io.github.ricky.cg.io.wkb.WkbCoordinates;
+import io.github.ricky.cg.io.wkb.WkbReader;
+import io.github.ricky.cg.io.wkb.WkbWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/18
+ * @className WkbBenchmark
+ * @desc WKB 编解码的基准测试：一个 size 个顶点的多边形，编码在堆外缓冲区中<br>
+ * view 通过坐标视图遍历全部坐标；copy 把坐标复制到数组；points 转换为 {@link io.github.ricky.cg.shape.polygon.Polygon}，
+ * 每个顶点创建一个 Point；write 用同一个写入器重复编码
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WkbBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private double[] xs;
+
+    private double[] ys;
+
+    /**
+     * copy 的目标数组，多一个位置存放闭合点
+     */
+    private double[] copyXs;
+
+    private double[] copyYs;
+
+    private ByteBuffer encoded;
+
+    private WkbWriter writer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(Datasets.SEED);
+        xs = new double[size];
+        ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            double r = random.nextDouble(0.5, 1), theta = 2 * Math.PI * i / size;
+            xs[i] = r * Math.cos(theta);
+            ys[i] = r * Math.sin(theta);
+        }
+        copyXs = new double[size + 1];
+        copyYs = new double[size + 1];
+        writer = new WkbWriter(ByteOrder.LITTLE_ENDIAN, true);
+        ByteBuffer written = writer.writePolygon(xs, ys, size);
+        encoded = ByteBuffer.allocateDirect(written.remaining());
+        encoded.put(written).flip();
+    }
+
+    @Benchmark
+    public double view() {
+        WkbCoordinates ring = WkbReader.read(encoded.duplicate()).getRing(0, 0);
+        double sum = 0;
+        for (int i = 0, n = ring.size(); i < n; i++) {
+            sum += ring.getX(i) + ring.getY(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int copy() {
+        WkbCoordinates ring = WkbReader.read(encoded.duplicate()).getRing(0, 0);
+        return ring.copyTo(copyXs, copyYs, 0);
+    }
+
+    @Benchmark
+    public double points() {
+        return WkbReader.read(encoded.duplicate()).toPolygon().count();
+    }
+
+    @Benchmark
+    public int write() {
+        return writer.writePolygon(xs, ys, size).remaining();
+    }
+}
@@ -0,0 +1,216 @@
+package io.github.ricky.cg.benchmark.support;
+
+import io.github.ricky.cg.basic.line.Segment;
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.shape.polygon.Polygon;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className Datasets
+ * @desc 基准测试数据集生成器<br>
+ * 所有数据集都由固定种子生成，保证不同版本之间的测量结果可比
+ */
+public final class Datasets {
+
+    /**
+     * 随机数种子
+     */
+    public static final long SEED = 0x5EED_C0DEL;
+
+    /**
+     * 坐标范围
+     */
+    private static final double EXTENT = 1000.0;
+
+    /**
+     * 聚簇个数
+     */
+    private static final int CLUSTERS = 16;
+
+    private Datasets() {
+    }
+
+    /**
+     * 生成点集
+     *
+     * @param distribution 分布类型
+     * @param size         点数
+     * @return 点集
+     */
+    public static Point[] points(Distribution distribution, int size) {
+        return points(distribution, size, SEED);
+    }
+
+    /**
+     * 使用指定种子生成点集
+     *
+     * @param distribution 分布类型
+     * @param size         点数
+     * @param seed         随机数种子
+     * @return 点集
+     */
+    public static Point[] points(Distribution distribution, int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        return switch (distribution) {
+            case RANDOM -> random(random, size);
+            case CLUSTERED -> clustered(random, size);
+            case DEGENERATE -> degenerate(random, size);
+        };
+    }
+
+    /**
+     * 将点集两两配对为线段：第i条线段为 <points[2i]-points[2i+1]>
+     *
+     * @param points 点集
+     * @return 线段集合
+     */
+    public static Segment[] segments(Point[] points) {
+        Segment[] segments = new Segment[points.length / 2];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(points[2 * i], points[2 * i + 1]);
+        }
+        return segments;
+    }
+
+    /**
+     * 生成短线段集合：以点集中的点为起点，方向随机，长度不超过 maxLength
+     *
+     * @param distribution 起点的分布类型
+     * @param size         线段数
+     * @param maxLength    最大长度
+     * @return 线段集合
+     */
+    public static Segment[] shortSegments(Distribution distribution, int size, double maxLength) {
+        Point[] points = points(distribution, size);
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        Segment[] segments = new Segment[size];
+        for (int i = 0; i < size; i++) {
+            double angle = random.nextDouble(2 * Math.PI);
+            double length = random.nextDouble(maxLength);
+            Point begin = points[i];
+            segments[i] = new Segment(begin, new Point(
+                    begin.getX() + length * Math.cos(angle),
+                    begin.getY() + length * Math.sin(angle)
+            ));
+        }
+        return segments;
+    }
+
+    /**
+     * 将点集按绕质心的极角排序，构造星形（简单）多边形
+     *
+     * @param points 点集
+     * @return 多边形
+     */
+    public static Polygon starPolygon(Point[] points) {
+        double cx = 0, cy = 0;
+        for (Point point : points) {
+            cx += point.getX();
+            cy += point.getY();
+        }
+        double ox = cx / points.length, oy = cy / points.length;
+        Point[] vertexes = points.clone();
+        Arrays.sort(vertexes, Comparator.comparingDouble((Point p) -> Math.atan2(p.getY() - oy, p.getX() - ox)));
+        return new Polygon(vertexes);
+    }
+
+    /**
+     * 构造梳状多边形：一条水平带的上下两侧各有一排梯形齿，齿间的顶点都是分裂或合并顶点
+     *
+     * @param size 顶点数，向下取整为8的倍数（至少8）
+     * @return 逆时针排列的多边形
+     */
+    public static Polygon combPolygon(int size) {
+        int teeth = Math.max(1, size / 8);
+        Point[] vertexes = new Point[8 * teeth];
+        int k = 0;
+        for (int t = 0; t < teeth; t++) {
+            vertexes[k++] = new Point(2 * t, 0);
+            vertexes[k++] = new Point(2 * t + 0.25, -10);
+            vertexes[k++] = new Point(2 * t + 0.75, -10);
+            vertexes[k++] = new Point(2 * t + 1, 0);
+        }
+        for (int t = teeth - 1; t >= 0; t--) {
+            vertexes[k++] = new Point(2 * t + 1, 1);
+            vertexes[k++] = new Point(2 * t + 0.75, 11);
+            vertexes[k++] = new Point(2 * t + 0.25, 11);
+            vertexes[k++] = new Point(2 * t, 1);
+        }
+        return new Polygon(vertexes);
+    }
+
+    /**
+     * 构造沿阿基米德螺线绕十圈的带状多边形
+     *
+     * @param size 顶点数，向下取整为偶数（至少6）
+     * @return 逆时针排列的多边形
+     */
+    public static Polygon spiralPolygon(int size) {
+        int m = Math.max(3, size / 2);
+        Point[] vertexes = new Point[2 * m];
+        for (int i = 0; i < m; i++) {
+            double theta = 20 * Math.PI * i / (m - 1);
+            double inner = 10 + theta, outer = inner + 3;
+            vertexes[i] = new Point(outer * Math.cos(theta), outer * Math.sin(theta));
+            vertexes[2 * m - 1 - i] = new Point(inner * Math.cos(theta), inner * Math.sin(theta));
+        }
+        return new Polygon(vertexes);
+    }
+
+    private static Point[] random(SplittableRandom random, int size) {
+        Point[] points = new Point[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = new Point(random.nextDouble(EXTENT), random.nextDouble(EXTENT));
+        }
+        return points;
+    }
+
+    private static Point[] clustered(SplittableRandom random, int size) {
+        double[] centers = new double[2 * CLUSTERS];
+        for (int i = 0; i < centers.length; i++) {
+            centers[i] = random.nextDouble(EXTENT);
+        }
+        double sigma = EXTENT / 100;
+        Point[] points = new Point[size];
+        for (int i = 0; i < size; i++) {
+            int c = random.nextInt(CLUSTERS);
+            points[i] = new Point(
+                    centers[2 * c] + gaussian(random) * sigma,
+                    centers[2 * c + 1] + gaussian(random) * sigma
+            );
+        }
+        return points;
+    }
+
+    /**
+     * 一半的点落在同一条直线上（整数坐标，叉积精确为0），四分之一的点是已有点的重复，其余为随机点
+     */
+    private static Point[] degenerate(SplittableRandom random, int size) {
+        Point[] points = new Point[size];
+        for (int i = 0; i < size; i++) {
+            int kind = random.nextInt(4);
+            if (kind < 2) {
+                double x = random.nextInt((int) EXTENT);
+                points[i] = new Point(x, 2 * x + 1);
+            } else if (kind == 2 && i > 0) {
+                points[i] = points[random.nextInt(i)];
+            } else {
+                points[i] = new Point(random.nextInt((int) EXTENT), random.nextInt((int) EXTENT));
+            }
+        }
+        return points;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller 变换
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+}
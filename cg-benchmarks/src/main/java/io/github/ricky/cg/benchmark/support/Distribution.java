@@ -0,0 +1,28 @@
+package io.github.ricky.cg.benchmark.support;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className Distribution
+ * @desc 基准测试数据集的分布类型
+ */
+public enum Distribution {
+
+    /**
+     * 单位正方形 [0, 1000) x [0, 1000) 内均匀分布的随机点
+     */
+    RANDOM,
+
+    /**
+     * 围绕若干随机中心呈正态分布的聚簇点
+     */
+    CLUSTERED,
+
+    /**
+     * 退化数据：大量共线点与重复点
+     */
+    DEGENERATE,
+    ;
+
+}
@@ -2,6 +2,7 @@ package io.github.ricky.cg.basic.point;
 
 import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
 import io.github.ricky.cg.common.utils.DoubleUtils;
+import io.github.ricky.cg.predicate.RobustPredicates;
 
 import java.util.Comparator;
 import java.util.Objects;
@@ -64,12 +65,11 @@ public final class Point {
 
         @Override
         public int compare(Point o1, Point o2) {
-            double cp = ComputationalGeometryUtils.cross(point, o1, o2);
-            int sign = DoubleUtils.sgn(cp);
+            int sign = RobustPredicates.orientation(point.x, point.y, o1.x, o1.y, o2.x, o2.y);
             if (sign != 0) {
                 return sign;
             }
-            return Double.compare(ComputationalGeometryUtils.distance(point, o1), ComputationalGeometryUtils.distance(point, o2));
+            return Double.compare(ComputationalGeometryUtils.sqrDistance(point, o1), ComputationalGeometryUtils.sqrDistance(point, o2));
         }
     }
 
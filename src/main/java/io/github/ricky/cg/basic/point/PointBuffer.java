@@ -0,0 +1,255 @@
+package io.github.ricky.cg.basic.point;
+
+import java.util.Arrays;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PointBuffer
+ * @desc 坐标点缓冲区<br>
+ * 使用两个原始类型数组(xs/ys)按结构数组(SoA)方式存放点坐标，避免为每个点创建 {@link Point} 对象<br>
+ * 注意：与 {@link Point} 不同，缓冲区中的坐标按原值存储，不做近零归零处理
+ */
+public final class PointBuffer {
+
+    /**
+     * 默认容量
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * 横坐标数组
+     */
+    private double[] xs;
+
+    /**
+     * 纵坐标数组
+     */
+    private double[] ys;
+
+    /**
+     * 有效点个数
+     */
+    private int size;
+
+    public PointBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 构造指定容量的空缓冲区
+     *
+     * @param capacity 初始容量
+     */
+    public PointBuffer(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        this.xs = new double[capacity];
+        this.ys = new double[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * 包装已有的坐标数组，不做拷贝
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     */
+    public PointBuffer(double[] xs, double[] ys) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("The coordinate arrays differ in length.");
+        }
+        this.xs = xs;
+        this.ys = ys;
+        this.size = xs.length;
+    }
+
+    /**
+     * 由点集构造缓冲区
+     *
+     * @param points 点集
+     * @return 缓冲区
+     */
+    public static PointBuffer of(Point... points) {
+        PointBuffer buffer = new PointBuffer(points.length);
+        for (Point point : points) {
+            buffer.add(point.getX(), point.getY());
+        }
+        return buffer;
+    }
+
+    /**
+     * 获取有效点个数
+     *
+     * @return 有效点个数
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 获取当前容量
+     *
+     * @return 容量
+     */
+    public int capacity() {
+        return xs.length;
+    }
+
+    /**
+     * 获取底层横坐标数组<br>
+     * 数组长度可能大于 {@link #size()}，仅前 size 个元素有效；扩容后引用会失效
+     *
+     * @return 横坐标数组
+     */
+    public double[] getXs() {
+        return xs;
+    }
+
+    /**
+     * 获取底层纵坐标数组<br>
+     * 数组长度可能大于 {@link #size()}，仅前 size 个元素有效；扩容后引用会失效
+     *
+     * @return 纵坐标数组
+     */
+    public double[] getYs() {
+        return ys;
+    }
+
+    public double getX(int index) {
+        checkIndex(index);
+        return xs[index];
+    }
+
+    public double getY(int index) {
+        checkIndex(index);
+        return ys[index];
+    }
+
+    /**
+     * 获取指定索引的点，会创建新的 {@link Point} 对象
+     *
+     * @param index 点索引
+     * @return 坐标点
+     */
+    public Point get(int index) {
+        checkIndex(index);
+        return new Point(xs[index], ys[index]);
+    }
+
+    /**
+     * 修改指定索引的点坐标
+     *
+     * @param index 点索引
+     * @param x     横坐标
+     * @param y     纵坐标
+     */
+    public void set(int index, double x, double y) {
+        checkIndex(index);
+        xs[index] = x;
+        ys[index] = y;
+    }
+
+    /**
+     * 在末尾追加一个点，容量不足时自动扩容
+     *
+     * @param x 横坐标
+     * @param y 纵坐标
+     */
+    public void add(double x, double y) {
+        if (size == xs.length) {
+            grow(size + 1);
+        }
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+    }
+
+    public void add(Point point) {
+        add(point.getX(), point.getY());
+    }
+
+    /**
+     * 调整有效点个数，容量不足时自动扩容<br>
+     * 新增部分的坐标值未定义，需由调用方写入
+     *
+     * @param newSize 新的有效点个数
+     */
+    public void resize(int newSize) {
+        if (newSize < 0) {
+            throw new IllegalArgumentException("Illegal size: " + newSize);
+        }
+        ensureCapacity(newSize);
+        size = newSize;
+    }
+
+    /**
+     * 确保容量不小于 minCapacity
+     *
+     * @param minCapacity 最小容量
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > xs.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * 清空缓冲区，保留容量
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * 转换为点集
+     *
+     * @return 点集
+     */
+    public Point[] toPoints() {
+        Point[] points = new Point[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = new Point(xs[i], ys[i]);
+        }
+        return points;
+    }
+
+    /**
+     * 拷贝有效部分，得到容量恰好为 size 的新缓冲区
+     *
+     * @return 新缓冲区
+     */
+    public PointBuffer copy() {
+        return new PointBuffer(Arrays.copyOf(xs, size), Arrays.copyOf(ys, size));
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, Math.max(DEFAULT_CAPACITY, xs.length + (xs.length >> 1)));
+        xs = Arrays.copyOf(xs, newCapacity);
+        ys = Arrays.copyOf(ys, newCapacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Incorrect point indexing.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append("(").append(xs[i]).append(",").append(ys[i]).append(")");
+        }
+        return stringBuilder.append("]").toString();
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.ricky.cg.common.sort;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className IndexSortUtils
+ * @desc 索引排序工具类<br>
+ * 对指向原始坐标数组的索引数组排序，避免装箱和创建点对象，坐标数组本身保持不变
+ */
+public class IndexSortUtils {
+
+    /**
+     * 小区间改用插入排序的阈值
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private IndexSortUtils() {
+    }
+
+    /**
+     * 索引比较器
+     */
+    @FunctionalInterface
+    public interface IndexComparator {
+
+        /**
+         * 比较两个索引所指的元素
+         *
+         * @param i 第一个索引
+         * @param j 第二个索引
+         * @return 负数、0、正数分别表示小于、等于、大于
+         */
+        int compare(int i, int j);
+
+    }
+
+    /**
+     * 按坐标字典序（先x后y）比较两个点，坐标相同时按索引比较
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     * @param i  第一个索引
+     * @param j  第二个索引
+     * @return 负数、0、正数分别表示小于、等于、大于
+     */
+    public static int compareXY(double[] xs, double[] ys, int i, int j) {
+        if (xs[i] != xs[j]) {
+            return xs[i] < xs[j] ? -1 : 1;
+        }
+        if (ys[i] != ys[j]) {
+            return ys[i] < ys[j] ? -1 : 1;
+        }
+        return Integer.compare(i, j);
+    }
+
+    /**
+     * 将索引数组的 [from, to) 区间按坐标字典序（先x后y，再按索引）排序<br>
+     * 归并排序，最坏 O(n log n)
+     *
+     * @param indexes 索引数组
+     * @param from    起始位置（包含）
+     * @param to      结束位置（不包含）
+     * @param xs      横坐标数组
+     * @param ys      纵坐标数组
+     */
+    public static void sortByXY(int[] indexes, int from, int to, double[] xs, double[] ys) {
+        sort(indexes, from, to, (i, j) -> compareXY(xs, ys, i, j));
+    }
+
+    /**
+     * 使用给定比较器将索引数组的 [from, to) 区间稳定排序<br>
+     * 归并排序，最坏 O(n log n)
+     *
+     * @param indexes    索引数组
+     * @param from       起始位置（包含）
+     * @param to         结束位置（不包含）
+     * @param comparator 索引比较器
+     */
+    public static void sort(int[] indexes, int from, int to, IndexComparator comparator) {
+        if (to - from < 2) {
+            return;
+        }
+        int[] buffer = new int[to - from];
+        for (int lo = from; lo < to; lo += INSERTION_SORT_THRESHOLD) {
+            int hi = Math.min(lo + INSERTION_SORT_THRESHOLD, to);
+            for (int i = lo + 1; i < hi; i++) {
+                int key = indexes[i];
+                int j = i - 1;
+                while (j >= lo && comparator.compare(indexes[j], key) > 0) {
+                    indexes[j + 1] = indexes[j];
+                    j--;
+                }
+                indexes[j + 1] = key;
+            }
+        }
+        for (int width = INSERTION_SORT_THRESHOLD; width < to - from; width <<= 1) {
+            for (int lo = from; lo < to - width; lo += width << 1) {
+                int mid = lo + width;
+                int hi = Math.min(mid + width, to);
+                if (comparator.compare(indexes[mid - 1], indexes[mid]) <= 0) {
+                    // 两段已经有序
+                    continue;
+                }
+                System.arraycopy(indexes, lo, buffer, 0, hi - lo);
+                int i = 0, j = mid - lo, k = lo;
+                int leftEnd = mid - lo, rightEnd = hi - lo;
+                while (i < leftEnd && j < rightEnd) {
+                    indexes[k++] = comparator.compare(buffer[j], buffer[i]) < 0 ? buffer[j++] : buffer[i++];
+                }
+                while (i < leftEnd) {
+                    indexes[k++] = buffer[i++];
+                }
+                while (j < rightEnd) {
+                    indexes[k++] = buffer[j++];
+                }
+            }
+        }
+    }
+
+    /**
+     * 生成 [0, n) 的恒等索引数组
+     *
+     * @param n 元素个数
+     * @return 索引数组
+     */
+    public static int[] identity(int n) {
+        int[] indexes = new int[n];
+        for (int i = 0; i < n; i++) {
+            indexes[i] = i;
+        }
+        return indexes;
+    }
+}
@@ -2,15 +2,18 @@ package io.github.ricky.cg.common.utils;
 
 import io.github.ricky.cg.basic.line.GeneralEquationLine;
 import io.github.ricky.cg.basic.line.Line;
-import io.github.ricky.cg.basic.line.RadialLine;
 import io.github.ricky.cg.basic.line.Segment;
 import io.github.ricky.cg.basic.point.Point;
-import io.github.ricky.cg.basic.vector.Vector;
-import io.github.ricky.cg.basic.vector.Vector2;
+import io.github.ricky.cg.basic.point.PointBuffer;
 import io.github.ricky.cg.common.constants.MathConstants;
+import io.github.ricky.cg.hull.ConvexHull;
+import io.github.ricky.cg.hull.ParallelConvexHull;
+import io.github.ricky.cg.predicate.RobustPredicates;
 import io.github.ricky.cg.shape.polygon.Polygon;
 import io.github.ricky.cg.shape.polygon.enums.PositionalRelationshipEnum;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * @author Ricky
  * @version 1.0
@@ -33,8 +36,22 @@ public class ComputationalGeometryUtils {
      * @return 两点之间欧式距离的平方
      */
     public static double sqrDistance(Point p1, Point p2) {
-        Vector2 v = new Vector2(p1, p2);
-        return v.sqrModulo();
+        return sqrDistance(p1.getX(), p1.getY(), p2.getX(), p2.getY());
+    }
+
+    /**
+     * 计算两点之间欧氏距离的平方
+     *
+     * @param x1 第一个点的横坐标
+     * @param y1 第一个点的纵坐标
+     * @param x2 第二个点的横坐标
+     * @param y2 第二个点的纵坐标
+     * @return 两点之间欧式距离的平方
+     */
+    public static double sqrDistance(double x1, double y1, double x2, double y2) {
+        double dx = x2 - x1;
+        double dy = y2 - y1;
+        return dx * dx + dy * dy;
     }
 
     /**
@@ -62,9 +79,22 @@ public class ComputationalGeometryUtils {
      * r < 0: p1 在矢量op2的逆时针方向<br>
      */
     public static double cross(Point o, Point p1, Point p2) {
-        Vector op1 = new Vector2(o, p1);
-        Vector op2 = new Vector2(o, p2);
-        return Vector.cross(op1, op2);
+        return cross(o.getX(), o.getY(), p1.getX(), p1.getY(), p2.getX(), p2.getY());
+    }
+
+    /**
+     * 计算两个向量op1和op2的叉积，不创建任何对象
+     *
+     * @param ox 共用点的横坐标
+     * @param oy 共用点的纵坐标
+     * @param x1 向量op1终点的横坐标
+     * @param y1 向量op1终点的纵坐标
+     * @param x2 向量op2终点的横坐标
+     * @param y2 向量op2终点的纵坐标
+     * @return 两个向量op1和op2的叉积，符号含义同 {@link #cross(Point, Point, Point)}
+     */
+    public static double cross(double ox, double oy, double x1, double y1, double x2, double y2) {
+        return (x1 - ox) * (y2 - oy) - (x2 - ox) * (y1 - oy);
     }
 
     /**
@@ -92,9 +122,22 @@ public class ComputationalGeometryUtils {
      * r > 0: 两矢量夹角为钝角
      */
     public static double dot(Point o, Point p1, Point p2) {
-        Vector op1 = new Vector2(o, p1);
-        Vector op2 = new Vector2(o, p2);
-        return Vector.dot(op1, op2);
+        return dot(o.getX(), o.getY(), p1.getX(), p1.getY(), p2.getX(), p2.getY());
+    }
+
+    /**
+     * 计算两个向量op1和op2的点积，不创建任何对象
+     *
+     * @param ox 共用点的横坐标
+     * @param oy 共用点的纵坐标
+     * @param x1 向量op1终点的横坐标
+     * @param y1 向量op1终点的纵坐标
+     * @param x2 向量op2终点的横坐标
+     * @param y2 向量op2终点的纵坐标
+     * @return 两个向量op1和op2的点积，符号含义同 {@link #dot(Point, Point, Point)}
+     */
+    public static double dot(double ox, double oy, double x1, double y1, double x2, double y2) {
+        return (x1 - ox) * (x2 - ox) + (y1 - oy) * (y2 - oy);
     }
 
     /**
@@ -108,9 +151,25 @@ public class ComputationalGeometryUtils {
     public static boolean online(Segment l, Point p) {
         Point begin = l.getBegin();
         Point end = l.getEnd();
-        return cross(begin, p, end) == 0 &&
-                (p.getX() - begin.getX()) * (p.getX() - end.getX()) <= 0 &&
-                (p.getY() - begin.getY()) * (p.getY() - end.getY()) <= 0;
+        return online(begin.getX(), begin.getY(), end.getX(), end.getY(), p.getX(), p.getY());
+    }
+
+    /**
+     * 判断点p是否在线段ab上，不创建任何对象
+     *
+     * @param ax 线段起点的横坐标
+     * @param ay 线段起点的纵坐标
+     * @param bx 线段终点的横坐标
+     * @param by 线段终点的纵坐标
+     * @param px 点的横坐标
+     * @param py 点的纵坐标
+     * @return true=在线段上 false=不在线段上
+     */
+    public static boolean online(double ax, double ay, double bx, double by, double px, double py) {
+        // 先做矩形判定，多数情况下无需计算方向；直接比较坐标，坐标差之积可能下溢为0
+        return Math.min(ax, bx) <= px && px <= Math.max(ax, bx) &&
+                Math.min(ay, by) <= py && py <= Math.max(ay, by) &&
+                RobustPredicates.orientation(ax, ay, px, py, bx, by) == 0;
     }
 
     /**
@@ -122,10 +181,11 @@ public class ComputationalGeometryUtils {
      * @return 旋转之后的位置
      */
     public static Point rotate(Point o, Point p, double alpha) {
-        Vector2 op = new Vector2(o, p);
+        double dx = p.getX() - o.getX();
+        double dy = p.getY() - o.getY();
         return new Point(
-                op.getX() * Math.cos(alpha) - op.getY() * Math.sin(alpha) + o.getX(),
-                op.getY() * Math.cos(alpha) + op.getX() * Math.sin(alpha) + o.getY()
+                dx * Math.cos(alpha) - dy * Math.sin(alpha) + o.getX(),
+                dy * Math.cos(alpha) + dx * Math.sin(alpha) + o.getY()
         );
     }
 
@@ -139,13 +199,25 @@ public class ComputationalGeometryUtils {
      * @return 终止边在起始边的顺时针方向，返回负值；否则返回正值
      */
     public static double angle(Point o, Point p1, Point p2) {
-        Vector op1 = new Vector2(o, p1);
-        Vector op2 = new Vector2(o, p2);
+        return angle(o.getX(), o.getY(), p1.getX(), p1.getY(), p2.getX(), p2.getY());
+    }
 
+    /**
+     * 返回顶点在o点，起始边为op1，终止边为op2的夹角(单位：弧度)，不创建任何对象
+     *
+     * @param ox 顶点的横坐标
+     * @param oy 顶点的纵坐标
+     * @param x1 起始边终点的横坐标
+     * @param y1 起始边终点的纵坐标
+     * @param x2 终止边终点的横坐标
+     * @param y2 终止边终点的纵坐标
+     * @return 终止边在起始边的顺时针方向，返回负值；否则返回正值
+     */
+    public static double angle(double ox, double oy, double x1, double y1, double x2, double y2) {
         // 计算两个向量的点积
-        double cosPhi = Vector.dot(op1, op2);
+        double cosPhi = dot(ox, oy, x1, y1, x2, y2);
         // 计算两个向量模平方的乘积
-        double norm = op1.sqrModulo() * op2.sqrModulo();
+        double norm = sqrDistance(ox, oy, x1, y1) * sqrDistance(ox, oy, x2, y2);
         // 归一化点积
         cosPhi /= Math.sqrt(norm);
 
@@ -157,7 +229,7 @@ public class ComputationalGeometryUtils {
         }
 
         double phi = Math.acos(cosPhi);
-        if (Vector.cross(op1, op2) < 0) {
+        if (RobustPredicates.orientation(ox, oy, x1, y1, x2, y2) < 0) {
             // 终止边在起始边的顺时针方向
             return -phi;
         }
@@ -180,9 +252,24 @@ public class ComputationalGeometryUtils {
      * 0 < r < 1    P is interior to AB
      */
     public static double relation(Point c, Segment l) {
-        Vector ac = new Vector2(l.getBegin(), c);
-        Vector ab = new Vector2(l.getBegin(), l.getEnd());
-        return Vector.dot(ac, ab) / ab.sqrModulo();
+        Point a = l.getBegin();
+        Point b = l.getEnd();
+        return relation(c.getX(), c.getY(), a.getX(), a.getY(), b.getX(), b.getY());
+    }
+
+    /**
+     * 判断点C在线段AB所在的直线l上垂足P的与线段AB的关系，不创建任何对象
+     *
+     * @param cx 点C的横坐标
+     * @param cy 点C的纵坐标
+     * @param ax 线段起点A的横坐标
+     * @param ay 线段起点A的纵坐标
+     * @param bx 线段终点B的横坐标
+     * @param by 线段终点B的纵坐标
+     * @return 含义同 {@link #relation(Point, Segment)}
+     */
+    public static double relation(double cx, double cy, double ax, double ay, double bx, double by) {
+        return dot(ax, ay, cx, cy, bx, by) / sqrDistance(ax, ay, bx, by);
     }
 
     /**
@@ -240,10 +327,13 @@ public class ComputationalGeometryUtils {
      * @return 线段l1与l2之间的夹角，单位：弧度 范围(-PI，PI)
      */
     public static double segmentAngle(Segment u, Segment v) {
-        Point o = Point.ORIGINAL_POINT;
-        Point p1 = new Point(u.getEnd().getX() - u.getBegin().getX(), u.getEnd().getY() - u.getBegin().getY());
-        Point p2 = new Point(v.getEnd().getX() - v.getBegin().getX(), v.getEnd().getY() - v.getBegin().getY());
-        return angle(o, p1, p2);
+        return angle(
+                0, 0,
+                DoubleUtils.zeroIfNearZero(u.getEnd().getX() - u.getBegin().getX()),
+                DoubleUtils.zeroIfNearZero(u.getEnd().getY() - u.getBegin().getY()),
+                DoubleUtils.zeroIfNearZero(v.getEnd().getX() - v.getBegin().getX()),
+                DoubleUtils.zeroIfNearZero(v.getEnd().getY() - v.getBegin().getY())
+        );
     }
 
     /**
@@ -254,22 +344,45 @@ public class ComputationalGeometryUtils {
      * @return true=相交 false=不相交
      */
     public static boolean isIntersect(Segment u, Segment v) {
+        Point a = u.getBegin(), b = u.getEnd();
+        Point c = v.getBegin(), d = v.getEnd();
+        return isIntersect(a.getX(), a.getY(), b.getX(), b.getY(), c.getX(), c.getY(), d.getX(), d.getY());
+    }
+
+    /**
+     * 判断线段ab和cd相交(包括相交在端点处)，不创建任何对象
+     *
+     * @param ax 第一条线段起点的横坐标
+     * @param ay 第一条线段起点的纵坐标
+     * @param bx 第一条线段终点的横坐标
+     * @param by 第一条线段终点的纵坐标
+     * @param cx 第二条线段起点的横坐标
+     * @param cy 第二条线段起点的纵坐标
+     * @param dx 第二条线段终点的横坐标
+     * @param dy 第二条线段终点的纵坐标
+     * @return true=相交 false=不相交
+     */
+    public static boolean isIntersect(double ax, double ay, double bx, double by,
+                                      double cx, double cy, double dx, double dy) {
         // 排斥实验
-        if (Math.max(u.getBegin().getX(), u.getEnd().getX()) < Math.min(v.getBegin().getX(), v.getEnd().getX()) ||
-                Math.min(u.getBegin().getX(), u.getEnd().getX()) > Math.max(v.getBegin().getX(), v.getEnd().getX()) ||
-                Math.max(u.getBegin().getY(), u.getEnd().getY()) < Math.min(v.getBegin().getY(), v.getEnd().getY()) ||
-                Math.min(u.getBegin().getY(), u.getEnd().getY()) > Math.max(v.getBegin().getY(), v.getEnd().getY())) {
+        if (Math.max(ax, bx) < Math.min(cx, dx) ||
+                Math.min(ax, bx) > Math.max(cx, dx) ||
+                Math.max(ay, by) < Math.min(cy, dy) ||
+                Math.min(ay, by) > Math.max(cy, dy)) {
             return false;
         }
 
         // 跨立实验
-        double d1 = cross(u.getBegin(), u.getEnd(), v.getBegin());
-        double d2 = cross(u.getBegin(), u.getEnd(), v.getEnd());
-        double d3 = cross(v.getBegin(), v.getEnd(), u.getBegin());
-        double d4 = cross(v.getBegin(), v.getEnd(), u.getEnd());
+        double d1 = RobustPredicates.orient2d(ax, ay, bx, by, cx, cy);
+        double d2 = RobustPredicates.orient2d(ax, ay, bx, by, dx, dy);
+        if (d1 > 0 && d2 > 0 || d1 < 0 && d2 < 0) {
+            return false;
+        }
+        double d3 = RobustPredicates.orient2d(cx, cy, dx, dy, ax, ay);
+        double d4 = RobustPredicates.orient2d(cx, cy, dx, dy, bx, by);
 
-        // 如果d1和d2异号，且d3和d4也异号，则两线段相交
-        return d1 * d2 <= 0 && d3 * d4 <= 0;
+        // 如果d1和d2异号，且d3和d4也异号，则两线段相交；只比较符号，避免乘积下溢
+        return !(d3 > 0 && d4 > 0 || d3 < 0 && d4 < 0);
     }
 
     /**
@@ -280,11 +393,31 @@ public class ComputationalGeometryUtils {
      * @return true=相交 false=不相交
      */
     public static boolean isIntersectExcludingEndpoints(Segment u, Segment v) {
-        return isIntersect(u, v) &&
-                !online(u, v.getBegin()) &&
-                !online(u, v.getEnd()) &&
-                !online(v, u.getBegin()) &&
-                !online(v, u.getEnd());
+        Point a = u.getBegin(), b = u.getEnd();
+        Point c = v.getBegin(), d = v.getEnd();
+        return isIntersectExcludingEndpoints(a.getX(), a.getY(), b.getX(), b.getY(), c.getX(), c.getY(), d.getX(), d.getY());
+    }
+
+    /**
+     * 判断线段ab和cd相交（不包括双方的端点），不创建任何对象
+     *
+     * @param ax 第一条线段起点的横坐标
+     * @param ay 第一条线段起点的纵坐标
+     * @param bx 第一条线段终点的横坐标
+     * @param by 第一条线段终点的纵坐标
+     * @param cx 第二条线段起点的横坐标
+     * @param cy 第二条线段起点的纵坐标
+     * @param dx 第二条线段终点的横坐标
+     * @param dy 第二条线段终点的纵坐标
+     * @return true=相交 false=不相交
+     */
+    public static boolean isIntersectExcludingEndpoints(double ax, double ay, double bx, double by,
+                                                        double cx, double cy, double dx, double dy) {
+        return isIntersect(ax, ay, bx, by, cx, cy, dx, dy) &&
+                !online(ax, ay, bx, by, cx, cy) &&
+                !online(ax, ay, bx, by, dx, dy) &&
+                !online(cx, cy, dx, dy, ax, ay) &&
+                !online(cx, cy, dx, dy, bx, by);
     }
 
     /**
@@ -296,7 +429,9 @@ public class ComputationalGeometryUtils {
      * @return true=相交 false=不相交
      */
     public static boolean isCrossingLine(Segment u, Segment v) {
-        return cross(u.getBegin(), u.getEnd(), v.getBegin()) * cross(u.getBegin(), u.getEnd(), v.getEnd()) <= 0;
+        Point a = u.getBegin(), b = u.getEnd(), c = v.getBegin(), d = v.getEnd();
+        return RobustPredicates.orientation(a.getX(), a.getY(), b.getX(), b.getY(), c.getX(), c.getY()) *
+                RobustPredicates.orientation(a.getX(), a.getY(), b.getX(), b.getY(), d.getX(), d.getY()) <= 0;
     }
 
     /**
@@ -341,21 +476,32 @@ public class ComputationalGeometryUtils {
      * @return 位置关系
      */
     public static PositionalRelationshipEnum positionalRelationship(Polygon polygon, Point q) {
-        RadialLine r = new RadialLine(q);
+        // 射线r从q出发水平向右
+        // 斜向的射线穿过顶点时，“端点是两端点中纵坐标较大的那个”不能区分射线两侧，奇偶计数会出错
+        double qx = q.getX(), qy = q.getY();
         int n = polygon.count();
         int cnt = 0;
         for (int i = 0; i < n; i++) {
-            Segment l = polygon.getEdge(i);
-            if (online(l, q)) {
+            // 边l = <begin-end>
+            Point begin = polygon.getVertex(i);
+            Point end = polygon.getVertex((i + 1) % n);
+            double bx = begin.getX(), by = begin.getY();
+            double ex = end.getX(), ey = end.getY();
+            if (online(bx, by, ex, ey, qx, qy)) {
                 return PositionalRelationshipEnum.ONLINE;
             }
-            if (isIntersectExcludingEndpoints(r, l)) {
-                // 相交且不在端点
-                ++cnt;
+            if (by < qy && qy < ey || ey < qy && qy < by) {
+                // 两端点严格位于射线两侧：交点在q右侧，当且仅当q在自下而上的边的左侧
+                int orientation = RobustPredicates.orientation(bx, by, ex, ey, qx, qy);
+                if (ey > by ? orientation > 0 : orientation < 0) {
+                    ++cnt;
+                }
             }
 
-            if (online(r, l.getEnd()) && !online(r, l.getBegin()) && l.getEnd().getY() > l.getBegin().getY() ||
-                    !online(r, l.getEnd()) && online(r, l.getBegin()) && l.getBegin().getY() > l.getEnd().getY()) {
+            boolean endOnRay = ey == qy && ex >= qx;
+            boolean beginOnRay = by == qy && bx >= qx;
+            if (endOnRay && !beginOnRay && ey > by ||
+                    !endOnRay && beginOnRay && by > ey) {
                 // l的一个端点在r上且该端点是两端点中纵坐标较大的那个，忽略平行边
                 ++cnt;
             }
@@ -377,20 +523,25 @@ public class ComputationalGeometryUtils {
      * false=点q不在凸多边形polygon内
      */
     public static boolean insideConvexPolygon(final Polygon polygon, Point q) {
-        Point p = Point.ORIGINAL_POINT;
         int n = polygon.count();
         // 寻找一个肯定在多边形 polygon 内的点 p：多边形顶点平均值
+        double px = 0, py = 0;
         for (int i = 0; i < n; i++) {
-            p = Point.updatePosition(
-                    p.getX() + polygon.getVertex(i).getX(),
-                    p.getY() + polygon.getVertex(i).getY()
-            );
+            Point vertex = polygon.getVertex(i);
+            px = DoubleUtils.zeroIfNearZero(px + vertex.getX());
+            py = DoubleUtils.zeroIfNearZero(py + vertex.getY());
         }
-        p = Point.updatePosition(p.getX() / n, p.getY() / n);
+        px = DoubleUtils.zeroIfNearZero(px / n);
+        py = DoubleUtils.zeroIfNearZero(py / n);
 
+        double qx = q.getX(), qy = q.getY();
         for (int i = 0; i < n; i++) {
-            Segment l = polygon.getEdge(i);
-            if (cross(l.getBegin(), p, l.getEnd()) * cross(l.getBegin(), q, l.getEnd()) < 0) {
+            // 边l = <begin-end>
+            Point begin = polygon.getVertex(i);
+            Point end = polygon.getVertex((i + 1) % n);
+            double bx = begin.getX(), by = begin.getY();
+            double ex = end.getX(), ey = end.getY();
+            if (RobustPredicates.orientation(bx, by, px, py, ex, ey) * RobustPredicates.orientation(bx, by, qx, qy, ex, ey) < 0) {
                 // 点p和点q在边l的两侧，说明q点肯定在多边形外
                 return false;
             }
@@ -399,10 +550,12 @@ public class ComputationalGeometryUtils {
     }
 
     /**
-     * 寻找凸包-graham扫描法
+     * 寻找凸包<br>
+     * 委托给 {@link ConvexHull} 的单调链算法，时间复杂度 O(n log n)，不修改输入数组<br>
+     * 边上的共线点与重复点不计入凸包；所有点共线时返回两个端点
      *
      * @param pointSet 点集
-     * @return 返回凸包上的点集，按逆时针方向排列
+     * @return 返回凸包上的点集，按逆时针方向排列，起点为y坐标最小（相同则x最小）的点；点数少于3时返回null
      */
     public static Point[] findingConvexHulls(Point[] pointSet) {
         int n = pointSet.length;
@@ -410,50 +563,256 @@ public class ComputationalGeometryUtils {
             return null; // 凸包至少需要3个点
         }
 
-        // 找到y坐标最小的点，如果y坐标相同，则取x坐标最小的点
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = pointSet[i].getX();
+            ys[i] = pointSet[i].getY();
+        }
+        return lowestFirst(pointSet, xs, ys, ConvexHull.compute(xs, ys, n));
+    }
+
+    /**
+     * 并行寻找凸包<br>
+     * 委托给 {@link ParallelConvexHull} 的分治算法，结果与 {@link #findingConvexHulls(Point[])} 完全相同
+     *
+     * @param pointSet  点集
+     * @param pool      线程池
+     * @param threshold 并行阈值，区间点数不超过该值时顺序求解
+     * @return 返回凸包上的点集，按逆时针方向排列，起点为y坐标最小（相同则x最小）的点；点数少于3时返回null
+     */
+    public static Point[] findingConvexHullsParallel(Point[] pointSet, ForkJoinPool pool, int threshold) {
+        int n = pointSet.length;
+        if (n < 3) {
+            return null; // 凸包至少需要3个点
+        }
+
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = pointSet[i].getX();
+            ys[i] = pointSet[i].getY();
+        }
+        return lowestFirst(pointSet, xs, ys, ParallelConvexHull.compute(xs, ys, n, pool, threshold));
+    }
+
+    /**
+     * 将凸包顶点索引映射为点集，并以y坐标最小（相同则x最小）的点为起点
+     */
+    private static Point[] lowestFirst(Point[] pointSet, double[] xs, double[] ys, int[] hull) {
         int k = 0;
-        for (int i = 1; i < n; i++) {
-            if (pointSet[i].getY() < pointSet[k].getY() || (pointSet[i].getY() == pointSet[k].getY() && pointSet[i].getX() < pointSet[k].getX())) {
+        for (int i = 1; i < hull.length; i++) {
+            if (ys[hull[i]] < ys[hull[k]] || (ys[hull[i]] == ys[hull[k]] && xs[hull[i]] < xs[hull[k]])) {
                 k = i;
             }
         }
 
-        // 将最小点交换到数组的第一个位置
-        Point tmp = pointSet[0];
-        pointSet[0] = pointSet[k];
-        pointSet[k] = tmp;
-
-        // 根据与p0的极角排序，这里使用稳定的冒泡排序
-        for (int i = 1; i < n - 1; i++) {
-            for (int j = i + 1; j < n; j++) {
-                if (cross(pointSet[0], pointSet[j], pointSet[i]) > 0 || (cross(pointSet[0], pointSet[j], pointSet[i]) == 0 &&
-                        distance(pointSet[0], pointSet[j]) < distance(pointSet[0], pointSet[i]))) {
-                    tmp = pointSet[i];
-                    pointSet[i] = pointSet[j];
-                    pointSet[j] = tmp;
-                }
-            }
+        Point[] result = new Point[hull.length];
+        for (int i = 0; i < hull.length; i++) {
+            result[i] = pointSet[hull[(k + i) % hull.length]];
         }
+        return result;
+    }
 
-        // 构建凸包，这里使用数组模拟栈
-        Point[] hull = new Point[n];
-        int top = 2;
-        hull[0] = pointSet[0];
-        hull[1] = pointSet[1];
-        hull[2] = pointSet[2];
+    // 点缓冲区的批量运算
 
-        for (int i = 3; i < n; i++) {
-            while (top >= 2 && cross(pointSet[i], hull[top], hull[top - 1]) >= 0) {
-                top--;
-            }
-            hull[++top] = pointSet[i];
+    /**
+     * 计算缓冲区内索引为o、p1、p2的三个点构成的向量op1和op2的叉积
+     *
+     * @param points 点缓冲区
+     * @param o      共用点索引
+     * @param p1     向量op1的终点索引
+     * @param p2     向量op2的终点索引
+     * @return 两个向量op1和op2的叉积，符号含义同 {@link #cross(Point, Point, Point)}
+     */
+    public static double cross(PointBuffer points, int o, int p1, int p2) {
+        double[] xs = points.getXs();
+        double[] ys = points.getYs();
+        return cross(xs[o], ys[o], xs[p1], ys[p1], xs[p2], ys[p2]);
+    }
+
+    /**
+     * 计算缓冲区内索引为o、p1、p2的三个点构成的向量op1和op2的点积
+     *
+     * @param points 点缓冲区
+     * @param o      共用点索引
+     * @param p1     向量op1的终点索引
+     * @param p2     向量op2的终点索引
+     * @return 两个向量op1和op2的点积
+     */
+    public static double dot(PointBuffer points, int o, int p1, int p2) {
+        double[] xs = points.getXs();
+        double[] ys = points.getYs();
+        return dot(xs[o], ys[o], xs[p1], ys[p1], xs[p2], ys[p2]);
+    }
+
+    /**
+     * 计算缓冲区内索引为i、j的两点之间欧氏距离的平方
+     *
+     * @param points 点缓冲区
+     * @param i      第一个点索引
+     * @param j      第二个点索引
+     * @return 两点之间欧式距离的平方
+     */
+    public static double sqrDistance(PointBuffer points, int i, int j) {
+        double[] xs = points.getXs();
+        double[] ys = points.getYs();
+        return sqrDistance(xs[i], ys[i], xs[j], ys[j]);
+    }
+
+    /**
+     * 计算缓冲区内索引为i、j的两点之间欧氏距离
+     *
+     * @param points 点缓冲区
+     * @param i      第一个点索引
+     * @param j      第二个点索引
+     * @return 两点之间欧式距离
+     */
+    public static double distance(PointBuffer points, int i, int j) {
+        return Math.sqrt(sqrDistance(points, i, j));
+    }
+
+    /**
+     * 批量计算叉积：result[i] = cross(o[i], p1[i], p2[i])
+     *
+     * @param o      共用点缓冲区
+     * @param p1     向量op1的终点缓冲区
+     * @param p2     向量op2的终点缓冲区
+     * @param result 结果数组，长度不小于点数
+     */
+    public static void cross(PointBuffer o, PointBuffer p1, PointBuffer p2, double[] result) {
+        int n = checkBatchSize(result.length, o, p1, p2);
+        double[] ox = o.getXs(), oy = o.getYs();
+        double[] ax = p1.getXs(), ay = p1.getYs();
+        double[] bx = p2.getXs(), by = p2.getYs();
+        for (int i = 0; i < n; i++) {
+            result[i] = cross(ox[i], oy[i], ax[i], ay[i], bx[i], by[i]);
         }
+    }
 
-        // 裁剪hull数组
-        Point[] result = new Point[top + 1];
-        System.arraycopy(hull, 0, result, 0, top + 1);
+    /**
+     * 批量计算点积：result[i] = dot(o[i], p1[i], p2[i])
+     *
+     * @param o      共用点缓冲区
+     * @param p1     向量op1的终点缓冲区
+     * @param p2     向量op2的终点缓冲区
+     * @param result 结果数组，长度不小于点数
+     */
+    public static void dot(PointBuffer o, PointBuffer p1, PointBuffer p2, double[] result) {
+        int n = checkBatchSize(result.length, o, p1, p2);
+        double[] ox = o.getXs(), oy = o.getYs();
+        double[] ax = p1.getXs(), ay = p1.getYs();
+        double[] bx = p2.getXs(), by = p2.getYs();
+        for (int i = 0; i < n; i++) {
+            result[i] = dot(ox[i], oy[i], ax[i], ay[i], bx[i], by[i]);
+        }
+    }
 
-        return result;
+    /**
+     * 批量计算欧氏距离的平方：result[i] = sqrDistance(p1[i], p2[i])
+     *
+     * @param p1     第一组点
+     * @param p2     第二组点
+     * @param result 结果数组，长度不小于点数
+     */
+    public static void sqrDistance(PointBuffer p1, PointBuffer p2, double[] result) {
+        int n = checkBatchSize(result.length, p1, p2);
+        double[] ax = p1.getXs(), ay = p1.getYs();
+        double[] bx = p2.getXs(), by = p2.getYs();
+        for (int i = 0; i < n; i++) {
+            result[i] = sqrDistance(ax[i], ay[i], bx[i], by[i]);
+        }
+    }
+
+    /**
+     * 批量计算欧氏距离：result[i] = distance(p1[i], p2[i])
+     *
+     * @param p1     第一组点
+     * @param p2     第二组点
+     * @param result 结果数组，长度不小于点数
+     */
+    public static void distance(PointBuffer p1, PointBuffer p2, double[] result) {
+        sqrDistance(p1, p2, result);
+        int n = p1.size();
+        for (int i = 0; i < n; i++) {
+            result[i] = Math.sqrt(result[i]);
+        }
+    }
+
+    /**
+     * 批量旋转：将缓冲区中的每个点以点o为圆心逆时针旋转alpha(单位：弧度)<br>
+     * result 可以与 points 为同一个缓冲区，此时原地旋转
+     *
+     * @param o      旋转中心
+     * @param points 待旋转的点
+     * @param alpha  旋转弧度
+     * @param result 结果缓冲区，大小会被调整为 points 的点数
+     */
+    public static void rotate(Point o, PointBuffer points, double alpha, PointBuffer result) {
+        int n = points.size();
+        result.resize(n);
+        double cos = Math.cos(alpha);
+        double sin = Math.sin(alpha);
+        double ox = o.getX(), oy = o.getY();
+        double[] xs = points.getXs(), ys = points.getYs();
+        double[] rx = result.getXs(), ry = result.getYs();
+        for (int i = 0; i < n; i++) {
+            double dx = xs[i] - ox;
+            double dy = ys[i] - oy;
+            rx[i] = dx * cos - dy * sin + ox;
+            ry[i] = dy * cos + dx * sin + oy;
+        }
+    }
+
+    /**
+     * 批量求线段l上距缓冲区中每个点最近的点<br>
+     * result 可以与 points 为同一个缓冲区，此时原地写入
+     *
+     * @param points 点缓冲区
+     * @param l      线段
+     * @param result 结果缓冲区，大小会被调整为 points 的点数
+     */
+    public static void closestPointToSegment(PointBuffer points, Segment l, PointBuffer result) {
+        int n = points.size();
+        result.resize(n);
+        double ax = l.getBegin().getX(), ay = l.getBegin().getY();
+        double bx = l.getEnd().getX(), by = l.getEnd().getY();
+        double abx = bx - ax, aby = by - ay;
+        double sqrLength = abx * abx + aby * aby;
+        double[] xs = points.getXs(), ys = points.getYs();
+        double[] rx = result.getXs(), ry = result.getYs();
+        for (int i = 0; i < n; i++) {
+            double r = dot(ax, ay, xs[i], ys[i], bx, by) / sqrLength;
+            if (r < 0) {
+                rx[i] = ax;
+                ry[i] = ay;
+            } else if (r > 1) {
+                rx[i] = bx;
+                ry[i] = by;
+            } else {
+                rx[i] = ax + r * abx;
+                ry[i] = ay + r * aby;
+            }
+        }
     }
-}
 
+    /**
+     * 校验批量运算的输入规模一致
+     *
+     * @param resultLength 结果数组长度
+     * @param buffers      输入缓冲区
+     * @return 点数
+     */
+    private static int checkBatchSize(int resultLength, PointBuffer... buffers) {
+        int n = buffers[0].size();
+        for (PointBuffer buffer : buffers) {
+            if (buffer.size() != n) {
+                throw new IllegalArgumentException("The point buffers differ in size.");
+            }
+        }
+        if (resultLength < n) {
+            throw new IllegalArgumentException("The result array is too small.");
+        }
+        return n;
+    }
+}
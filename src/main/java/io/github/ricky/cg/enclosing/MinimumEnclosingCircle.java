@@ -0,0 +1,205 @@
+package io.github.ricky.cg.enclosing;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.shape.circle.CenterRadiusCircle;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className MinimumEnclosingCircle
+ * @desc 最小覆盖圆<br>
+ * Welzl 随机增量算法的迭代形式：按随机顺序逐个加入点，点落在当前圆外时，该点必在新圆的边界上，
+ * 于是以它为边界点对已加入的点重新求圆（至多三层循环），期望时间复杂度 O(n)<br>
+ * 圆心与半径保存在局部变量中，除随机顺序用的索引数组外不分配对象；批量模式对扁平坐标数组中的多组点复用同一个索引数组<br>
+ * 判断点在圆内时允许 1e-12 的相对误差，避免边界上的点因舍入被反复判为圆外
+ */
+public final class MinimumEnclosingCircle {
+
+    /**
+     * 半径平方的相对容差
+     */
+    private static final double TOLERANCE = 1 + 1e-12;
+
+    private MinimumEnclosingCircle() {
+    }
+
+    /**
+     * 求点集的最小覆盖圆
+     *
+     * @param points 点集
+     * @return 最小覆盖圆
+     */
+    public static CenterRadiusCircle compute(Point[] points) {
+        int n = points.length;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = points[i].getX();
+            ys[i] = points[i].getY();
+        }
+        return compute(xs, ys, n);
+    }
+
+    /**
+     * 求前n个点的最小覆盖圆
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     * @param n  点数
+     * @return 最小覆盖圆
+     */
+    public static CenterRadiusCircle compute(double[] xs, double[] ys, int n) {
+        if (n > xs.length || n > ys.length) {
+            throw new IndexOutOfBoundsException("The number of points exceeds the array length.");
+        }
+        double[] circle = new double[3];
+        solve(xs, ys, order(new int[n], 0, n), n, circle, 0);
+        return new CenterRadiusCircle(new Point(circle[0], circle[1]), circle[2]);
+    }
+
+    /**
+     * 批量求多组点的最小覆盖圆
+     *
+     * @param xs      横坐标数组
+     * @param ys      纵坐标数组
+     * @param offsets 第g组点为 [offsets[g], offsets[g+1])，长度为组数加1
+     * @return 第g个元素为第g组点的最小覆盖圆
+     */
+    public static CenterRadiusCircle[] computeBatch(double[] xs, double[] ys, int[] offsets) {
+        int groups = offsets.length - 1;
+        if (groups < 0) {
+            throw new IllegalArgumentException("The offsets must contain at least one element.");
+        }
+        double[] circles = new double[3 * groups];
+        computeBatch(xs, ys, offsets, groups, circles);
+        CenterRadiusCircle[] result = new CenterRadiusCircle[groups];
+        for (int g = 0; g < groups; g++) {
+            result[g] = new CenterRadiusCircle(new Point(circles[3 * g], circles[3 * g + 1]), circles[3 * g + 2]);
+        }
+        return result;
+    }
+
+    /**
+     * 批量求前groups组点的最小覆盖圆，结果写入调用方提供的数组，只分配一个长为最大组点数的索引数组
+     *
+     * @param xs      横坐标数组
+     * @param ys      纵坐标数组
+     * @param offsets 第g组点为 [offsets[g], offsets[g+1])
+     * @param groups  组数
+     * @param circles 第g组的圆心横坐标、圆心纵坐标、半径依次写入 circles[3g], circles[3g+1], circles[3g+2]
+     */
+    public static void computeBatch(double[] xs, double[] ys, int[] offsets, int groups, double[] circles) {
+        if (groups + 1 > offsets.length || 3 * groups > circles.length) {
+            throw new IndexOutOfBoundsException("The number of groups exceeds the array length.");
+        }
+        int maxSize = 0;
+        for (int g = 0; g < groups; g++) {
+            int from = offsets[g], to = offsets[g + 1];
+            if (from < 0 || to > xs.length || to > ys.length) {
+                throw new IndexOutOfBoundsException("The group exceeds the coordinate array length.");
+            }
+            maxSize = Math.max(maxSize, to - from);
+        }
+        int[] order = new int[maxSize];
+        for (int g = 0; g < groups; g++) {
+            int from = offsets[g], to = offsets[g + 1];
+            solve(xs, ys, order(order, from, to), to - from, circles, 3 * g);
+        }
+    }
+
+    /**
+     * 把 [from, to) 的索引按随机顺序写入 order 的前 to-from 个位置
+     */
+    private static int[] order(int[] order, int from, int to) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int m = to - from;
+        // Fisher–Yates 洗牌的 inside-out 形式，一边写入一边打乱
+        for (int i = 0; i < m; i++) {
+            int j = random.nextInt(i + 1);
+            order[i] = order[j];
+            order[j] = from + i;
+        }
+        return order;
+    }
+
+    /**
+     * 求 order 前m个索引所指点的最小覆盖圆，圆心与半径写入 circle[offset], circle[offset+1], circle[offset+2]
+     */
+    private static void solve(double[] xs, double[] ys, int[] order, int m, double[] circle, int offset) {
+        if (m < 1) {
+            throw new IllegalArgumentException("At least one point is needed to define an enclosing circle.");
+        }
+        int p0 = order[0];
+        double cx = xs[p0], cy = ys[p0], r2 = 0;
+        for (int i = 1; i < m; i++) {
+            int p = order[i];
+            double px = xs[p], py = ys[p];
+            if (inside(cx, cy, r2, px, py)) {
+                continue;
+            }
+            // p 在新圆的边界上
+            cx = px;
+            cy = py;
+            r2 = 0;
+            for (int j = 0; j < i; j++) {
+                int q = order[j];
+                double qx = xs[q], qy = ys[q];
+                if (inside(cx, cy, r2, qx, qy)) {
+                    continue;
+                }
+                // p 与 q 都在新圆的边界上
+                cx = (px + qx) / 2;
+                cy = (py + qy) / 2;
+                r2 = distance2(cx, cy, px, py);
+                for (int k = 0; k < j; k++) {
+                    int s = order[k];
+                    double sx = xs[s], sy = ys[s];
+                    if (inside(cx, cy, r2, sx, sy)) {
+                        continue;
+                    }
+                    // 过 p, q, s 三点的圆
+                    double bx = qx - px, by = qy - py;
+                    double tx = sx - px, ty = sy - py;
+                    double d = 2 * (bx * ty - by * tx);
+                    if (d == 0) {
+                        // 三点共线：取距离最远的两点为直径
+                        double pq = bx * bx + by * by, ps = tx * tx + ty * ty, qs = distance2(qx, qy, sx, sy);
+                        if (pq >= ps && pq >= qs) {
+                            cx = (px + qx) / 2;
+                            cy = (py + qy) / 2;
+                        } else if (ps >= qs) {
+                            cx = (px + sx) / 2;
+                            cy = (py + sy) / 2;
+                        } else {
+                            cx = (qx + sx) / 2;
+                            cy = (qy + sy) / 2;
+                        }
+                        r2 = Math.max(pq, Math.max(ps, qs)) / 4;
+                        continue;
+                    }
+                    double b2 = bx * bx + by * by, t2 = tx * tx + ty * ty;
+                    double ux = (ty * b2 - by * t2) / d;
+                    double uy = (bx * t2 - tx * b2) / d;
+                    cx = px + ux;
+                    cy = py + uy;
+                    r2 = ux * ux + uy * uy;
+                }
+            }
+        }
+        circle[offset] = cx;
+        circle[offset + 1] = cy;
+        circle[offset + 2] = Math.sqrt(r2);
+    }
+
+    private static boolean inside(double cx, double cy, double r2, double x, double y) {
+        return distance2(cx, cy, x, y) <= r2 * TOLERANCE;
+    }
+
+    private static double distance2(double ax, double ay, double bx, double by) {
+        double dx = ax - bx, dy = ay - by;
+        return dx * dx + dy * dy;
+    }
+}
@@ -0,0 +1,251 @@
+package io.github.ricky.cg.hull;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.basic.point.PointBuffer;
+import io.github.ricky.cg.common.sort.IndexSortUtils;
+import io.github.ricky.cg.predicate.RobustPredicates;
+
+import java.util.Arrays;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className ConvexHull
+ * @desc 凸包引擎<br>
+ * 基于 Andrew 单调链算法，直接在原始坐标数组上运算，时间复杂度 O(n log n)，不修改输入<br>
+ * 可选的 Akl–Toussaint 预过滤先剔除必然不在凸包上的点，对随机输入接近线性时间<br>
+ * 返回值为凸包顶点在输入中的索引，按逆时针方向排列，起点为字典序（先x后y）最小的点；
+ * 边上的共线点与重复点不计入凸包。退化情况：无点返回空数组，所有点重合返回1个索引，所有点共线返回两个端点的索引
+ */
+public final class ConvexHull {
+
+    /**
+     * 点数不超过该阈值时跳过预过滤
+     */
+    private static final int FILTER_THRESHOLD = 64;
+
+    /**
+     * 预过滤使用的8个方向，按逆时针排列：-y, x-y, x, x+y, y, y-x, -x, -x-y
+     */
+    private static final double[] DIRECTION_X = {0, 1, 1, 1, 0, -1, -1, -1};
+
+    private static final double[] DIRECTION_Y = {-1, -1, 0, 1, 1, 1, 0, -1};
+
+    private ConvexHull() {
+    }
+
+    /**
+     * 计算点集的凸包（带 Akl–Toussaint 预过滤）
+     *
+     * @param points 点集
+     * @return 凸包顶点，按逆时针方向排列
+     */
+    public static Point[] compute(Point[] points) {
+        int n = points.length;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = points[i].getX();
+            ys[i] = points[i].getY();
+        }
+        int[] hull = compute(xs, ys, n);
+        Point[] result = new Point[hull.length];
+        for (int i = 0; i < hull.length; i++) {
+            result[i] = points[hull[i]];
+        }
+        return result;
+    }
+
+    /**
+     * 计算点缓冲区的凸包（带 Akl–Toussaint 预过滤）
+     *
+     * @param points 点缓冲区
+     * @return 凸包顶点在缓冲区中的索引，按逆时针方向排列
+     */
+    public static int[] compute(PointBuffer points) {
+        return compute(points.getXs(), points.getYs(), points.size());
+    }
+
+    /**
+     * 计算前n个点的凸包（带 Akl–Toussaint 预过滤）
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     * @param n  点数
+     * @return 凸包顶点索引，按逆时针方向排列
+     */
+    public static int[] compute(double[] xs, double[] ys, int n) {
+        return compute(xs, ys, 0, n);
+    }
+
+    /**
+     * 计算索引区间 [from, to) 内的点的凸包（带 Akl–Toussaint 预过滤）
+     *
+     * @param xs   横坐标数组
+     * @param ys   纵坐标数组
+     * @param from 起始索引（包含）
+     * @param to   结束索引（不包含）
+     * @return 凸包顶点索引，按逆时针方向排列
+     */
+    static int[] compute(double[] xs, double[] ys, int from, int to) {
+        int[] candidates = to - from <= FILTER_THRESHOLD ? range(from, to) : aklToussaintFilter(xs, ys, from, to);
+        return monotoneChain(xs, ys, candidates, candidates.length);
+    }
+
+    /**
+     * 使用单调链算法计算前n个点的凸包，不做预过滤
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     * @param n  点数
+     * @return 凸包顶点索引，按逆时针方向排列
+     */
+    public static int[] monotoneChain(double[] xs, double[] ys, int n) {
+        return monotoneChain(xs, ys, IndexSortUtils.identity(n), n);
+    }
+
+    /**
+     * 使用单调链算法计算索引数组前count个索引所指点的凸包<br>
+     * 注意：indexes 会被原地排序
+     *
+     * @param xs      横坐标数组
+     * @param ys      纵坐标数组
+     * @param indexes 候选点索引
+     * @param count   候选点个数
+     * @return 凸包顶点索引，按逆时针方向排列
+     */
+    static int[] monotoneChain(double[] xs, double[] ys, int[] indexes, int count) {
+        IndexSortUtils.sortByXY(indexes, 0, count, xs, ys);
+
+        // 去除重复点，相同坐标保留索引最小者
+        int m = 0;
+        for (int i = 0; i < count; i++) {
+            int p = indexes[i];
+            if (m > 0 && xs[indexes[m - 1]] == xs[p] && ys[indexes[m - 1]] == ys[p]) {
+                continue;
+            }
+            indexes[m++] = p;
+        }
+        if (m <= 2) {
+            return Arrays.copyOf(indexes, m);
+        }
+
+        int[] hull = new int[2 * m];
+        int k = 0;
+        // 下凸链
+        for (int i = 0; i < m; i++) {
+            int p = indexes[i];
+            while (k >= 2 && RobustPredicates.orientation(
+                    xs[hull[k - 2]], ys[hull[k - 2]], xs[hull[k - 1]], ys[hull[k - 1]], xs[p], ys[p]) <= 0) {
+                k--;
+            }
+            hull[k++] = p;
+        }
+        // 上凸链
+        int lower = k + 1;
+        for (int i = m - 2; i >= 0; i--) {
+            int p = indexes[i];
+            while (k >= lower && RobustPredicates.orientation(
+                    xs[hull[k - 2]], ys[hull[k - 2]], xs[hull[k - 1]], ys[hull[k - 1]], xs[p], ys[p]) <= 0) {
+                k--;
+            }
+            hull[k++] = p;
+        }
+        // 最后一个点与起点重合
+        return Arrays.copyOf(hull, k - 1);
+    }
+
+    /**
+     * Akl–Toussaint 预过滤<br>
+     * 取8个方向（±x、±y、±(x+y)、±(x-y)）上的极点构成凸八边形，严格位于八边形内部的点必然不在凸包上，将其剔除
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     * @param n  点数
+     * @return 可能位于凸包上的点的索引，保持输入顺序
+     */
+    public static int[] aklToussaintFilter(double[] xs, double[] ys, int n) {
+        return aklToussaintFilter(xs, ys, 0, n);
+    }
+
+    /**
+     * 对索引区间 [from, to) 内的点做 Akl–Toussaint 预过滤
+     *
+     * @param xs   横坐标数组
+     * @param ys   纵坐标数组
+     * @param from 起始索引（包含）
+     * @param to   结束索引（不包含）
+     * @return 可能位于凸包上的点的索引，保持输入顺序
+     */
+    static int[] aklToussaintFilter(double[] xs, double[] ys, int from, int to) {
+        if (from >= to) {
+            return new int[0];
+        }
+        // 同一方向上的并列极点取沿逆时针方向更靠后的那个，保证八个极点都是凸包顶点且按逆时针排列
+        int[] extremes = new int[8];
+        for (int d = 0; d < 8; d++) {
+            double dx = DIRECTION_X[d], dy = DIRECTION_Y[d];
+            int best = from;
+            for (int i = from + 1; i < to; i++) {
+                double diff = dx * xs[i] + dy * ys[i] - (dx * xs[best] + dy * ys[best]);
+                // 次关键字：方向逆时针旋转90度后的投影
+                if (diff > 0 || diff == 0 && -dy * xs[i] + dx * ys[i] > -dy * xs[best] + dx * ys[best]) {
+                    best = i;
+                }
+            }
+            extremes[d] = best;
+        }
+
+        // 去除重复顶点
+        int[] octagon = new int[8];
+        int m = 0;
+        for (int d = 0; d < 8; d++) {
+            int p = extremes[d];
+            if (m > 0 && xs[octagon[m - 1]] == xs[p] && ys[octagon[m - 1]] == ys[p]) {
+                continue;
+            }
+            octagon[m++] = p;
+        }
+        while (m > 1 && xs[octagon[m - 1]] == xs[octagon[0]] && ys[octagon[m - 1]] == ys[octagon[0]]) {
+            m--;
+        }
+        if (m < 3) {
+            return range(from, to);
+        }
+
+        int[] candidates = new int[to - from];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (!strictlyInside(xs, ys, octagon, m, xs[i], ys[i])) {
+                candidates[count++] = i;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * 生成 [from, to) 的索引数组
+     */
+    private static int[] range(int from, int to) {
+        int[] indexes = new int[to - from];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = from + i;
+        }
+        return indexes;
+    }
+
+    /**
+     * 判断点是否严格位于逆时针凸多边形内部
+     */
+    private static boolean strictlyInside(double[] xs, double[] ys, int[] polygon, int m, double px, double py) {
+        for (int i = 0; i < m; i++) {
+            int a = polygon[i];
+            int b = polygon[i + 1 == m ? 0 : i + 1];
+            if (RobustPredicates.orientation(xs[a], ys[a], xs[b], ys[b], px, py) <= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,657 @@
+package io.github.ricky.cg.hull;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.predicate.RobustPredicates;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/18
+ * @className DynamicConvexHull
+ * @desc 全动态凸包，支持插入与删除，用于滑动窗口等点集有进有出的场景<br>
+ * 采用 Overmars–van Leeuwen 的思路：点按字典序（先x后y）存放在一棵叶子 treap 的叶节点中，
+ * 每个内部节点记录其子树的上凸链与下凸链在左右两棵子树之间的桥（公切线）。子树的凸链由左子树凸链的前缀、
+ * 桥与右子树凸链的后缀组成，因此不必显式存放凸链：求桥时在左右两棵子树中同时向下走，每一步用方向谓词排除一半，
+ * 时间复杂度 O(log n)；插入与删除只需重算根到修改处路径上的桥，时间复杂度 O(log² n)（期望）<br>
+ * 除判定两条候选边所在直线的交点位于分隔线哪一侧外，所有判断都使用 {@link RobustPredicates} 的精确方向谓词；
+ * 交点判定先用浮点运算求值，结果接近0时改用精确的十进制运算<br>
+ * 与 {@link ConvexHull} 的约定相同：顶点按逆时针方向排列，起点为字典序最小的点，边上的共线点与重复点不计入凸包；
+ * 所有点共线时凸包为两个端点。重复的点按多重集合处理，删除次数与插入次数相同后才真正移除<br>
+ * 注意：不是线程安全的
+ */
+public final class DynamicConvexHull {
+
+    /**
+     * 上凸链：从左到右相邻三点严格右转
+     */
+    private static final int UPPER = -1;
+
+    /**
+     * 下凸链：从左到右相邻三点严格左转
+     */
+    private static final int LOWER = 1;
+
+    /**
+     * 交点判定的相对误差界，远大于实际的舍入误差
+     */
+    private static final double INTERSECTION_ERRBOUND = 1e-14;
+
+    private Node root;
+
+    /**
+     * 点的个数，重复的点重复计数
+     */
+    private int count;
+
+    /**
+     * treap 优先级的随机数状态
+     */
+    private long seed;
+
+    /**
+     * 本次修改是否改变了树的结构
+     */
+    private boolean structural;
+
+    /**
+     * 删除时是否找到了点
+     */
+    private boolean found;
+
+    /**
+     * 删除的叶节点为右孩子时，以它为键的祖先需要改用它的前驱作为键
+     */
+    private Node removedLeaf, predecessor;
+
+    /**
+     * 根到叶的查找路径
+     */
+    private Node[] path = new Node[64];
+
+    /**
+     * 查找路径上从该深度开始的节点需要重算上凸链与下凸链的桥，更浅的节点的凸链不变
+     */
+    private int upperFrom, lowerFrom;
+
+    /**
+     * 加入一个点，时间复杂度 O(log² n)（期望）
+     *
+     * @param p 点
+     */
+    public void add(Point p) {
+        add(p.getX(), p.getY());
+    }
+
+    /**
+     * 加入一个点，时间复杂度 O(log² n)（期望）
+     *
+     * @param x 横坐标
+     * @param y 纵坐标
+     */
+    public void add(double x, double y) {
+        if (root == null) {
+            root = new Node(x, y);
+        } else {
+            // 新点在子树凸链内或边界上时该子树的凸链不变，这样的子树构成查找路径的一段前缀
+            int length = search(x, y);
+            upperFrom = firstChanged(length, x, y, UPPER, false);
+            lowerFrom = firstChanged(length, x, y, LOWER, false);
+            root = insert(root, x, y, 0);
+        }
+        count++;
+    }
+
+    /**
+     * 删除一个点，时间复杂度 O(log² n)（期望）
+     *
+     * @param p 点
+     * @return true=删除成功 false=点不在集合中
+     */
+    public boolean remove(Point p) {
+        return remove(p.getX(), p.getY());
+    }
+
+    /**
+     * 删除一个点，时间复杂度 O(log² n)（期望）
+     *
+     * @param x 横坐标
+     * @param y 纵坐标
+     * @return true=删除成功 false=点不在集合中
+     */
+    public boolean remove(double x, double y) {
+        if (root == null) {
+            return false;
+        }
+        if (root.isLeaf()) {
+            if (compare(x, y, root.x, root.y) != 0) {
+                return false;
+            }
+            if (--root.count == 0) {
+                root = null;
+            }
+            count--;
+            return true;
+        }
+        found = false;
+        removedLeaf = null;
+        // 被删除的点不是子树凸链的顶点时该子树的凸链不变，这样的子树构成查找路径的一段前缀
+        int length = search(x, y);
+        upperFrom = firstChanged(length, x, y, UPPER, true);
+        lowerFrom = firstChanged(length, x, y, LOWER, true);
+        root = delete(root, x, y, 0);
+        if (found) {
+            count--;
+        }
+        return found;
+    }
+
+    /**
+     * 判断点在当前凸包内（包括边界上），时间复杂度 O(log n)
+     *
+     * @param x 横坐标
+     * @param y 纵坐标
+     * @return true=点在凸包内或边界上
+     */
+    public boolean contains(double x, double y) {
+        return root != null && !outside(root, x, y, LOWER) && !outside(root, x, y, UPPER);
+    }
+
+    /**
+     * 获取凸包的顶点数，时间复杂度 O(1)
+     *
+     * @return 顶点数
+     */
+    public int size() {
+        if (root == null) {
+            return 0;
+        }
+        int total = chainSize(root, LOWER) + chainSize(root, UPPER);
+        // 两条链共用最左与最右的点；只有一个点时两者重合
+        return total <= 2 ? total / 2 : total - 2;
+    }
+
+    /**
+     * 获取点的个数，重复的点重复计数
+     *
+     * @return 点的个数
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * 把顶点坐标按逆时针方向写入数组，时间复杂度 O(h log n)，h 为凸包的顶点数
+     *
+     * @param xs 横坐标数组，长度至少为 {@link #size()}
+     * @param ys 纵坐标数组，长度至少为 {@link #size()}
+     * @return 顶点数
+     */
+    public int copyTo(double[] xs, double[] ys) {
+        int size = size();
+        if (xs.length < size || ys.length < size) {
+            throw new IndexOutOfBoundsException("The arrays are shorter than the hull.");
+        }
+        if (size > 0) {
+            int at = ascending(root, LOWER, null, null, xs, ys, 0);
+            // 上凸链从右到左，最右点覆盖下凸链的最右点，最左点越过 size 被丢弃
+            descending(root, UPPER, null, null, xs, ys, at - 1, size);
+        }
+        return size;
+    }
+
+    /**
+     * 获取顶点数组
+     *
+     * @return 按逆时针方向排列的顶点
+     */
+    public Point[] getVertexes() {
+        int size = size();
+        double[] xs = new double[size], ys = new double[size];
+        copyTo(xs, ys);
+        Point[] vertexes = new Point[size];
+        for (int i = 0; i < size; i++) {
+            vertexes[i] = new Point(xs[i], ys[i]);
+        }
+        return vertexes;
+    }
+
+    /**
+     * 叶子 treap 的节点：叶节点存放点，内部节点恰有两个孩子，按优先级大的在上排列
+     */
+    private static final class Node {
+
+        /**
+         * 叶节点的坐标
+         */
+        final double x, y;
+
+        /**
+         * 叶节点的重数
+         */
+        int count;
+
+        final int priority;
+
+        Node left, right;
+
+        /**
+         * 内部节点的键：左子树中最大的叶节点
+         */
+        Node key;
+
+        /**
+         * 上凸链与下凸链的桥，端点分别位于左右子树中
+         */
+        Node upperLeft, upperRight, lowerLeft, lowerRight;
+
+        /**
+         * 凸链在左子树中到桥为止的顶点数，以及在右子树中从桥开始的顶点数
+         */
+        int upperLeftSize, upperRightSize, lowerLeftSize, lowerRightSize;
+
+        /**
+         * 叶节点，优先级最低，不参与旋转
+         */
+        Node(double x, double y) {
+            this.x = x;
+            this.y = y;
+            this.count = 1;
+            this.priority = Integer.MIN_VALUE;
+        }
+
+        /**
+         * 内部节点
+         */
+        Node(Node left, Node right, int priority) {
+            this.x = Double.NaN;
+            this.y = Double.NaN;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.key = left;
+        }
+
+        boolean isLeaf() {
+            return left == null;
+        }
+    }
+
+    /**
+     * 把根到叶的查找路径上的内部节点依次存入 path，返回其个数
+     */
+    private int search(double x, double y) {
+        int length = 0;
+        for (Node t = root; !t.isLeaf(); length++) {
+            if (length == path.length) {
+                path = Arrays.copyOf(path, length * 2);
+            }
+            path[length] = t;
+            t = compare(x, y, t.key.x, t.key.y) <= 0 ? t.left : t.right;
+        }
+        return length;
+    }
+
+    /**
+     * 二分查找路径上第一个凸链会改变的深度：插入时为点在凸链外侧，删除时为点是凸链的顶点
+     */
+    private int firstChanged(int length, double x, double y, int sign, boolean removal) {
+        int lo = 0, hi = length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            boolean changed = removal ? vertex(path[mid], x, y, sign) : outside(path[mid], x, y, sign);
+            if (changed) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    private Node insert(Node t, double x, double y, int depth) {
+        if (t.isLeaf()) {
+            int c = compare(x, y, t.x, t.y);
+            if (c == 0) {
+                t.count++;
+                structural = false;
+                return t;
+            }
+            structural = true;
+            Node leaf = new Node(x, y);
+            Node inner = c < 0 ? new Node(leaf, t, nextPriority()) : new Node(t, leaf, nextPriority());
+            update(inner);
+            return inner;
+        }
+        if (compare(x, y, t.key.x, t.key.y) <= 0) {
+            t.left = insert(t.left, x, y, depth + 1);
+            if (t.left.priority > t.priority) {
+                return rotateRight(t);
+            }
+        } else {
+            t.right = insert(t.right, x, y, depth + 1);
+            if (t.right.priority > t.priority) {
+                return rotateLeft(t);
+            }
+        }
+        if (structural) {
+            update(t, depth);
+        }
+        return t;
+    }
+
+    /**
+     * 从内部节点 t 的子树中删除点；叶节点被移除时其父节点也随之移除，由兄弟节点顶替，堆序不受影响
+     */
+    private Node delete(Node t, double x, double y, int depth) {
+        boolean toLeft = compare(x, y, t.key.x, t.key.y) <= 0;
+        Node child = toLeft ? t.left : t.right;
+        if (child.isLeaf()) {
+            structural = false;
+            if (compare(x, y, child.x, child.y) != 0) {
+                return t;
+            }
+            found = true;
+            if (--child.count > 0) {
+                return t;
+            }
+            structural = true;
+            if (toLeft) {
+                // t 的键就是被删除的叶节点，随 t 一起移除
+                return t.right;
+            }
+            removedLeaf = child;
+            predecessor = t.key;
+            return t.left;
+        }
+        Node c = delete(child, x, y, depth + 1);
+        if (toLeft) {
+            t.left = c;
+        } else {
+            t.right = c;
+        }
+        if (structural) {
+            if (t.key == removedLeaf) {
+                t.key = predecessor;
+            }
+            update(t, depth);
+        }
+        return t;
+    }
+
+    /**
+     * 叶子树的旋转不改变任何内部节点的键
+     */
+    private static Node rotateRight(Node t) {
+        Node l = t.left;
+        t.left = l.right;
+        l.right = t;
+        update(t);
+        update(l);
+        return l;
+    }
+
+    private static Node rotateLeft(Node t) {
+        Node r = t.right;
+        t.right = r.left;
+        r.left = t;
+        update(t);
+        update(r);
+        return r;
+    }
+
+    private static void update(Node t) {
+        bridge(t, UPPER);
+        bridge(t, LOWER);
+    }
+
+    /**
+     * 只重算查找路径上凸链会改变的桥
+     */
+    private void update(Node t, int depth) {
+        if (depth >= upperFrom) {
+            bridge(t, UPPER);
+        }
+        if (depth >= lowerFrom) {
+            bridge(t, LOWER);
+        }
+    }
+
+    /**
+     * 求内部节点 t 的左右子树凸链之间的桥 (s, r)<br>
+     * 设 a、b 分别是左右子树中当前所在的节点，p1p2、q1q2 为它们的桥，是 a、b 子树凸链上的边。
+     * 以上凸链为例：右侧有点在直线 p1p2 上或上方时 s 不在 p1 之后；左侧有点在直线 q1q2 上或上方时 r 不在 q2 之前；
+     * 两者都不成立时两条直线交于两条边之间，交点在分隔线（左子树最大点）左侧则 s 在 p2 之后，否则 r 在 q1 之前。
+     * 字典序中 x 相同的点按 y 排列，相当于作了一个无穷小的错切，方向谓词不受其影响
+     */
+    private static void bridge(Node t, int sign) {
+        Node a = t.left, b = t.right;
+        // s 在左子树凸链中的序号，以及 r 在右子树凸链中的序号，均从1开始
+        int rankA = 1, rankB = 1;
+        while (!a.isLeaf() || !b.isLeaf()) {
+            int moveA = 0, moveB = 0;
+            if (a.isLeaf()) {
+                moveB = beyond(bridgeLeft(b, sign), bridgeRight(b, sign), a, sign) ? 1 : -1;
+            } else if (b.isLeaf()) {
+                moveA = beyond(bridgeLeft(a, sign), bridgeRight(a, sign), b, sign) ? -1 : 1;
+            } else {
+                Node p1 = bridgeLeft(a, sign), p2 = bridgeRight(a, sign);
+                Node q1 = bridgeLeft(b, sign), q2 = bridgeRight(b, sign);
+                if (beyond(p1, p2, q1, sign) || beyond(p1, p2, q2, sign)) {
+                    moveA = -1;
+                }
+                if (beyond(q1, q2, p1, sign) || beyond(q1, q2, p2, sign)) {
+                    moveB = 1;
+                }
+                if (moveA == 0 && moveB == 0) {
+                    if (intersectionNotAfter(p1, p2, q1, q2, t.key)) {
+                        moveA = 1;
+                    } else {
+                        moveB = -1;
+                    }
+                }
+            }
+            if (moveA < 0) {
+                a = a.left;
+            } else if (moveA > 0) {
+                rankA += leftSize(a, sign) + rightSize(a, sign) - chainSize(a.right, sign);
+                a = a.right;
+            }
+            if (moveB < 0) {
+                b = b.left;
+            } else if (moveB > 0) {
+                rankB += leftSize(b, sign) + rightSize(b, sign) - chainSize(b.right, sign);
+                b = b.right;
+            }
+        }
+        int right = chainSize(t.right, sign) - rankB + 1;
+        if (sign == UPPER) {
+            t.upperLeft = a;
+            t.upperRight = b;
+            t.upperLeftSize = rankA;
+            t.upperRightSize = right;
+        } else {
+            t.lowerLeft = a;
+            t.lowerRight = b;
+            t.lowerLeftSize = rankA;
+            t.lowerRightSize = right;
+        }
+    }
+
+    /**
+     * 判断点 q 在直线 p1p2 上或其外侧（上凸链为上方，下凸链为下方）
+     */
+    private static boolean beyond(Node p1, Node p2, Node q, int sign) {
+        return sign * RobustPredicates.orientation(p1.x, p1.y, p2.x, p2.y, q.x, q.y) <= 0;
+    }
+
+    /**
+     * 判断直线 p1p2 与直线 q1q2 的交点按字典序不大于 c；两条直线不平行
+     */
+    private static boolean intersectionNotAfter(Node p1, Node p2, Node q1, Node q2, Node c) {
+        double ux = p2.x - p1.x, uy = p2.y - p1.y;
+        double vx = q2.x - q1.x, vy = q2.y - q1.y;
+        double wx = q1.x - p1.x, wy = q1.y - p1.y;
+        double dx = p1.x - c.x;
+        // 交点为 p1 + u * n / d，其横坐标减去 c.x 等于 e / d
+        double d = ux * vy - uy * vx;
+        double n = wx * vy - wy * vx;
+        double e = dx * d + ux * n;
+        double permanentD = Math.abs(ux * vy) + Math.abs(uy * vx);
+        double permanentE = Math.abs(dx) * permanentD + Math.abs(ux) * (Math.abs(wx * vy) + Math.abs(wy * vx));
+        if (Math.abs(d) > INTERSECTION_ERRBOUND * permanentD && Math.abs(e) > INTERSECTION_ERRBOUND * permanentE) {
+            return (e > 0) != (d > 0);
+        }
+        BigDecimal exactUx = exact(p2.x).subtract(exact(p1.x)), exactUy = exact(p2.y).subtract(exact(p1.y));
+        BigDecimal exactVx = exact(q2.x).subtract(exact(q1.x)), exactVy = exact(q2.y).subtract(exact(q1.y));
+        BigDecimal exactWx = exact(q1.x).subtract(exact(p1.x)), exactWy = exact(q1.y).subtract(exact(p1.y));
+        BigDecimal exactD = exactUx.multiply(exactVy).subtract(exactUy.multiply(exactVx));
+        BigDecimal exactN = exactWx.multiply(exactVy).subtract(exactWy.multiply(exactVx));
+        BigDecimal exactEx = exact(p1.x).subtract(exact(c.x)).multiply(exactD).add(exactUx.multiply(exactN));
+        int sx = exactEx.signum() * exactD.signum();
+        if (sx != 0) {
+            return sx < 0;
+        }
+        BigDecimal exactEy = exact(p1.y).subtract(exact(c.y)).multiply(exactD).add(exactUy.multiply(exactN));
+        return exactEy.signum() * exactD.signum() <= 0;
+    }
+
+    private static BigDecimal exact(double value) {
+        return new BigDecimal(value);
+    }
+
+    /**
+     * 判断点是否在凸链的外侧：sign=1 为下凸链（点在链的下方），sign=-1 为上凸链（点在链的上方）；
+     * 字典序在链的范围之外的点一定在外侧，与链上的点重合时不在外侧
+     */
+    private static boolean outside(Node t, double x, double y, int sign) {
+        while (!t.isLeaf()) {
+            Node l = bridgeLeft(t, sign), r = bridgeRight(t, sign);
+            int c = compare(x, y, l.x, l.y);
+            if (c == 0) {
+                return false;
+            }
+            if (c < 0) {
+                t = t.left;
+                continue;
+            }
+            c = compare(x, y, r.x, r.y);
+            if (c == 0) {
+                return false;
+            }
+            if (c > 0) {
+                t = t.right;
+                continue;
+            }
+            return sign * RobustPredicates.orientation(l.x, l.y, r.x, r.y, x, y) < 0;
+        }
+        return compare(x, y, t.x, t.y) != 0;
+    }
+
+    /**
+     * 判断点是子树凸链的顶点
+     */
+    private static boolean vertex(Node t, double x, double y, int sign) {
+        while (!t.isLeaf()) {
+            Node l = bridgeLeft(t, sign), r = bridgeRight(t, sign);
+            int cl = compare(x, y, l.x, l.y), cr = compare(x, y, r.x, r.y);
+            if (cl == 0 || cr == 0) {
+                return true;
+            }
+            if (cl > 0 && cr < 0) {
+                return false;
+            }
+            t = cl < 0 ? t.left : t.right;
+        }
+        return compare(x, y, t.x, t.y) == 0;
+    }
+
+    /**
+     * 按字典序写出子树凸链在 [lo, hi] 之间的顶点，null 表示不限；返回写入后的位置
+     */
+    private static int ascending(Node t, int sign, Node lo, Node hi, double[] xs, double[] ys, int at) {
+        if (t.isLeaf()) {
+            xs[at] = t.x;
+            ys[at] = t.y;
+            return at + 1;
+        }
+        Node l = bridgeLeft(t, sign), r = bridgeRight(t, sign);
+        if (lo == null || compare(lo, l) <= 0) {
+            at = ascending(t.left, sign, lo, hi != null && compare(hi, l) < 0 ? hi : l, xs, ys, at);
+        }
+        if (hi == null || compare(hi, r) >= 0) {
+            at = ascending(t.right, sign, lo != null && compare(lo, r) > 0 ? lo : r, hi, xs, ys, at);
+        }
+        return at;
+    }
+
+    /**
+     * 按逆字典序写出子树凸链在 [lo, hi] 之间的顶点，只写入 size 之前的位置；返回写入后的位置
+     */
+    private static int descending(Node t, int sign, Node lo, Node hi, double[] xs, double[] ys, int at, int size) {
+        if (t.isLeaf()) {
+            if (at < size) {
+                xs[at] = t.x;
+                ys[at] = t.y;
+            }
+            return at + 1;
+        }
+        Node l = bridgeLeft(t, sign), r = bridgeRight(t, sign);
+        if (hi == null || compare(hi, r) >= 0) {
+            at = descending(t.right, sign, lo != null && compare(lo, r) > 0 ? lo : r, hi, xs, ys, at, size);
+        }
+        if (lo == null || compare(lo, l) <= 0) {
+            at = descending(t.left, sign, lo, hi != null && compare(hi, l) < 0 ? hi : l, xs, ys, at, size);
+        }
+        return at;
+    }
+
+    private static Node bridgeLeft(Node t, int sign) {
+        return sign == UPPER ? t.upperLeft : t.lowerLeft;
+    }
+
+    private static Node bridgeRight(Node t, int sign) {
+        return sign == UPPER ? t.upperRight : t.lowerRight;
+    }
+
+    private static int leftSize(Node t, int sign) {
+        return sign == UPPER ? t.upperLeftSize : t.lowerLeftSize;
+    }
+
+    private static int rightSize(Node t, int sign) {
+        return sign == UPPER ? t.upperRightSize : t.lowerRightSize;
+    }
+
+    /**
+     * 子树凸链的顶点数
+     */
+    private static int chainSize(Node t, int sign) {
+        return t.isLeaf() ? 1 : leftSize(t, sign) + rightSize(t, sign);
+    }
+
+    private static int compare(Node a, Node b) {
+        return compare(a.x, a.y, b.x, b.y);
+    }
+
+    /**
+     * 按字典序比较，0.0 与 -0.0 视为相等
+     */
+    private static int compare(double x1, double y1, double x2, double y2) {
+        if (x1 != x2) {
+            return x1 < x2 ? -1 : 1;
+        }
+        return y1 < y2 ? -1 : y1 > y2 ? 1 : 0;
+    }
+
+    /**
+     * SplitMix64，结果不为 Integer.MIN_VALUE，总是高于叶节点
+     */
+    private int nextPriority() {
+        long z = seed += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return Math.max((int) (z ^ (z >>> 31)), Integer.MIN_VALUE + 1);
+    }
+}
@@ -0,0 +1,409 @@
+package io.github.ricky.cg.hull;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.predicate.RobustPredicates;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className IncrementalConvexHull
+ * @desc 在线增量凸包，用于持续增长的点流<br>
+ * 下凸链与上凸链各存放在一棵按字典序（先x后y）排列的可持久化 treap 中：插入新点时按字典序切开凸链，
+ * 从切口两侧依次删掉不再是凸包顶点的点，再把新点与两侧拼接起来。每个点至多被删除一次，
+ * 因此插入的均摊时间复杂度为 O(log n)（期望）；落在凸包内或边界上的点只需在两条链上各做一次查找即被拒绝，
+ * 时间复杂度 O(log n)，不修改任何状态也不分配对象<br>
+ * 树的节点不可变，修改时只复制根到修改处的路径，所以 {@link #snapshot()} 只需记下两个根，
+ * 不复制任何顶点；快照不会随之后的插入而改变，可以交给其他线程读取<br>
+ * 与 {@link ConvexHull} 的约定相同：顶点按逆时针方向排列，起点为字典序最小的点，边上的共线点与重复点不计入凸包；
+ * 所有点共线时凸包为两个端点<br>
+ * 注意：插入不是线程安全的，同一时刻只能有一个线程调用 {@link #add(double, double)}
+ */
+public final class IncrementalConvexHull {
+
+    /**
+     * 下凸链：从左到右相邻三点严格左转
+     */
+    private Node lower;
+
+    /**
+     * 上凸链：从左到右相邻三点严格右转
+     */
+    private Node upper;
+
+    /**
+     * treap 优先级的随机数状态
+     */
+    private long seed;
+
+    /**
+     * split 的结果
+     */
+    private Node splitLeft, splitRight;
+
+    /**
+     * 加入一个点
+     *
+     * @param p 点
+     * @return true=凸包发生了变化<br>
+     * false=点在凸包内或边界上，凸包不变
+     */
+    public boolean add(Point p) {
+        return add(p.getX(), p.getY());
+    }
+
+    /**
+     * 加入一个点
+     *
+     * @param x 横坐标
+     * @param y 纵坐标
+     * @return true=凸包发生了变化<br>
+     * false=点在凸包内或边界上，凸包不变
+     */
+    public boolean add(double x, double y) {
+        boolean onLower = outside(lower, x, y, 1);
+        boolean onUpper = outside(upper, x, y, -1);
+        if (onLower) {
+            lower = insert(lower, x, y, 1);
+        }
+        if (onUpper) {
+            upper = insert(upper, x, y, -1);
+        }
+        return onLower || onUpper;
+    }
+
+    /**
+     * 判断点在当前凸包内（包括边界上）
+     *
+     * @param x 横坐标
+     * @param y 纵坐标
+     * @return true=点在凸包内或边界上
+     */
+    public boolean contains(double x, double y) {
+        return lower != null && !outside(lower, x, y, 1) && !outside(upper, x, y, -1);
+    }
+
+    /**
+     * 获取凸包的顶点数
+     *
+     * @return 顶点数
+     */
+    public int size() {
+        return Snapshot.size(lower, upper);
+    }
+
+    /**
+     * 获取当前凸包的快照，时间复杂度 O(1)
+     *
+     * @return 快照
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(lower, upper);
+    }
+
+    /**
+     * 凸包的不可变快照，与之后的插入互不影响
+     */
+    public static final class Snapshot {
+
+        private final Node lower, upper;
+
+        private final int size;
+
+        private Snapshot(Node lower, Node upper) {
+            this.lower = lower;
+            this.upper = upper;
+            this.size = size(lower, upper);
+        }
+
+        /**
+         * 获取凸包的顶点数
+         *
+         * @return 顶点数
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * 获取第 index 个顶点，时间复杂度 O(log n)
+         *
+         * @param index 顶点序号，按逆时针方向，0 为字典序最小的点
+         * @return 顶点
+         */
+        public Point getVertex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            int lowerSize = Node.size(lower);
+            Node node = index < lowerSize ? select(lower, index) : select(upper, size - index);
+            return new Point(node.x, node.y);
+        }
+
+        /**
+         * 把顶点坐标按逆时针方向写入数组，时间复杂度 O(n)
+         *
+         * @param xs 横坐标数组，长度至少为 {@link #size()}
+         * @param ys 纵坐标数组，长度至少为 {@link #size()}
+         * @return 顶点数
+         */
+        public int copyTo(double[] xs, double[] ys) {
+            if (xs.length < size || ys.length < size) {
+                throw new IndexOutOfBoundsException("The arrays are shorter than the hull.");
+            }
+            int count = ascending(lower, xs, ys, 0);
+            if (size > count) {
+                // 上凸链从右到左，去掉与下凸链共用的两个端点
+                descending(upper, xs, ys, count - 1);
+            }
+            return size;
+        }
+
+        /**
+         * 获取顶点数组
+         *
+         * @return 按逆时针方向排列的顶点
+         */
+        public Point[] getVertexes() {
+            double[] xs = new double[size], ys = new double[size];
+            copyTo(xs, ys);
+            Point[] vertexes = new Point[size];
+            for (int i = 0; i < size; i++) {
+                vertexes[i] = new Point(xs[i], ys[i]);
+            }
+            return vertexes;
+        }
+
+        private static int size(Node lower, Node upper) {
+            int count = Node.size(lower) + Node.size(upper);
+            // 两条链共用最左与最右的点；只有一个点时两者重合
+            return count <= 2 ? count / 2 : count - 2;
+        }
+
+        /**
+         * 中序写入，返回写入后的位置
+         */
+        private static int ascending(Node t, double[] xs, double[] ys, int at) {
+            if (t == null) {
+                return at;
+            }
+            at = ascending(t.left, xs, ys, at);
+            xs[at] = t.x;
+            ys[at] = t.y;
+            return ascending(t.right, xs, ys, at + 1);
+        }
+
+        /**
+         * 逆中序写入；at 为当前写入位置的前一个位置，恰好使上凸链的最右点覆盖下凸链的最右点、最左点越过数组末尾被丢弃
+         */
+        private int descending(Node t, double[] xs, double[] ys, int at) {
+            if (t == null) {
+                return at;
+            }
+            at = descending(t.right, xs, ys, at);
+            if (at < size) {
+                xs[at] = t.x;
+                ys[at] = t.y;
+            }
+            return descending(t.left, xs, ys, at + 1);
+        }
+
+        /**
+         * 第k小的节点；上凸链以从右到左的顺序接在下凸链之后，第 index 个顶点即上凸链中第 size-index 小的节点
+         */
+        private static Node select(Node t, int k) {
+            while (true) {
+                int leftSize = Node.size(t.left);
+                if (k < leftSize) {
+                    t = t.left;
+                } else if (k == leftSize) {
+                    return t;
+                } else {
+                    k -= leftSize + 1;
+                    t = t.right;
+                }
+            }
+        }
+    }
+
+    /**
+     * 可持久化 treap 的节点，按字典序排列，优先级大的在上
+     */
+    private static final class Node {
+
+        final double x, y;
+
+        final int priority;
+
+        final Node left, right;
+
+        final int size;
+
+        Node(double x, double y, int priority, Node left, Node right) {
+            this.x = x;
+            this.y = y;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+        }
+
+        /**
+         * 复制节点并替换子树
+         */
+        Node with(Node left, Node right) {
+            return new Node(x, y, priority, left, right);
+        }
+
+        static int size(Node t) {
+            return t == null ? 0 : t.size;
+        }
+    }
+
+    /**
+     * 判断点是否在凸链的外侧：sign=1 为下凸链（点在链的下方），sign=-1 为上凸链（点在链的上方）；
+     * 字典序在链的范围之外的点一定在外侧，与链上的点重合时不在外侧
+     */
+    private static boolean outside(Node chain, double x, double y, int sign) {
+        Node predecessor = null, successor = null;
+        Node t = chain;
+        while (t != null) {
+            int c = compare(x, y, t.x, t.y);
+            if (c == 0) {
+                return false;
+            }
+            if (c < 0) {
+                successor = t;
+                t = t.left;
+            } else {
+                predecessor = t;
+                t = t.right;
+            }
+        }
+        if (predecessor == null || successor == null) {
+            return true;
+        }
+        return sign * RobustPredicates.orientation(predecessor.x, predecessor.y, successor.x, successor.y, x, y) < 0;
+    }
+
+    /**
+     * 把外侧的点插入凸链，删掉因此不再是凸链顶点的点
+     */
+    private Node insert(Node chain, double x, double y, int sign) {
+        split(chain, x, y);
+        Node left = splitLeft, right = splitRight;
+        while (Node.size(left) >= 2) {
+            Node last = last(left), beforeLast = beforeLast(left);
+            if (sign * RobustPredicates.orientation(beforeLast.x, beforeLast.y, last.x, last.y, x, y) > 0) {
+                break;
+            }
+            left = removeLast(left);
+        }
+        while (Node.size(right) >= 2) {
+            Node first = first(right), afterFirst = afterFirst(right);
+            if (sign * RobustPredicates.orientation(x, y, first.x, first.y, afterFirst.x, afterFirst.y) > 0) {
+                break;
+            }
+            right = removeFirst(right);
+        }
+        return merge(merge(left, new Node(x, y, nextPriority(), null, null)), right);
+    }
+
+    /**
+     * 按字典序比较，0.0 与 -0.0 视为相等
+     */
+    private static int compare(double x1, double y1, double x2, double y2) {
+        if (x1 != x2) {
+            return x1 < x2 ? -1 : 1;
+        }
+        return y1 < y2 ? -1 : y1 > y2 ? 1 : 0;
+    }
+
+    /**
+     * 把 t 切成小于 (x, y) 与大于 (x, y) 的两部分，分别放入 splitLeft 与 splitRight；t 中不含 (x, y)
+     */
+    private void split(Node t, double x, double y) {
+        if (t == null) {
+            splitLeft = null;
+            splitRight = null;
+        } else if (compare(t.x, t.y, x, y) < 0) {
+            split(t.right, x, y);
+            splitLeft = t.with(t.left, splitLeft);
+        } else {
+            split(t.left, x, y);
+            splitRight = t.with(splitRight, t.right);
+        }
+    }
+
+    /**
+     * 拼接两棵树，a 中的点都小于 b 中的点
+     */
+    private static Node merge(Node a, Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            return a.with(a.left, merge(a.right, b));
+        }
+        return b.with(merge(a, b.left), b.right);
+    }
+
+    private static Node first(Node t) {
+        while (t.left != null) {
+            t = t.left;
+        }
+        return t;
+    }
+
+    private static Node last(Node t) {
+        while (t.right != null) {
+            t = t.right;
+        }
+        return t;
+    }
+
+    /**
+     * 第二小的节点，t 至少有两个节点
+     */
+    private static Node afterFirst(Node t) {
+        Node parent = null;
+        while (t.left != null) {
+            parent = t;
+            t = t.left;
+        }
+        return t.right != null ? first(t.right) : parent;
+    }
+
+    /**
+     * 第二大的节点，t 至少有两个节点
+     */
+    private static Node beforeLast(Node t) {
+        Node parent = null;
+        while (t.right != null) {
+            parent = t;
+            t = t.right;
+        }
+        return t.left != null ? last(t.left) : parent;
+    }
+
+    private static Node removeFirst(Node t) {
+        return t.left == null ? t.right : t.with(removeFirst(t.left), t.right);
+    }
+
+    private static Node removeLast(Node t) {
+        return t.right == null ? t.left : t.with(t.left, removeLast(t.right));
+    }
+
+    /**
+     * SplitMix64
+     */
+    private int nextPriority() {
+        long z = seed += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (int) (z ^ (z >>> 31));
+    }
+}
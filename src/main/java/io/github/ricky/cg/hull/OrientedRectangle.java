@@ -0,0 +1,97 @@
+package io.github.ricky.cg.hull;
+
+import io.github.ricky.cg.basic.point.Point;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className OrientedRectangle
+ * @desc 有向矩形（不一定与坐标轴平行），由 {@link RotatingCalipers} 求出<br>
+ * 以一个角点为原点，第一条边沿单位方向 u 延伸 width，第二条边沿 u 逆时针旋转90度的方向延伸 height<br>
+ * hull 包位于 shape 包之下，需要多边形时请用 {@code new Polygon(rectangle.corners())}
+ */
+public final class OrientedRectangle {
+
+    /**
+     * 原点角点
+     */
+    private final double originX, originY;
+
+    /**
+     * 第一条边的单位方向
+     */
+    private final double ux, uy;
+
+    /**
+     * 沿 u 方向的边长
+     */
+    private final double width;
+
+    /**
+     * 沿 u 的法向的边长
+     */
+    private final double height;
+
+    public OrientedRectangle(double originX, double originY, double ux, double uy, double width, double height) {
+        this.originX = originX;
+        this.originY = originY;
+        this.ux = ux;
+        this.uy = uy;
+        this.width = width;
+        this.height = height;
+    }
+
+    public double getOriginX() {
+        return originX;
+    }
+
+    public double getOriginY() {
+        return originY;
+    }
+
+    public double getUx() {
+        return ux;
+    }
+
+    public double getUy() {
+        return uy;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    public double area() {
+        return width * height;
+    }
+
+    public double perimeter() {
+        return 2 * (width + height);
+    }
+
+    /**
+     * 获取四个角点，按逆时针方向排列，起点为原点
+     *
+     * @return 角点
+     */
+    public Point[] corners() {
+        double wx = ux * width, wy = uy * width;
+        double hx = -uy * height, hy = ux * height;
+        return new Point[]{
+                new Point(originX, originY),
+                new Point(originX + wx, originY + wy),
+                new Point(originX + wx + hx, originY + wy + hy),
+                new Point(originX + hx, originY + hy),
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "[(" + originX + "," + originY + "),u=(" + ux + "," + uy + ")," + width + "x" + height + "]";
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.ricky.cg.hull;
+
+import io.github.ricky.cg.basic.point.Point;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className ParallelConvexHull
+ * @desc 并行分治凸包<br>
+ * 将输入按索引区间二分，规模不超过阈值的区间在 ForkJoin 任务中用 {@link ConvexHull} 顺序求解，
+ * 再把两个子凸包（通常很小）合并后重新求凸包<br>
+ * 结果与 {@link ConvexHull#compute(double[], double[], int)} 完全相同：
+ * 同为逆时针顺序、以字典序最小的点为起点，重复点保留索引最小者
+ */
+public final class ParallelConvexHull {
+
+    /**
+     * 默认的并行阈值：区间点数不超过该值时不再拆分
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    private ParallelConvexHull() {
+    }
+
+    /**
+     * 使用公共线程池与默认阈值计算点集的凸包
+     *
+     * @param points 点集
+     * @return 凸包顶点，按逆时针方向排列
+     */
+    public static Point[] compute(Point[] points) {
+        return compute(points, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * 计算点集的凸包
+     *
+     * @param points    点集
+     * @param pool      线程池
+     * @param threshold 并行阈值，区间点数不超过该值时顺序求解
+     * @return 凸包顶点，按逆时针方向排列
+     */
+    public static Point[] compute(Point[] points, ForkJoinPool pool, int threshold) {
+        int n = points.length;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = points[i].getX();
+            ys[i] = points[i].getY();
+        }
+        int[] hull = compute(xs, ys, n, pool, threshold);
+        Point[] result = new Point[hull.length];
+        for (int i = 0; i < hull.length; i++) {
+            result[i] = points[hull[i]];
+        }
+        return result;
+    }
+
+    /**
+     * 使用公共线程池与默认阈值计算前n个点的凸包
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     * @param n  点数
+     * @return 凸包顶点索引，按逆时针方向排列
+     */
+    public static int[] compute(double[] xs, double[] ys, int n) {
+        return compute(xs, ys, n, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * 计算前n个点的凸包
+     *
+     * @param xs        横坐标数组
+     * @param ys        纵坐标数组
+     * @param n         点数
+     * @param pool      线程池
+     * @param threshold 并行阈值，区间点数不超过该值时顺序求解
+     * @return 凸包顶点索引，按逆时针方向排列
+     */
+    public static int[] compute(double[] xs, double[] ys, int n, ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The parallelism threshold must be positive.");
+        }
+        if (n <= threshold) {
+            return ConvexHull.compute(xs, ys, 0, n);
+        }
+        return pool.invoke(new HullTask(xs, ys, 0, n, threshold));
+    }
+
+    /**
+     * 合并两个子凸包
+     */
+    private static int[] merge(double[] xs, double[] ys, int[] left, int[] right) {
+        int[] merged = new int[left.length + right.length];
+        System.arraycopy(left, 0, merged, 0, left.length);
+        System.arraycopy(right, 0, merged, left.length, right.length);
+        return ConvexHull.monotoneChain(xs, ys, merged, merged.length);
+    }
+
+    /**
+     * 求索引区间 [from, to) 内的点的凸包的任务
+     */
+    private static final class HullTask extends RecursiveTask<int[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] xs;
+
+        private final double[] ys;
+
+        private final int from;
+
+        private final int to;
+
+        private final int threshold;
+
+        HullTask(double[] xs, double[] ys, int from, int to, int threshold) {
+            this.xs = xs;
+            this.ys = ys;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= threshold) {
+                return ConvexHull.compute(xs, ys, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            HullTask left = new HullTask(xs, ys, from, mid, threshold);
+            HullTask right = new HullTask(xs, ys, mid, to, threshold);
+            left.fork();
+            int[] rightHull = right.compute();
+            int[] leftHull = left.join();
+            return merge(xs, ys, leftHull, rightHull);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package io.github.ricky.cg.hull;
+
+import io.github.ricky.cg.basic.point.Point;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className RotatingCalipers
+ * @desc 旋转卡壳<br>
+ * 在凸包上同时推进若干个只进不退的卡壳指针，以 O(h) 的时间求直径（最远点对）、宽度（最小的平行支撑线间距）、
+ * 最小面积外接矩形与最小周长外接矩形，h 为凸包顶点数；直接在原始坐标数组上运算，除返回值外不分配对象<br>
+ * 输入为 {@link ConvexHull} 的输出：凸包顶点在坐标数组中的索引，按逆时针方向排列，且没有重复点与共线点<br>
+ * 外接矩形至少有一条边与凸包的某条边共线（Freeman–Shapira），因此只需枚举凸包的边<br>
+ * 退化情况：凸包只有1个顶点时直径与宽度为0，矩形退化为点；只有2个顶点时宽度为0，矩形退化为线段
+ */
+public final class RotatingCalipers {
+
+    private RotatingCalipers() {
+    }
+
+    /**
+     * 求点集的直径（先求凸包）
+     *
+     * @param points 点集
+     * @return 任意两点间的最大距离
+     */
+    public static double diameter(Point[] points) {
+        double[] xs = xs(points), ys = ys(points);
+        return diameter(xs, ys, ConvexHull.compute(xs, ys, points.length));
+    }
+
+    /**
+     * 求凸包的直径
+     *
+     * @param xs   横坐标数组
+     * @param ys   纵坐标数组
+     * @param hull 凸包顶点索引，按逆时针方向排列
+     * @return 凸包任意两个顶点间的最大距离
+     */
+    public static double diameter(double[] xs, double[] ys, int[] hull) {
+        int[] pair = farthestPair(xs, ys, hull);
+        double dx = xs[pair[0]] - xs[pair[1]], dy = ys[pair[0]] - ys[pair[1]];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * 求凸包上距离最远的两个顶点<br>
+     * 对每条边 i->i+1，推进对踵指针 j 直到 j 离该边最远，此时只有 (i, j) 与 (i+1, j) 可能是最远点对
+     *
+     * @param xs   横坐标数组
+     * @param ys   纵坐标数组
+     * @param hull 凸包顶点索引，按逆时针方向排列
+     * @return 两个顶点在坐标数组中的索引
+     */
+    public static int[] farthestPair(double[] xs, double[] ys, int[] hull) {
+        int h = checkHull(hull);
+        if (h == 1) {
+            return new int[]{hull[0], hull[0]};
+        }
+        int bestA = hull[0], bestB = hull[1];
+        double best = distance2(xs, ys, bestA, bestB);
+        int j = 1;
+        for (int i = 0; i < h; i++) {
+            int a = hull[i], b = hull[next(i, h)];
+            double ex = xs[b] - xs[a], ey = ys[b] - ys[a];
+            // 下一个顶点离边更远时推进 j；凸包严格凸，j 至多绕一圈
+            while (cross(ex, ey, xs[hull[next(j, h)]] - xs[hull[j]], ys[hull[next(j, h)]] - ys[hull[j]]) > 0) {
+                j = next(j, h);
+            }
+            int c = hull[j];
+            double d = distance2(xs, ys, a, c);
+            if (d > best) {
+                best = d;
+                bestA = a;
+                bestB = c;
+            }
+            d = distance2(xs, ys, b, c);
+            if (d > best) {
+                best = d;
+                bestA = b;
+                bestB = c;
+            }
+        }
+        return new int[]{bestA, bestB};
+    }
+
+    /**
+     * 求点集的宽度（先求凸包）
+     *
+     * @param points 点集
+     * @return 夹住点集的两条平行线的最小间距
+     */
+    public static double width(Point[] points) {
+        double[] xs = xs(points), ys = ys(points);
+        return width(xs, ys, ConvexHull.compute(xs, ys, points.length));
+    }
+
+    /**
+     * 求凸包的宽度<br>
+     * 最窄的方向上必有一条支撑线与凸包的某条边共线，宽度等于所有边到其对踵顶点距离的最小值
+     *
+     * @param xs   横坐标数组
+     * @param ys   纵坐标数组
+     * @param hull 凸包顶点索引，按逆时针方向排列
+     * @return 夹住凸包的两条平行线的最小间距
+     */
+    public static double width(double[] xs, double[] ys, int[] hull) {
+        int h = checkHull(hull);
+        if (h < 3) {
+            return 0;
+        }
+        double best = Double.POSITIVE_INFINITY;
+        int j = 1;
+        for (int i = 0; i < h; i++) {
+            int a = hull[i], b = hull[next(i, h)];
+            double ex = xs[b] - xs[a], ey = ys[b] - ys[a];
+            while (cross(ex, ey, xs[hull[next(j, h)]] - xs[hull[j]], ys[hull[next(j, h)]] - ys[hull[j]]) > 0) {
+                j = next(j, h);
+            }
+            double height = cross(ex, ey, xs[hull[j]] - xs[a], ys[hull[j]] - ys[a]) / Math.sqrt(ex * ex + ey * ey);
+            best = Math.min(best, height);
+        }
+        return best;
+    }
+
+    /**
+     * 求点集的最小面积外接矩形（先求凸包）
+     *
+     * @param points 点集
+     * @return 面积最小的外接矩形
+     */
+    public static OrientedRectangle minimumAreaRectangle(Point[] points) {
+        double[] xs = xs(points), ys = ys(points);
+        return minimumAreaRectangle(xs, ys, ConvexHull.compute(xs, ys, points.length));
+    }
+
+    /**
+     * 求凸包的最小面积外接矩形
+     *
+     * @param xs   横坐标数组
+     * @param ys   纵坐标数组
+     * @param hull 凸包顶点索引，按逆时针方向排列
+     * @return 面积最小的外接矩形，有一条边与凸包的某条边共线
+     */
+    public static OrientedRectangle minimumAreaRectangle(double[] xs, double[] ys, int[] hull) {
+        return minimumRectangle(xs, ys, hull, false);
+    }
+
+    /**
+     * 求点集的最小周长外接矩形（先求凸包）
+     *
+     * @param points 点集
+     * @return 周长最小的外接矩形
+     */
+    public static OrientedRectangle minimumPerimeterRectangle(Point[] points) {
+        double[] xs = xs(points), ys = ys(points);
+        return minimumPerimeterRectangle(xs, ys, ConvexHull.compute(xs, ys, points.length));
+    }
+
+    /**
+     * 求凸包的最小周长外接矩形
+     *
+     * @param xs   横坐标数组
+     * @param ys   纵坐标数组
+     * @param hull 凸包顶点索引，按逆时针方向排列
+     * @return 周长最小的外接矩形，有一条边与凸包的某条边共线
+     */
+    public static OrientedRectangle minimumPerimeterRectangle(double[] xs, double[] ys, int[] hull) {
+        return minimumRectangle(xs, ys, hull, true);
+    }
+
+    /**
+     * 对每条边 i->i+1（方向 u），推进三个卡壳：沿 u 投影最大的 right、离边最远的 top、沿 u 投影最小的 left，
+     * 矩形的一条边落在该边上，宽为 right 与 left 的投影差，高为 top 到边的距离
+     */
+    private static OrientedRectangle minimumRectangle(double[] xs, double[] ys, int[] hull, boolean perimeter) {
+        int h = checkHull(hull);
+        if (h == 1) {
+            return new OrientedRectangle(xs[hull[0]], ys[hull[0]], 1, 0, 0, 0);
+        }
+        double best = Double.POSITIVE_INFINITY;
+        double bestX = 0, bestY = 0, bestUx = 1, bestUy = 0, bestWidth = 0, bestHeight = 0;
+        int right = 0, top = -1, left = -1;
+        for (int i = 0; i < h; i++) {
+            int a = hull[i], b = hull[next(i, h)];
+            double ex = xs[b] - xs[a], ey = ys[b] - ys[a];
+            double length = Math.sqrt(ex * ex + ey * ey);
+            double ux = ex / length, uy = ey / length;
+
+            while (dot(ux, uy, xs[hull[next(right, h)]] - xs[hull[right]], ys[hull[next(right, h)]] - ys[hull[right]]) > 0) {
+                right = next(right, h);
+            }
+            if (top < 0) {
+                top = right;
+            }
+            while (cross(ux, uy, xs[hull[next(top, h)]] - xs[hull[top]], ys[hull[next(top, h)]] - ys[hull[top]]) > 0) {
+                top = next(top, h);
+            }
+            if (left < 0) {
+                left = top;
+            }
+            while (dot(ux, uy, xs[hull[next(left, h)]] - xs[hull[left]], ys[hull[next(left, h)]] - ys[hull[left]]) < 0) {
+                left = next(left, h);
+            }
+
+            double min = dot(ux, uy, xs[hull[left]] - xs[a], ys[hull[left]] - ys[a]);
+            double max = dot(ux, uy, xs[hull[right]] - xs[a], ys[hull[right]] - ys[a]);
+            double width = max - min;
+            double height = cross(ux, uy, xs[hull[top]] - xs[a], ys[hull[top]] - ys[a]);
+            double measure = perimeter ? width + height : width * height;
+            if (measure < best) {
+                best = measure;
+                bestX = xs[a] + min * ux;
+                bestY = ys[a] + min * uy;
+                bestUx = ux;
+                bestUy = uy;
+                bestWidth = width;
+                bestHeight = height;
+            }
+        }
+        return new OrientedRectangle(bestX, bestY, bestUx, bestUy, bestWidth, bestHeight);
+    }
+
+    private static int checkHull(int[] hull) {
+        if (hull.length == 0) {
+            throw new IllegalArgumentException("The convex hull must have at least one vertex.");
+        }
+        return hull.length;
+    }
+
+    private static int next(int i, int h) {
+        return i + 1 == h ? 0 : i + 1;
+    }
+
+    private static double cross(double ax, double ay, double bx, double by) {
+        return ax * by - ay * bx;
+    }
+
+    private static double dot(double ax, double ay, double bx, double by) {
+        return ax * bx + ay * by;
+    }
+
+    private static double distance2(double[] xs, double[] ys, int a, int b) {
+        double dx = xs[a] - xs[b], dy = ys[a] - ys[b];
+        return dx * dx + dy * dy;
+    }
+
+    private static double[] xs(Point[] points) {
+        double[] xs = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            xs[i] = points[i].getX();
+        }
+        return xs;
+    }
+
+    private static double[] ys(Point[] points) {
+        double[] ys = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            ys[i] = points[i].getY();
+        }
+        return ys;
+    }
+}
@@ -0,0 +1,413 @@
+package io.github.ricky.cg.index;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className KdTree
+ * @desc 静态二维树(2-d tree)<br>
+ * 以隐式数组存放，不创建节点对象：区间 [lo, hi) 的根为中位位置 mid = (lo + hi) / 2，左右子树分别为 [lo, mid) 与 [mid + 1, hi)，
+ * 偶数层按x划分、奇数层按y划分；构建时用快速选择把中位数放到 mid，期望时间复杂度 O(n log n)<br>
+ * 查询结果为点在输入中的编号，距离一律用 {@link ComputationalGeometryUtils#sqrDistance(double, double, double, double)} 比较，不开方
+ */
+public final class KdTree {
+
+    /**
+     * 并行构建的默认阈值：区间点数不超过该值时不再拆分任务
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 14;
+
+    /**
+     * 按树的布局重排后的坐标
+     */
+    private final double[] xs;
+
+    private final double[] ys;
+
+    /**
+     * 重排后每个位置上的点在输入中的编号
+     */
+    private final int[] ids;
+
+    private final int size;
+
+    public KdTree(Point[] points) {
+        this(toXs(points), toYs(points), points.length);
+    }
+
+    /**
+     * 由前n个点构建，不修改输入数组
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     * @param n  点数
+     */
+    public KdTree(double[] xs, double[] ys, int n) {
+        this(xs, ys, n, null, Integer.MAX_VALUE);
+    }
+
+    private KdTree(double[] xs, double[] ys, int n, ForkJoinPool pool, int threshold) {
+        this.xs = Arrays.copyOf(xs, n);
+        this.ys = Arrays.copyOf(ys, n);
+        this.ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i;
+        }
+        this.size = n;
+        if (pool == null || n <= threshold) {
+            build(0, n, 0);
+        } else {
+            pool.invoke(new BuildTask(0, n, 0, threshold));
+        }
+    }
+
+    /**
+     * 使用公共线程池并行构建
+     *
+     * @param points 点集
+     * @return 二维树
+     */
+    public static KdTree buildParallel(Point[] points) {
+        return buildParallel(toXs(points), toYs(points), points.length, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * 并行构建，结果与顺序构建完全相同
+     *
+     * @param xs        横坐标数组
+     * @param ys        纵坐标数组
+     * @param n         点数
+     * @param pool      线程池
+     * @param threshold 并行阈值，区间点数不超过该值时顺序构建
+     * @return 二维树
+     */
+    public static KdTree buildParallel(double[] xs, double[] ys, int n, ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The parallelism threshold must be positive.");
+        }
+        return new KdTree(xs, ys, n, pool, threshold);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 最近邻查询
+     *
+     * @param p 查询点
+     * @return 最近点的编号，树为空时返回 -1
+     */
+    public int nearest(Point p) {
+        return nearest(p.getX(), p.getY());
+    }
+
+    /**
+     * 最近邻查询
+     *
+     * @param x 横坐标
+     * @param y 纵坐标
+     * @return 最近点的编号，树为空时返回 -1
+     */
+    public int nearest(double x, double y) {
+        int[] result = nearest(x, y, 1);
+        return result.length == 0 ? -1 : result[0];
+    }
+
+    public int[] nearest(Point p, int k) {
+        return nearest(p.getX(), p.getY(), k);
+    }
+
+    /**
+     * k近邻查询，用容量为k的大根堆维护当前最近的k个点
+     *
+     * @param x 横坐标
+     * @param y 纵坐标
+     * @param k 近邻个数
+     * @return 最近的 min(k, size) 个点的编号，按距离从近到远排列，距离相同时顺序不定
+     */
+    public int[] nearest(double x, double y, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("The number of neighbours must not be negative.");
+        }
+        Neighbours neighbours = new Neighbours(Math.min(k, size));
+        if (neighbours.capacity > 0) {
+            nearest(0, size, 0, x, y, neighbours);
+        }
+        return neighbours.drain();
+    }
+
+    public int[] radius(Point p, double radius) {
+        return radius(p.getX(), p.getY(), radius);
+    }
+
+    /**
+     * 半径查询
+     *
+     * @param x      横坐标
+     * @param y      纵坐标
+     * @param radius 半径
+     * @return 到查询点的距离不超过半径的点的编号，顺序不定
+     */
+    public int[] radius(double x, double y, double radius) {
+        int[][] result = {new int[16]};
+        int[] count = {0};
+        radius(x, y, radius, id -> {
+            if (count[0] == result[0].length) {
+                result[0] = Arrays.copyOf(result[0], count[0] << 1);
+            }
+            result[0][count[0]++] = id;
+        });
+        return Arrays.copyOf(result[0], count[0]);
+    }
+
+    /**
+     * 半径查询，结果流式交给回调
+     *
+     * @param x        横坐标
+     * @param y        纵坐标
+     * @param radius   半径
+     * @param consumer 接收点的编号
+     */
+    public void radius(double x, double y, double radius, IntConsumer consumer) {
+        if (radius < 0) {
+            throw new IllegalArgumentException("The radius must not be negative.");
+        }
+        radius(0, size, 0, x, y, radius * radius, consumer);
+    }
+
+    private void nearest(int lo, int hi, int depth, double x, double y, Neighbours neighbours) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        neighbours.offer(ComputationalGeometryUtils.sqrDistance(x, y, xs[mid], ys[mid]), ids[mid]);
+
+        double diff = (depth & 1) == 0 ? x - xs[mid] : y - ys[mid];
+        // 先搜索查询点所在的一侧，另一侧只在分割线比当前第k近的点更近时才搜索
+        if (diff < 0) {
+            nearest(lo, mid, depth + 1, x, y, neighbours);
+            if (diff * diff < neighbours.bound()) {
+                nearest(mid + 1, hi, depth + 1, x, y, neighbours);
+            }
+        } else {
+            nearest(mid + 1, hi, depth + 1, x, y, neighbours);
+            if (diff * diff < neighbours.bound()) {
+                nearest(lo, mid, depth + 1, x, y, neighbours);
+            }
+        }
+    }
+
+    private void radius(int lo, int hi, int depth, double x, double y, double sqrRadius, IntConsumer consumer) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (ComputationalGeometryUtils.sqrDistance(x, y, xs[mid], ys[mid]) <= sqrRadius) {
+            consumer.accept(ids[mid]);
+        }
+        double diff = (depth & 1) == 0 ? x - xs[mid] : y - ys[mid];
+        if (diff <= 0 || diff * diff <= sqrRadius) {
+            radius(lo, mid, depth + 1, x, y, sqrRadius, consumer);
+        }
+        if (diff >= 0 || diff * diff <= sqrRadius) {
+            radius(mid + 1, hi, depth + 1, x, y, sqrRadius, consumer);
+        }
+    }
+
+    private void build(int lo, int hi, int depth) {
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            select(lo, hi, mid, (depth & 1) == 0 ? xs : ys);
+            build(lo, mid, depth + 1);
+            lo = mid + 1;
+            depth++;
+        }
+    }
+
+    /**
+     * 快速选择（三路划分）：把区间 [lo, hi) 中按 keys 排第 k 的点放到位置 k，左侧不大于它，右侧不小于它
+     */
+    private void select(int lo, int hi, int k, double[] keys) {
+        hi--;
+        while (lo < hi) {
+            // 三数取中作为枢轴
+            int m = (lo + hi) >>> 1;
+            double a = keys[lo], b = keys[m], c = keys[hi];
+            double pivot = a < b ? (b < c ? b : Math.max(a, c)) : (a < c ? a : Math.max(b, c));
+
+            int lt = lo, i = lo, gt = hi;
+            while (i <= gt) {
+                if (keys[i] < pivot) {
+                    swap(lt++, i++);
+                } else if (keys[i] > pivot) {
+                    swap(i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            // [lo, lt) < pivot, [lt, gt] == pivot, (gt, hi] > pivot
+            if (k < lt) {
+                hi = lt - 1;
+            } else if (k > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int i, int j) {
+        double x = xs[i];
+        xs[i] = xs[j];
+        xs[j] = x;
+        double y = ys[i];
+        ys[i] = ys[j];
+        ys[j] = y;
+        int id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+    }
+
+    private static double[] toXs(Point[] points) {
+        double[] xs = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            xs[i] = points[i].getX();
+        }
+        return xs;
+    }
+
+    private static double[] toYs(Point[] points) {
+        double[] ys = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            ys[i] = points[i].getY();
+        }
+        return ys;
+    }
+
+    /**
+     * 并行构建任务：选出中位数后左右子树互不相交，可以并行构建
+     */
+    private final class BuildTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int lo;
+
+        private final int hi;
+
+        private final int depth;
+
+        private final int threshold;
+
+        BuildTask(int lo, int hi, int depth, int threshold) {
+            this.lo = lo;
+            this.hi = hi;
+            this.depth = depth;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= threshold) {
+                build(lo, hi, depth);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            select(lo, hi, mid, (depth & 1) == 0 ? xs : ys);
+            invokeAll(new BuildTask(lo, mid, depth + 1, threshold), new BuildTask(mid + 1, hi, depth + 1, threshold));
+        }
+    }
+
+    /**
+     * 容量固定的大根堆，保存当前最近的若干个点
+     */
+    private static final class Neighbours {
+
+        private final int capacity;
+
+        private final double[] distances;
+
+        private final int[] ids;
+
+        private int count;
+
+        Neighbours(int capacity) {
+            this.capacity = capacity;
+            this.distances = new double[capacity];
+            this.ids = new int[capacity];
+        }
+
+        /**
+         * 当前第k近的距离平方，不足k个时为正无穷
+         */
+        double bound() {
+            return count < capacity ? Double.POSITIVE_INFINITY : distances[0];
+        }
+
+        void offer(double distance, int id) {
+            if (count < capacity) {
+                // 上浮
+                int index = count++;
+                while (index > 0) {
+                    int parent = (index - 1) >>> 1;
+                    if (distances[parent] >= distance) {
+                        break;
+                    }
+                    distances[index] = distances[parent];
+                    ids[index] = ids[parent];
+                    index = parent;
+                }
+                distances[index] = distance;
+                ids[index] = id;
+            } else if (distance < distances[0]) {
+                siftDown(distance, id, count);
+            }
+        }
+
+        /**
+         * 依次弹出堆顶，得到从近到远的编号
+         */
+        int[] drain() {
+            int[] result = new int[count];
+            for (int last = count - 1; last >= 0; last--) {
+                result[last] = ids[0];
+                siftDown(distances[last], ids[last], last);
+            }
+            count = 0;
+            return result;
+        }
+
+        /**
+         * 用 (distance, id) 替换堆顶并下沉，堆大小为 size
+         */
+        private void siftDown(double distance, int id, int size) {
+            int index = 0;
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && distances[child + 1] > distances[child]) {
+                    child++;
+                }
+                if (distances[child] <= distance) {
+                    break;
+                }
+                distances[index] = distances[child];
+                ids[index] = ids[child];
+                index = child;
+            }
+            distances[index] = distance;
+            ids[index] = id;
+        }
+    }
+}
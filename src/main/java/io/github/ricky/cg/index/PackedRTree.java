@@ -0,0 +1,350 @@
+package io.github.ricky.cg.index;
+
+import io.github.ricky.cg.common.sort.IndexSortUtils;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PackedRTree
+ * @desc 静态打包R树<br>
+ * 使用 Sort-Tile-Recursive(STR) 算法一次性批量构建，构建后不可修改，时间复杂度 O(n log n)<br>
+ * 所有条目按层次顺序存放在原始类型数组中：前n个为数据项（按打包顺序），之后逐层为内部节点，根节点在最后；
+ * 每个节点的子条目在数组中连续存放<br>
+ * 只索引包围盒，数据项以其在输入中的编号表示，精确判定由调用方完成
+ */
+public final class PackedRTree {
+
+    /**
+     * 默认节点容量
+     */
+    public static final int DEFAULT_NODE_CAPACITY = 16;
+
+    /**
+     * 条目个数（数据项 + 内部节点）
+     */
+    private final int size;
+
+    /**
+     * 数据项个数
+     */
+    private final int itemCount;
+
+    /**
+     * 条目包围盒，第i个条目为 boxes[4i..4i+3] = minX, minY, maxX, maxY
+     */
+    private final double[] boxes;
+
+    /**
+     * 数据项条目对应的输入编号
+     */
+    private final int[] ids;
+
+    /**
+     * 内部节点的子条目区间 [childFrom, childTo)，按 条目位置-itemCount 索引
+     */
+    private final int[] childFrom;
+
+    private final int[] childTo;
+
+    /**
+     * 使用默认节点容量构建
+     *
+     * @param minXs 数据项包围盒的最小横坐标
+     * @param minYs 数据项包围盒的最小纵坐标
+     * @param maxXs 数据项包围盒的最大横坐标
+     * @param maxYs 数据项包围盒的最大纵坐标
+     * @param n     数据项个数
+     */
+    public PackedRTree(double[] minXs, double[] minYs, double[] maxXs, double[] maxYs, int n) {
+        this(minXs, minYs, maxXs, maxYs, n, DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * 构建R树
+     *
+     * @param minXs        数据项包围盒的最小横坐标
+     * @param minYs        数据项包围盒的最小纵坐标
+     * @param maxXs        数据项包围盒的最大横坐标
+     * @param maxYs        数据项包围盒的最大纵坐标
+     * @param n            数据项个数
+     * @param nodeCapacity 节点容量，至少为2
+     */
+    public PackedRTree(double[] minXs, double[] minYs, double[] maxXs, double[] maxYs, int n, int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("The node capacity must be at least 2.");
+        }
+        this.itemCount = n;
+
+        // 预先计算每层的条目数
+        int total = n;
+        int count = n;
+        while (count > 1) {
+            count = (count + nodeCapacity - 1) / nodeCapacity;
+            total += count;
+        }
+        this.size = total;
+        this.boxes = new double[4 * total];
+        this.ids = new int[n];
+        this.childFrom = new int[total - n];
+        this.childTo = new int[total - n];
+
+        // 数据项层：按STR顺序排列
+        int[] order = strOrder(minXs, minYs, maxXs, maxYs, 0, n, nodeCapacity);
+        for (int i = 0; i < n; i++) {
+            int id = order[i];
+            ids[i] = id;
+            boxes[4 * i] = minXs[id];
+            boxes[4 * i + 1] = minYs[id];
+            boxes[4 * i + 2] = maxXs[id];
+            boxes[4 * i + 3] = maxYs[id];
+        }
+
+        // 逐层打包：每组连续的 nodeCapacity 个条目成为一个父节点，父节点所在层再按STR顺序排列
+        int levelFrom = 0, levelTo = n;
+        while (levelTo - levelFrom > 1) {
+            int parents = (levelTo - levelFrom + nodeCapacity - 1) / nodeCapacity;
+            double[] pMinX = new double[parents], pMinY = new double[parents];
+            double[] pMaxX = new double[parents], pMaxY = new double[parents];
+            int[] from = new int[parents], to = new int[parents];
+            for (int p = 0; p < parents; p++) {
+                from[p] = levelFrom + p * nodeCapacity;
+                to[p] = Math.min(from[p] + nodeCapacity, levelTo);
+                pMinX[p] = pMinY[p] = Double.POSITIVE_INFINITY;
+                pMaxX[p] = pMaxY[p] = Double.NEGATIVE_INFINITY;
+                for (int c = from[p]; c < to[p]; c++) {
+                    pMinX[p] = Math.min(pMinX[p], boxes[4 * c]);
+                    pMinY[p] = Math.min(pMinY[p], boxes[4 * c + 1]);
+                    pMaxX[p] = Math.max(pMaxX[p], boxes[4 * c + 2]);
+                    pMaxY[p] = Math.max(pMaxY[p], boxes[4 * c + 3]);
+                }
+            }
+            int[] parentOrder = strOrder(pMinX, pMinY, pMaxX, pMaxY, 0, parents, nodeCapacity);
+            for (int i = 0; i < parents; i++) {
+                int p = parentOrder[i];
+                int position = levelTo + i;
+                boxes[4 * position] = pMinX[p];
+                boxes[4 * position + 1] = pMinY[p];
+                boxes[4 * position + 2] = pMaxX[p];
+                boxes[4 * position + 3] = pMaxY[p];
+                childFrom[position - n] = from[p];
+                childTo[position - n] = to[p];
+            }
+            levelFrom = levelTo;
+            levelTo += parents;
+        }
+    }
+
+    /**
+     * 获取数据项个数
+     *
+     * @return 数据项个数
+     */
+    public int size() {
+        return itemCount;
+    }
+
+    /**
+     * 窗口查询：报告包围盒与窗口相交（包括边界接触）的所有数据项
+     *
+     * @param minX     窗口最小横坐标
+     * @param minY     窗口最小纵坐标
+     * @param maxX     窗口最大横坐标
+     * @param maxY     窗口最大纵坐标
+     * @param consumer 接收数据项编号
+     */
+    public void search(double minX, double minY, double maxX, double maxY, IntConsumer consumer) {
+        if (itemCount == 0) {
+            return;
+        }
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = size - 1;
+        while (top > 0) {
+            int position = stack[--top];
+            if (!intersects(position, minX, minY, maxX, maxY)) {
+                continue;
+            }
+            if (position < itemCount) {
+                consumer.accept(ids[position]);
+                continue;
+            }
+            int from = childFrom[position - itemCount], to = childTo[position - itemCount];
+            for (int child = from; child < to; child++) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length << 1);
+                }
+                stack[top++] = child;
+            }
+        }
+    }
+
+    /**
+     * 点查询：报告包围盒包含该点（包括边界）的所有数据项
+     *
+     * @param x        横坐标
+     * @param y        纵坐标
+     * @param consumer 接收数据项编号
+     */
+    public void search(double x, double y, IntConsumer consumer) {
+        search(x, y, x, y, consumer);
+    }
+
+    /**
+     * 数据项到查询点的精确距离
+     */
+    @FunctionalInterface
+    public interface ItemDistance {
+
+        /**
+         * 计算数据项到查询点的距离平方，不得小于该点到数据项包围盒的距离平方
+         *
+         * @param id 数据项编号
+         * @return 距离平方
+         */
+        double sqrDistance(int id);
+
+    }
+
+    /**
+     * k近邻查询<br>
+     * 按包围盒距离的下界做最佳优先搜索，只对可能进入结果的数据项计算精确距离
+     *
+     * @param x        横坐标
+     * @param y        纵坐标
+     * @param k        近邻个数
+     * @param distance 数据项的精确距离
+     * @return 最近的 min(k, size) 个数据项编号，按距离从近到远排列，距离相同时顺序不定
+     */
+    public int[] nearest(double x, double y, int k, ItemDistance distance) {
+        if (k < 0) {
+            throw new IllegalArgumentException("The number of neighbours must not be negative.");
+        }
+        int[] result = new int[Math.min(k, itemCount)];
+        if (result.length == 0) {
+            return result;
+        }
+        // 小根堆：键为距离平方，值 >= 0 表示按包围盒估计的条目，值 < 0 表示已算出精确距离的数据项 -1-position
+        double[] keys = new double[64];
+        int[] values = new int[64];
+        int heapSize = 0;
+        keys[0] = sqrDistance(size - 1, x, y);
+        values[0] = size - 1;
+        heapSize++;
+
+        int found = 0;
+        while (heapSize > 0 && found < result.length) {
+            int value = values[0];
+            heapSize = pop(keys, values, heapSize);
+            if (value < 0) {
+                result[found++] = ids[-1 - value];
+                continue;
+            }
+            int from, to;
+            if (value < itemCount) {
+                from = value;
+                to = value + 1;
+            } else {
+                from = childFrom[value - itemCount];
+                to = childTo[value - itemCount];
+            }
+            for (int child = from; child < to; child++) {
+                double key;
+                int entry;
+                if (child < itemCount) {
+                    key = distance.sqrDistance(ids[child]);
+                    entry = -1 - child;
+                } else {
+                    key = sqrDistance(child, x, y);
+                    entry = child;
+                }
+                if (heapSize == keys.length) {
+                    keys = Arrays.copyOf(keys, heapSize << 1);
+                    values = Arrays.copyOf(values, heapSize << 1);
+                }
+                push(keys, values, heapSize++, key, entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 按STR顺序排列区间内的条目：先按中心横坐标切成 ⌈√(⌈n/M⌉)⌉ 个竖条，竖条内再按中心纵坐标排序
+     */
+    private static int[] strOrder(double[] minXs, double[] minYs, double[] maxXs, double[] maxYs,
+                                  int from, int to, int nodeCapacity) {
+        int n = to - from;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = from + i;
+        }
+        int leaves = (n + nodeCapacity - 1) / nodeCapacity;
+        int slices = (int) Math.ceil(Math.sqrt(leaves));
+        int sliceSize = slices * nodeCapacity;
+
+        // 比较中心坐标时用 min+max 代替 (min+max)/2，顺序不变
+        IndexSortUtils.sort(order, 0, n, (i, j) -> Double.compare(minXs[i] + maxXs[i], minXs[j] + maxXs[j]));
+        for (int lo = 0; lo < n; lo += sliceSize) {
+            IndexSortUtils.sort(order, lo, Math.min(lo + sliceSize, n),
+                    (i, j) -> Double.compare(minYs[i] + maxYs[i], minYs[j] + maxYs[j]));
+        }
+        return order;
+    }
+
+    private boolean intersects(int position, double minX, double minY, double maxX, double maxY) {
+        int offset = 4 * position;
+        return boxes[offset] <= maxX && minX <= boxes[offset + 2] && boxes[offset + 1] <= maxY && minY <= boxes[offset + 3];
+    }
+
+    private double sqrDistance(int position, double x, double y) {
+        int offset = 4 * position;
+        double dx = x < boxes[offset] ? boxes[offset] - x : (x > boxes[offset + 2] ? x - boxes[offset + 2] : 0);
+        double dy = y < boxes[offset + 1] ? boxes[offset + 1] - y : (y > boxes[offset + 3] ? y - boxes[offset + 3] : 0);
+        return dx * dx + dy * dy;
+    }
+
+    private static void push(double[] keys, int[] values, int index, double key, int value) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[index] = keys[parent];
+            values[index] = values[parent];
+            index = parent;
+        }
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    /**
+     * 弹出堆顶，返回新的堆大小
+     */
+    private static int pop(double[] keys, int[] values, int heapSize) {
+        int last = --heapSize;
+        double key = keys[last];
+        int value = values[last];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (keys[child] >= key) {
+                break;
+            }
+            keys[index] = keys[child];
+            values[index] = values[child];
+            index = child;
+        }
+        keys[index] = key;
+        values[index] = value;
+        return heapSize;
+    }
+}
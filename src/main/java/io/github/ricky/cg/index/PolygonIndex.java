@@ -0,0 +1,117 @@
+package io.github.ricky.cg.index;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.shape.BoundingBox;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import io.github.ricky.cg.shape.polygon.enums.PositionalRelationshipEnum;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PolygonIndex
+ * @desc 多边形空间索引<br>
+ * 以 {@link PackedRTree} 按包围盒筛选候选多边形，点查询与近邻查询再用
+ * {@link ComputationalGeometryUtils#positionalRelationship} 与 {@link ComputationalGeometryUtils#closestPointToSegment} 精确判定
+ */
+public final class PolygonIndex {
+
+    private final Polygon[] polygons;
+
+    private final PackedRTree tree;
+
+    public PolygonIndex(Collection<Polygon> polygons) {
+        this(polygons, PackedRTree.DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * 构建多边形索引
+     *
+     * @param polygons     多边形集合
+     * @param nodeCapacity R树节点容量
+     */
+    public PolygonIndex(Collection<Polygon> polygons, int nodeCapacity) {
+        this.polygons = polygons.toArray(new Polygon[0]);
+        int n = this.polygons.length;
+        double[] minXs = new double[n], minYs = new double[n], maxXs = new double[n], maxYs = new double[n];
+        for (int i = 0; i < n; i++) {
+            BoundingBox box = this.polygons[i].boundingBox();
+            minXs[i] = box.getMinX();
+            minYs[i] = box.getMinY();
+            maxXs[i] = box.getMaxX();
+            maxYs[i] = box.getMaxY();
+        }
+        this.tree = new PackedRTree(minXs, minYs, maxXs, maxYs, n, nodeCapacity);
+    }
+
+    public int size() {
+        return polygons.length;
+    }
+
+    /**
+     * 窗口查询
+     *
+     * @param window 查询窗口
+     * @return 包围盒与窗口相交的多边形（候选集，未做精确判定）
+     */
+    public List<Polygon> query(BoundingBox window) {
+        List<Polygon> result = new ArrayList<>();
+        tree.search(window.getMinX(), window.getMinY(), window.getMaxX(), window.getMaxY(), id -> result.add(polygons[id]));
+        return result;
+    }
+
+    /**
+     * 点查询
+     *
+     * @param q 查询点
+     * @return 包含点q（包括点在边上）的多边形
+     */
+    public List<Polygon> locate(Point q) {
+        List<Polygon> result = new ArrayList<>();
+        tree.search(q.getX(), q.getY(), id -> {
+            if (ComputationalGeometryUtils.positionalRelationship(polygons[id], q) != PositionalRelationshipEnum.EXTERNAL) {
+                result.add(polygons[id]);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 求距离点q最近的k个多边形，点在多边形内或边上时距离为0
+     *
+     * @param q 查询点
+     * @param k 多边形个数
+     * @return 最近的 min(k, size) 个多边形，按距离从近到远排列
+     */
+    public List<Polygon> nearest(Point q, int k) {
+        int[] ids = tree.nearest(q.getX(), q.getY(), k, id -> sqrDistance(polygons[id], q));
+        List<Polygon> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(polygons[id]);
+        }
+        return result;
+    }
+
+    /**
+     * 点到多边形的距离平方
+     */
+    private static double sqrDistance(Polygon polygon, Point q) {
+        if (ComputationalGeometryUtils.positionalRelationship(polygon, q) != PositionalRelationshipEnum.EXTERNAL) {
+            return 0;
+        }
+        double result = Double.POSITIVE_INFINITY;
+        int count = polygon.count();
+        for (int i = 0; i < count; i++) {
+            Point begin = polygon.getVertex(i), end = polygon.getVertex((i + 1) % count);
+            Point closest = begin.equals(end) ? begin :
+                    ComputationalGeometryUtils.closestPointToSegment(q, polygon.getEdge(i));
+            result = Math.min(result, ComputationalGeometryUtils.sqrDistance(q, closest));
+        }
+        return result;
+    }
+}
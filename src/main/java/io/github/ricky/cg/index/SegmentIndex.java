@@ -0,0 +1,140 @@
+package io.github.ricky.cg.index;
+
+import io.github.ricky.cg.basic.line.Segment;
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.shape.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className SegmentIndex
+ * @desc 线段空间索引<br>
+ * 以 {@link PackedRTree} 按包围盒筛选候选线段，再做精确判定
+ */
+public final class SegmentIndex {
+
+    private final Segment[] segments;
+
+    private final PackedRTree tree;
+
+    public SegmentIndex(Collection<Segment> segments) {
+        this(segments, PackedRTree.DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * 构建线段索引
+     *
+     * @param segments     线段集合
+     * @param nodeCapacity R树节点容量
+     */
+    public SegmentIndex(Collection<Segment> segments, int nodeCapacity) {
+        this.segments = segments.toArray(new Segment[0]);
+        int n = this.segments.length;
+        double[] minXs = new double[n], minYs = new double[n], maxXs = new double[n], maxYs = new double[n];
+        for (int i = 0; i < n; i++) {
+            Point begin = this.segments[i].getBegin(), end = this.segments[i].getEnd();
+            minXs[i] = Math.min(begin.getX(), end.getX());
+            minYs[i] = Math.min(begin.getY(), end.getY());
+            maxXs[i] = Math.max(begin.getX(), end.getX());
+            maxYs[i] = Math.max(begin.getY(), end.getY());
+        }
+        this.tree = new PackedRTree(minXs, minYs, maxXs, maxYs, n, nodeCapacity);
+    }
+
+    public int size() {
+        return segments.length;
+    }
+
+    /**
+     * 窗口查询
+     *
+     * @param window 查询窗口
+     * @return 与窗口相交（包括边界接触）的线段
+     */
+    public List<Segment> query(BoundingBox window) {
+        List<Segment> result = new ArrayList<>();
+        tree.search(window.getMinX(), window.getMinY(), window.getMaxX(), window.getMaxY(), id -> {
+            if (intersects(segments[id], window)) {
+                result.add(segments[id]);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 半径查询
+     *
+     * @param p      查询点
+     * @param radius 半径
+     * @return 到点p的距离不超过半径的线段
+     */
+    public List<Segment> query(Point p, double radius) {
+        List<Segment> result = new ArrayList<>();
+        double sqrRadius = radius * radius;
+        tree.search(p.getX() - radius, p.getY() - radius, p.getX() + radius, p.getY() + radius, id -> {
+            if (sqrDistance(p, segments[id]) <= sqrRadius) {
+                result.add(segments[id]);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 求距离点p最近的线段
+     *
+     * @param p 查询点
+     * @return 最近的线段，索引为空时返回 null
+     */
+    public Segment nearest(Point p) {
+        List<Segment> result = nearest(p, 1);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * 求距离点p最近的k条线段
+     *
+     * @param p 查询点
+     * @param k 线段条数
+     * @return 最近的 min(k, size) 条线段，按距离从近到远排列
+     */
+    public List<Segment> nearest(Point p, int k) {
+        int[] ids = tree.nearest(p.getX(), p.getY(), k, id -> sqrDistance(p, segments[id]));
+        List<Segment> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(segments[id]);
+        }
+        return result;
+    }
+
+    /**
+     * 点到线段的距离平方，线段退化为点时为到该点的距离平方
+     */
+    private static double sqrDistance(Point p, Segment segment) {
+        if (segment.sqrLength() == 0) {
+            return ComputationalGeometryUtils.sqrDistance(p, segment.getBegin());
+        }
+        return ComputationalGeometryUtils.sqrDistance(p, ComputationalGeometryUtils.closestPointToSegment(p, segment));
+    }
+
+    /**
+     * 判断线段与窗口相交：有端点在窗口内，或与窗口的某条边相交
+     */
+    private static boolean intersects(Segment segment, BoundingBox window) {
+        Point begin = segment.getBegin(), end = segment.getEnd();
+        if (window.contains(begin) || window.contains(end)) {
+            return true;
+        }
+        double ax = begin.getX(), ay = begin.getY(), bx = end.getX(), by = end.getY();
+        double minX = window.getMinX(), minY = window.getMinY(), maxX = window.getMaxX(), maxY = window.getMaxY();
+        return ComputationalGeometryUtils.isIntersect(ax, ay, bx, by, minX, minY, maxX, minY) ||
+                ComputationalGeometryUtils.isIntersect(ax, ay, bx, by, maxX, minY, maxX, maxY) ||
+                ComputationalGeometryUtils.isIntersect(ax, ay, bx, by, maxX, maxY, minX, maxY) ||
+                ComputationalGeometryUtils.isIntersect(ax, ay, bx, by, minX, maxY, minX, minY);
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.ricky.cg.index;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.shape.BoundingBox;
+import io.github.ricky.cg.shape.Shape;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className ShapeIndex
+ * @desc 平面图形空间索引<br>
+ * 以 {@link PackedRTree} 索引图形的 {@link Shape#boundingBox() 包围盒}，所有查询都只在包围盒层面判定；
+ * 多边形需要精确判定时使用 {@link PolygonIndex}
+ */
+public final class ShapeIndex<T extends Shape> {
+
+    private final List<T> shapes;
+
+    private final BoundingBox[] boxes;
+
+    private final PackedRTree tree;
+
+    public ShapeIndex(Collection<? extends T> shapes) {
+        this(shapes, PackedRTree.DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * 构建图形索引
+     *
+     * @param shapes       图形集合
+     * @param nodeCapacity R树节点容量
+     * @throws UnsupportedOperationException 某个图形没有实现 {@link Shape#boundingBox()}
+     */
+    public ShapeIndex(Collection<? extends T> shapes, int nodeCapacity) {
+        this.shapes = new ArrayList<>(shapes);
+        int n = this.shapes.size();
+        this.boxes = new BoundingBox[n];
+        double[] minXs = new double[n], minYs = new double[n], maxXs = new double[n], maxYs = new double[n];
+        for (int i = 0; i < n; i++) {
+            BoundingBox box = this.shapes.get(i).boundingBox();
+            boxes[i] = box;
+            minXs[i] = box.getMinX();
+            minYs[i] = box.getMinY();
+            maxXs[i] = box.getMaxX();
+            maxYs[i] = box.getMaxY();
+        }
+        this.tree = new PackedRTree(minXs, minYs, maxXs, maxYs, n, nodeCapacity);
+    }
+
+    public int size() {
+        return shapes.size();
+    }
+
+    /**
+     * 窗口查询
+     *
+     * @param window 查询窗口
+     * @return 包围盒与窗口相交的图形
+     */
+    public List<T> query(BoundingBox window) {
+        List<T> result = new ArrayList<>();
+        tree.search(window.getMinX(), window.getMinY(), window.getMaxX(), window.getMaxY(), id -> result.add(shapes.get(id)));
+        return result;
+    }
+
+    /**
+     * 点查询
+     *
+     * @param p 查询点
+     * @return 包围盒包含点p的图形
+     */
+    public List<T> query(Point p) {
+        List<T> result = new ArrayList<>();
+        tree.search(p.getX(), p.getY(), id -> result.add(shapes.get(id)));
+        return result;
+    }
+
+    /**
+     * 求包围盒距离点p最近的k个图形
+     *
+     * @param p 查询点
+     * @param k 图形个数
+     * @return 最近的 min(k, size) 个图形，按包围盒距离从近到远排列
+     */
+    public List<T> nearest(Point p, int k) {
+        int[] ids = tree.nearest(p.getX(), p.getY(), k, id -> boxes[id].sqrDistance(p.getX(), p.getY()));
+        List<T> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(shapes.get(id));
+        }
+        return result;
+    }
+}
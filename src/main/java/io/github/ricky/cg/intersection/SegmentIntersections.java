@@ -0,0 +1,419 @@
+package io.github.ricky.cg.intersection;
+
+import io.github.ricky.cg.basic.line.Segment;
+import io.github.ricky.cg.common.sort.IndexSortUtils;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.predicate.RobustPredicates;
+
+import java.util.Collection;
+import java.util.PriorityQueue;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className SegmentIntersections
+ * @desc 线段集合求交引擎（Bentley–Ottmann 扫描线算法）<br>
+ * 扫描线按字典序（先x后y）推进，竖直线段视为极陡的线段，无需特殊处理；时间复杂度 O((n+k) log n)，k为相交线段对数<br>
+ * 每一对相交的线段恰好报告一次，连同一个交点流式交给回调，不在内存中收集结果：
+ * 规范相交报告交点，端点接触与T形相交报告接触点，共线重叠报告重叠部分的起点（字典序最小的公共点），退化为点的线段按点处理<br>
+ * 扫描线状态只依赖输入坐标上的叉积判定，计算出的交点只用于事件排序和报告，因此整数坐标等叉积精确的输入下结果是精确的；
+ * 多条线段共线重叠时，同一对线段会在重叠部分的每个事件点上被重复检查（但只报告一次）
+ */
+public final class SegmentIntersections {
+
+    private SegmentIntersections() {
+    }
+
+    /**
+     * 交点回调
+     */
+    @FunctionalInterface
+    public interface IntersectionConsumer {
+
+        /**
+         * 接收一对相交线段
+         *
+         * @param x 交点横坐标
+         * @param y 交点纵坐标
+         * @param i 编号较小的线段在输入中的位置
+         * @param j 编号较大的线段在输入中的位置
+         */
+        void accept(double x, double y, int i, int j);
+
+    }
+
+    /**
+     * 求线段集合中所有相交的线段对，线段编号为其在集合迭代顺序中的位置
+     *
+     * @param segments 线段集合
+     * @param consumer 交点回调
+     */
+    public static void findAll(Collection<Segment> segments, IntersectionConsumer consumer) {
+        int n = segments.size();
+        double[] x1s = new double[n];
+        double[] y1s = new double[n];
+        double[] x2s = new double[n];
+        double[] y2s = new double[n];
+        int i = 0;
+        for (Segment segment : segments) {
+            x1s[i] = segment.getBegin().getX();
+            y1s[i] = segment.getBegin().getY();
+            x2s[i] = segment.getEnd().getX();
+            y2s[i] = segment.getEnd().getY();
+            i++;
+        }
+        findAll(x1s, y1s, x2s, y2s, n, consumer);
+    }
+
+    /**
+     * 求前n条线段中所有相交的线段对，第i条线段为 (x1s[i], y1s[i])-(x2s[i], y2s[i])
+     *
+     * @param x1s      起点横坐标数组
+     * @param y1s      起点纵坐标数组
+     * @param x2s      终点横坐标数组
+     * @param y2s      终点纵坐标数组
+     * @param n        线段数
+     * @param consumer 交点回调
+     */
+    public static void findAll(double[] x1s, double[] y1s, double[] x2s, double[] y2s, int n,
+                               IntersectionConsumer consumer) {
+        new Sweep(x1s, y1s, x2s, y2s, n, consumer).run();
+    }
+
+    /**
+     * 交点事件
+     */
+    private static final class Crossing {
+
+        /**
+         * 事件在扫描顺序中的位置
+         */
+        final double keyX, keyY;
+
+        /**
+         * 计算出的交点
+         */
+        final double x, y;
+
+        /**
+         * 事件发生前位于下方和上方的线段
+         */
+        final int lower, upper;
+
+        Crossing(double keyX, double keyY, double x, double y, int lower, int upper) {
+            this.keyX = keyX;
+            this.keyY = keyY;
+            this.x = x;
+            this.y = y;
+            this.lower = lower;
+            this.upper = upper;
+        }
+
+    }
+
+    /**
+     * 一次扫描的全部状态
+     */
+    private static final class Sweep {
+
+        /**
+         * 事件点上线段的角色
+         */
+        private static final int IN_STATUS = 1, ENDING = 2;
+
+        /**
+         * 按字典序规范化后的左、右端点
+         */
+        private final double[] lx, ly, rx, ry;
+
+        private final int n;
+
+        private final IntersectionConsumer consumer;
+
+        private final SweepStatus status = new SweepStatus();
+
+        /**
+         * 线段在状态结构中的节点，不在其中时为 null
+         */
+        private final SweepStatus.Node[] nodes;
+
+        private final PriorityQueue<Crossing> crossings = new PriorityQueue<>((c1, c2) -> {
+            int result = Double.compare(c1.keyX, c2.keyX);
+            return result != 0 ? result : Double.compare(c1.keyY, c2.keyY);
+        });
+
+        /**
+         * 当前扫描位置
+         */
+        private double sweepX, sweepY;
+
+        /**
+         * 事件点的上端点集合U、下端点集合L、状态结构中经过事件点的线段块，以及重新插入的线段
+         */
+        private final int[] starting, ending, block, inserted;
+
+        /**
+         * 线段在当前事件点上的角色，仅当 stamps[s] == event 时有效
+         */
+        private final int[] roles, stamps;
+
+        private int event;
+
+        Sweep(double[] x1s, double[] y1s, double[] x2s, double[] y2s, int n, IntersectionConsumer consumer) {
+            this.n = n;
+            this.consumer = consumer;
+            lx = new double[n];
+            ly = new double[n];
+            rx = new double[n];
+            ry = new double[n];
+            for (int i = 0; i < n; i++) {
+                boolean forward = x1s[i] < x2s[i] || (x1s[i] == x2s[i] && y1s[i] <= y2s[i]);
+                lx[i] = forward ? x1s[i] : x2s[i];
+                ly[i] = forward ? y1s[i] : y2s[i];
+                rx[i] = forward ? x2s[i] : x1s[i];
+                ry[i] = forward ? y2s[i] : y1s[i];
+            }
+            nodes = new SweepStatus.Node[n];
+            starting = new int[n];
+            ending = new int[n];
+            block = new int[n];
+            inserted = new int[n];
+            roles = new int[n];
+            stamps = new int[n];
+        }
+
+        void run() {
+            // 端点事件：第i条线段的左端点编号为2i，右端点编号为2i+1
+            double[] ex = new double[2 * n];
+            double[] ey = new double[2 * n];
+            for (int i = 0; i < n; i++) {
+                ex[2 * i] = lx[i];
+                ey[2 * i] = ly[i];
+                ex[2 * i + 1] = rx[i];
+                ey[2 * i + 1] = ry[i];
+            }
+            int[] order = IndexSortUtils.identity(2 * n);
+            IndexSortUtils.sortByXY(order, 0, 2 * n, ex, ey);
+
+            int e = 0;
+            while (e < 2 * n || !crossings.isEmpty()) {
+                Crossing crossing = crossings.peek();
+                if (crossing != null && (e == 2 * n || crossing.keyX < ex[order[e]] ||
+                        (crossing.keyX == ex[order[e]] && crossing.keyY <= ey[order[e]]))) {
+                    crossings.poll();
+                    handleCrossing(crossing);
+                    continue;
+                }
+
+                double px = ex[order[e]], py = ey[order[e]];
+                int startingCount = 0, endingCount = 0;
+                while (e < 2 * n && ex[order[e]] == px && ey[order[e]] == py) {
+                    int endpoint = order[e++];
+                    int segment = endpoint >> 1;
+                    if ((endpoint & 1) == 0) {
+                        starting[startingCount++] = segment;
+                    } else if (!isPoint(segment)) {
+                        ending[endingCount++] = segment;
+                    }
+                }
+                handleEndpoints(px, py, startingCount, endingCount);
+            }
+        }
+
+        /**
+         * 处理端点事件
+         */
+        private void handleEndpoints(double px, double py, int startingCount, int endingCount) {
+            sweepX = px;
+            sweepY = py;
+            event++;
+
+            // 状态结构中经过事件点的线段构成连续的一块，位于 below 与 above 之间
+            SweepStatus.Node below = status.lastBelow(s -> orient(s, px, py) > 0);
+            SweepStatus.Node node = below == null ? status.first() : status.next(below);
+            int blockCount = 0;
+            while (node != null && orient(node.segment, px, py) == 0) {
+                block[blockCount++] = node.segment;
+                mark(node.segment, IN_STATUS);
+                node = status.next(node);
+            }
+            for (int i = 0; i < endingCount; i++) {
+                mark(ending[i], ENDING);
+            }
+
+            report(px, py, blockCount, startingCount);
+
+            // 删除经过事件点的线段，再把从事件点出发的线段按方向重新插入
+            int insertedCount = 0;
+            for (int i = 0; i < blockCount; i++) {
+                int segment = block[i];
+                status.remove(nodes[segment]);
+                nodes[segment] = null;
+                if ((roles[segment] & ENDING) == 0) {
+                    inserted[insertedCount++] = segment;
+                }
+            }
+            for (int i = 0; i < endingCount; i++) {
+                // 只在精度不足时出现：结束的线段未被定位到块中
+                if (nodes[ending[i]] != null) {
+                    status.remove(nodes[ending[i]]);
+                    nodes[ending[i]] = null;
+                }
+            }
+            for (int i = 0; i < startingCount; i++) {
+                if (!isPoint(starting[i])) {
+                    inserted[insertedCount++] = starting[i];
+                }
+            }
+            IndexSortUtils.sort(inserted, 0, insertedCount, (s, t) -> {
+                int c = RobustPredicates.orientation(px, py, rx[s], ry[s], rx[t], ry[t]);
+                if (c != 0) {
+                    return -c;
+                }
+                return Integer.compare(s, t);
+            });
+
+            SweepStatus.Node last = below;
+            for (int i = 0; i < insertedCount; i++) {
+                last = status.insertAfter(last, inserted[i]);
+                nodes[inserted[i]] = last;
+            }
+
+            SweepStatus.Node above = last == null ? status.first() : status.next(last);
+            if (insertedCount == 0) {
+                if (below != null && above != null) {
+                    schedule(below.segment, above.segment);
+                }
+            } else {
+                if (below != null) {
+                    schedule(below.segment, inserted[0]);
+                }
+                if (above != null) {
+                    schedule(inserted[insertedCount - 1], above.segment);
+                }
+            }
+        }
+
+        /**
+         * 报告事件点上的相交线段对<br>
+         * 参与者为状态结构中经过事件点的线段块（自下而上）与从事件点出发的线段，其中任意两条都在事件点处相交，
+         * 但以下两种线段对已经或将会在别处报告：共线重叠且都不从事件点出发的（在重叠起点报告），
+         * 以及都穿过事件点内部、在状态结构中已被交点事件交换过的（在交点事件中报告）
+         */
+        private void report(double px, double py, int blockCount, int startingCount) {
+            int total = blockCount + startingCount;
+            for (int i = 0; i < total; i++) {
+                int a = i < blockCount ? block[i] : starting[i - blockCount];
+                for (int j = i + 1; j < total; j++) {
+                    int b = j < blockCount ? block[j] : starting[j - blockCount];
+                    if (j < blockCount) {
+                        if (collinear(a, b)) {
+                            continue;
+                        }
+                        if ((roles[a] & ENDING) == 0 && (roles[b] & ENDING) == 0 && orient(b, rx[a], ry[a]) <= 0) {
+                            continue;
+                        }
+                    }
+                    accept(px, py, a, b);
+                }
+            }
+        }
+
+        /**
+         * 处理交点事件
+         */
+        private void handleCrossing(Crossing crossing) {
+            int a = crossing.lower, b = crossing.upper;
+            SweepStatus.Node lower = nodes[a], upper = nodes[b];
+            // 过期的事件：两条线段已不相邻，或已在别处交换过
+            if (lower == null || upper == null || status.next(lower) != upper || orient(b, rx[a], ry[a]) <= 0) {
+                return;
+            }
+            sweepX = crossing.keyX;
+            sweepY = crossing.keyY;
+            accept(crossing.x, crossing.y, a, b);
+
+            lower.segment = b;
+            upper.segment = a;
+            nodes[a] = upper;
+            nodes[b] = lower;
+
+            SweepStatus.Node prev = status.prev(lower);
+            if (prev != null) {
+                schedule(prev.segment, b);
+            }
+            SweepStatus.Node next = status.next(upper);
+            if (next != null) {
+                schedule(a, next.segment);
+            }
+        }
+
+        /**
+         * 若相邻的线段 a（下）与 b（上）在当前扫描位置之后规范相交，则加入交点事件
+         */
+        private void schedule(int a, int b) {
+            int o1 = orient(a, lx[b], ly[b]), o2 = orient(a, rx[b], ry[b]);
+            int o3 = orient(b, lx[a], ly[a]), o4 = orient(b, rx[a], ry[a]);
+            // o4 > 0 表示a的右端点在b上方，即两者尚未交换
+            if (o1 == 0 || o2 == 0 || o3 == 0 || o4 <= 0 || (o1 > 0) == (o2 > 0) || o3 > 0) {
+                return;
+            }
+            // 符号已由精确谓词确定，交点位置只需近似值
+            double c3 = ComputationalGeometryUtils.cross(lx[b], ly[b], rx[b], ry[b], lx[a], ly[a]);
+            double c4 = ComputationalGeometryUtils.cross(lx[b], ly[b], rx[b], ry[b], rx[a], ry[a]);
+            double t = c3 / (c3 - c4);
+            t = Math.min(Math.max(t, 0), 1);
+            double x = lx[a] + t * (rx[a] - lx[a]);
+            double y = ly[a] + t * (ry[a] - ly[a]);
+
+            // 舍入误差可能使交点落在当前位置之前或线段右端点之后，事件位置需限制在两者之间
+            double keyX = x, keyY = y;
+            double endX = rx[a], endY = ry[a];
+            if (rx[b] < endX || (rx[b] == endX && ry[b] < endY)) {
+                endX = rx[b];
+                endY = ry[b];
+            }
+            if (keyX > endX || (keyX == endX && keyY > endY)) {
+                keyX = endX;
+                keyY = endY;
+            }
+            if (keyX < sweepX || (keyX == sweepX && keyY < sweepY)) {
+                keyX = sweepX;
+                keyY = sweepY;
+            }
+            crossings.add(new Crossing(keyX, keyY, x, y, a, b));
+        }
+
+        private void accept(double x, double y, int a, int b) {
+            if (a < b) {
+                consumer.accept(x, y, a, b);
+            } else {
+                consumer.accept(x, y, b, a);
+            }
+        }
+
+        private void mark(int segment, int role) {
+            if (stamps[segment] != event) {
+                stamps[segment] = event;
+                roles[segment] = 0;
+            }
+            roles[segment] |= role;
+        }
+
+        /**
+         * 点p相对线段s的位置：1在上方，-1在下方，0在所在直线上
+         */
+        private int orient(int s, double px, double py) {
+            return RobustPredicates.orientation(lx[s], ly[s], rx[s], ry[s], px, py);
+        }
+
+        private boolean collinear(int a, int b) {
+            return orient(a, lx[b], ly[b]) == 0 && orient(a, rx[b], ry[b]) == 0;
+        }
+
+        private boolean isPoint(int s) {
+            return lx[s] == rx[s] && ly[s] == ry[s];
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package io.github.ricky.cg.intersection;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className SweepStatus
+ * @desc 扫描线状态结构<br>
+ * 按位置（自下而上）维护与扫描线相交的线段序列，底层为带父指针的树堆(treap)，期望高度 O(log n)<br>
+ * 结构本身不比较线段：插入、删除都通过节点句柄完成，交换相邻线段只需交换节点中的线段编号，
+ * 仅在 {@link #lastBelow(Locator)} 中由调用方给出线段与事件点的位置关系
+ */
+final class SweepStatus {
+
+    /**
+     * 线段相对事件点的位置判定
+     */
+    @FunctionalInterface
+    interface Locator {
+
+        /**
+         * 判断线段是否严格位于事件点下方
+         *
+         * @param segment 线段编号
+         * @return true=线段在事件点下方
+         */
+        boolean below(int segment);
+
+    }
+
+    /**
+     * 树节点
+     */
+    static final class Node {
+
+        /**
+         * 节点中存放的线段编号
+         */
+        int segment;
+
+        private final int priority;
+
+        private Node left;
+
+        private Node right;
+
+        private Node parent;
+
+        private Node(int segment, int priority) {
+            this.segment = segment;
+            this.priority = priority;
+        }
+
+    }
+
+    private Node root;
+
+    /**
+     * 伪随机优先级生成器（xorshift）的状态
+     */
+    private int seed = 0x2545F491;
+
+    /**
+     * 在节点 anchor 之后插入线段，anchor 为 null 时插入到最前
+     *
+     * @param anchor  前驱节点
+     * @param segment 线段编号
+     * @return 新节点
+     */
+    Node insertAfter(Node anchor, int segment) {
+        Node node = new Node(segment, nextPriority());
+        if (root == null) {
+            root = node;
+            return node;
+        }
+        if (anchor == null) {
+            Node first = first();
+            first.left = node;
+            node.parent = first;
+        } else if (anchor.right == null) {
+            anchor.right = node;
+            node.parent = anchor;
+        } else {
+            Node successor = leftmost(anchor.right);
+            successor.left = node;
+            node.parent = successor;
+        }
+        // 按优先级上浮
+        while (node.parent != null && node.parent.priority < node.priority) {
+            if (node.parent.left == node) {
+                rotateRight(node.parent);
+            } else {
+                rotateLeft(node.parent);
+            }
+        }
+        return node;
+    }
+
+    /**
+     * 删除节点
+     *
+     * @param node 节点
+     */
+    void remove(Node node) {
+        // 旋转至叶子后摘除
+        while (node.left != null || node.right != null) {
+            if (node.right == null || (node.left != null && node.left.priority > node.right.priority)) {
+                rotateRight(node);
+            } else {
+                rotateLeft(node);
+            }
+        }
+        replace(node, null);
+        node.parent = null;
+    }
+
+    /**
+     * 获取最下方的节点
+     *
+     * @return 节点，结构为空时返回 null
+     */
+    Node first() {
+        return root == null ? null : leftmost(root);
+    }
+
+    /**
+     * 获取上方相邻的节点
+     *
+     * @param node 节点
+     * @return 后继节点，不存在时返回 null
+     */
+    Node next(Node node) {
+        if (node.right != null) {
+            return leftmost(node.right);
+        }
+        while (node.parent != null && node.parent.right == node) {
+            node = node.parent;
+        }
+        return node.parent;
+    }
+
+    /**
+     * 获取下方相邻的节点
+     *
+     * @param node 节点
+     * @return 前驱节点，不存在时返回 null
+     */
+    Node prev(Node node) {
+        if (node.left != null) {
+            Node current = node.left;
+            while (current.right != null) {
+                current = current.right;
+            }
+            return current;
+        }
+        while (node.parent != null && node.parent.left == node) {
+            node = node.parent;
+        }
+        return node.parent;
+    }
+
+    /**
+     * 查找最后一个严格位于事件点下方的节点<br>
+     * 要求序列中满足 {@link Locator#below(int)} 的节点构成一个前缀
+     *
+     * @param locator 位置判定
+     * @return 节点，不存在时返回 null
+     */
+    Node lastBelow(Locator locator) {
+        Node result = null;
+        Node current = root;
+        while (current != null) {
+            if (locator.below(current.segment)) {
+                result = current;
+                current = current.right;
+            } else {
+                current = current.left;
+            }
+        }
+        return result;
+    }
+
+    private int nextPriority() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+
+    private static Node leftmost(Node node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    /**
+     * 用 child 替换 node 在其父节点中的位置
+     */
+    private void replace(Node node, Node child) {
+        Node parent = node.parent;
+        if (parent == null) {
+            root = child;
+        } else if (parent.left == node) {
+            parent.left = child;
+        } else {
+            parent.right = child;
+        }
+        if (child != null) {
+            child.parent = parent;
+        }
+    }
+
+    private void rotateLeft(Node node) {
+        Node pivot = node.right;
+        replace(node, pivot);
+        node.right = pivot.left;
+        if (pivot.left != null) {
+            pivot.left.parent = node;
+        }
+        pivot.left = node;
+        node.parent = pivot;
+    }
+
+    private void rotateRight(Node node) {
+        Node pivot = node.left;
+        replace(node, pivot);
+        node.left = pivot.right;
+        if (pivot.right != null) {
+            pivot.right.parent = node;
+        }
+        pivot.right = node;
+        node.parent = pivot;
+    }
+}
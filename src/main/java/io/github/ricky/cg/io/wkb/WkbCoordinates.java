@@ -0,0 +1,130 @@
+package io.github.ricky.cg.io.wkb;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.basic.point.PointBuffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/18
+ * @className WkbCoordinates
+ * @desc WKB 中一串坐标（点、折线或多边形的一个环）的视图<br>
+ * 直接从缓冲区按字节偏移读取坐标，不复制数据，也不为每个顶点创建 {@link Point}；
+ * 带 Z/M 的坐标只读取 x 与 y。缓冲区的内容被改写后视图读到的也随之改变<br>
+ * 多边形的环与 WKB 一致，是闭合的：最后一个点与第一个点相同
+ */
+public final class WkbCoordinates {
+
+    /**
+     * 大端序的缓冲区副本，与调用方共享内容
+     */
+    private final ByteBuffer data;
+
+    /**
+     * 第一个坐标的字节偏移
+     */
+    private final int offset;
+
+    /**
+     * 坐标个数
+     */
+    private final int size;
+
+    /**
+     * 每个坐标的字节数
+     */
+    private final int stride;
+
+    /**
+     * 数据是否为小端序
+     */
+    private final boolean littleEndian;
+
+    WkbCoordinates(ByteBuffer data, int offset, int size, int stride, boolean littleEndian) {
+        this.data = data;
+        this.offset = offset;
+        this.size = size;
+        this.stride = stride;
+        this.littleEndian = littleEndian;
+    }
+
+    /**
+     * 获取坐标个数
+     *
+     * @return 坐标个数
+     */
+    public int size() {
+        return size;
+    }
+
+    public double getX(int index) {
+        checkIndex(index);
+        return WkbReader.getDouble(data, offset + index * stride, littleEndian);
+    }
+
+    public double getY(int index) {
+        checkIndex(index);
+        return WkbReader.getDouble(data, offset + index * stride + Double.BYTES, littleEndian);
+    }
+
+    /**
+     * 获取第 index 个坐标，创建一个新的 {@link Point}
+     *
+     * @param index 序号
+     * @return 点
+     */
+    public Point getPoint(int index) {
+        return new Point(getX(index), getY(index));
+    }
+
+    /**
+     * 把坐标写入数组
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     * @param at 写入的起始位置
+     * @return 写入后的位置
+     */
+    public int copyTo(double[] xs, double[] ys, int at) {
+        if (at < 0 || at + size > xs.length || at + size > ys.length) {
+            throw new IndexOutOfBoundsException("The arrays are shorter than the coordinates.");
+        }
+        for (int i = 0, index = offset; i < size; i++, index += stride) {
+            xs[at + i] = WkbReader.getDouble(data, index, littleEndian);
+            ys[at + i] = WkbReader.getDouble(data, index + Double.BYTES, littleEndian);
+        }
+        return at + size;
+    }
+
+    /**
+     * 复制到新的坐标缓冲区
+     *
+     * @return 坐标缓冲区
+     */
+    public PointBuffer toPointBuffer() {
+        double[] xs = new double[size], ys = new double[size];
+        copyTo(xs, ys, 0);
+        return new PointBuffer(xs, ys);
+    }
+
+    /**
+     * 为每个坐标创建 {@link Point}
+     *
+     * @return 点数组
+     */
+    public Point[] toPoints() {
+        Point[] points = new Point[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = getPoint(i);
+        }
+        return points;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package io.github.ricky.cg.io.wkb;
+
+import io.github.ricky.cg.basic.line.Segment;
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.io.wkb.enums.WkbTypeEnum;
+import io.github.ricky.cg.shape.polygon.Polygon;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/18
+ * @className WkbGeometry
+ * @desc 由 {@link WkbReader} 解析出的几何对象，是缓冲区的视图<br>
+ * 解析时只读取各部件与各环的头部，记下每个环的坐标在缓冲区中的位置，时间复杂度 O(环数)，与顶点数无关；
+ * 坐标通过 {@link #getRing(int, int)} 按需读取<br>
+ * 几何对象由若干部件组成：单部件类型恰有一个部件，多部件类型的部件个数可以为0；
+ * 点与折线的部件只有一个环，多边形的部件的第一个环是外环，其余是内环（洞）
+ */
+public final class WkbGeometry {
+
+    private final ByteBuffer data;
+
+    private final WkbTypeEnum type;
+
+    private final int srid;
+
+    private final int byteLength;
+
+    /**
+     * 第 i 个部件的环为 [partStarts[i], partStarts[i + 1])
+     */
+    private final int[] partStarts;
+
+    private final int[] ringOffsets;
+
+    private final int[] ringSizes;
+
+    private final int[] ringStrides;
+
+    private final boolean[] ringLittleEndian;
+
+    WkbGeometry(ByteBuffer data, WkbTypeEnum type, int srid, int byteLength, int[] partStarts,
+                int[] ringOffsets, int[] ringSizes, int[] ringStrides, boolean[] ringLittleEndian) {
+        this.data = data;
+        this.type = type;
+        this.srid = srid;
+        this.byteLength = byteLength;
+        this.partStarts = partStarts;
+        this.ringOffsets = ringOffsets;
+        this.ringSizes = ringSizes;
+        this.ringStrides = ringStrides;
+        this.ringLittleEndian = ringLittleEndian;
+    }
+
+    public WkbTypeEnum getType() {
+        return type;
+    }
+
+    /**
+     * 获取 EWKB 中的空间参考编号
+     *
+     * @return 空间参考编号，没有时为0
+     */
+    public int getSrid() {
+        return srid;
+    }
+
+    /**
+     * 获取几何对象在缓冲区中占用的字节数
+     *
+     * @return 字节数
+     */
+    public int getByteLength() {
+        return byteLength;
+    }
+
+    /**
+     * 获取部件个数
+     *
+     * @return 部件个数
+     */
+    public int partCount() {
+        return partStarts.length - 1;
+    }
+
+    /**
+     * 获取部件的环个数
+     *
+     * @param part 部件序号
+     * @return 环个数
+     */
+    public int ringCount(int part) {
+        checkPart(part);
+        return partStarts[part + 1] - partStarts[part];
+    }
+
+    /**
+     * 获取部件的一个环的坐标视图
+     *
+     * @param part 部件序号
+     * @param ring 环序号
+     * @return 坐标视图
+     */
+    public WkbCoordinates getRing(int part, int ring) {
+        int count = ringCount(part);
+        if (ring < 0 || ring >= count) {
+            throw new IndexOutOfBoundsException("Index: " + ring + ", Size: " + count);
+        }
+        int r = partStarts[part] + ring;
+        return new WkbCoordinates(data, ringOffsets[r], ringSizes[r], ringStrides[r], ringLittleEndian[r]);
+    }
+
+    /**
+     * 转换为点
+     *
+     * @return 点
+     */
+    public Point toPoint() {
+        require(WkbTypeEnum.POINT);
+        WkbCoordinates coordinates = getRing(0, 0);
+        if (coordinates.size() == 0) {
+            throw new IllegalArgumentException("The point is empty.");
+        }
+        return coordinates.getPoint(0);
+    }
+
+    /**
+     * 转换为线段，折线必须恰有两个点
+     *
+     * @return 线段
+     */
+    public Segment toSegment() {
+        require(WkbTypeEnum.LINE_STRING);
+        WkbCoordinates coordinates = getRing(0, 0);
+        if (coordinates.size() != 2) {
+            throw new IllegalArgumentException("A segment needs exactly 2 points, got " + coordinates.size() + ".");
+        }
+        return new Segment(coordinates.getPoint(0), coordinates.getPoint(1));
+    }
+
+    /**
+     * 转换为多边形
+     *
+     * @return 多边形
+     * @see #toPolygon(int)
+     */
+    public Polygon toPolygon() {
+        require(WkbTypeEnum.POLYGON);
+        return toPolygon(0);
+    }
+
+    /**
+     * 把多边形或多多边形的一个部件转换为多边形，去掉外环末尾重复的闭合点；
+     * {@link Polygon} 不能表示洞，带内环的部件请用 {@link #getRing(int, int)} 读取
+     *
+     * @param part 部件序号
+     * @return 多边形
+     */
+    public Polygon toPolygon(int part) {
+        if (type.partType() != WkbTypeEnum.POLYGON) {
+            throw new IllegalArgumentException("Expected a polygon, got " + type + ".");
+        }
+        if (ringCount(part) != 1) {
+            throw new IllegalArgumentException("The polygon has " + ringCount(part) + " rings, expected 1.");
+        }
+        WkbCoordinates ring = getRing(part, 0);
+        int n = ring.size();
+        if (n > 1 && ring.getX(0) == ring.getX(n - 1) && ring.getY(0) == ring.getY(n - 1)) {
+            n--;
+        }
+        Point[] vertexes = new Point[n];
+        for (int i = 0; i < n; i++) {
+            vertexes[i] = ring.getPoint(i);
+        }
+        return new Polygon(vertexes);
+    }
+
+    private void require(WkbTypeEnum expected) {
+        if (type != expected) {
+            throw new IllegalArgumentException("Expected a " + expected + ", got " + type + ".");
+        }
+    }
+
+    private void checkPart(int part) {
+        if (part < 0 || part >= partCount()) {
+            throw new IndexOutOfBoundsException("Index: " + part + ", Size: " + partCount());
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package io.github.ricky.cg.io.wkb;
+
+import io.github.ricky.cg.io.wkb.enums.WkbTypeEnum;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/18
+ * @className WkbReader
+ * @desc WKB（Well-Known Binary）读取器，直接从堆内或堆外 {@link ByteBuffer} 解码<br>
+ * 支持点、折线、多边形及其多部件类型，大端序(XDR)与小端序(NDR)，以及 PostGIS 的 EWKB（SRID、Z、M 标志位）
+ * 和 ISO WKB 的 Z/M 类型编号；带 Z/M 的坐标只保留 x 与 y。不支持几何集合(GeometryCollection)<br>
+ * 解析结果 {@link WkbGeometry} 是缓冲区的视图，不复制坐标；读取不改变调用方缓冲区的字节序，
+ * 只把其 position 移到该几何对象之后，因此可以连续读取首尾相接的多条记录
+ */
+public final class WkbReader {
+
+    private static final int EWKB_Z = 0x80000000;
+
+    private static final int EWKB_M = 0x40000000;
+
+    private static final int EWKB_SRID = 0x20000000;
+
+    private WkbReader() {
+    }
+
+    /**
+     * 从字节数组读取一个几何对象
+     *
+     * @param bytes WKB 字节
+     * @return 几何对象
+     */
+    public static WkbGeometry read(byte[] bytes) {
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * 从缓冲区的 position 处读取一个几何对象，并把 position 移到其后
+     *
+     * @param buffer 缓冲区
+     * @return 几何对象，是缓冲区的视图
+     */
+    public static WkbGeometry read(ByteBuffer buffer) {
+        ByteBuffer data = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        Parser parser = new Parser(data);
+        int start = buffer.position();
+        WkbTypeEnum type = parser.geometry(start, null);
+        buffer.position(parser.at);
+        return new WkbGeometry(data, type, parser.srid, parser.at - start,
+                Arrays.copyOf(parser.partStarts, parser.partCount + 1),
+                Arrays.copyOf(parser.ringOffsets, parser.ringCount),
+                Arrays.copyOf(parser.ringSizes, parser.ringCount),
+                Arrays.copyOf(parser.ringStrides, parser.ringCount),
+                Arrays.copyOf(parser.ringLittleEndian, parser.ringCount));
+    }
+
+    /**
+     * 按指定字节序读取 double；data 为大端序
+     */
+    static double getDouble(ByteBuffer data, int index, boolean littleEndian) {
+        long bits = data.getLong(index);
+        return Double.longBitsToDouble(littleEndian ? Long.reverseBytes(bits) : bits);
+    }
+
+    /**
+     * 只读取头部与计数，记下每个环的位置
+     */
+    private static final class Parser {
+
+        final ByteBuffer data;
+
+        /**
+         * 当前读取位置
+         */
+        int at;
+
+        int srid;
+
+        int partCount;
+
+        int[] partStarts = new int[4];
+
+        int ringCount;
+
+        int[] ringOffsets = new int[4];
+
+        int[] ringSizes = new int[4];
+
+        int[] ringStrides = new int[4];
+
+        boolean[] ringLittleEndian = new boolean[4];
+
+        /**
+         * 当前几何对象的字节序与每个坐标的字节数
+         */
+        boolean littleEndian;
+
+        int stride;
+
+        Parser(ByteBuffer data) {
+            this.data = data;
+        }
+
+        /**
+         * 读取一个几何对象；expected 不为 null 时为多部件类型中的部件，类型必须与之相同
+         */
+        WkbTypeEnum geometry(int start, WkbTypeEnum expected) {
+            at = start;
+            require(5);
+            byte order = data.get(at);
+            if (order != 0 && order != 1) {
+                throw new IllegalArgumentException("Invalid WKB byte order: " + order);
+            }
+            littleEndian = order == 1;
+            at++;
+            int code = nextInt();
+            boolean z = (code & EWKB_Z) != 0, m = (code & EWKB_M) != 0;
+            if ((code & EWKB_SRID) != 0) {
+                srid = nextInt();
+            }
+            code &= ~(EWKB_Z | EWKB_M | EWKB_SRID);
+            // ISO WKB：1000+ 为 Z，2000+ 为 M，3000+ 为 ZM
+            if (code >= 1000 && code < 4000) {
+                int dimensions = code / 1000;
+                z |= dimensions != 2;
+                m |= dimensions != 1;
+                code %= 1000;
+            }
+            WkbTypeEnum type = WkbTypeEnum.of(code);
+            if (expected != null && type != expected) {
+                throw new IllegalArgumentException("Expected a " + expected + " part, got " + type + ".");
+            }
+            stride = Double.BYTES * (2 + (z ? 1 : 0) + (m ? 1 : 0));
+            switch (type) {
+                case POINT:
+                    startPart();
+                    require(stride);
+                    boolean empty = Double.isNaN(getDouble(data, at, littleEndian))
+                            && Double.isNaN(getDouble(data, at + Double.BYTES, littleEndian));
+                    ring(at, empty ? 0 : 1);
+                    at += stride;
+                    break;
+                case LINE_STRING:
+                    startPart();
+                    coordinates();
+                    break;
+                case POLYGON:
+                    startPart();
+                    for (int r = 0, rings = nextCount(); r < rings; r++) {
+                        coordinates();
+                    }
+                    break;
+                default:
+                    for (int p = 0, parts = nextCount(); p < parts; p++) {
+                        geometry(at, type.partType());
+                    }
+                    break;
+            }
+            return type;
+        }
+
+        /**
+         * 读取坐标个数并跳过坐标
+         */
+        private void coordinates() {
+            int size = nextCount();
+            require((long) size * stride);
+            ring(at, size);
+            at += size * stride;
+        }
+
+        private void startPart() {
+            if (partCount + 1 == partStarts.length) {
+                partStarts = Arrays.copyOf(partStarts, partStarts.length * 2);
+            }
+            partStarts[partCount++] = ringCount;
+            partStarts[partCount] = ringCount;
+        }
+
+        private void ring(int offset, int size) {
+            if (ringCount == ringOffsets.length) {
+                int capacity = ringCount * 2;
+                ringOffsets = Arrays.copyOf(ringOffsets, capacity);
+                ringSizes = Arrays.copyOf(ringSizes, capacity);
+                ringStrides = Arrays.copyOf(ringStrides, capacity);
+                ringLittleEndian = Arrays.copyOf(ringLittleEndian, capacity);
+            }
+            ringOffsets[ringCount] = offset;
+            ringSizes[ringCount] = size;
+            ringStrides[ringCount] = stride;
+            ringLittleEndian[ringCount] = littleEndian;
+            partStarts[partCount] = ++ringCount;
+        }
+
+        private int nextInt() {
+            require(Integer.BYTES);
+            int value = data.getInt(at);
+            at += Integer.BYTES;
+            return littleEndian ? Integer.reverseBytes(value) : value;
+        }
+
+        /**
+         * 无符号32位计数，超过 int 范围的必然超出缓冲区
+         */
+        private int nextCount() {
+            int count = nextInt();
+            if (count < 0) {
+                throw new IllegalArgumentException("Invalid WKB count: " + Integer.toUnsignedString(count));
+            }
+            return count;
+        }
+
+        private void require(long bytes) {
+            if (at + bytes > data.limit()) {
+                throw new IllegalArgumentException("The WKB data is truncated.");
+            }
+        }
+    }
+}
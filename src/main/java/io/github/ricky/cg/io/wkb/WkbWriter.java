@@ -0,0 +1,225 @@
+package io.github.ricky.cg.io.wkb;
+
+import io.github.ricky.cg.basic.line.Segment;
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.io.wkb.enums.WkbTypeEnum;
+import io.github.ricky.cg.shape.polygon.Polygon;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/18
+ * @className WkbWriter
+ * @desc WKB（Well-Known Binary）写入器，输出二维的 OGC WKB<br>
+ * 每个写入器持有一个可复用的缓冲区（堆内或堆外），只在容量不足时按两倍扩容，稳定后编码不分配对象；
+ * 写入方法返回的就是这个缓冲区，position 为0、limit 为编码长度，在下一次写入之前有效，需要保留时请自行复制<br>
+ * 多边形的环按 WKB 的要求闭合：最后一个点与第一个点不同时补上第一个点<br>
+ * 注意：写入器不是线程安全的，多线程环境请使用 {@link #local()} 取得每个线程各自的写入器
+ */
+public final class WkbWriter {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * 字节序标记与类型编号
+     */
+    private static final int HEADER_BYTES = 1 + Integer.BYTES;
+
+    private static final int POINT_BYTES = 2 * Double.BYTES;
+
+    private static final ThreadLocal<WkbWriter> LOCAL = ThreadLocal.withInitial(WkbWriter::new);
+
+    private final ByteOrder order;
+
+    private final boolean direct;
+
+    private ByteBuffer buffer;
+
+    /**
+     * 小端序(NDR)、堆内缓冲区
+     */
+    public WkbWriter() {
+        this(ByteOrder.LITTLE_ENDIAN, false);
+    }
+
+    /**
+     * @param order  字节序
+     * @param direct true=使用堆外缓冲区
+     */
+    public WkbWriter(ByteOrder order, boolean direct) {
+        this.order = order;
+        this.direct = direct;
+        this.buffer = allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * 获取当前线程复用的写入器（小端序、堆内缓冲区）
+     *
+     * @return 写入器
+     */
+    public static WkbWriter local() {
+        return LOCAL.get();
+    }
+
+    /**
+     * 写入点
+     *
+     * @param point 点
+     * @return 编码结果，在下一次写入之前有效
+     */
+    public ByteBuffer write(Point point) {
+        begin(HEADER_BYTES + POINT_BYTES);
+        header(WkbTypeEnum.POINT);
+        buffer.putDouble(point.getX()).putDouble(point.getY());
+        return finish();
+    }
+
+    /**
+     * 把线段写为两个点的折线
+     *
+     * @param segment 线段
+     * @return 编码结果，在下一次写入之前有效
+     */
+    public ByteBuffer write(Segment segment) {
+        begin(HEADER_BYTES + Integer.BYTES + 2 * POINT_BYTES);
+        header(WkbTypeEnum.LINE_STRING);
+        buffer.putInt(2);
+        buffer.putDouble(segment.getBegin().getX()).putDouble(segment.getBegin().getY());
+        buffer.putDouble(segment.getEnd().getX()).putDouble(segment.getEnd().getY());
+        return finish();
+    }
+
+    /**
+     * 写入多边形
+     *
+     * @param polygon 多边形
+     * @return 编码结果，在下一次写入之前有效
+     */
+    public ByteBuffer write(Polygon polygon) {
+        begin(polygonBytes(polygon));
+        polygon(polygon);
+        return finish();
+    }
+
+    /**
+     * 把多个多边形写为多多边形
+     *
+     * @param polygons 多边形
+     * @return 编码结果，在下一次写入之前有效
+     */
+    public ByteBuffer write(Polygon[] polygons) {
+        long bytes = HEADER_BYTES + Integer.BYTES;
+        for (Polygon polygon : polygons) {
+            bytes += polygonBytes(polygon);
+        }
+        begin(bytes);
+        header(WkbTypeEnum.MULTI_POLYGON);
+        buffer.putInt(polygons.length);
+        for (Polygon polygon : polygons) {
+            polygon(polygon);
+        }
+        return finish();
+    }
+
+    /**
+     * 写入折线
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     * @param n  点的个数
+     * @return 编码结果，在下一次写入之前有效
+     */
+    public ByteBuffer writeLineString(double[] xs, double[] ys, int n) {
+        checkCount(xs, ys, n);
+        begin(HEADER_BYTES + Integer.BYTES + (long) n * POINT_BYTES);
+        header(WkbTypeEnum.LINE_STRING);
+        buffer.putInt(n);
+        for (int i = 0; i < n; i++) {
+            buffer.putDouble(xs[i]).putDouble(ys[i]);
+        }
+        return finish();
+    }
+
+    /**
+     * 写入只有外环的多边形，n 为0时写入空多边形
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     * @param n  顶点个数
+     * @return 编码结果，在下一次写入之前有效
+     */
+    public ByteBuffer writePolygon(double[] xs, double[] ys, int n) {
+        checkCount(xs, ys, n);
+        boolean close = n > 0 && (xs[0] != xs[n - 1] || ys[0] != ys[n - 1]);
+        int size = close ? n + 1 : n;
+        begin(HEADER_BYTES + 2 * Integer.BYTES + (long) size * POINT_BYTES);
+        header(WkbTypeEnum.POLYGON);
+        if (n == 0) {
+            buffer.putInt(0);
+            return finish();
+        }
+        buffer.putInt(1).putInt(size);
+        for (int i = 0; i < n; i++) {
+            buffer.putDouble(xs[i]).putDouble(ys[i]);
+        }
+        if (close) {
+            buffer.putDouble(xs[0]).putDouble(ys[0]);
+        }
+        return finish();
+    }
+
+    private static long polygonBytes(Polygon polygon) {
+        return HEADER_BYTES + 2 * Integer.BYTES + (long) (polygon.count() + 1) * POINT_BYTES;
+    }
+
+    private void polygon(Polygon polygon) {
+        int n = polygon.count();
+        Point first = polygon.getVertex(0), last = polygon.getVertex(n - 1);
+        boolean close = !first.equals(last) || n == 1;
+        header(WkbTypeEnum.POLYGON);
+        buffer.putInt(1).putInt(close ? n + 1 : n);
+        for (int i = 0; i < n; i++) {
+            Point vertex = polygon.getVertex(i);
+            buffer.putDouble(vertex.getX()).putDouble(vertex.getY());
+        }
+        if (close) {
+            buffer.putDouble(first.getX()).putDouble(first.getY());
+        }
+    }
+
+    private void header(WkbTypeEnum type) {
+        buffer.put(order == ByteOrder.LITTLE_ENDIAN ? (byte) 1 : (byte) 0).putInt(type.getCode());
+    }
+
+    /**
+     * 清空缓冲区，容量不足时扩容
+     */
+    private void begin(long bytes) {
+        if (bytes > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("The geometry is too large for WKB: " + bytes + " bytes.");
+        }
+        if (bytes > buffer.capacity()) {
+            buffer = allocate((int) Math.min(Integer.MAX_VALUE - 8, Math.max(bytes, 2L * buffer.capacity())));
+        }
+        buffer.clear();
+    }
+
+    private ByteBuffer finish() {
+        buffer.flip();
+        return buffer;
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        ByteBuffer allocated = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        return allocated.order(order);
+    }
+
+    private static void checkCount(double[] xs, double[] ys, int n) {
+        if (n < 0 || n > xs.length || n > ys.length) {
+            throw new IllegalArgumentException("The number of points exceeds the array length.");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.ricky.cg.io.wkb.enums;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/18
+ * @className WkbTypeEnum
+ * @desc WKB 几何类型，code 为 OGC 规定的二维类型编号
+ */
+public enum WkbTypeEnum {
+
+    POINT(1),
+    LINE_STRING(2),
+    POLYGON(3),
+    MULTI_POINT(4),
+    MULTI_LINE_STRING(5),
+    MULTI_POLYGON(6),
+    ;
+
+    /**
+     * 类型编号
+     */
+    private final int code;
+
+    WkbTypeEnum(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * 多部件类型的每个部件的类型，单部件类型返回自身
+     *
+     * @return 部件类型
+     */
+    public WkbTypeEnum partType() {
+        switch (this) {
+            case MULTI_POINT:
+                return POINT;
+            case MULTI_LINE_STRING:
+                return LINE_STRING;
+            case MULTI_POLYGON:
+                return POLYGON;
+            default:
+                return this;
+        }
+    }
+
+    /**
+     * 根据类型编号获取类型
+     *
+     * @param code 二维类型编号
+     * @return 类型
+     */
+    public static WkbTypeEnum of(int code) {
+        for (WkbTypeEnum type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported WKB geometry type: " + code);
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.ricky.cg.location;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.predicate.RobustPredicates;
+import io.github.ricky.cg.shape.polygon.Polygon;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PreparedConvexPolygon
+ * @desc 预处理的凸多边形，用于对同一个凸多边形做大量包含判定<br>
+ * 顶点按逆时针存放在原始类型数组中，并去掉重复顶点与共线的中间顶点；以第0个顶点为扇形原点，
+ * 其余顶点把多边形分成 n-2 个三角形扇区，查询时二分找到点所在的扇区，再判断点在对边的哪一侧，时间复杂度 O(log n)，不分配任何对象<br>
+ * 与 {@link ComputationalGeometryUtils#insideConvexPolygon(Polygon, Point)} 一样，边上的点算在多边形内<br>
+ * 注意：多边形一定要是凸多边形，顶点可以按顺时针或逆时针排列；面积为0的多边形退化为线段或点
+ */
+public final class PreparedConvexPolygon {
+
+    /**
+     * 逆时针排列的顶点坐标，xs[0], ys[0] 为扇形原点
+     */
+    private final double[] xs, ys;
+
+    /**
+     * 去重后的顶点数
+     */
+    private final int n;
+
+    /**
+     * 包围盒，用于快速排除
+     */
+    private final double minX, minY, maxX, maxY;
+
+    public PreparedConvexPolygon(Polygon polygon) {
+        int count = polygon.count();
+        if (count == 0) {
+            throw new IllegalArgumentException("The polygon must have at least one vertex.");
+        }
+        double area = polygon.area();
+        boolean reversed = area < 0;
+        double[] xs = new double[count], ys = new double[count];
+        int size = 0;
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int k = 0; k < count; k++) {
+            Point vertex = polygon.getVertex(reversed ? count - 1 - k : k);
+            double x = vertex.getX(), y = vertex.getY();
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+            if (area == 0) {
+                // 退化为线段或点：只保留第一个顶点和第一个与之不同的顶点
+                if (size == 0 || size == 1 && (x != xs[0] || y != ys[0])) {
+                    xs[size] = x;
+                    ys[size] = y;
+                    size++;
+                }
+                continue;
+            }
+            // 弹出与新顶点重复或共线的栈顶
+            while (size > 0 && xs[size - 1] == x && ys[size - 1] == y ||
+                    size > 1 && RobustPredicates.orientation(xs[size - 2], ys[size - 2], xs[size - 1], ys[size - 1], x, y) == 0) {
+                size--;
+            }
+            xs[size] = x;
+            ys[size] = y;
+            size++;
+        }
+        // 首尾相接处同样处理
+        while (area != 0 && (size > 1 && xs[size - 1] == xs[0] && ys[size - 1] == ys[0] ||
+                size > 2 && RobustPredicates.orientation(xs[size - 2], ys[size - 2], xs[size - 1], ys[size - 1], xs[0], ys[0]) == 0)) {
+            size--;
+        }
+        int start = 0;
+        while (area != 0 && size - start > 2 &&
+                RobustPredicates.orientation(xs[size - 1], ys[size - 1], xs[start], ys[start], xs[start + 1], ys[start + 1]) == 0) {
+            start++;
+        }
+        size -= start;
+        System.arraycopy(xs, start, xs, 0, size);
+        System.arraycopy(ys, start, ys, 0, size);
+        this.xs = xs;
+        this.ys = ys;
+        this.n = size;
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    /**
+     * 获取去重与去掉共线顶点后的顶点数
+     *
+     * @return 顶点数
+     */
+    public int count() {
+        return n;
+    }
+
+    public boolean contains(Point q) {
+        return contains(q.getX(), q.getY());
+    }
+
+    /**
+     * 判断点在凸多边形内
+     *
+     * @param qx 横坐标
+     * @param qy 纵坐标
+     * @return true=点在凸多边形内(包括边上)<br>
+     * false=点不在凸多边形内
+     */
+    public boolean contains(double qx, double qy) {
+        if (qx < minX || qx > maxX || qy < minY || qy > maxY) {
+            return false;
+        }
+        double ox = xs[0], oy = ys[0];
+        if (n < 3) {
+            // 退化为线段或点：包围盒内且与线段共线
+            return n == 1 || RobustPredicates.orientation(ox, oy, xs[1], ys[1], qx, qy) == 0;
+        }
+        // 点必须在第一个扇区的右边界 o->v1 左侧，且在最后一个扇区的左边界 o->v(n-1) 右侧
+        if (RobustPredicates.orientation(ox, oy, xs[1], ys[1], qx, qy) < 0 ||
+                RobustPredicates.orientation(ox, oy, xs[n - 1], ys[n - 1], qx, qy) > 0) {
+            return false;
+        }
+        // 二分找到最后一个满足 cross(o, vi, q) >= 0 的 i ∈ [1, n-2]，点在扇区 o-vi-v(i+1) 中
+        int lo = 1, hi = n - 2;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (RobustPredicates.orientation(ox, oy, xs[mid], ys[mid], qx, qy) >= 0) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return RobustPredicates.orientation(xs[lo], ys[lo], xs[lo + 1], ys[lo + 1], qx, qy) >= 0;
+    }
+
+    /**
+     * 批量判定
+     *
+     * @param qxs 横坐标数组
+     * @param qys 纵坐标数组
+     * @return 第i个元素表示第i个点是否在凸多边形内(包括边上)
+     */
+    public boolean[] contains(double[] qxs, double[] qys) {
+        if (qxs.length != qys.length) {
+            throw new IllegalArgumentException("The coordinate arrays must have the same length.");
+        }
+        boolean[] result = new boolean[qxs.length];
+        contains(qxs, qys, qxs.length, result);
+        return result;
+    }
+
+    /**
+     * 批量判定前count个点，结果写入调用方提供的数组，不分配任何对象
+     *
+     * @param qxs    横坐标数组
+     * @param qys    纵坐标数组
+     * @param count  点数
+     * @param result 第i个元素表示第i个点是否在凸多边形内(包括边上)
+     * @return 在凸多边形内的点数
+     */
+    public int contains(double[] qxs, double[] qys, int count, boolean[] result) {
+        if (count < 0 || count > qxs.length || count > qys.length || count > result.length) {
+            throw new IndexOutOfBoundsException("The number of points exceeds the array length.");
+        }
+        int inside = 0;
+        for (int i = 0; i < count; i++) {
+            boolean contains = contains(qxs[i], qys[i]);
+            result[i] = contains;
+            if (contains) {
+                inside++;
+            }
+        }
+        return inside;
+    }
+}
@@ -0,0 +1,589 @@
+package io.github.ricky.cg.location;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.sort.IndexSortUtils;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.predicate.RobustPredicates;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import io.github.ricky.cg.shape.polygon.enums.PositionalRelationshipEnum;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PreparedPolygon
+ * @desc 预处理的多边形，用于对同一个多边形做大量点定位<br>
+ * 按顶点的纵坐标把平面切成水平条带(y-slab)，在条带上建线段树：每条非水平边存放在覆盖其纵坐标范围的 O(log n) 个规范节点中，
+ * 同一节点内的边都贯穿该节点的整个纵坐标范围，互不相交时可按从左到右的顺序排列（CSR布局）<br>
+ * 各节点再用分散层叠(fractional cascading)建立目录：节点自身的边并上父节点目录中每4个取1个的样本，目录总长度仍为 O(n log n)<br>
+ * 查询时二分找到条带，只在叶子的目录中二分一次，然后沿父指针走到根，每层由子节点中的位置经样本推出父节点中的位置，至多比较4次，
+ * 同时累计位于查询点右侧的边数。简单多边形的查询最坏 O(log n)，预处理 O(n log n) 空间，查询不分配任何对象<br>
+ * 结果与 {@link ComputationalGeometryUtils#positionalRelationship(Polygon, Point)} 完全相同。
+ * 自相交的多边形中，含交叉边的节点无法排序，退化为逐边扫描，其上方的节点重新二分，结果仍然正确，但单次查询最坏 O(n)
+ */
+public final class PreparedPolygon {
+
+    /**
+     * 批量并行定位的默认阈值：区间点数不超过该值时不再拆分任务
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * 父节点目录的采样间隔，也是由子节点推出父节点位置时最多需要的比较次数
+     */
+    private static final int SAMPLE = 4;
+
+    /**
+     * 边的起点与终点坐标，第i条边为 顶点i -> 顶点i+1
+     */
+    private final double[] x1s, y1s, x2s, y2s;
+
+    /**
+     * 去重排序后的顶点纵坐标，第s个条带为 (ys[s], ys[s+1]]
+     */
+    private final double[] ys;
+
+    /**
+     * 条带个数，即线段树的叶子数
+     */
+    private final int slabs;
+
+    /**
+     * 线段树第k个节点（根为1，子节点为2k与2k+1）中的边为 nodeEdges[nodeStart[k], nodeStart[k+1])，按从左到右排列
+     */
+    private final int[] nodeStart, nodeEdges;
+
+    /**
+     * 节点内的边是否互不交叉，可以二分
+     */
+    private final boolean[] nodeOrdered;
+
+    /**
+     * 分散层叠的目录：第k个节点的目录为 catalogEdges[catalogStart[k], catalogStart[k] + catalogSize[k])，按从左到右排列，
+     * 由节点自身的边和父节点目录中每 {@link #SAMPLE} 个取1个的样本合并而成。只有互不交叉的节点才有目录
+     */
+    private final int[] catalogStart, catalogSize, catalogEdges;
+
+    /**
+     * 目录的前缀信息，第k个节点的第i项（i ∈ [0, catalogSize[k]]）位于下标 catalogStart[k] + k + i：
+     * ownBefore 为前i项中节点自身的边数，parentRank 为位置不小于i的第一个样本在父节点目录中的位置（没有时为父节点目录的长度）
+     */
+    private final int[] ownBefore, parentRank;
+
+    /**
+     * 节点的目录是否含有父节点的样本，即能否由节点中的位置直接推出父节点中的位置
+     */
+    private final boolean[] cascaded;
+
+    /**
+     * 纵坐标为 ys[i] 的水平线上属于多边形边界的部分（顶点和水平边），
+     * 为区间 [boundaryLo[j], boundaryHi[j]]，j ∈ [boundaryStart[i], boundaryStart[i+1])，互不重叠且按横坐标排列
+     */
+    private final int[] boundaryStart;
+
+    private final double[] boundaryLo, boundaryHi;
+
+    public PreparedPolygon(Polygon polygon) {
+        int n = polygon.count();
+        x1s = new double[n];
+        y1s = new double[n];
+        x2s = new double[n];
+        y2s = new double[n];
+        for (int i = 0; i < n; i++) {
+            Point begin = polygon.getVertex(i), end = polygon.getVertex(i + 1 == n ? 0 : i + 1);
+            x1s[i] = begin.getX();
+            y1s[i] = begin.getY();
+            x2s[i] = end.getX();
+            y2s[i] = end.getY();
+        }
+
+        double[] sorted = y1s.clone();
+        Arrays.sort(sorted);
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (m == 0 || sorted[i] != sorted[m - 1]) {
+                sorted[m++] = sorted[i];
+            }
+        }
+        ys = Arrays.copyOf(sorted, m);
+        slabs = Math.max(m - 1, 0);
+
+        // 两遍插入：先统计各节点的边数，再按前缀和填入
+        int nodes = slabs == 0 ? 1 : 4 * slabs;
+        int[] counts = new int[nodes + 1];
+        int[] from = new int[n], to = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (y1s[i] != y2s[i]) {
+                from[i] = Arrays.binarySearch(ys, Math.min(y1s[i], y2s[i]));
+                to[i] = Arrays.binarySearch(ys, Math.max(y1s[i], y2s[i]));
+                insert(1, 0, slabs, from[i], to[i], i, counts, null);
+            }
+        }
+        nodeStart = new int[nodes + 1];
+        for (int k = 0; k < nodes; k++) {
+            nodeStart[k + 1] = nodeStart[k] + counts[k];
+        }
+        nodeEdges = new int[nodeStart[nodes]];
+        int[] fill = Arrays.copyOf(nodeStart, nodes);
+        for (int i = 0; i < n; i++) {
+            if (y1s[i] != y2s[i]) {
+                insert(1, 0, slabs, from[i], to[i], i, fill, nodeEdges);
+            }
+        }
+
+        // 目录的长度不超过 节点的边数 + 父节点目录长度的上界 / SAMPLE，按上界预留空间
+        int[] capacities = new int[nodes];
+        if (slabs > 0) {
+            capacity(1, 0, slabs, 0, capacities);
+        }
+        catalogStart = new int[nodes + 1];
+        for (int k = 0; k < nodes; k++) {
+            catalogStart[k + 1] = catalogStart[k] + capacities[k];
+        }
+        catalogSize = new int[nodes];
+        catalogEdges = new int[catalogStart[nodes]];
+        ownBefore = new int[catalogStart[nodes] + nodes];
+        parentRank = new int[catalogStart[nodes] + nodes];
+        nodeOrdered = new boolean[nodes];
+        cascaded = new boolean[nodes];
+        if (slabs > 0) {
+            order(1, 0, slabs);
+        }
+
+        // 各水平线上的边界部分：顶点与水平边
+        int[] owner = new int[2 * n];
+        double[] lows = new double[2 * n], highs = new double[2 * n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            owner[count] = Arrays.binarySearch(ys, y1s[i]);
+            lows[count] = highs[count] = x1s[i];
+            count++;
+            if (y1s[i] == y2s[i]) {
+                owner[count] = owner[count - 1];
+                lows[count] = Math.min(x1s[i], x2s[i]);
+                highs[count] = Math.max(x1s[i], x2s[i]);
+                count++;
+            }
+        }
+        int[] order = IndexSortUtils.identity(count);
+        IndexSortUtils.sort(order, 0, count, (i, j) -> owner[i] != owner[j] ?
+                Integer.compare(owner[i], owner[j]) : Double.compare(lows[i], lows[j]));
+        boundaryStart = new int[m + 1];
+        double[] mergedLo = new double[count], mergedHi = new double[count];
+        int merged = 0;
+        for (int k = 0; k < count; k++) {
+            int i = order[k];
+            if (k > 0 && owner[order[k - 1]] == owner[i] && lows[i] <= mergedHi[merged - 1]) {
+                mergedHi[merged - 1] = Math.max(mergedHi[merged - 1], highs[i]);
+            } else {
+                mergedLo[merged] = lows[i];
+                mergedHi[merged] = highs[i];
+                merged++;
+                boundaryStart[owner[i] + 1]++;
+            }
+        }
+        for (int y = 0; y < m; y++) {
+            boundaryStart[y + 1] += boundaryStart[y];
+        }
+        boundaryLo = Arrays.copyOf(mergedLo, merged);
+        boundaryHi = Arrays.copyOf(mergedHi, merged);
+    }
+
+    /**
+     * 把覆盖条带 [from, to) 的边插入节点 node（覆盖条带 [lo, hi)）的规范子节点<br>
+     * edges 为 null 时只计数，否则写入 edges[cursor[node]++]
+     */
+    private static void insert(int node, int lo, int hi, int from, int to, int edge, int[] cursor, int[] edges) {
+        if (from <= lo && hi <= to) {
+            if (edges == null) {
+                cursor[node]++;
+            } else {
+                edges[cursor[node]++] = edge;
+            }
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (from < mid) {
+            insert(2 * node, lo, mid, from, to, edge, cursor, edges);
+        }
+        if (to > mid) {
+            insert(2 * node + 1, mid, hi, from, to, edge, cursor, edges);
+        }
+    }
+
+    private void capacity(int node, int lo, int hi, int parentCapacity, int[] capacities) {
+        capacities[node] = nodeStart[node + 1] - nodeStart[node] + parentCapacity / SAMPLE;
+        if (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            capacity(2 * node, lo, mid, capacities[node], capacities);
+            capacity(2 * node + 1, mid, hi, capacities[node], capacities);
+        }
+    }
+
+    /**
+     * 自上而下把各节点内的边按从左到右排序，检查是否互不交叉，并为互不交叉的节点建立目录
+     */
+    private void order(int node, int lo, int hi) {
+        int from = nodeStart[node], to = nodeStart[node + 1];
+        double bottom = ys[lo], top = ys[hi], middle = (bottom + top) / 2;
+        IndexSortUtils.sort(nodeEdges, from, to, (i, j) -> Double.compare(xAt(i, middle), xAt(j, middle)));
+        boolean ordered = true;
+        for (int k = from + 1; k < to && ordered; k++) {
+            ordered = before(nodeEdges[k - 1], nodeEdges[k], bottom, top);
+        }
+        nodeOrdered[node] = ordered;
+        if (ordered) {
+            catalog(node, from, to, bottom, middle, top);
+        }
+        if (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            order(2 * node, lo, mid);
+            order(2 * node + 1, mid, hi);
+        }
+    }
+
+    /**
+     * 建立节点的目录：把节点自身的边与父节点目录的样本按从左到右归并<br>
+     * 父节点的边都贯穿本节点的纵坐标范围，简单多边形中归并结果互不交叉；否则（自相交）目录只含自身的边，不做层叠
+     */
+    private void catalog(int node, int from, int to, double bottom, double middle, double top) {
+        int start = catalogStart[node], base = start + node, parent = node >>> 1;
+        if (parent >= 1 && nodeOrdered[parent]) {
+            int parentStart = catalogStart[parent], parentSize = catalogSize[parent];
+            int i = from, j = SAMPLE - 1, size = 0;
+            while (i < to || j < parentSize) {
+                boolean own = j >= parentSize ||
+                        i < to && xAt(nodeEdges[i], middle) <= xAt(catalogEdges[parentStart + j], middle);
+                ownBefore[base + size + 1] = ownBefore[base + size] + (own ? 1 : 0);
+                // 暂存：样本在父节点目录中的位置，自身的边为 -1
+                parentRank[base + size] = own ? -1 : j;
+                catalogEdges[start + size++] = own ? nodeEdges[i++] : catalogEdges[parentStart + j];
+                if (!own) {
+                    j += SAMPLE;
+                }
+            }
+            boolean ordered = true;
+            for (int k = start + 1; k < start + size && ordered; k++) {
+                ordered = before(catalogEdges[k - 1], catalogEdges[k], bottom, top);
+            }
+            if (ordered) {
+                for (int k = size, next = parentSize; k >= 0; k--) {
+                    if (k < size && parentRank[base + k] >= 0) {
+                        next = parentRank[base + k];
+                    }
+                    parentRank[base + k] = next;
+                }
+                catalogSize[node] = size;
+                cascaded[node] = true;
+                return;
+            }
+        }
+        for (int k = from; k < to; k++) {
+            catalogEdges[start + k - from] = nodeEdges[k];
+            ownBefore[base + k - from + 1] = k - from + 1;
+        }
+        catalogSize[node] = to - from;
+    }
+
+    /**
+     * 在纵坐标范围 [bottom, top] 内，边i是否不在边j的右侧
+     */
+    private boolean before(int i, int j, double bottom, double top) {
+        return xAt(i, bottom) <= xAt(j, bottom) && xAt(i, top) <= xAt(j, top);
+    }
+
+    public PositionalRelationshipEnum locate(Point q) {
+        return locate(q.getX(), q.getY());
+    }
+
+    /**
+     * 判断点与多边形的位置关系
+     *
+     * @param qx 横坐标
+     * @param qy 纵坐标
+     * @return 位置关系
+     */
+    public PositionalRelationshipEnum locate(double qx, double qy) {
+        int s = lowerBound(ys, qy);
+        if (s == ys.length) {
+            return PositionalRelationshipEnum.EXTERNAL;
+        }
+        if (ys[s] == qy && onBoundaryLine(s, qx)) {
+            return PositionalRelationshipEnum.ONLINE;
+        }
+        if (s == 0) {
+            return PositionalRelationshipEnum.EXTERNAL;
+        }
+        // qy 落在条带 s-1 内（含上边界）：与水平向右的射线相交的边即路径上各节点中位于查询点右侧的边
+        int slab = s - 1;
+        int node = 1, lo = 0, hi = slabs;
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            if (slab < mid) {
+                node = 2 * node;
+                hi = mid;
+            } else {
+                node = 2 * node + 1;
+                lo = mid;
+            }
+        }
+        // 从叶子向根走：只在叶子（以及没有层叠的节点）二分，其余节点由子节点中的位置经样本推出，每层至多比较 SAMPLE 次
+        int right = 0, rank = -1;
+        for (; node >= 1; node >>>= 1) {
+            if (!nodeOrdered[node]) {
+                int count = scanRight(node, qx, qy);
+                if (count < 0) {
+                    return PositionalRelationshipEnum.ONLINE;
+                }
+                right += count;
+                rank = -1;
+                continue;
+            }
+            int start = catalogStart[node], base = start + node;
+            if (rank < 0) {
+                rank = search(start, catalogSize[node], qx, qy);
+                if (rank < 0) {
+                    return PositionalRelationshipEnum.ONLINE;
+                }
+            }
+            // 目录中位置不小于 rank 的项都严格位于查询点右侧
+            right += nodeStart[node + 1] - nodeStart[node] - ownBefore[base + rank];
+            if (!cascaded[node]) {
+                rank = -1;
+                continue;
+            }
+            int parentStart = catalogStart[node >>> 1];
+            rank = parentRank[base + rank];
+            while (rank > 0) {
+                int side = side(catalogEdges[parentStart + rank - 1], qx, qy);
+                if (side == 0) {
+                    return PositionalRelationshipEnum.ONLINE;
+                }
+                if (side < 0) {
+                    break;
+                }
+                rank--;
+            }
+        }
+        return (right & 1) == 1 ? PositionalRelationshipEnum.INSIDE : PositionalRelationshipEnum.EXTERNAL;
+    }
+
+    /**
+     * 批量定位前n个点，结果写入调用方提供的数组
+     *
+     * @param qxs    横坐标数组
+     * @param qys    纵坐标数组
+     * @param n      点数
+     * @param result 第i个元素为第i个点的位置关系编码，见 {@link PositionalRelationshipEnum#code()}
+     */
+    public void locate(double[] qxs, double[] qys, int n, byte[] result) {
+        checkBatch(qxs, qys, n, result.length);
+        for (int i = 0; i < n; i++) {
+            result[i] = locate(qxs[i], qys[i]).code();
+        }
+    }
+
+    /**
+     * 在公共线程池上批量并行定位，使用默认的并行阈值<br>
+     * 结果与逐点调用 {@link ComputationalGeometryUtils#positionalRelationship(Polygon, Point)} 完全相同
+     *
+     * @param qxs 横坐标数组
+     * @param qys 纵坐标数组
+     * @return 第i个元素为第i个点的位置关系
+     */
+    public PositionalRelationshipEnum[] locateParallel(double[] qxs, double[] qys) {
+        if (qxs.length != qys.length) {
+            throw new IllegalArgumentException("The coordinate arrays must have the same length.");
+        }
+        PositionalRelationshipEnum[] result = new PositionalRelationshipEnum[qxs.length];
+        locateParallel(qxs, qys, qxs.length, result, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+        return result;
+    }
+
+    /**
+     * 批量并行定位前n个点，结果与 {@link #locate(double[], double[], int, byte[])} 完全相同<br>
+     * 查询本身不分配对象，也没有可变的状态，各工作线程只负责互不重叠的区间，除拆分任务外不分配任何对象
+     *
+     * @param qxs       横坐标数组
+     * @param qys       纵坐标数组
+     * @param n         点数
+     * @param result    第i个元素为第i个点的位置关系编码，见 {@link PositionalRelationshipEnum#code()}
+     * @param pool      线程池
+     * @param threshold 并行阈值，区间点数不超过该值时顺序定位
+     */
+    public void locateParallel(double[] qxs, double[] qys, int n, byte[] result, ForkJoinPool pool, int threshold) {
+        checkBatch(qxs, qys, n, result.length);
+        checkThreshold(threshold);
+        pool.invoke(new LocateTask(qxs, qys, result, null, 0, n, threshold));
+    }
+
+    /**
+     * 批量并行定位前n个点，结果以枚举数组返回
+     *
+     * @param qxs       横坐标数组
+     * @param qys       纵坐标数组
+     * @param n         点数
+     * @param result    第i个元素为第i个点的位置关系
+     * @param pool      线程池
+     * @param threshold 并行阈值，区间点数不超过该值时顺序定位
+     */
+    public void locateParallel(double[] qxs, double[] qys, int n, PositionalRelationshipEnum[] result,
+                               ForkJoinPool pool, int threshold) {
+        checkBatch(qxs, qys, n, result.length);
+        checkThreshold(threshold);
+        pool.invoke(new LocateTask(qxs, qys, null, result, 0, n, threshold));
+    }
+
+    private static void checkBatch(double[] qxs, double[] qys, int n, int resultLength) {
+        if (n < 0 || n > qxs.length || n > qys.length || n > resultLength) {
+            throw new IndexOutOfBoundsException("The number of points exceeds the array length.");
+        }
+    }
+
+    private static void checkThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The parallelism threshold must be positive.");
+        }
+    }
+
+    /**
+     * 并行定位任务：把区间对半拆分，直到点数不超过阈值
+     */
+    private final class LocateTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] qxs, qys;
+
+        private final byte[] codes;
+
+        private final PositionalRelationshipEnum[] relationships;
+
+        private final int lo, hi, threshold;
+
+        LocateTask(double[] qxs, double[] qys, byte[] codes, PositionalRelationshipEnum[] relationships,
+                   int lo, int hi, int threshold) {
+            this.qxs = qxs;
+            this.qys = qys;
+            this.codes = codes;
+            this.relationships = relationships;
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= threshold) {
+                for (int i = lo; i < hi; i++) {
+                    PositionalRelationshipEnum relationship = locate(qxs[i], qys[i]);
+                    if (codes != null) {
+                        codes[i] = relationship.code();
+                    } else {
+                        relationships[i] = relationship;
+                    }
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new LocateTask(qxs, qys, codes, relationships, lo, mid, threshold),
+                    new LocateTask(qxs, qys, codes, relationships, mid, hi, threshold));
+        }
+    }
+
+    /**
+     * 在目录中二分，返回位于查询点左侧的项数，点在某条边上时返回 -1
+     */
+    private int search(int start, int size, double qx, double qy) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (side(catalogEdges[start + mid], qx, qy) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        if (lo < size && side(catalogEdges[start + lo], qx, qy) == 0) {
+            return -1;
+        }
+        return lo;
+    }
+
+    /**
+     * 逐边统计含交叉边的节点中位于查询点右侧的边数，点在某条边上时返回 -1
+     */
+    private int scanRight(int node, double qx, double qy) {
+        int from = nodeStart[node], to = nodeStart[node + 1];
+        int right = 0;
+        for (int k = from; k < to; k++) {
+            int side = side(nodeEdges[k], qx, qy);
+            if (side == 0) {
+                return -1;
+            }
+            if (side > 0) {
+                right++;
+            }
+        }
+        return right;
+    }
+
+    /**
+     * 查询点相对边的位置：1表示边在查询点右侧，-1在左侧，0表示点在边所在直线上<br>
+     * 按边的原始方向判定，与 {@link ComputationalGeometryUtils#online} 使用同一个谓词
+     */
+    private int side(int edge, double qx, double qy) {
+        int orientation = RobustPredicates.orientation(x1s[edge], y1s[edge], x2s[edge], y2s[edge], qx, qy);
+        return y2s[edge] > y1s[edge] ? orientation : -orientation;
+    }
+
+    /**
+     * 判断点 (qx, ys[s]) 是否在该水平线上的边界部分
+     */
+    private boolean onBoundaryLine(int s, double qx) {
+        int lo = boundaryStart[s], hi = boundaryStart[s + 1];
+        // 最后一个起点不大于 qx 的区间
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (boundaryLo[mid] <= qx) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo > boundaryStart[s] && qx <= boundaryHi[lo - 1];
+    }
+
+    /**
+     * 边在纵坐标y处的横坐标，y为端点纵坐标时直接返回端点横坐标
+     */
+    private double xAt(int edge, double y) {
+        if (y == y1s[edge]) {
+            return x1s[edge];
+        }
+        if (y == y2s[edge]) {
+            return x2s[edge];
+        }
+        return x1s[edge] + (y - y1s[edge]) * (x2s[edge] - x1s[edge]) / (y2s[edge] - y1s[edge]);
+    }
+
+    /**
+     * 第一个不小于 key 的位置
+     */
+    private static int lowerBound(double[] values, double key) {
+        int lo = 0, hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
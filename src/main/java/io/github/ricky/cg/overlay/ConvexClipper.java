@@ -0,0 +1,347 @@
+package io.github.ricky.cg.overlay;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.predicate.RobustPredicates;
+import io.github.ricky.cg.shape.BoundingBox;
+import io.github.ricky.cg.shape.polygon.Polygon;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className ConvexClipper
+ * @desc 用凸多边形裁剪多边形（Sutherland–Hodgman），适合用同一个裁剪窗口批量裁剪大量多边形<br>
+ * 裁剪窗口在构造时预处理：顶点按逆时针存放在原始类型数组中，并去掉重复顶点与共线的中间顶点；
+ * 窗口是轴对齐矩形时走专门的路径，交点的一个坐标精确落在矩形边上<br>
+ * 裁剪时依次用窗口的每条边所在的半平面裁剪，结果在调用者提供的两组缓冲区之间来回写，最终落在输出缓冲区中，
+ * 整个过程不分配任何对象。被裁剪多边形的包围盒完全在某个半平面内时跳过该半平面，完全在外时直接返回空结果<br>
+ * 被裁剪多边形可以是凹多边形，此时结果可能包含沿窗口边界往返的退化边；顶点的排列方向保持不变<br>
+ * 注意：实例保存了裁剪过程的状态，不是线程安全的，多线程时每个线程使用各自的实例
+ */
+public final class ConvexClipper {
+
+    /**
+     * 逆时针排列的窗口顶点坐标
+     */
+    private final double[] xs, ys;
+
+    /**
+     * 窗口的顶点数
+     */
+    private final int n;
+
+    /**
+     * 窗口的包围盒
+     */
+    private final double minX, minY, maxX, maxY;
+
+    /**
+     * 窗口是否为轴对齐矩形
+     */
+    private final boolean rectangle;
+
+    /**
+     * 本次裁剪需要用到的半平面编号
+     */
+    private final int[] active;
+
+    /**
+     * 用凸多边形构造裁剪窗口
+     *
+     * @param clip 凸多边形，顶点可以按顺时针或逆时针排列
+     */
+    public ConvexClipper(Polygon clip) {
+        int count = clip.count();
+        double area = clip.area();
+        if (count < 3 || area == 0) {
+            throw new IllegalArgumentException("The clip polygon must have a positive area.");
+        }
+        boolean reversed = area < 0;
+        double[] xs = new double[count], ys = new double[count];
+        int size = 0;
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int k = 0; k < count; k++) {
+            Point vertex = clip.getVertex(reversed ? count - 1 - k : k);
+            double x = vertex.getX(), y = vertex.getY();
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+            // 弹出与新顶点重复或共线的栈顶
+            while (size > 0 && xs[size - 1] == x && ys[size - 1] == y ||
+                    size > 1 && RobustPredicates.orientation(xs[size - 2], ys[size - 2], xs[size - 1], ys[size - 1], x, y) == 0) {
+                size--;
+            }
+            xs[size] = x;
+            ys[size] = y;
+            size++;
+        }
+        // 首尾相接处同样处理
+        while (size > 1 && xs[size - 1] == xs[0] && ys[size - 1] == ys[0] ||
+                size > 2 && RobustPredicates.orientation(xs[size - 2], ys[size - 2], xs[size - 1], ys[size - 1], xs[0], ys[0]) == 0) {
+            size--;
+        }
+        int start = 0;
+        while (size - start > 2 &&
+                RobustPredicates.orientation(xs[size - 1], ys[size - 1], xs[start], ys[start], xs[start + 1], ys[start + 1]) == 0) {
+            start++;
+        }
+        size -= start;
+        System.arraycopy(xs, start, xs, 0, size);
+        System.arraycopy(ys, start, ys, 0, size);
+        boolean rectangle = size == 4;
+        for (int k = 0; k < size && rectangle; k++) {
+            int next = k + 1 == size ? 0 : k + 1;
+            rectangle = xs[k] == xs[next] || ys[k] == ys[next];
+        }
+        this.xs = xs;
+        this.ys = ys;
+        this.n = size;
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.rectangle = rectangle;
+        this.active = new int[size];
+    }
+
+    /**
+     * 用轴对齐矩形构造裁剪窗口
+     *
+     * @param box 矩形
+     */
+    public ConvexClipper(BoundingBox box) {
+        this(new Polygon(new Point[]{
+                new Point(box.getMinX(), box.getMinY()),
+                new Point(box.getMaxX(), box.getMinY()),
+                new Point(box.getMaxX(), box.getMaxY()),
+                new Point(box.getMinX(), box.getMaxY()),
+        }));
+    }
+
+    /**
+     * 窗口是否为轴对齐矩形
+     *
+     * @return true=轴对齐矩形，裁剪时走专门的路径
+     */
+    public boolean isRectangle() {
+        return rectangle;
+    }
+
+    /**
+     * 求缓冲区足够的长度：结果的顶点要么是原多边形在窗口内的顶点，要么是边与窗口边界的交点（每条边至多两个），
+     * 要么是沿窗口边界往返时经过的窗口顶点（每段往返至多 n 个）。被裁剪多边形是凸多边形时 count + n 即可
+     *
+     * @param count 被裁剪多边形的顶点数
+     * @return 对任意简单多边形都足够的缓冲区长度
+     */
+    public int capacity(int count) {
+        return (int) Math.min(Integer.MAX_VALUE - 8, (long) count * (n + 3));
+    }
+
+    /**
+     * 裁剪多边形；每一趟裁剪的输出不超过输入的两倍（每个顶点至多贡献一个交点和它自身），按此为每一趟分配缓冲区
+     *
+     * @param subject 被裁剪的多边形
+     * @return 裁剪结果，顶点的排列方向与原多边形相同；与窗口不相交时返回 null
+     */
+    public Polygon clip(Polygon subject) {
+        int count = subject.count();
+        double[] srcXs = new double[count], srcYs = new double[count];
+        for (int i = 0; i < count; i++) {
+            srcXs[i] = subject.getVertex(i).getX();
+            srcYs[i] = subject.getVertex(i).getY();
+        }
+        int passes = count < 3 ? -1 : select(srcXs, srcYs, count);
+        if (passes < 0) {
+            return null;
+        }
+        int size = count;
+        for (int p = 0; p < passes && size >= 3; p++) {
+            double[] dstXs = new double[2 * size], dstYs = new double[2 * size];
+            size = pass(p, srcXs, srcYs, size, dstXs, dstYs);
+            srcXs = dstXs;
+            srcYs = dstYs;
+        }
+        if (size < 3) {
+            return null;
+        }
+        Point[] vertexes = new Point[size];
+        for (int i = 0; i < size; i++) {
+            vertexes[i] = new Point(srcXs[i], srcYs[i]);
+        }
+        return new Polygon(vertexes);
+    }
+
+    /**
+     * 裁剪多边形，结果写入输出缓冲区；scratchXs, scratchYs 为中间结果使用的另一组缓冲区<br>
+     * 输入与两组缓冲区不能是同一个数组；四个缓冲区的长度都不能小于 {@link #capacity(int)}，
+     * 在写入任何数据之前检查，不足时抛出 {@link IndexOutOfBoundsException}
+     *
+     * @param subjectXs 被裁剪多边形顶点的横坐标
+     * @param subjectYs 被裁剪多边形顶点的纵坐标
+     * @param count     被裁剪多边形的顶点数
+     * @param outXs     输出顶点的横坐标
+     * @param outYs     输出顶点的纵坐标
+     * @param scratchXs 中间结果的横坐标
+     * @param scratchYs 中间结果的纵坐标
+     * @return 输出的顶点数，结果面积为0或与窗口不相交时返回0
+     */
+    public int clip(double[] subjectXs, double[] subjectYs, int count,
+                    double[] outXs, double[] outYs, double[] scratchXs, double[] scratchYs) {
+        if (count > subjectXs.length || count > subjectYs.length) {
+            throw new IndexOutOfBoundsException("The vertex count exceeds the coordinate arrays.");
+        }
+        if (count < 3) {
+            return 0;
+        }
+        int required = capacity(count);
+        if (outXs.length < required || outYs.length < required
+                || scratchXs.length < required || scratchYs.length < required) {
+            throw new IndexOutOfBoundsException("The buffers are shorter than capacity(count) = " + required + ".");
+        }
+        int passes = select(subjectXs, subjectYs, count);
+        if (passes < 0) {
+            return 0;
+        }
+        if (passes == 0) {
+            System.arraycopy(subjectXs, 0, outXs, 0, count);
+            System.arraycopy(subjectYs, 0, outYs, 0, count);
+            return count;
+        }
+        // 最后一趟写入输出缓冲区
+        double[] srcXs = subjectXs, srcYs = subjectYs;
+        int size = count;
+        for (int p = 0; p < passes && size >= 3; p++) {
+            boolean toOut = (passes - 1 - p) % 2 == 0;
+            double[] dstXs = toOut ? outXs : scratchXs, dstYs = toOut ? outYs : scratchYs;
+            size = pass(p, srcXs, srcYs, size, dstXs, dstYs);
+            srcXs = dstXs;
+            srcYs = dstYs;
+        }
+        return size >= 3 ? size : 0;
+    }
+
+    /**
+     * 用包围盒挑出需要裁剪的半平面存入 active，矩形窗口按 左、下、右、上 编号
+     *
+     * @return 半平面的个数，与窗口不相交时返回 -1
+     */
+    private int select(double[] subjectXs, double[] subjectYs, int count) {
+        double sMinX = subjectXs[0], sMinY = subjectYs[0], sMaxX = sMinX, sMaxY = sMinY;
+        for (int i = 1; i < count; i++) {
+            sMinX = Math.min(sMinX, subjectXs[i]);
+            sMinY = Math.min(sMinY, subjectYs[i]);
+            sMaxX = Math.max(sMaxX, subjectXs[i]);
+            sMaxY = Math.max(sMaxY, subjectYs[i]);
+        }
+        if (sMaxX < minX || sMinX > maxX || sMaxY < minY || sMinY > maxY) {
+            return -1;
+        }
+        int passes = 0;
+        if (rectangle) {
+            if (sMinX < minX) {
+                active[passes++] = 0;
+            }
+            if (sMinY < minY) {
+                active[passes++] = 1;
+            }
+            if (sMaxX > maxX) {
+                active[passes++] = 2;
+            }
+            if (sMaxY > maxY) {
+                active[passes++] = 3;
+            }
+        } else {
+            for (int k = 0; k < n; k++) {
+                int next = k + 1 == n ? 0 : k + 1;
+                double ex = xs[next] - xs[k], ey = ys[next] - ys[k];
+                // 包围盒四个角中离半平面最远的角
+                double cx = ey > 0 ? sMaxX : sMinX, cy = ex < 0 ? sMaxY : sMinY;
+                double fx = ey > 0 ? sMinX : sMaxX, fy = ex < 0 ? sMinY : sMaxY;
+                if (ex * (fy - ys[k]) - ey * (fx - xs[k]) < 0) {
+                    return -1;
+                }
+                if (ex * (cy - ys[k]) - ey * (cx - xs[k]) < 0) {
+                    active[passes++] = k;
+                }
+            }
+        }
+        return passes;
+    }
+
+    /**
+     * 第 p 趟裁剪，输出至多 2 * count 个顶点
+     */
+    private int pass(int p, double[] srcXs, double[] srcYs, int count, double[] dstXs, double[] dstYs) {
+        if (!rectangle) {
+            return clipEdge(srcXs, srcYs, count, dstXs, dstYs, active[p]);
+        }
+        return switch (active[p]) {
+            case 0 -> clipAxis(srcXs, srcYs, count, dstXs, dstYs, minX, 1);
+            case 1 -> clipAxis(srcYs, srcXs, count, dstYs, dstXs, minY, 1);
+            case 2 -> clipAxis(srcXs, srcYs, count, dstXs, dstYs, maxX, -1);
+            default -> clipAxis(srcYs, srcXs, count, dstYs, dstXs, maxY, -1);
+        };
+    }
+
+    /**
+     * 保留满足 sign * (u - bound) >= 0 的部分，交点的u坐标精确等于 bound；
+     * 对纵坐标裁剪时交换横纵坐标数组传入
+     */
+    private static int clipAxis(double[] us, double[] vs, int count, double[] outUs, double[] outVs,
+                                double bound, double sign) {
+        int m = 0;
+        double pu = us[count - 1], pv = vs[count - 1];
+        double ps = sign * (pu - bound);
+        for (int i = 0; i < count; i++) {
+            double u = us[i], v = vs[i];
+            double s = sign * (u - bound);
+            if (ps < 0 && s > 0 || ps > 0 && s < 0) {
+                outUs[m] = bound;
+                outVs[m] = pv + (bound - pu) / (u - pu) * (v - pv);
+                m++;
+            }
+            if (s >= 0) {
+                outUs[m] = u;
+                outVs[m] = v;
+                m++;
+            }
+            pu = u;
+            pv = v;
+            ps = s;
+        }
+        return m;
+    }
+
+    /**
+     * 保留窗口第k条边左侧（含边上）的部分
+     */
+    private int clipEdge(double[] srcXs, double[] srcYs, int count, double[] outXs, double[] outYs, int k) {
+        int next = k + 1 == n ? 0 : k + 1;
+        double ox = xs[k], oy = ys[k], ex = xs[next] - ox, ey = ys[next] - oy;
+        int m = 0;
+        double px = srcXs[count - 1], py = srcYs[count - 1];
+        double ps = ex * (py - oy) - ey * (px - ox);
+        for (int i = 0; i < count; i++) {
+            double x = srcXs[i], y = srcYs[i];
+            double s = ex * (y - oy) - ey * (x - ox);
+            if (ps < 0 && s > 0 || ps > 0 && s < 0) {
+                double t = ps / (ps - s);
+                outXs[m] = px + t * (x - px);
+                outYs[m] = py + t * (y - py);
+                m++;
+            }
+            if (s >= 0) {
+                outXs[m] = x;
+                outYs[m] = y;
+                m++;
+            }
+            px = x;
+            py = y;
+            ps = s;
+        }
+        return m;
+    }
+}
@@ -0,0 +1,827 @@
+package io.github.ricky.cg.overlay;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.sort.IndexSortUtils;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.intersection.SegmentIntersections;
+import io.github.ricky.cg.overlay.enums.BooleanOperationEnum;
+import io.github.ricky.cg.predicate.RobustPredicates;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import io.github.ricky.cg.shape.polygon.enums.PositionalRelationshipEnum;
+
+import java.util.Arrays;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PolygonBooleanOperations
+ * @desc 简单多边形的布尔运算：并、交、差、对称差<br>
+ * 按 Martinez–Rueda 的思路：先用 {@link SegmentIntersections} 的扫描线求出两个多边形边界的全部交点，在交点处切分边，
+ * 使子边之间只在端点处接触；再把每条子边标记为在另一个多边形内、外，或与另一个多边形的子边重合（同向或反向），
+ * 按运算类型选出结果的边界并首尾相连成环。时间复杂度 O((n+k) log n)，k为交点数<br>
+ * 子边的内外状态只可能在两个多边形的公共顶点处改变，在这些位置由另一个多边形的内角直接判断，整个分类过程是线性的<br>
+ * 两个多边形都是凸多边形时，交集走专门的快速路径：两组边已按方向角排好序，归并后做线性时间的半平面交<br>
+ * 结果为若干个环：外边界按逆时针排列，洞按顺时针排列，各环有向面积之和即为结果的面积；
+ * 结果为空时返回空数组<br>
+ * 精度模型：输入顶点保持原坐标；交点用浮点运算求出，带有舍入误差，两条相交的边在同一个舍入后的点处切分；
+ * 坐标完全相同的端点视为同一顶点，不做容差合并，也不吸附到网格。之后的分类与连接都用精确谓词作用在这些坐标上，
+ * 因此结果中的交点与真实交点相差若干个舍入误差。接近退化时舍入可能使个别子边的分类不一致、边界没有回到起点，
+ * 这时把该段的终点直接连回起点，闭合成环放入结果，不会丢弃<br>
+ * 注意：两个多边形都必须是简单多边形，顶点可以按顺时针或逆时针排列
+ */
+public final class PolygonBooleanOperations {
+
+    /**
+     * 子边的状态：在另一个多边形外、内，与另一个多边形的子边同向重合、反向重合，以及被合并掉的重合副本
+     */
+    private static final byte OUTSIDE = 0, INSIDE = 1, SAME = 2, OPPOSITE = 3, DUPLICATE = 4;
+
+    private PolygonBooleanOperations() {
+    }
+
+    /**
+     * 求两个多边形的并集
+     *
+     * @param a 多边形A
+     * @param b 多边形B
+     * @return 结果的边界环
+     */
+    public static Polygon[] union(Polygon a, Polygon b) {
+        return compute(a, b, BooleanOperationEnum.UNION);
+    }
+
+    /**
+     * 求两个多边形的交集
+     *
+     * @param a 多边形A
+     * @param b 多边形B
+     * @return 结果的边界环
+     */
+    public static Polygon[] intersection(Polygon a, Polygon b) {
+        return compute(a, b, BooleanOperationEnum.INTERSECTION);
+    }
+
+    /**
+     * 求两个多边形的差集 A-B
+     *
+     * @param a 多边形A
+     * @param b 多边形B
+     * @return 结果的边界环
+     */
+    public static Polygon[] difference(Polygon a, Polygon b) {
+        return compute(a, b, BooleanOperationEnum.DIFFERENCE);
+    }
+
+    /**
+     * 求两个多边形的对称差
+     *
+     * @param a 多边形A
+     * @param b 多边形B
+     * @return 结果的边界环
+     */
+    public static Polygon[] xor(Polygon a, Polygon b) {
+        return compute(a, b, BooleanOperationEnum.XOR);
+    }
+
+    /**
+     * 对两个多边形做布尔运算
+     *
+     * @param a         多边形A
+     * @param b         多边形B
+     * @param operation 运算类型
+     * @return 结果的边界环：外边界按逆时针排列，洞按顺时针排列
+     */
+    public static Polygon[] compute(Polygon a, Polygon b, BooleanOperationEnum operation) {
+        Ring ringA = new Ring(a), ringB = new Ring(b);
+        if (ringA.maxX < ringB.minX || ringB.maxX < ringA.minX || ringA.maxY < ringB.minY || ringB.maxY < ringA.minY) {
+            // 包围盒分离，边界没有公共点
+            return switch (operation) {
+                case UNION, XOR -> new Polygon[]{ringA.toPolygon(), ringB.toPolygon()};
+                case INTERSECTION -> new Polygon[0];
+                case DIFFERENCE -> new Polygon[]{ringA.toPolygon()};
+            };
+        }
+        if (operation == BooleanOperationEnum.INTERSECTION && ringA.isConvex() && ringB.isConvex()) {
+            return convexIntersection(ringA, ringB);
+        }
+        return new Overlay(a, b, ringA, ringB).compute(operation);
+    }
+
+    /**
+     * 两个凸多边形的交集：归并两组按方向角有序的边，再用双端队列求半平面交
+     */
+    private static Polygon[] convexIntersection(Ring a, Ring b) {
+        int total = a.n + b.n;
+        // 第l条直线为 (x1s[l], y1s[l]) -> (x2s[l], y2s[l])，前 a.n 条来自A，内部在左侧
+        double[] x1s = new double[total], y1s = new double[total], x2s = new double[total], y2s = new double[total];
+        a.edges(x1s, y1s, x2s, y2s, 0);
+        b.edges(x1s, y1s, x2s, y2s, a.n);
+        int[] lines = new int[total];
+        int count = 0;
+        int i = 0, j = 0, startA = a.firstByAngle(), startB = b.firstByAngle();
+        while (i < a.n || j < b.n) {
+            int la = i < a.n ? (startA + i) % a.n : -1;
+            int lb = j < b.n ? a.n + (startB + j) % b.n : -1;
+            int line;
+            if (lb < 0 || la >= 0 && compareDirections(x1s, y1s, x2s, y2s, la, lb) <= 0) {
+                line = la;
+                i++;
+            } else {
+                line = lb;
+                j++;
+            }
+            // 方向相同的直线只保留最靠内的一条
+            if (count > 0 && compareDirections(x1s, y1s, x2s, y2s, lines[count - 1], line) == 0) {
+                int last = lines[count - 1];
+                if (RobustPredicates.orientation(x1s[last], y1s[last], x2s[last], y2s[last], x1s[line], y1s[line]) > 0) {
+                    lines[count - 1] = line;
+                }
+                continue;
+            }
+            lines[count++] = line;
+        }
+        if (count > 1 && compareDirections(x1s, y1s, x2s, y2s, lines[count - 1], lines[0]) == 0) {
+            int last = lines[--count];
+            if (RobustPredicates.orientation(x1s[lines[0]], y1s[lines[0]], x2s[lines[0]], y2s[lines[0]],
+                    x1s[last], y1s[last]) > 0) {
+                lines[0] = last;
+            }
+        }
+
+        int[] deque = new int[count];
+        int head = 0, tail = 0;
+        double[] point = new double[2];
+        for (int k = 0; k < count; k++) {
+            int line = lines[k];
+            while (tail - head >= 2 && !inside(x1s, y1s, x2s, y2s, line,
+                    meet(a.n, b.n, x1s, y1s, x2s, y2s, deque[tail - 2], deque[tail - 1], point))) {
+                tail--;
+            }
+            while (tail - head >= 2 && !inside(x1s, y1s, x2s, y2s, line,
+                    meet(a.n, b.n, x1s, y1s, x2s, y2s, deque[head], deque[head + 1], point))) {
+                head++;
+            }
+            if (tail > head) {
+                int last = deque[tail - 1];
+                // 相邻两条直线的转角不小于 π：剩余区域为空或退化
+                if (RobustPredicates.orientation(0, 0, x2s[last] - x1s[last], y2s[last] - y1s[last],
+                        x2s[line] - x1s[line], y2s[line] - y1s[line]) <= 0) {
+                    return new Polygon[0];
+                }
+            }
+            deque[tail++] = line;
+        }
+        while (tail - head >= 3 && !inside(x1s, y1s, x2s, y2s, deque[head],
+                meet(a.n, b.n, x1s, y1s, x2s, y2s, deque[tail - 2], deque[tail - 1], point))) {
+            tail--;
+        }
+        while (tail - head >= 3 && !inside(x1s, y1s, x2s, y2s, deque[tail - 1],
+                meet(a.n, b.n, x1s, y1s, x2s, y2s, deque[head], deque[head + 1], point))) {
+            head++;
+        }
+        int size = tail - head;
+        if (size < 3) {
+            return new Polygon[0];
+        }
+        Point[] vertexes = new Point[size];
+        for (int k = 0; k < size; k++) {
+            int l1 = deque[head + k], l2 = deque[head + (k + 1) % size];
+            meet(a.n, b.n, x1s, y1s, x2s, y2s, l1, l2, point);
+            vertexes[k] = new Point(point[0], point[1]);
+        }
+        Polygon result = new Polygon(vertexes);
+        return result.area() > 0 ? new Polygon[]{result} : new Polygon[0];
+    }
+
+    /**
+     * 按方向角比较两条直线，方向角从正x轴方向起逆时针计算
+     */
+    private static int compareDirections(double[] x1s, double[] y1s, double[] x2s, double[] y2s, int l1, int l2) {
+        double dx1 = x2s[l1] - x1s[l1], dy1 = y2s[l1] - y1s[l1];
+        double dx2 = x2s[l2] - x1s[l2], dy2 = y2s[l2] - y1s[l2];
+        boolean lower1 = dy1 < 0 || dy1 == 0 && dx1 < 0, lower2 = dy2 < 0 || dy2 == 0 && dx2 < 0;
+        if (lower1 != lower2) {
+            return lower1 ? 1 : -1;
+        }
+        return -RobustPredicates.orientation(0, 0, dx1, dy1, dx2, dy2);
+    }
+
+    private static boolean inside(double[] x1s, double[] y1s, double[] x2s, double[] y2s, int line, double[] point) {
+        return RobustPredicates.orientation(x1s[line], y1s[line], x2s[line], y2s[line], point[0], point[1]) > 0;
+    }
+
+    /**
+     * 求两条直线的交点，写入 point；两条直线是同一个多边形的相邻边时直接取公共顶点
+     */
+    private static double[] meet(int na, int nb, double[] x1s, double[] y1s, double[] x2s, double[] y2s,
+                                 int l1, int l2, double[] point) {
+        if (successor(na, nb, l1) == l2) {
+            point[0] = x2s[l1];
+            point[1] = y2s[l1];
+            return point;
+        }
+        if (successor(na, nb, l2) == l1) {
+            point[0] = x2s[l2];
+            point[1] = y2s[l2];
+            return point;
+        }
+        double dx1 = x2s[l1] - x1s[l1], dy1 = y2s[l1] - y1s[l1];
+        // 分子、分母的符号都取精确值，与 compareDirections 的方向角顺序一致；否则近乎平行的两条直线交点可能落到反方向的无穷远处
+        double t = RobustPredicates.orient2d(x1s[l2], y1s[l2], x2s[l2], y2s[l2], x1s[l1], y1s[l1]) /
+                RobustPredicates.orient2d(0, 0, dx1, dy1, x2s[l2] - x1s[l2], y2s[l2] - y1s[l2]);
+        point[0] = x1s[l1] + t * dx1;
+        point[1] = y1s[l1] + t * dy1;
+        return point;
+    }
+
+    private static int successor(int na, int nb, int line) {
+        if (line < na) {
+            return line + 1 == na ? 0 : line + 1;
+        }
+        return line + 1 == na + nb ? na : line + 1;
+    }
+
+    /**
+     * 按逆时针排列的多边形顶点坐标，相邻的重复顶点只保留一个，不产生长度为零的边
+     */
+    private static final class Ring {
+
+        private final double[] xs, ys;
+
+        private final int n;
+
+        private final double minX, minY, maxX, maxY;
+
+        Ring(Polygon polygon) {
+            int vertexCount = polygon.count();
+            xs = new double[vertexCount];
+            ys = new double[vertexCount];
+            boolean counterClockwise = polygon.area() >= 0;
+            double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+            int size = 0;
+            for (int i = 0; i < vertexCount; i++) {
+                Point vertex = polygon.getVertex(counterClockwise ? i : vertexCount - 1 - i);
+                double x = vertex.getX(), y = vertex.getY();
+                if (size > 0 && x == xs[size - 1] && y == ys[size - 1]) {
+                    continue;
+                }
+                xs[size] = x;
+                ys[size] = y;
+                size++;
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+            }
+            while (size > 1 && xs[size - 1] == xs[0] && ys[size - 1] == ys[0]) {
+                size--;
+            }
+            n = size;
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+        }
+
+        /**
+         * 判断是否为凸多边形：没有右转的顶点，且边的横向走向只改变两次（排除绕了多圈的星形）
+         */
+        boolean isConvex() {
+            if (n < 3) {
+                return false;
+            }
+            int first = 0, last = 0, changes = 0;
+            for (int i = 0; i < n; i++) {
+                int prev = i == 0 ? n - 1 : i - 1;
+                int next = i + 1 == n ? 0 : i + 1;
+                if (RobustPredicates.orientation(xs[prev], ys[prev], xs[i], ys[i], xs[next], ys[next]) < 0) {
+                    return false;
+                }
+                int sign = Double.compare(xs[next], xs[i]);
+                if (sign != 0) {
+                    if (first == 0) {
+                        first = sign;
+                    } else if (sign != last) {
+                        changes++;
+                    }
+                    last = sign;
+                }
+            }
+            if (last != first) {
+                changes++;
+            }
+            return changes <= 2;
+        }
+
+        /**
+         * 方向角最小的边
+         */
+        int firstByAngle() {
+            double[] x1s = new double[n], y1s = new double[n], x2s = new double[n], y2s = new double[n];
+            edges(x1s, y1s, x2s, y2s, 0);
+            int first = 0;
+            for (int i = 1; i < n; i++) {
+                if (compareDirections(x1s, y1s, x2s, y2s, i, first) < 0) {
+                    first = i;
+                }
+            }
+            // 共线顶点两侧的边方向相同，须从这一段同向边的第一条开始，序列才是有序的
+            for (int k = 0; k < n; k++) {
+                int prev = first == 0 ? n - 1 : first - 1;
+                if (compareDirections(x1s, y1s, x2s, y2s, prev, first) != 0) {
+                    break;
+                }
+                first = prev;
+            }
+            return first;
+        }
+
+        /**
+         * 把第i条边 顶点i -> 顶点i+1 写入各数组的 offset+i 位置
+         */
+        void edges(double[] x1s, double[] y1s, double[] x2s, double[] y2s, int offset) {
+            for (int i = 0; i < n; i++) {
+                int next = i + 1 == n ? 0 : i + 1;
+                x1s[offset + i] = xs[i];
+                y1s[offset + i] = ys[i];
+                x2s[offset + i] = xs[next];
+                y2s[offset + i] = ys[next];
+            }
+        }
+
+        Polygon toPolygon() {
+            Point[] vertexes = new Point[n];
+            for (int i = 0; i < n; i++) {
+                vertexes[i] = new Point(xs[i], ys[i]);
+            }
+            return new Polygon(vertexes);
+        }
+    }
+
+    /**
+     * 一般情形的叠置：切分、标记、选边、连环
+     */
+    private static final class Overlay {
+
+        private final Polygon polygonA, polygonB;
+
+        /**
+         * A的边数与两个多边形的总边数
+         */
+        private final int na, total;
+
+        /**
+         * 原始边，第e条为 (x1s[e], y1s[e]) -> (x2s[e], y2s[e])，前 na 条来自A，都按逆时针方向
+         */
+        private final double[] x1s, y1s, x2s, y2s;
+
+        /**
+         * 切分点，第s个位于第 splitEdges[s] 条边的内部
+         */
+        private int[] splitEdges = new int[16];
+
+        private double[] splitXs = new double[16], splitYs = new double[16];
+
+        private int splitCount;
+
+        /**
+         * 子边，前 countA 条来自A；各多边形的子边按边界的逆时针顺序首尾相连
+         */
+        private double[] sx1s, sy1s, sx2s, sy2s;
+
+        private int count, countA;
+
+        /**
+         * 子边的起点与终点编号，以及顶点坐标
+         */
+        private int[] from, to;
+
+        private double[] vxs, vys;
+
+        private int vertexCount;
+
+        private byte[] states;
+
+        Overlay(Polygon polygonA, Polygon polygonB, Ring a, Ring b) {
+            this.polygonA = polygonA;
+            this.polygonB = polygonB;
+            na = a.n;
+            total = a.n + b.n;
+            x1s = new double[total];
+            y1s = new double[total];
+            x2s = new double[total];
+            y2s = new double[total];
+            a.edges(x1s, y1s, x2s, y2s, 0);
+            b.edges(x1s, y1s, x2s, y2s, na);
+        }
+
+        Polygon[] compute(BooleanOperationEnum operation) {
+            findSplits();
+            buildSubEdges();
+            assignVertices();
+            matchShared();
+            classify();
+            return assemble(operation);
+        }
+
+        /**
+         * 扫描线求出两个多边形之间的全部接触，记录各边需要切分的位置；同一多边形内的边只在相邻边的公共顶点处接触，忽略
+         */
+        private void findSplits() {
+            SegmentIntersections.findAll(x1s, y1s, x2s, y2s, total, (x, y, i, j) -> {
+                if (j < na || i >= na) {
+                    return;
+                }
+                if (orient(i, x1s[j], y1s[j]) == 0 && orient(i, x2s[j], y2s[j]) == 0) {
+                    // 共线重叠：只报告了重叠的起点，两端都要切分
+                    splitAtEndpoints(i, j);
+                    splitAtEndpoints(j, i);
+                } else {
+                    addSplit(i, x, y);
+                    addSplit(j, x, y);
+                }
+            });
+        }
+
+        /**
+         * 在边e上切分出与之共线的边o的端点
+         */
+        private void splitAtEndpoints(int e, int o) {
+            if (between(e, x1s[o], y1s[o])) {
+                addSplit(e, x1s[o], y1s[o]);
+            }
+            if (between(e, x2s[o], y2s[o])) {
+                addSplit(e, x2s[o], y2s[o]);
+            }
+        }
+
+        /**
+         * 已知点与边e共线，判断点是否在边的包围盒内
+         */
+        private boolean between(int e, double x, double y) {
+            return Math.min(x1s[e], x2s[e]) <= x && x <= Math.max(x1s[e], x2s[e]) &&
+                    Math.min(y1s[e], y2s[e]) <= y && y <= Math.max(y1s[e], y2s[e]);
+        }
+
+        private void addSplit(int e, double x, double y) {
+            if (x == x1s[e] && y == y1s[e] || x == x2s[e] && y == y2s[e]) {
+                return;
+            }
+            if (splitCount == splitEdges.length) {
+                splitEdges = Arrays.copyOf(splitEdges, 2 * splitCount);
+                splitXs = Arrays.copyOf(splitXs, 2 * splitCount);
+                splitYs = Arrays.copyOf(splitYs, 2 * splitCount);
+            }
+            splitEdges[splitCount] = e;
+            splitXs[splitCount] = x;
+            splitYs[splitCount] = y;
+            splitCount++;
+        }
+
+        /**
+         * 把切分点按所在边及沿边的位置排序，依次切出子边
+         */
+        private void buildSubEdges() {
+            int[] order = IndexSortUtils.identity(splitCount);
+            IndexSortUtils.sort(order, 0, splitCount, (s, t) -> {
+                int e = splitEdges[s];
+                int result = Integer.compare(e, splitEdges[t]);
+                if (result != 0) {
+                    return result;
+                }
+                double dx = x2s[e] - x1s[e], dy = y2s[e] - y1s[e];
+                return Double.compare((splitXs[s] - x1s[e]) * dx + (splitYs[s] - y1s[e]) * dy,
+                        (splitXs[t] - x1s[e]) * dx + (splitYs[t] - y1s[e]) * dy);
+            });
+            int capacity = total + splitCount;
+            sx1s = new double[capacity];
+            sy1s = new double[capacity];
+            sx2s = new double[capacity];
+            sy2s = new double[capacity];
+            int k = 0;
+            for (int e = 0; e < total; e++) {
+                if (e == na) {
+                    countA = count;
+                }
+                double px = x1s[e], py = y1s[e];
+                while (k < splitCount && splitEdges[order[k]] == e) {
+                    double qx = splitXs[order[k]], qy = splitYs[order[k]];
+                    k++;
+                    if (qx != px || qy != py) {
+                        addSubEdge(px, py, qx, qy);
+                        px = qx;
+                        py = qy;
+                    }
+                }
+                addSubEdge(px, py, x2s[e], y2s[e]);
+            }
+        }
+
+        private void addSubEdge(double px, double py, double qx, double qy) {
+            sx1s[count] = px;
+            sy1s[count] = py;
+            sx2s[count] = qx;
+            sy2s[count] = qy;
+            count++;
+        }
+
+        /**
+         * 坐标相同的子边端点编为同一个顶点
+         */
+        private void assignVertices() {
+            int endpoints = 2 * count;
+            double[] exs = new double[endpoints], eys = new double[endpoints];
+            for (int k = 0; k < count; k++) {
+                exs[2 * k] = sx1s[k];
+                eys[2 * k] = sy1s[k];
+                exs[2 * k + 1] = sx2s[k];
+                eys[2 * k + 1] = sy2s[k];
+            }
+            int[] order = IndexSortUtils.identity(endpoints);
+            IndexSortUtils.sortByXY(order, 0, endpoints, exs, eys);
+            from = new int[count];
+            to = new int[count];
+            vxs = new double[endpoints];
+            vys = new double[endpoints];
+            int vertex = -1;
+            for (int r = 0; r < endpoints; r++) {
+                int p = order[r];
+                if (r == 0 || exs[p] != exs[order[r - 1]] || eys[p] != eys[order[r - 1]]) {
+                    vertex++;
+                    vxs[vertex] = exs[p];
+                    vys[vertex] = eys[p];
+                }
+                if ((p & 1) == 0) {
+                    from[p >> 1] = vertex;
+                } else {
+                    to[p >> 1] = vertex;
+                }
+            }
+            vertexCount = vertex + 1;
+        }
+
+        /**
+         * 找出两个多边形重合的子边：A的副本标记为同向或反向，B的副本不再使用
+         */
+        private void matchShared() {
+            states = new byte[count];
+            int[] order = IndexSortUtils.identity(count);
+            IndexSortUtils.sort(order, 0, count, (s, t) -> {
+                int result = Integer.compare(Math.min(from[s], to[s]), Math.min(from[t], to[t]));
+                if (result != 0) {
+                    return result;
+                }
+                result = Integer.compare(Math.max(from[s], to[s]), Math.max(from[t], to[t]));
+                return result != 0 ? result : Integer.compare(s, t);
+            });
+            for (int r = 0; r + 1 < count; r++) {
+                int s = order[r], t = order[r + 1];
+                if (s < countA && t >= countA && Math.min(from[s], to[s]) == Math.min(from[t], to[t]) &&
+                        Math.max(from[s], to[s]) == Math.max(from[t], to[t])) {
+                    states[s] = from[s] == from[t] ? SAME : OPPOSITE;
+                    states[t] = DUPLICATE;
+                    r++;
+                }
+            }
+        }
+
+        /**
+         * 标记不重合的子边在另一个多边形内还是外：沿边界前进时状态只可能在两个多边形的公共顶点处改变，
+         * 在公共顶点处由另一个多边形在该点的内角判断，两者的边界没有公共点时才做一次点定位
+         */
+        private void classify() {
+            int[] outA = new int[vertexCount], outB = new int[vertexCount];
+            Arrays.fill(outA, -1);
+            Arrays.fill(outB, -1);
+            for (int k = 0; k < count; k++) {
+                if (from[k] != to[k]) {
+                    (k < countA ? outA : outB)[from[k]] = k;
+                }
+            }
+            classify(0, countA, outB, countA, count, polygonB);
+            classify(countA, count, outA, 0, countA, polygonA);
+        }
+
+        /**
+         * 标记子边 [start, end) 相对另一个多边形的内外，另一个多边形的子边为 [otherStart, otherEnd)，
+         * otherOut[v] 为其从顶点v出发的子边
+         */
+        private void classify(int start, int end, int[] otherOut, int otherStart, int otherEnd, Polygon other) {
+            int first = start;
+            while (first < end && otherOut[from[first]] < 0) {
+                first++;
+            }
+            byte current = OUTSIDE;
+            if (first == end) {
+                // 边界没有公共点，整条边界同在另一个多边形内或外
+                first = start;
+                Point midpoint = new Point((sx1s[first] + sx2s[first]) / 2, (sy1s[first] + sy2s[first]) / 2);
+                if (ComputationalGeometryUtils.positionalRelationship(other, midpoint) == PositionalRelationshipEnum.INSIDE) {
+                    current = INSIDE;
+                }
+            }
+            for (int i = 0, k = first; i < end - start; i++, k = k + 1 == end ? start : k + 1) {
+                if (states[k] >= SAME) {
+                    continue;
+                }
+                int o = otherOut[from[k]];
+                if (o >= 0) {
+                    int p = o;
+                    do {
+                        p = p == otherStart ? otherEnd - 1 : p - 1;
+                    } while (from[p] == to[p]);
+                    current = insideCorner(from[k], to[o], from[p], to[k]) ? INSIDE : OUTSIDE;
+                }
+                states[k] = current;
+            }
+        }
+
+        /**
+         * 点w是否严格位于顶点v处的内角中：内角从射线 v→next 逆时针转到射线 v→prev，
+         * next、prev 为另一个多边形在v处的后继与前驱顶点
+         */
+        private boolean insideCorner(int v, int next, int prev, int w) {
+            double x = vxs[v], y = vys[v];
+            int turn = RobustPredicates.orientation(x, y, vxs[next], vys[next], vxs[prev], vys[prev]);
+            int leftOfNext = RobustPredicates.orientation(x, y, vxs[next], vys[next], vxs[w], vys[w]);
+            int rightOfPrev = -RobustPredicates.orientation(x, y, vxs[prev], vys[prev], vxs[w], vys[w]);
+            if (turn > 0) {
+                return leftOfNext > 0 && rightOfPrev > 0;
+            }
+            if (turn < 0) {
+                return leftOfNext > 0 || rightOfPrev > 0;
+            }
+            // v 在另一个多边形的一条边内部，内角为平角
+            return leftOfNext > 0;
+        }
+
+        /**
+         * 按运算类型选出结果的有向边界并连成环
+         */
+        private Polygon[] assemble(BooleanOperationEnum operation) {
+            int[] edgeFrom = new int[count], edgeTo = new int[count];
+            int edgeCount = 0;
+            for (int k = 0; k < count; k++) {
+                int direction = direction(operation, k < countA, states[k]);
+                if (direction != 0) {
+                    edgeFrom[edgeCount] = direction > 0 ? from[k] : to[k];
+                    edgeTo[edgeCount] = direction > 0 ? to[k] : from[k];
+                    edgeCount++;
+                }
+            }
+
+            // 每个顶点出发的边，CSR 布局
+            int[] outStart = new int[vertexCount + 1];
+            for (int e = 0; e < edgeCount; e++) {
+                outStart[edgeFrom[e] + 1]++;
+            }
+            for (int v = 0; v < vertexCount; v++) {
+                outStart[v + 1] += outStart[v];
+            }
+            int[] outEdges = new int[edgeCount];
+            int[] fill = Arrays.copyOf(outStart, vertexCount);
+            for (int e = 0; e < edgeCount; e++) {
+                outEdges[fill[edgeFrom[e]]++] = e;
+            }
+
+            Polygon[] rings = new Polygon[4];
+            int ringCount = 0;
+            // 每条边所在的路径（以起始边标识，-1 表示未使用）及其在路径中的位置
+            int[] walk = new int[edgeCount], position = new int[edgeCount];
+            Arrays.fill(walk, -1);
+            int[] ring = new int[edgeCount + 1];
+            for (int first = 0; first < edgeCount; first++) {
+                if (walk[first] >= 0) {
+                    continue;
+                }
+                int size = 0, e = first, last = first;
+                while (e >= 0 && walk[e] < 0) {
+                    walk[e] = first;
+                    position[e] = size;
+                    ring[size++] = edgeFrom[e];
+                    last = e;
+                    e = next(edgeFrom[e], edgeTo[e], outStart, outEdges, edgeTo);
+                }
+                int end = size;
+                if (e != first) {
+                    // 舍入使个别子边的分类不一致，边界没有回到起点：不丢弃这一段，把终点连回起点
+                    if (e >= 0 && walk[e] == first) {
+                        // 回到了本段走过的边e：从e开始的部分已经闭合，单独成环；之前的部分止于e的起点
+                        Polygon cycle = toPolygon(ring, position[e], size);
+                        if (cycle != null) {
+                            rings = grow(rings, ringCount);
+                            rings[ringCount++] = cycle;
+                        }
+                        end = position[e] + 1;
+                    } else {
+                        ring[size] = edgeTo[last];
+                        end = size + 1;
+                    }
+                }
+                Polygon polygon = toPolygon(ring, 0, end);
+                if (polygon != null) {
+                    rings = grow(rings, ringCount);
+                    rings[ringCount++] = polygon;
+                }
+            }
+            return Arrays.copyOf(rings, ringCount);
+        }
+
+        private static Polygon[] grow(Polygon[] rings, int ringCount) {
+            return ringCount == rings.length ? Arrays.copyOf(rings, 2 * ringCount) : rings;
+        }
+
+        /**
+         * 子边在结果中的方向
+         *
+         * @return 1=保持方向 -1=反向 0=不属于结果的边界
+         */
+        private static int direction(BooleanOperationEnum operation, boolean fromA, byte state) {
+            return switch (state) {
+                case SAME -> operation == BooleanOperationEnum.UNION ||
+                        operation == BooleanOperationEnum.INTERSECTION ? 1 : 0;
+                case OPPOSITE -> operation == BooleanOperationEnum.DIFFERENCE ? 1 : 0;
+                case INSIDE -> switch (operation) {
+                    case INTERSECTION -> 1;
+                    case DIFFERENCE -> fromA ? 0 : -1;
+                    case XOR -> -1;
+                    case UNION -> 0;
+                };
+                case OUTSIDE -> switch (operation) {
+                    case UNION, XOR -> 1;
+                    case DIFFERENCE -> fromA ? 1 : 0;
+                    case INTERSECTION -> 0;
+                };
+                default -> 0;
+            };
+        }
+
+        /**
+         * 沿边 u->v 到达v后的下一条边：从 v->u 的方向顺时针转过的第一条出边，使多个环在公共顶点处分开
+         */
+        private int next(int u, int v, int[] outStart, int[] outEdges, int[] edgeTo) {
+            int best = -1;
+            for (int k = outStart[v]; k < outStart[v + 1]; k++) {
+                int e = outEdges[k];
+                if (best < 0 || clockwiseBefore(v, u, edgeTo[e], edgeTo[best])) {
+                    best = e;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * 以v为中心从 v->u 的方向顺时针旋转时，是否先遇到 v->p 再遇到 v->q
+         */
+        private boolean clockwiseBefore(int v, int u, int p, int q) {
+            int sectorP = sector(v, u, p), sectorQ = sector(v, u, q);
+            if (sectorP != sectorQ) {
+                return sectorP < sectorQ;
+            }
+            return RobustPredicates.orientation(vxs[v], vys[v], vxs[p], vys[p], vxs[q], vys[q]) < 0;
+        }
+
+        /**
+         * 从 v->u 顺时针转到 v->w 的角度所在区间：0=(0, π) 1=π 2=(π, 2π) 3=0
+         */
+        private int sector(int v, int u, int w) {
+            int orientation = RobustPredicates.orientation(vxs[v], vys[v], vxs[u], vys[u], vxs[w], vys[w]);
+            if (orientation != 0) {
+                return orientation < 0 ? 0 : 2;
+            }
+            double dot = (vxs[u] - vxs[v]) * (vxs[w] - vxs[v]) + (vys[u] - vys[v]) * (vys[w] - vys[v]);
+            return dot < 0 ? 1 : 3;
+        }
+
+        /**
+         * 以 ring[from, to) 为顶点，去掉环上方向不变的共线顶点后创建多边形，退化为面积0时返回 null
+         */
+        private Polygon toPolygon(int[] ring, int from, int to) {
+            int[] kept = new int[to - from];
+            int keptCount = 0;
+            for (int i = from; i < to; i++) {
+                int prev = ring[i == from ? to - 1 : i - 1], current = ring[i], next = ring[i + 1 == to ? from : i + 1];
+                if (RobustPredicates.orientation(vxs[prev], vys[prev], vxs[current], vys[current], vxs[next], vys[next]) != 0 ||
+                        (vxs[current] - vxs[prev]) * (vxs[next] - vxs[current]) +
+                                (vys[current] - vys[prev]) * (vys[next] - vys[current]) < 0) {
+                    kept[keptCount++] = current;
+                }
+            }
+            if (keptCount < 3) {
+                return null;
+            }
+            Point[] vertexes = new Point[keptCount];
+            for (int i = 0; i < keptCount; i++) {
+                vertexes[i] = new Point(vxs[kept[i]], vys[kept[i]]);
+            }
+            Polygon polygon = new Polygon(vertexes);
+            return polygon.area() != 0 ? polygon : null;
+        }
+
+        private int orient(int e, double x, double y) {
+            return RobustPredicates.orientation(x1s[e], y1s[e], x2s[e], y2s[e], x, y);
+        }
+    }
+}
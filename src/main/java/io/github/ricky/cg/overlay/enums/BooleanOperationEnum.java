@@ -0,0 +1,33 @@
+package io.github.ricky.cg.overlay.enums;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className BooleanOperationEnum
+ * @desc 多边形布尔运算类型
+ */
+public enum BooleanOperationEnum {
+
+    /**
+     * 并集 A∪B
+     */
+    UNION,
+
+    /**
+     * 交集 A∩B
+     */
+    INTERSECTION,
+
+    /**
+     * 差集 A-B
+     */
+    DIFFERENCE,
+
+    /**
+     * 对称差 (A-B)∪(B-A)
+     */
+    XOR,
+    ;
+
+}
@@ -0,0 +1,268 @@
+package io.github.ricky.cg.predicate;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className RobustPredicates
+ * @desc 鲁棒几何谓词：方向(orient2d)与共圆(incircle)<br>
+ * 先用普通浮点运算求行列式，若其绝对值超过静态误差界则符号必然正确，直接返回；
+ * 否则（输入接近退化）改用 Shewchuk 的浮点展开式(expansion)精确求值，返回值的符号总是精确的，不依赖任何误差阈值<br>
+ * 坐标差可以精确表示时（例如整数坐标），方向谓词的精确求值只用局部变量；其余情况使用每个线程复用的缓冲区，均不分配对象<br>
+ * 参考：J. R. Shewchuk, Adaptive Precision Floating-Point Arithmetic and Fast Robust Geometric Predicates, 1997
+ */
+public final class RobustPredicates {
+
+    private RobustPredicates() {
+    }
+
+    /**
+     * 舍入单位 2^-53
+     */
+    private static final double EPSILON = 0x1p-53;
+
+    /**
+     * orient2d 快速路径的误差界系数
+     */
+    private static final double CCW_ERRBOUND_A = (3.0 + 16.0 * EPSILON) * EPSILON;
+
+    /**
+     * incircle 快速路径的误差界系数
+     */
+    private static final double ICC_ERRBOUND_A = (10.0 + 96.0 * EPSILON) * EPSILON;
+
+    /**
+     * 精确求值的缓冲区，每个线程一份
+     */
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    /**
+     * 方向谓词，不创建任何对象
+     *
+     * @return 1=a, b, c 按逆时针排列 0=三点共线 -1=按顺时针排列
+     */
+    public static int orientation(double ax, double ay, double bx, double by, double cx, double cy) {
+        return (int) Math.signum(orient2d(ax, ay, bx, by, cx, cy));
+    }
+
+    /**
+     * 计算行列式 | ax-cx  ay-cy ; bx-cx  by-cy |，即 {@code cross(a, b, c)}
+     *
+     * @return 行列式的近似值，符号精确：正数表示 a, b, c 按逆时针排列，0表示共线，负数表示按顺时针排列
+     */
+    public static double orient2d(double ax, double ay, double bx, double by, double cx, double cy) {
+        double detLeft = (ax - cx) * (by - cy);
+        double detRight = (ay - cy) * (bx - cx);
+        double det = detLeft - detRight;
+        // 两项异号时 |det| 不小于误差界，无需单独分支；两项都为0时对应的坐标差精确为0，det = 0 也是精确的
+        double errBound = CCW_ERRBOUND_A * (Math.abs(detLeft) + Math.abs(detRight));
+        if (Math.abs(det) >= errBound) {
+            return det;
+        }
+        return orient2dExact(ax, ay, bx, by, cx, cy);
+    }
+
+    /**
+     * 共圆谓词：计算共圆行列式，不创建任何对象
+     *
+     * @return 行列式的近似值，符号精确：a, b, c 按逆时针排列时，正数表示d在三点的外接圆内，0表示四点共圆，负数表示d在外接圆外；
+     * 顺时针排列时符号相反
+     */
+    public static double incircle(double ax, double ay, double bx, double by,
+                                  double cx, double cy, double dx, double dy) {
+        double adx = ax - dx, ady = ay - dy;
+        double bdx = bx - dx, bdy = by - dy;
+        double cdx = cx - dx, cdy = cy - dy;
+
+        double bdxcdy = bdx * cdy, cdxbdy = cdx * bdy;
+        double aLift = adx * adx + ady * ady;
+        double cdxady = cdx * ady, adxcdy = adx * cdy;
+        double bLift = bdx * bdx + bdy * bdy;
+        double adxbdy = adx * bdy, bdxady = bdx * ady;
+        double cLift = cdx * cdx + cdy * cdy;
+
+        double det = aLift * (bdxcdy - cdxbdy) + bLift * (cdxady - adxcdy) + cLift * (adxbdy - bdxady);
+        double permanent = (Math.abs(bdxcdy) + Math.abs(cdxbdy)) * aLift
+                + (Math.abs(cdxady) + Math.abs(adxcdy)) * bLift
+                + (Math.abs(adxbdy) + Math.abs(bdxady)) * cLift;
+        double errBound = ICC_ERRBOUND_A * permanent;
+        if (det > errBound || -det > errBound) {
+            return det;
+        }
+        return incircleExact(ax, ay, bx, by, cx, cy, dx, dy);
+    }
+
+    // 精确求值
+
+    private static double orient2dExact(double ax, double ay, double bx, double by, double cx, double cy) {
+        double acx = ax - cx, bcx = bx - cx, acy = ay - cy, bcy = by - cy;
+        if (twoDiffTail(ax, cx, acx) == 0 && twoDiffTail(bx, cx, bcx) == 0 &&
+                twoDiffTail(ay, cy, acy) == 0 && twoDiffTail(by, cy, bcy) == 0) {
+            // 坐标差精确：行列式 = acx*bcy - acy*bcx，两个乘积各自拆成两项后做四项减法
+            double l1 = acx * bcy, l0 = Math.fma(acx, bcy, -l1);
+            double r1 = acy * bcx, r0 = Math.fma(acy, bcx, -r1);
+            // Two-Two-Diff：(l1 + l0) - (r1 + r0) = x3 + x2 + x1 + x0，各项互不重叠
+            double i = l0 - r0, x0 = twoDiffTail(l0, r0, i);
+            double j = l1 + i, k = twoSumTail(l1, i, j);
+            double m = k - r1, x1 = twoDiffTail(k, r1, m);
+            double x3 = j + m, x2 = twoSumTail(j, m, x3);
+            return x3 != 0 ? x3 : (x2 != 0 ? x2 : (x1 != 0 ? x1 : x0));
+        }
+        double[] h = SCRATCH.get().orient;
+        int length = orientExpansion(ax, ay, bx, by, cx, cy, h);
+        return h[length - 1];
+    }
+
+    /**
+     * 以展开式精确计算 ax*by - ax*cy - cx*by - ay*bx + ay*cx + cy*bx
+     *
+     * @return 展开式的长度，至少为1
+     */
+    private static int orientExpansion(double ax, double ay, double bx, double by, double cx, double cy, double[] h) {
+        h[0] = 0;
+        int length = 1;
+        length = growProduct(h, length, ax, by);
+        length = growProduct(h, length, -ax, cy);
+        length = growProduct(h, length, -cx, by);
+        length = growProduct(h, length, -ay, bx);
+        length = growProduct(h, length, ay, cx);
+        length = growProduct(h, length, cy, bx);
+        return length;
+    }
+
+    /**
+     * det = aLift*O(b,c,d) - bLift*O(a,c,d) + cLift*O(a,b,d) - dLift*O(a,b,c)，其中 O 为方向行列式，lift = x² + y²
+     */
+    private static double incircleExact(double ax, double ay, double bx, double by,
+                                        double cx, double cy, double dx, double dy) {
+        Scratch scratch = SCRATCH.get();
+        double[] sum = scratch.sum;
+        sum[0] = 0;
+        int length = 1;
+        length = growLiftedOrient(scratch, sum, length, ax, ay, bx, by, cx, cy, dx, dy, false);
+        length = growLiftedOrient(scratch, sum, length, bx, by, ax, ay, cx, cy, dx, dy, true);
+        length = growLiftedOrient(scratch, sum, length, cx, cy, ax, ay, bx, by, dx, dy, false);
+        length = growLiftedOrient(scratch, sum, length, dx, dy, ax, ay, bx, by, cx, cy, true);
+        return sum[length - 1];
+    }
+
+    /**
+     * 把 ±(px² + py²) * O(q, r, s) 累加到展开式 h 上
+     */
+    private static int growLiftedOrient(Scratch scratch, double[] h, int length, double px, double py,
+                                        double qx, double qy, double rx, double ry, double sx, double sy,
+                                        boolean negate) {
+        double[] orient = scratch.orient, lift = scratch.lift, scaled = scratch.scaled;
+        int orientLength = orientExpansion(qx, qy, rx, ry, sx, sy, orient);
+        lift[0] = 0;
+        int liftLength = 1;
+        liftLength = growProduct(lift, liftLength, px, px);
+        liftLength = growProduct(lift, liftLength, py, py);
+        for (int i = 0; i < liftLength; i++) {
+            int scaledLength = scaleExpansion(orient, orientLength, negate ? -lift[i] : lift[i], scaled);
+            for (int j = 0; j < scaledLength; j++) {
+                length = growExpansion(h, length, scaled[j]);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 把乘积 a*b 的两项精确累加到展开式 h 上
+     */
+    private static int growProduct(double[] h, int length, double a, double b) {
+        double product = a * b;
+        length = growExpansion(h, length, Math.fma(a, b, -product));
+        return growExpansion(h, length, product);
+    }
+
+    /**
+     * 把 b 累加到互不重叠的展开式 h（按绝对值递增）上，原地更新并去掉0分量
+     *
+     * @return 新展开式的长度，至少为1
+     */
+    private static int growExpansion(double[] h, int length, double b) {
+        double q = b;
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            double e = h[i];
+            double sum = q + e;
+            double tail = twoSumTail(q, e, sum);
+            q = sum;
+            if (tail != 0) {
+                h[index++] = tail;
+            }
+        }
+        if (q != 0 || index == 0) {
+            h[index++] = q;
+        }
+        return index;
+    }
+
+    /**
+     * 展开式 e 乘以 b，结果写入 h（不能与 e 相同），去掉0分量
+     *
+     * @return 结果的长度，至少为1
+     */
+    private static int scaleExpansion(double[] e, int length, double b, double[] h) {
+        double product = e[0] * b;
+        double q = product;
+        int index = 0;
+        double tail = Math.fma(e[0], b, -product);
+        if (tail != 0) {
+            h[index++] = tail;
+        }
+        for (int i = 1; i < length; i++) {
+            double high = e[i] * b;
+            double low = Math.fma(e[i], b, -high);
+            double sum = q + low;
+            tail = twoSumTail(q, low, sum);
+            if (tail != 0) {
+                h[index++] = tail;
+            }
+            q = high + sum;
+            // Fast-Two-Sum：|high| >= |sum|
+            tail = sum - (q - high);
+            if (tail != 0) {
+                h[index++] = tail;
+            }
+        }
+        if (q != 0 || index == 0) {
+            h[index++] = q;
+        }
+        return index;
+    }
+
+    private static double twoSumTail(double a, double b, double sum) {
+        double bVirtual = sum - a;
+        double aVirtual = sum - bVirtual;
+        return (a - aVirtual) + (b - bVirtual);
+    }
+
+    private static double twoDiffTail(double a, double b, double diff) {
+        double bVirtual = a - diff;
+        double aVirtual = diff + bVirtual;
+        return (a - aVirtual) + (bVirtual - b);
+    }
+
+    /**
+     * 精确求值用的缓冲区，容量按最长的展开式预留
+     */
+    private static final class Scratch {
+
+        /**
+         * 6个乘积，每个两项，另加初始的0
+         */
+        private final double[] orient = new double[13];
+
+        private final double[] lift = new double[5];
+
+        private final double[] scaled = new double[2 * 13];
+
+        /**
+         * 4个提升项，每个最多 5 * 26 个分量
+         */
+        private final double[] sum = new double[4 * 5 * 2 * 13 + 1];
+
+    }
+}
@@ -0,0 +1,343 @@
+package io.github.ricky.cg.proximity;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.sort.IndexSortUtils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className ClosestPair
+ * @desc 最近点对<br>
+ * 分治算法：先按x排序一次，再对有序索引数组的区间递归，回溯时把两半按y归并，
+ * 只在分界线两侧宽为当前最小距离的带状区域内比较点对，时间复杂度 O(n log n)<br>
+ * 直接在原始坐标数组上运算，只分配两个长为n的索引数组；全程比较距离的平方，不开方<br>
+ * 找到重合点（距离为0）时立即结束。距离最小的点对不唯一时返回其中任意一对，顺序版本与并行版本返回的距离相同
+ */
+public final class ClosestPair {
+
+    /**
+     * 默认的并行阈值：区间点数不超过该值时不再拆分
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    /**
+     * 区间点数不超过该值时直接两两比较
+     */
+    private static final int BRUTE_FORCE_THRESHOLD = 8;
+
+    private ClosestPair() {
+    }
+
+    /**
+     * 求点集中距离最近的两个点
+     *
+     * @param points 点集
+     * @return 距离最近的两个点；点数少于2时返回空数组
+     */
+    public static Point[] compute(Point[] points) {
+        int n = points.length;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = points[i].getX();
+            ys[i] = points[i].getY();
+        }
+        int[] pair = compute(xs, ys, n);
+        return pair.length == 0 ? new Point[0] : new Point[]{points[pair[0]], points[pair[1]]};
+    }
+
+    /**
+     * 求前n个点中距离最近的两个点
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     * @param n  点数
+     * @return 两个点的索引，按升序排列；点数少于2时返回空数组
+     */
+    public static int[] compute(double[] xs, double[] ys, int n) {
+        checkArguments(xs, ys, n);
+        if (n < 2) {
+            return new int[0];
+        }
+        int[] indexes = IndexSortUtils.identity(n);
+        IndexSortUtils.sortByXY(indexes, 0, n, xs, ys);
+        Best best = new Best();
+        new Solver(xs, ys, indexes, new int[n]).solve(0, n, best);
+        return best.pair();
+    }
+
+    /**
+     * 使用公共线程池与默认阈值并行求前n个点中距离最近的两个点
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     * @param n  点数
+     * @return 两个点的索引，按升序排列；点数少于2时返回空数组
+     */
+    public static int[] computeParallel(double[] xs, double[] ys, int n) {
+        return computeParallel(xs, ys, n, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * 并行求前n个点中距离最近的两个点<br>
+     * 预排序与分治递归都按索引区间拆分为 ForkJoin 任务，各任务只写自己区间内的索引，互不干扰
+     *
+     * @param xs        横坐标数组
+     * @param ys        纵坐标数组
+     * @param n         点数
+     * @param pool      线程池
+     * @param threshold 并行阈值，区间点数不超过该值时顺序求解
+     * @return 两个点的索引，按升序排列；点数少于2时返回空数组
+     */
+    public static int[] computeParallel(double[] xs, double[] ys, int n, ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The parallelism threshold must be positive.");
+        }
+        if (n <= threshold) {
+            return compute(xs, ys, n);
+        }
+        checkArguments(xs, ys, n);
+        int[] indexes = IndexSortUtils.identity(n);
+        int[] buffer = new int[n];
+        pool.invoke(new SortTask(xs, ys, indexes, buffer, 0, n, threshold));
+        return pool.invoke(new SolveTask(new Solver(xs, ys, indexes, buffer), 0, n, threshold)).pair();
+    }
+
+    private static void checkArguments(double[] xs, double[] ys, int n) {
+        if (n < 0 || n > xs.length || n > ys.length) {
+            throw new IndexOutOfBoundsException("The number of points exceeds the array length.");
+        }
+    }
+
+    /**
+     * 当前找到的最近点对
+     */
+    private static final class Best {
+
+        private double distance2 = Double.POSITIVE_INFINITY;
+
+        private int a = -1, b = -1;
+
+        void offer(double distance2, int a, int b) {
+            if (distance2 < this.distance2) {
+                this.distance2 = distance2;
+                this.a = a;
+                this.b = b;
+            }
+        }
+
+        int[] pair() {
+            return a < b ? new int[]{a, b} : new int[]{b, a};
+        }
+    }
+
+    /**
+     * 分治求解器<br>
+     * 不变式：solve(from, to) 返回后 indexes 的 [from, to) 区间按y排序（已找到重合点时除外）；
+     * buffer 的同一区间用作归并与带状区域的临时空间
+     */
+    private static final class Solver {
+
+        private final double[] xs;
+
+        private final double[] ys;
+
+        /**
+         * 按x排序的点索引
+         */
+        private final int[] indexes;
+
+        private final int[] buffer;
+
+        Solver(double[] xs, double[] ys, int[] indexes, int[] buffer) {
+            this.xs = xs;
+            this.ys = ys;
+            this.indexes = indexes;
+            this.buffer = buffer;
+        }
+
+        void solve(int from, int to, Best best) {
+            if (to - from <= BRUTE_FORCE_THRESHOLD) {
+                bruteForce(from, to, best);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            // 分界线须在递归前取出，递归会把区间重排为按y有序
+            double midX = xs[indexes[mid]];
+            solve(from, mid, best);
+            if (best.distance2 == 0) {
+                return;
+            }
+            solve(mid, to, best);
+            if (best.distance2 == 0) {
+                return;
+            }
+            combine(from, mid, to, midX, best);
+        }
+
+        /**
+         * 两两比较，再用插入排序把区间按y排序
+         */
+        private void bruteForce(int from, int to, Best best) {
+            for (int i = from; i < to; i++) {
+                int p = indexes[i];
+                for (int j = i + 1; j < to; j++) {
+                    best.offer(distance2(p, indexes[j]), p, indexes[j]);
+                }
+            }
+            for (int i = from + 1; i < to; i++) {
+                int key = indexes[i];
+                int j = i - 1;
+                while (j >= from && ys[indexes[j]] > ys[key]) {
+                    indexes[j + 1] = indexes[j];
+                    j--;
+                }
+                indexes[j + 1] = key;
+            }
+        }
+
+        /**
+         * 把两个按y有序的半区间归并，再检查跨越分界线 x = midX 的点对
+         */
+        void combine(int from, int mid, int to, double midX, Best best) {
+            int i = from, j = mid, k = from;
+            while (i < mid && j < to) {
+                buffer[k++] = ys[indexes[j]] < ys[indexes[i]] ? indexes[j++] : indexes[i++];
+            }
+            while (i < mid) {
+                buffer[k++] = indexes[i++];
+            }
+            while (j < to) {
+                buffer[k++] = indexes[j++];
+            }
+            System.arraycopy(buffer, from, indexes, from, to - from);
+
+            // 带状区域按y有序地收集在 buffer[from, stripEnd) 中，新点只需向前比较y差小于当前最小距离的点
+            int stripEnd = from;
+            for (int s = from; s < to; s++) {
+                int p = indexes[s];
+                double dx = xs[p] - midX;
+                if (dx * dx >= best.distance2) {
+                    continue;
+                }
+                for (int t = stripEnd - 1; t >= from; t--) {
+                    int q = buffer[t];
+                    double dy = ys[p] - ys[q];
+                    if (dy * dy >= best.distance2) {
+                        break;
+                    }
+                    best.offer(distance2(p, q), p, q);
+                }
+                buffer[stripEnd++] = p;
+            }
+        }
+
+        private double distance2(int p, int q) {
+            double dx = xs[p] - xs[q], dy = ys[p] - ys[q];
+            return dx * dx + dy * dy;
+        }
+    }
+
+    /**
+     * 分治求解索引区间 [from, to) 的任务，各自维护最近点对，回溯时取较小者
+     */
+    private static final class SolveTask extends RecursiveTask<Best> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Solver solver;
+
+        private final int from;
+
+        private final int to;
+
+        private final int threshold;
+
+        SolveTask(Solver solver, int from, int to, int threshold) {
+            this.solver = solver;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Best compute() {
+            if (to - from <= threshold) {
+                Best best = new Best();
+                solver.solve(from, to, best);
+                return best;
+            }
+            int mid = (from + to) >>> 1;
+            double midX = solver.xs[solver.indexes[mid]];
+            SolveTask left = new SolveTask(solver, from, mid, threshold);
+            SolveTask right = new SolveTask(solver, mid, to, threshold);
+            left.fork();
+            Best best = right.compute();
+            Best leftBest = left.join();
+            best.offer(leftBest.distance2, leftBest.a, leftBest.b);
+            if (best.distance2 > 0) {
+                solver.combine(from, mid, to, midX, best);
+            }
+            return best;
+        }
+    }
+
+    /**
+     * 把索引区间 [from, to) 按坐标字典序排序的任务：两半并行排序后归并
+     */
+    private static final class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] xs;
+
+        private final double[] ys;
+
+        private final int[] indexes;
+
+        private final int[] buffer;
+
+        private final int from;
+
+        private final int to;
+
+        private final int threshold;
+
+        SortTask(double[] xs, double[] ys, int[] indexes, int[] buffer, int from, int to, int threshold) {
+            this.xs = xs;
+            this.ys = ys;
+            this.indexes = indexes;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                IndexSortUtils.sortByXY(indexes, from, to, xs, ys);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask(xs, ys, indexes, buffer, from, mid, threshold),
+                    new SortTask(xs, ys, indexes, buffer, mid, to, threshold));
+            int i = from, j = mid, k = from;
+            while (i < mid && j < to) {
+                buffer[k++] = IndexSortUtils.compareXY(xs, ys, indexes[j], indexes[i]) < 0 ? indexes[j++] : indexes[i++];
+            }
+            while (i < mid) {
+                buffer[k++] = indexes[i++];
+            }
+            while (j < to) {
+                buffer[k++] = indexes[j++];
+            }
+            System.arraycopy(buffer, from, indexes, from, to - from);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package io.github.ricky.cg.shape;
+
+import io.github.ricky.cg.basic.line.Segment;
+import io.github.ricky.cg.basic.point.Point;
+
+import java.util.Objects;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className BoundingBox
+ * @desc 轴对齐包围盒，边界是闭的
+ */
+public final class BoundingBox {
+
+    private final double minX;
+
+    private final double minY;
+
+    private final double maxX;
+
+    private final double maxY;
+
+    public BoundingBox(double minX, double minY, double maxX, double maxY) {
+        if (!(minX <= maxX && minY <= maxY)) {
+            throw new IllegalArgumentException("The minimum corner must not exceed the maximum corner.");
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    /**
+     * 求点集的包围盒
+     *
+     * @param points 点集
+     * @return 包围盒
+     */
+    public static BoundingBox of(Point... points) {
+        if (points.length == 0) {
+            throw new IllegalArgumentException("At least one point is needed to define a bounding box.");
+        }
+        double minX = points[0].getX(), minY = points[0].getY();
+        double maxX = minX, maxY = minY;
+        for (int i = 1; i < points.length; i++) {
+            minX = Math.min(minX, points[i].getX());
+            minY = Math.min(minY, points[i].getY());
+            maxX = Math.max(maxX, points[i].getX());
+            maxY = Math.max(maxY, points[i].getY());
+        }
+        return new BoundingBox(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * 求线段的包围盒
+     *
+     * @param segment 线段
+     * @return 包围盒
+     */
+    public static BoundingBox of(Segment segment) {
+        return of(segment.getBegin(), segment.getEnd());
+    }
+
+    public double getMinX() {
+        return minX;
+    }
+
+    public double getMinY() {
+        return minY;
+    }
+
+    public double getMaxX() {
+        return maxX;
+    }
+
+    public double getMaxY() {
+        return maxY;
+    }
+
+    public double width() {
+        return maxX - minX;
+    }
+
+    public double height() {
+        return maxY - minY;
+    }
+
+    /**
+     * 判断点是否在包围盒内（包括边界）
+     *
+     * @param x 横坐标
+     * @param y 纵坐标
+     * @return true=在包围盒内 false=不在包围盒内
+     */
+    public boolean contains(double x, double y) {
+        return minX <= x && x <= maxX && minY <= y && y <= maxY;
+    }
+
+    public boolean contains(Point p) {
+        return contains(p.getX(), p.getY());
+    }
+
+    /**
+     * 判断两个包围盒是否相交（包括边界接触）
+     *
+     * @param other 另一个包围盒
+     * @return true=相交 false=不相交
+     */
+    public boolean intersects(BoundingBox other) {
+        return minX <= other.maxX && other.minX <= maxX && minY <= other.maxY && other.minY <= maxY;
+    }
+
+    /**
+     * 求点到包围盒的距离平方，点在包围盒内时为0
+     *
+     * @param x 横坐标
+     * @param y 纵坐标
+     * @return 距离平方
+     */
+    public double sqrDistance(double x, double y) {
+        double dx = x < minX ? minX - x : (x > maxX ? x - maxX : 0);
+        double dy = y < minY ? minY - y : (y > maxY ? y - maxY : 0);
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * 向四周扩展指定距离
+     *
+     * @param distance 扩展距离，不能为负数
+     * @return 扩展后的包围盒
+     */
+    public BoundingBox expand(double distance) {
+        if (distance < 0) {
+            throw new IllegalArgumentException("The expansion distance must not be negative.");
+        }
+        return new BoundingBox(minX - distance, minY - distance, maxX + distance, maxY + distance);
+    }
+
+    /**
+     * 求同时包含两个包围盒的最小包围盒
+     *
+     * @param other 另一个包围盒
+     * @return 合并后的包围盒
+     */
+    public BoundingBox union(BoundingBox other) {
+        return new BoundingBox(
+                Math.min(minX, other.minX), Math.min(minY, other.minY),
+                Math.max(maxX, other.maxX), Math.max(maxY, other.maxY)
+        );
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BoundingBox that = (BoundingBox) o;
+        return Double.compare(minX, that.minX) == 0 && Double.compare(minY, that.minY) == 0 &&
+                Double.compare(maxX, that.maxX) == 0 && Double.compare(maxY, that.maxY) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minX, minY, maxX, maxY);
+    }
+
+    @Override
+    public String toString() {
+        return "[(" + minX + "," + minY + ")-(" + maxX + "," + maxY + ")]";
+    }
+}
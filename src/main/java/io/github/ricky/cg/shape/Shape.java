@@ -32,4 +32,15 @@ public interface Shape {
      */
     double perimeter();
 
+    /**
+     * 计算轴对齐包围盒<br>
+     * 默认不支持，库中的多边形、三角形与圆都实现了该方法；放入 {@link io.github.ricky.cg.index.ShapeIndex} 的图形必须实现
+     *
+     * @return 包围盒
+     * @throws UnsupportedOperationException 图形没有实现该方法
+     */
+    default BoundingBox boundingBox() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not provide a bounding box.");
+    }
+
 }
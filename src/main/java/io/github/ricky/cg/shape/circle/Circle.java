@@ -1,6 +1,7 @@
 package io.github.ricky.cg.shape.circle;
 
 import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.shape.BoundingBox;
 import io.github.ricky.cg.shape.Shape;
 
 /**
@@ -26,4 +27,14 @@ public interface Circle extends Shape {
      */
     double getRadius();
 
+    @Override
+    default BoundingBox boundingBox() {
+        Point center = getCenter();
+        double radius = getRadius();
+        return new BoundingBox(
+                center.getX() - radius, center.getY() - radius,
+                center.getX() + radius, center.getY() + radius
+        );
+    }
+
 }
@@ -2,8 +2,8 @@ package io.github.ricky.cg.shape.polygon;
 
 import io.github.ricky.cg.basic.line.Segment;
 import io.github.ricky.cg.basic.point.Point;
-import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
-import io.github.ricky.cg.common.utils.DoubleUtils;
+import io.github.ricky.cg.hull.RotatingCalipers;
+import io.github.ricky.cg.shape.BoundingBox;
 import io.github.ricky.cg.shape.Shape;
 import io.github.ricky.cg.shape.polygon.enums.ShapeTypeEnum;
 
@@ -12,7 +12,9 @@ import io.github.ricky.cg.shape.polygon.enums.ShapeTypeEnum;
  * @version 1.0
  * @date 2024/9/2
  * @className Polygon
- * @desc 多边形
+ * @desc 多边形<br>
+ * 不可变：构造时复制顶点数组，{@link #getVertexes()} 返回副本；
+ * 面积、周长、重心、顶点方向与包围盒在第一次使用时一次遍历全部算出并缓存，可被多个线程安全地共享
  */
 public final class Polygon implements Shape {
 
@@ -21,11 +23,21 @@ public final class Polygon implements Shape {
      */
     private final Point[] vertexes;
 
+    /**
+     * 缓存的派生属性，第一次使用时计算；重复计算的结果相同，因此并发初始化无需加锁
+     */
+    private volatile Properties properties;
+
+    /**
+     * 缓存的直径，NaN 表示尚未计算
+     */
+    private volatile double diameter = Double.NaN;
+
     public Polygon(Point[] vertexes) {
         if (vertexes.length == 0) {
             throw new RuntimeException("The polygon has too few vertices.");
         }
-        this.vertexes = vertexes;
+        this.vertexes = vertexes.clone();
     }
 
     /**
@@ -47,8 +59,14 @@ public final class Polygon implements Shape {
         }
     }
 
+    /**
+     * 获取顶点数组的副本<br>
+     * 频繁遍历时请使用 {@link #count()} 与 {@link #getVertex(int)}，不复制数组
+     *
+     * @return 顶点数组的副本
+     */
     public Point[] getVertexes() {
-        return vertexes;
+        return vertexes.clone();
     }
 
     /**
@@ -66,7 +84,7 @@ public final class Polygon implements Shape {
      * @return true=顶点按逆时针排列 false=顶点不按逆时针排列
      */
     public boolean checkVerticesCounterClockwise() {
-        return area() > 0;
+        return properties().counterClockwise;
     }
 
     @Override
@@ -109,90 +127,109 @@ public final class Polygon implements Shape {
      */
     @Override
     public double area() {
-        int count = count();
-        if (count < 3) {
-            return 0;
-        }
-
-        double s = vertexes[0].getY() * (vertexes[count - 1].getX() - vertexes[1].getX());
-        for (int i = 1; i < count; i++) {
-            s += vertexes[i].getY() * (vertexes[i - 1].getX() - vertexes[(i + 1) % count].getX());
-        }
-        return s / 2;
+        return properties().area;
     }
 
     @Override
     public double perimeter() {
-        double result = 0;
-        for (int i = 0; i < vertexes.length; i++) {
-            Segment l = getEdge(i);
-            result += l.length();
-        }
-        return result;
+        return properties().perimeter;
+    }
+
+    @Override
+    public BoundingBox boundingBox() {
+        return properties().boundingBox;
     }
 
     /**
-     * 求多边形的重心
+     * 求多边形的重心<br>
+     * 面积为0（退化）时返回顶点的平均值
      *
      * @return 重心坐标
      */
     public Point gravityCenter() {
-        Point p = Point.ORIGINAL_POINT;
-        Triangle triangle;
-        double s = 0;
-        for (int i = 0; i < vertexes.length - 1; i++) {
-            triangle = Triangle.newInstance(vertexes[0], vertexes[i], vertexes[i + 1]);
-            Point p0 = triangle.gravityCenter(); // 求当前三角形重心
-            double triangleArea = triangle.area(); // 求当前三角形面积
-
-            if (DoubleUtils.sgn(s) == 0) {
-                p = Point.updatePosition(p0.getX(), p0.getY());
-                s += triangleArea;
-                continue;
-            }
-            double k = triangleArea / s; // /求面积比例
-            p = Point.updatePosition(
-                    (p.getX() + k * p0.getX()) / (1 + k),
-                    (p.getY() + k * p0.getY()) / (1 + k)
-            );
-            s += triangleArea;
-        }
-        return p;
+        return properties().gravityCenter;
     }
 
     /**
-     * 求凸多边形的直径<br>
-     * 所谓凸多边形的直径，即凸多边形任两个顶点的最大距离。<br>
+     * 求多边形的直径<br>
+     * 所谓多边形的直径，即多边形任两个顶点的最大距离，等于其凸包的直径，用旋转卡壳求出；结果在第一次调用后缓存<br>
      *
-     * @return 凸多边形的直径
+     * @return 多边形的直径
      */
     public double diameter() {
         if (vertexes.length < 2) {
             throw new IllegalArgumentException("At least two points are needed to define a diameter.");
         }
+        double result = diameter;
+        if (Double.isNaN(result)) {
+            result = RotatingCalipers.diameter(vertexes);
+            diameter = result;
+        }
+        return result;
+    }
 
-        int minIndex = 0;
-        double minX = vertexes[0].getX(), maxX = minX;
-
-        // 找到最左（或最右）的点
-        for (int i = 1; i < vertexes.length; i++) {
-            if (vertexes[i].getX() < minX) {
-                minX = vertexes[i].getX();
-                minIndex = i;
-            } else if (vertexes[i].getX() > maxX) {
-                maxX = vertexes[i].getX();
-            }
+    private Properties properties() {
+        Properties result = properties;
+        if (result == null) {
+            result = new Properties(vertexes);
+            properties = result;
         }
+        return result;
+    }
 
-        // 假设minIndex是“最左”点，现在我们需要找到与minIndex构成最大距离的点
-        double maxDistance = 0;
-        for (Point vertex : vertexes) {
-            double distance = ComputationalGeometryUtils.distance(vertexes[minIndex], vertex);
-            if (distance > maxDistance) {
-                maxDistance = distance;
+    /**
+     * 派生属性，一次遍历顶点算出
+     */
+    private static final class Properties {
+
+        private final double area;
+
+        private final double perimeter;
+
+        private final Point gravityCenter;
+
+        private final boolean counterClockwise;
+
+        private final BoundingBox boundingBox;
+
+        Properties(Point[] vertexes) {
+            int count = vertexes.length;
+            double x0 = vertexes[0].getX(), y0 = vertexes[0].getY();
+            double minX = x0, minY = y0, maxX = x0, maxY = y0;
+            double sumX = 0, sumY = 0;
+            // 高斯面积公式：s = Σ y[i] * (x[i-1] - x[i+1])
+            double s = 0;
+            double perimeter = 0;
+            // 重心：以第0个顶点为原点做三角剖分，按有向面积加权
+            double weight = 0, cx = 0, cy = 0;
+            for (int i = 0; i < count; i++) {
+                Point prev = vertexes[i == 0 ? count - 1 : i - 1];
+                Point current = vertexes[i];
+                Point next = vertexes[i + 1 == count ? 0 : i + 1];
+                double x = current.getX(), y = current.getY();
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+                sumX += x;
+                sumY += y;
+                s += y * (prev.getX() - next.getX());
+                double dx = next.getX() - x, dy = next.getY() - y;
+                perimeter += Math.sqrt(dx * dx + dy * dy);
+
+                double ux = x - x0, uy = y - y0, vx = next.getX() - x0, vy = next.getY() - y0;
+                double cross = ux * vy - vx * uy;
+                weight += cross;
+                cx += (ux + vx) * cross;
+                cy += (uy + vy) * cross;
             }
+            this.area = count < 3 ? 0 : s / 2;
+            this.perimeter = count < 2 ? 0 : perimeter;
+            this.counterClockwise = area > 0;
+            this.gravityCenter = weight == 0 ?
+                    new Point(sumX / count, sumY / count) :
+                    new Point(x0 + cx / (3 * weight), y0 + cy / (3 * weight));
+            this.boundingBox = new BoundingBox(minX, minY, maxX, maxY);
         }
-
-        return maxDistance;
     }
 }
@@ -3,6 +3,7 @@ package io.github.ricky.cg.shape.polygon;
 import io.github.ricky.cg.basic.line.Segment;
 import io.github.ricky.cg.basic.point.Point;
 import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.shape.BoundingBox;
 import io.github.ricky.cg.shape.Shape;
 import io.github.ricky.cg.shape.polygon.enums.ShapeTypeEnum;
 
@@ -71,6 +72,11 @@ public final class Triangle implements Shape {
         return ab.length() + ac.length() + bc.length();
     }
 
+    @Override
+    public BoundingBox boundingBox() {
+        return BoundingBox.of(a, b, c);
+    }
+
     /**
      * 求三角形重心
      *
@@ -25,4 +25,28 @@ public enum PositionalRelationshipEnum {
     EXTERNAL,
     ;
 
+    private static final PositionalRelationshipEnum[] VALUES = values();
+
+    /**
+     * 获取紧凑编码，用于批量结果的 byte[] 表示
+     *
+     * @return 编码
+     */
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * 由紧凑编码还原位置关系
+     *
+     * @param code 编码
+     * @return 位置关系
+     */
+    public static PositionalRelationshipEnum ofCode(byte code) {
+        if (code < 0 || code >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown positional relationship code: " + code);
+        }
+        return VALUES[code];
+    }
+
 }
@@ -0,0 +1,282 @@
+package io.github.ricky.cg.simplification;
+
+import io.github.ricky.cg.basic.point.PointBuffer;
+import io.github.ricky.cg.common.sort.IndexSortUtils;
+
+import java.util.Arrays;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PolylineSimplification
+ * @desc 折线化简：Douglas–Peucker 与 Visvalingam–Whyatt<br>
+ * 两种算法都在原始类型数组上进行，返回保留顶点的下标（升序，首尾顶点总是保留），
+ * 由调用者决定是否复制坐标；{@link PointBuffer} 版本直接返回化简后的点<br>
+ * Douglas–Peucker 不使用递归也不使用显式栈：保留的顶点用 next 数组串成链表，
+ * 从左到右处理每一段，找到超出容差的最远点就把它插入链表并继续细分当前段，否则前进到下一段；
+ * 距离按点到线段（而非直线）计算，因此轨迹中的折返不会被误删。最坏时间复杂度 O(n²)，通常接近 O(n log n)<br>
+ * Visvalingam–Whyatt 用下标堆维护每个顶点与前后相邻顶点构成的三角形面积，每次删除面积最小的顶点并更新两侧顶点，
+ * 时间复杂度 O(n log n)。顶点被删除时的面积称为有效面积，更新后变小的面积取为已删除的最大面积，
+ * 使有效面积随删除顺序单调不减，于是按任意阈值化简都等价于按有效面积过滤<br>
+ * 需要对无界的点流做化简时使用 {@link StreamingSimplifier}
+ */
+public final class PolylineSimplification {
+
+    private PolylineSimplification() {
+    }
+
+    /**
+     * Douglas–Peucker 化简
+     *
+     * @param xs        横坐标数组
+     * @param ys        纵坐标数组
+     * @param n         顶点数
+     * @param tolerance 容差，被删除的顶点到化简后折线对应线段的距离都不超过该值
+     * @return 保留顶点的下标，按升序排列
+     */
+    public static int[] douglasPeucker(double[] xs, double[] ys, int n, double tolerance) {
+        checkArguments(xs, ys, n, tolerance);
+        if (n < 3) {
+            return IndexSortUtils.identity(n);
+        }
+        double sqrTolerance = tolerance * tolerance;
+        // next[i] 为保留顶点i之后的下一个保留顶点
+        int[] next = new int[n];
+        next[0] = n - 1;
+        int kept = 2;
+        int i = 0;
+        while (i < n - 1) {
+            int j = next[i];
+            int farthest = -1;
+            double farthestDistance = sqrTolerance;
+            for (int k = i + 1; k < j; k++) {
+                double distance = sqrDistanceToSegment(xs[k], ys[k], xs[i], ys[i], xs[j], ys[j]);
+                if (distance > farthestDistance) {
+                    farthest = k;
+                    farthestDistance = distance;
+                }
+            }
+            if (farthest < 0) {
+                i = j;
+            } else {
+                next[farthest] = j;
+                next[i] = farthest;
+                kept++;
+            }
+        }
+        int[] result = new int[kept];
+        for (int r = 0, k = 0; r < kept; r++, k = next[k]) {
+            result[r] = k;
+        }
+        return result;
+    }
+
+    /**
+     * Douglas–Peucker 化简
+     *
+     * @param points    折线的顶点
+     * @param tolerance 容差
+     * @return 化简后的顶点
+     */
+    public static PointBuffer douglasPeucker(PointBuffer points, double tolerance) {
+        return select(points, douglasPeucker(points.getXs(), points.getYs(), points.size(), tolerance));
+    }
+
+    /**
+     * Visvalingam–Whyatt 化简
+     *
+     * @param xs      横坐标数组
+     * @param ys      纵坐标数组
+     * @param n       顶点数
+     * @param minArea 面积阈值，有效面积小于该值的顶点被删除
+     * @return 保留顶点的下标，按升序排列
+     */
+    public static int[] visvalingamWhyatt(double[] xs, double[] ys, int n, double minArea) {
+        if (!(minArea >= 0)) {
+            throw new IllegalArgumentException("The area threshold must be non-negative.");
+        }
+        double[] areas = effectiveAreas(xs, ys, n);
+        int kept = 0;
+        for (int i = 0; i < n; i++) {
+            if (areas[i] >= minArea) {
+                kept++;
+            }
+        }
+        int[] result = new int[kept];
+        for (int i = 0, r = 0; i < n; i++) {
+            if (areas[i] >= minArea) {
+                result[r++] = i;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Visvalingam–Whyatt 化简
+     *
+     * @param points  折线的顶点
+     * @param minArea 面积阈值
+     * @return 化简后的顶点
+     */
+    public static PointBuffer visvalingamWhyatt(PointBuffer points, double minArea) {
+        return select(points, visvalingamWhyatt(points.getXs(), points.getYs(), points.size(), minArea));
+    }
+
+    /**
+     * 求每个顶点的有效面积，首尾顶点为正无穷<br>
+     * 结果可以保存下来，之后按不同的阈值渐进地化简而不必重新计算
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     * @param n  顶点数
+     * @return 有效面积
+     */
+    public static double[] effectiveAreas(double[] xs, double[] ys, int n) {
+        checkArguments(xs, ys, n, 0);
+        double[] areas = new double[n];
+        Arrays.fill(areas, Double.POSITIVE_INFINITY);
+        if (n < 3) {
+            return areas;
+        }
+        int[] prev = new int[n], next = new int[n];
+        for (int i = 0; i < n; i++) {
+            prev[i] = i - 1;
+            next[i] = i + 1;
+        }
+        // 内部顶点的最小堆：keys[h] 为堆中第h个顶点 heap[h] 的面积，与堆并排存放，比较时不必按顶点随机访问；
+        // position[i] 为顶点i在堆中的位置
+        int size = n - 2;
+        int[] heap = new int[size], position = new int[n];
+        double[] keys = new double[size];
+        for (int i = 1; i < n - 1; i++) {
+            heap[i - 1] = i;
+            keys[i - 1] = triangleArea(xs, ys, i - 1, i, i + 1);
+            position[i] = i - 1;
+        }
+        for (int h = size / 2 - 1; h >= 0; h--) {
+            siftDown(heap, keys, position, size, h, heap[h], keys[h]);
+        }
+        while (size > 0) {
+            int i = heap[0];
+            // 堆中的面积都不小于已删除的面积，因此删除顺序上的有效面积单调不减
+            double removed = keys[0];
+            areas[i] = removed;
+            size--;
+            if (size > 0) {
+                siftDown(heap, keys, position, size, 0, heap[size], keys[size]);
+            }
+            int p = prev[i], q = next[i];
+            next[p] = q;
+            prev[q] = p;
+            if (p > 0) {
+                update(heap, keys, position, size, p, Math.max(removed, triangleArea(xs, ys, prev[p], p, q)));
+            }
+            if (q < n - 1) {
+                update(heap, keys, position, size, q, Math.max(removed, triangleArea(xs, ys, p, q, next[q])));
+            }
+        }
+        return areas;
+    }
+
+    /**
+     * 点 (px, py) 到线段 a-b 的距离的平方，线段退化为点时即为到该点的距离的平方
+     */
+    static double sqrDistanceToSegment(double px, double py, double ax, double ay, double bx, double by) {
+        double abx = bx - ax, aby = by - ay, apx = px - ax, apy = py - ay;
+        double sqrLength = abx * abx + aby * aby;
+        double r = sqrLength == 0 ? 0 : (apx * abx + apy * aby) / sqrLength;
+        if (r <= 0) {
+            return apx * apx + apy * apy;
+        }
+        if (r >= 1) {
+            double bpx = px - bx, bpy = py - by;
+            return bpx * bpx + bpy * bpy;
+        }
+        double cross = abx * apy - aby * apx;
+        return cross * cross / sqrLength;
+    }
+
+    private static double triangleArea(double[] xs, double[] ys, int a, int b, int c) {
+        return Math.abs((xs[b] - xs[a]) * (ys[c] - ys[a]) - (xs[c] - xs[a]) * (ys[b] - ys[a])) / 2;
+    }
+
+    private static void update(int[] heap, double[] keys, int[] position, int size, int i, double area) {
+        int h = position[i];
+        double old = keys[h];
+        if (area < old) {
+            siftUp(heap, keys, position, h, i, area);
+        } else if (area > old) {
+            siftDown(heap, keys, position, size, h, i, area);
+        }
+    }
+
+    /**
+     * 把顶点i以面积 key 放到堆的第h个位置并上浮
+     */
+    private static void siftUp(int[] heap, double[] keys, int[] position, int h, int i, double key) {
+        while (h > 0) {
+            int parent = (h - 1) >> 1;
+            if (!less(key, i, keys[parent], heap[parent])) {
+                break;
+            }
+            heap[h] = heap[parent];
+            keys[h] = keys[parent];
+            position[heap[h]] = h;
+            h = parent;
+        }
+        heap[h] = i;
+        keys[h] = key;
+        position[i] = h;
+    }
+
+    /**
+     * 把顶点i以面积 key 放到堆的第h个位置并下沉
+     */
+    private static void siftDown(int[] heap, double[] keys, int[] position, int size, int h, int i, double key) {
+        while (true) {
+            int child = 2 * h + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && less(keys[child + 1], heap[child + 1], keys[child], heap[child])) {
+                child++;
+            }
+            if (!less(keys[child], heap[child], key, i)) {
+                break;
+            }
+            heap[h] = heap[child];
+            keys[h] = keys[child];
+            position[heap[h]] = h;
+            h = child;
+        }
+        heap[h] = i;
+        keys[h] = key;
+        position[i] = h;
+    }
+
+    /**
+     * 面积相同时先删除下标小的顶点，使结果与堆的内部顺序无关
+     */
+    private static boolean less(double a, int i, double b, int j) {
+        return a < b || a == b && i < j;
+    }
+
+    private static PointBuffer select(PointBuffer points, int[] indices) {
+        double[] xs = points.getXs(), ys = points.getYs();
+        PointBuffer result = new PointBuffer(indices.length);
+        for (int i : indices) {
+            result.add(xs[i], ys[i]);
+        }
+        return result;
+    }
+
+    private static void checkArguments(double[] xs, double[] ys, int n, double tolerance) {
+        if (n > xs.length || n > ys.length) {
+            throw new IndexOutOfBoundsException("The number of points exceeds the array length.");
+        }
+        if (!(tolerance >= 0)) {
+            throw new IllegalArgumentException("The tolerance must be non-negative.");
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.ricky.cg.simplification;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className StreamingSimplifier
+ * @desc 点流的折线化简，用于无界的输入（如持续到达的 GPS 轨迹），内存占用有界<br>
+ * 采用滑动窗口：窗口从最近一个输出的顶点（锚点）开始，新点到达时检查窗口中的点到线段 锚点-新点 的距离，
+ * 都不超过容差就把新点加入窗口，否则前一个点成为新的顶点并立即输出，窗口从它重新开始。
+ * 窗口已满时同样强制输出前一个点，因此内存只与窗口大小有关，每个点的处理时间为 O(window)<br>
+ * 与 {@link PolylineSimplification#douglasPeucker(double[], double[], int, double)} 的容差含义相同：
+ * 被删除的点到输出折线对应线段的距离都不超过容差，但输出的顶点通常比 Douglas–Peucker 略多<br>
+ * 第一个点到达时立即输出，最后一个点在 {@link #finish()} 时输出<br>
+ * 注意：不是线程安全的
+ */
+public final class StreamingSimplifier {
+
+    /**
+     * 顶点回调
+     */
+    @FunctionalInterface
+    public interface VertexConsumer {
+
+        /**
+         * 接收一个确定保留的顶点
+         *
+         * @param x     横坐标
+         * @param y     纵坐标
+         * @param index 该点在输入流中的序号，从0开始
+         */
+        void accept(double x, double y, long index);
+
+    }
+
+    private final double sqrTolerance;
+
+    private final VertexConsumer consumer;
+
+    /**
+     * 窗口中锚点之后的点
+     */
+    private final double[] xs, ys;
+
+    private int size;
+
+    private double anchorX, anchorY;
+
+    /**
+     * 已接收的点数
+     */
+    private long count;
+
+    /**
+     * 构造化简器
+     *
+     * @param tolerance 容差
+     * @param window    窗口中最多保存的点数，至少为1
+     * @param consumer  顶点回调
+     */
+    public StreamingSimplifier(double tolerance, int window, VertexConsumer consumer) {
+        if (!(tolerance >= 0)) {
+            throw new IllegalArgumentException("The tolerance must be non-negative.");
+        }
+        if (window < 1) {
+            throw new IllegalArgumentException("The window must hold at least one point.");
+        }
+        this.sqrTolerance = tolerance * tolerance;
+        this.consumer = consumer;
+        this.xs = new double[window];
+        this.ys = new double[window];
+    }
+
+    /**
+     * 接收下一个点
+     *
+     * @param x 横坐标
+     * @param y 纵坐标
+     */
+    public void add(double x, double y) {
+        long index = count++;
+        if (index == 0) {
+            anchorX = x;
+            anchorY = y;
+            consumer.accept(x, y, index);
+            return;
+        }
+        if (size == xs.length || !fits(x, y)) {
+            // 前一个点成为新的锚点
+            double lastX = xs[size - 1], lastY = ys[size - 1];
+            consumer.accept(lastX, lastY, index - 1);
+            anchorX = lastX;
+            anchorY = lastY;
+            size = 0;
+        }
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+    }
+
+    /**
+     * 结束当前折线：输出最后一个点，之后可以开始接收下一条折线
+     */
+    public void finish() {
+        if (size > 0) {
+            consumer.accept(xs[size - 1], ys[size - 1], count - 1);
+        }
+        size = 0;
+        count = 0;
+    }
+
+    /**
+     * 获取当前折线已接收的点数
+     *
+     * @return 点数
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * 窗口中的点到线段 锚点-(x, y) 的距离是否都不超过容差
+     */
+    private boolean fits(double x, double y) {
+        for (int i = 0; i < size; i++) {
+            if (PolylineSimplification.sqrDistanceToSegment(xs[i], ys[i], anchorX, anchorY, x, y) > sqrTolerance) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
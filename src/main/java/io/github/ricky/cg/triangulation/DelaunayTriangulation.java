@@ -0,0 +1,590 @@
+package io.github.ricky.cg.triangulation;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.predicate.RobustPredicates;
+import io.github.ricky.cg.shape.polygon.Triangle;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className DelaunayTriangulation
+ * @desc Delaunay 三角剖分<br>
+ * Bowyer–Watson 增量算法：每插入一个点，删除外接圆包含该点的所有三角形（空腔），再把空腔边界上的每条边与新点连成三角形。
+ * 凸包外侧用以“无穷远点”为第三个顶点的幽灵三角形封闭，因此不需要超级三角形，凸包外的点与凸包内的点按同一流程插入<br>
+ * 插入顺序为 BRIO：把点随机分成规模依次加倍的若干轮，每轮内按 Hilbert 曲线排序，新点从上一个新三角形出发做可见性行走即可定位，
+ * 期望时间复杂度 O(n log n)<br>
+ * 网格保存在扁平的整型数组中：第t个三角形的三个顶点为 triangles[3t], triangles[3t+1], triangles[3t+2]，按逆时针排列；
+ * 半边 e = 3t+k 从 triangles[e] 指向同一三角形的下一个顶点，twin(e) 为相邻三角形中方向相反的半边，凸包上的边为 -1<br>
+ * 方向与共圆判定使用 {@link RobustPredicates}，结果总是精确的 Delaunay 三角剖分（共圆时任取一种）；
+ * 重复点只有一个成为顶点，其余不出现在任何三角形中；所有点共线时没有三角形。{@link Triangle} 对象只在调用 {@link #triangle(int)} 或 {@link #toTriangles()} 时创建
+ */
+public final class DelaunayTriangulation {
+
+    /**
+     * 无穷远点
+     */
+    private static final int GHOST = -1;
+
+    /**
+     * Hilbert 曲线每个坐标轴的阶数
+     */
+    private static final int HILBERT_ORDER = 15;
+
+    /**
+     * BRIO 第一轮的最大点数
+     */
+    private static final int FIRST_ROUND = 64;
+
+    private final double[] xs;
+
+    private final double[] ys;
+
+    private final int[] triangles;
+
+    private final int[] halfedges;
+
+    private final int[] hull;
+
+    public DelaunayTriangulation(Point[] points) {
+        this(xs(points), ys(points), points.length);
+    }
+
+    /**
+     * 对前n个点做 Delaunay 三角剖分
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     * @param n  点数
+     */
+    public DelaunayTriangulation(double[] xs, double[] ys, int n) {
+        if (n < 0 || n > xs.length || n > ys.length) {
+            throw new IndexOutOfBoundsException("The number of points exceeds the array length.");
+        }
+        this.xs = Arrays.copyOf(xs, n);
+        this.ys = Arrays.copyOf(ys, n);
+        Builder builder = new Builder(this.xs, this.ys, n);
+        builder.build();
+        this.triangles = builder.compactTriangles;
+        this.halfedges = builder.compactHalfedges;
+        this.hull = hull(triangles, halfedges, n);
+    }
+
+    /**
+     * 获取点数（包括重复点）
+     *
+     * @return 点数
+     */
+    public int size() {
+        return xs.length;
+    }
+
+    double x(int i) {
+        return xs[i];
+    }
+
+    double y(int i) {
+        return ys[i];
+    }
+
+    /**
+     * 获取三角形个数
+     *
+     * @return 三角形个数
+     */
+    public int triangleCount() {
+        return triangles.length / 3;
+    }
+
+    /**
+     * 获取半边的起点
+     *
+     * @param edge 半边索引，第t个三角形的三条半边为 3t, 3t+1, 3t+2
+     * @return 起点在输入中的索引
+     */
+    public int vertex(int edge) {
+        return triangles[edge];
+    }
+
+    /**
+     * 获取相邻三角形中方向相反的半边
+     *
+     * @param edge 半边索引
+     * @return 反向半边的索引，凸包上的边返回-1
+     */
+    public int twin(int edge) {
+        return halfedges[edge];
+    }
+
+    /**
+     * 获取全部三角形的顶点索引（副本），第t个三角形为第 3t, 3t+1, 3t+2 个元素，按逆时针排列
+     *
+     * @return 顶点索引数组
+     */
+    public int[] getTriangles() {
+        return triangles.clone();
+    }
+
+    /**
+     * 获取全部半边的反向半边（副本），凸包上的边为-1
+     *
+     * @return 反向半边数组
+     */
+    public int[] getHalfedges() {
+        return halfedges.clone();
+    }
+
+    /**
+     * 获取凸包顶点（副本）
+     *
+     * @return 凸包顶点在输入中的索引，按逆时针方向排列；没有三角形时为空数组
+     */
+    public int[] getHull() {
+        return hull.clone();
+    }
+
+    /**
+     * 创建第t个三角形
+     *
+     * @param t 三角形索引
+     * @return 三角形，顶点按逆时针排列
+     */
+    public Triangle triangle(int t) {
+        if (t < 0 || t >= triangleCount()) {
+            throw new IndexOutOfBoundsException("Incorrect triangle indexing.");
+        }
+        return new Triangle(point(triangles[3 * t]), point(triangles[3 * t + 1]), point(triangles[3 * t + 2]));
+    }
+
+    /**
+     * 创建全部三角形
+     *
+     * @return 三角形数组
+     */
+    public Triangle[] toTriangles() {
+        Triangle[] result = new Triangle[triangleCount()];
+        for (int t = 0; t < result.length; t++) {
+            result[t] = triangle(t);
+        }
+        return result;
+    }
+
+    private Point point(int i) {
+        return new Point(xs[i], ys[i]);
+    }
+
+    /**
+     * 凸包上的半边 a->b 没有反向半边，沿这些半边绕一圈得到逆时针的凸包
+     */
+    private static int[] hull(int[] triangles, int[] halfedges, int n) {
+        int[] next = new int[n];
+        int start = -1, count = 0;
+        for (int e = 0; e < halfedges.length; e++) {
+            if (halfedges[e] == -1) {
+                next[triangles[e]] = triangles[e % 3 == 2 ? e - 2 : e + 1];
+                start = triangles[e];
+                count++;
+            }
+        }
+        int[] hull = new int[count];
+        for (int i = 0, v = start; i < count; i++, v = next[v]) {
+            hull[i] = v;
+        }
+        return hull;
+    }
+
+    private static double[] xs(Point[] points) {
+        double[] xs = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            xs[i] = points[i].getX();
+        }
+        return xs;
+    }
+
+    private static double[] ys(Point[] points) {
+        double[] ys = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            ys[i] = points[i].getY();
+        }
+        return ys;
+    }
+
+    /**
+     * 构建过程中的可变状态<br>
+     * 三角形 t 的三个顶点为 tri[3t..3t+2]，含 GHOST 的为幽灵三角形，其有限边 u->v 的左侧是凸包外的半平面；
+     * 全部三角形（含幽灵三角形）构成一个封闭的曲面，每条半边都有反向半边
+     */
+    private static final class Builder {
+
+        private final double[] xs;
+
+        private final double[] ys;
+
+        private final int n;
+
+        private int[] tri;
+
+        private int[] adj;
+
+        /**
+         * 三角形的访问标记：2s 表示第s次插入的空腔内，2s+1 表示已判定不在空腔内
+         */
+        private int[] mark;
+
+        private int count;
+
+        private int stamp;
+
+        /**
+         * 上一次插入后的一个非幽灵三角形，作为定位的起点
+         */
+        private int last;
+
+        private int[] stack = new int[16];
+
+        private int[] cavity = new int[16];
+
+        private int[] boundaryU = new int[16], boundaryV = new int[16], boundaryTwin = new int[16];
+
+        /**
+         * 以某顶点为起点的空腔边界边所生成的新三角形，GHOST 映射到下标 n
+         */
+        private final int[] startOf;
+
+        private int random = 0x9E3779B9;
+
+        /**
+         * 初始三角形的顶点
+         */
+        private int seedA, seedB, seedC;
+
+        private int[] compactTriangles;
+
+        private int[] compactHalfedges;
+
+        Builder(double[] xs, double[] ys, int n) {
+            this.xs = xs;
+            this.ys = ys;
+            this.n = n;
+            int capacity = Math.max(8, 2 * n + 4);
+            this.tri = new int[3 * capacity];
+            this.adj = new int[3 * capacity];
+            this.mark = new int[capacity];
+            this.startOf = new int[n + 1];
+        }
+
+        void build() {
+            int[] order = insertionOrder();
+            if (!initialize(order)) {
+                compactTriangles = new int[0];
+                compactHalfedges = new int[0];
+                return;
+            }
+            for (int i = 0; i < n; i++) {
+                int p = order[i];
+                if (p == seedA || p == seedB || p == seedC) {
+                    continue;
+                }
+                insert(p);
+            }
+            compact();
+        }
+
+        /**
+         * BRIO 插入顺序：随机打乱后，从后往前每轮取剩余点的一半，第一轮至多 FIRST_ROUND 个点；每轮内按 Hilbert 曲线排序
+         */
+        private int[] insertionOrder() {
+            double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                minX = Math.min(minX, xs[i]);
+                minY = Math.min(minY, ys[i]);
+                maxX = Math.max(maxX, xs[i]);
+                maxY = Math.max(maxY, ys[i]);
+            }
+            int side = (1 << HILBERT_ORDER) - 1;
+            double scaleX = maxX > minX ? side / (maxX - minX) : 0;
+            double scaleY = maxY > minY ? side / (maxY - minY) : 0;
+
+            SplittableRandom shuffle = new SplittableRandom(n);
+            long[] keys = new long[n];
+            for (int i = 0; i < n; i++) {
+                // inside-out 洗牌
+                int j = shuffle.nextInt(i + 1);
+                keys[i] = keys[j];
+                int hx = (int) ((xs[i] - minX) * scaleX), hy = (int) ((ys[i] - minY) * scaleY);
+                keys[j] = (long) hilbert(hx, hy) << 32 | i;
+            }
+            for (int end = n; end > 0; ) {
+                int start = end <= FIRST_ROUND ? 0 : end / 2;
+                Arrays.sort(keys, start, end);
+                end = start;
+            }
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = (int) keys[i];
+            }
+            return order;
+        }
+
+        /**
+         * 选出第一个不退化的三角形，并用三个幽灵三角形封闭
+         *
+         * @return false=所有点共线（或重合）
+         */
+        private boolean initialize(int[] order) {
+            if (n < 3) {
+                return false;
+            }
+            int a = order[0], b = -1, c = -1;
+            for (int i = 1; i < n && c < 0; i++) {
+                int p = order[i];
+                if (b < 0) {
+                    if (xs[p] != xs[a] || ys[p] != ys[a]) {
+                        b = p;
+                    }
+                } else if (orient(a, b, p) != 0) {
+                    c = p;
+                }
+            }
+            if (c < 0) {
+                return false;
+            }
+            if (orient(a, b, c) < 0) {
+                int swap = b;
+                b = c;
+                c = swap;
+            }
+            seedA = a;
+            seedB = b;
+            seedC = c;
+            setTriangle(0, a, b, c);
+            setTriangle(1, b, a, GHOST);
+            setTriangle(2, c, b, GHOST);
+            setTriangle(3, a, c, GHOST);
+            link(0, 3);
+            link(1, 6);
+            link(2, 9);
+            link(4, 11);
+            link(7, 5);
+            link(10, 8);
+            count = 4;
+            last = 0;
+            return true;
+        }
+
+        private void insert(int p) {
+            int start = locate(p);
+            if (start < 0) {
+                // 重复点
+                return;
+            }
+            stamp++;
+            int inside = 2 * stamp, outside = 2 * stamp + 1;
+            int cavityCount = 0, boundaryCount = 0, top = 0;
+            mark[start] = inside;
+            cavity = ensure(cavity, 1);
+            cavity[cavityCount++] = start;
+            stack[top++] = start;
+            while (top > 0) {
+                int t = stack[--top];
+                for (int k = 0; k < 3; k++) {
+                    int e = 3 * t + k;
+                    int o = adj[e];
+                    int neighbour = o / 3;
+                    if (mark[neighbour] == inside) {
+                        continue;
+                    }
+                    if (mark[neighbour] != outside && conflicts(neighbour, p)) {
+                        mark[neighbour] = inside;
+                        cavity = ensure(cavity, cavityCount + 1);
+                        cavity[cavityCount++] = neighbour;
+                        stack = ensure(stack, top + 1);
+                        stack[top++] = neighbour;
+                        continue;
+                    }
+                    mark[neighbour] = outside;
+                    if (boundaryCount == boundaryU.length) {
+                        boundaryU = Arrays.copyOf(boundaryU, 2 * boundaryCount);
+                        boundaryV = Arrays.copyOf(boundaryV, 2 * boundaryCount);
+                        boundaryTwin = Arrays.copyOf(boundaryTwin, 2 * boundaryCount);
+                    }
+                    boundaryU[boundaryCount] = tri[e];
+                    boundaryV[boundaryCount] = tri[next(e)];
+                    boundaryTwin[boundaryCount] = o;
+                    boundaryCount++;
+                }
+            }
+
+            // 空腔是拓扑圆盘，边界边数 = 空腔三角形数 + 2：先复用空腔的位置，再追加两个
+            ensureTriangles(count + boundaryCount - cavityCount);
+            int created = -1;
+            for (int i = 0; i < boundaryCount; i++) {
+                int s = i < cavityCount ? cavity[i] : count++;
+                int u = boundaryU[i], v = boundaryV[i];
+                setTriangle(s, u, v, p);
+                mark[s] = 0;
+                link(3 * s, boundaryTwin[i]);
+                startOf[u == GHOST ? n : u] = s;
+                if (u != GHOST && v != GHOST) {
+                    created = s;
+                }
+            }
+            for (int i = 0; i < boundaryCount; i++) {
+                int s = i < cavityCount ? cavity[i] : count - (boundaryCount - i);
+                int v = boundaryV[i];
+                // 本三角形的边 v->p 与以 v 为起点的新三角形的边 p->v 相邻
+                link(3 * s + 1, 3 * startOf[v == GHOST ? n : v] + 2);
+            }
+            last = created;
+        }
+
+        /**
+         * 可见性行走：从上一个新三角形出发，每次穿过使点位于其右侧的边
+         *
+         * @return 包含点p的三角形；p 在凸包外时返回能看见 p 的凸包边所在的幽灵三角形；p 与已有顶点重合时返回-1
+         */
+        private int locate(int p) {
+            int t = last;
+            walk:
+            while (true) {
+                // 随机选择起始边，避免在退化情况下绕圈
+                random ^= random << 13;
+                random ^= random >>> 17;
+                random ^= random << 5;
+                int offset = (random >>> 1) % 3;
+                for (int i = 0; i < 3; i++) {
+                    int e = 3 * t + (offset + i) % 3;
+                    if (orient(tri[e], tri[next(e)], p) < 0) {
+                        int neighbour = adj[e] / 3;
+                        if (isGhost(neighbour)) {
+                            return neighbour;
+                        }
+                        t = neighbour;
+                        continue walk;
+                    }
+                }
+                for (int k = 0; k < 3; k++) {
+                    int v = tri[3 * t + k];
+                    if (xs[v] == xs[p] && ys[v] == ys[p]) {
+                        return -1;
+                    }
+                }
+                return t;
+            }
+        }
+
+        /**
+         * 判断点p是否与三角形冲突：普通三角形为 p 在外接圆内；
+         * 幽灵三角形为 p 严格在凸包边 u->v 外侧，或在该边上（不含端点）
+         */
+        private boolean conflicts(int t, int p) {
+            int a = tri[3 * t], b = tri[3 * t + 1], c = tri[3 * t + 2];
+            if (c == GHOST) {
+                return ghostConflicts(a, b, p);
+            }
+            if (a == GHOST) {
+                return ghostConflicts(b, c, p);
+            }
+            if (b == GHOST) {
+                return ghostConflicts(c, a, p);
+            }
+            return RobustPredicates.incircle(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c], xs[p], ys[p]) > 0;
+        }
+
+        private boolean ghostConflicts(int u, int v, int p) {
+            int orientation = orient(u, v, p);
+            if (orientation != 0) {
+                return orientation > 0;
+            }
+            double dot = (xs[p] - xs[u]) * (xs[v] - xs[p]) + (ys[p] - ys[u]) * (ys[v] - ys[p]);
+            return dot > 0;
+        }
+
+        private boolean isGhost(int t) {
+            return tri[3 * t] == GHOST || tri[3 * t + 1] == GHOST || tri[3 * t + 2] == GHOST;
+        }
+
+        private int orient(int a, int b, int c) {
+            return RobustPredicates.orientation(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c]);
+        }
+
+        private void setTriangle(int t, int a, int b, int c) {
+            tri[3 * t] = a;
+            tri[3 * t + 1] = b;
+            tri[3 * t + 2] = c;
+        }
+
+        private void link(int e, int o) {
+            adj[e] = o;
+            adj[o] = e;
+        }
+
+        private void ensureTriangles(int capacity) {
+            if (capacity > mark.length) {
+                int grown = Math.max(capacity, mark.length + (mark.length >> 1));
+                tri = Arrays.copyOf(tri, 3 * grown);
+                adj = Arrays.copyOf(adj, 3 * grown);
+                mark = Arrays.copyOf(mark, grown);
+            }
+        }
+
+        /**
+         * 去掉幽灵三角形并重新编号，与幽灵三角形相邻的半边即凸包边，其反向半边记为-1
+         */
+        private void compact() {
+            int[] index = new int[count];
+            int real = 0;
+            for (int t = 0; t < count; t++) {
+                index[t] = isGhost(t) ? -1 : real++;
+            }
+            compactTriangles = new int[3 * real];
+            compactHalfedges = new int[3 * real];
+            for (int t = 0; t < count; t++) {
+                int r = index[t];
+                if (r < 0) {
+                    continue;
+                }
+                for (int k = 0; k < 3; k++) {
+                    int o = adj[3 * t + k];
+                    int neighbour = index[o / 3];
+                    compactTriangles[3 * r + k] = tri[3 * t + k];
+                    compactHalfedges[3 * r + k] = neighbour < 0 ? -1 : 3 * neighbour + o % 3;
+                }
+            }
+        }
+
+        private static int next(int e) {
+            return e % 3 == 2 ? e - 2 : e + 1;
+        }
+
+        private static int[] ensure(int[] array, int capacity) {
+            return capacity <= array.length ? array : Arrays.copyOf(array, Math.max(capacity, 2 * array.length));
+        }
+
+        /**
+         * 点 (x, y) 在 2^HILBERT_ORDER 阶 Hilbert 曲线上的序号
+         */
+        private static int hilbert(int x, int y) {
+            int d = 0;
+            for (int s = 1 << (HILBERT_ORDER - 1); s > 0; s >>= 1) {
+                int rx = (x & s) > 0 ? 1 : 0;
+                int ry = (y & s) > 0 ? 1 : 0;
+                d += s * s * ((3 * rx) ^ ry);
+                if (ry == 0) {
+                    if (rx == 1) {
+                        x = s - 1 - x;
+                        y = s - 1 - y;
+                    }
+                    int swap = x;
+                    x = y;
+                    y = swap;
+                }
+            }
+            return d;
+        }
+    }
+}
@@ -0,0 +1,495 @@
+package io.github.ricky.cg.triangulation;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.sort.IndexSortUtils;
+import io.github.ricky.cg.predicate.RobustPredicates;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import io.github.ricky.cg.shape.polygon.Triangle;
+
+import java.util.Arrays;
+import java.util.TreeSet;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PolygonTriangulation
+ * @desc 简单多边形的三角剖分<br>
+ * 先用自上而下的扫描线把多边形划分为 y 单调的子多边形：在分裂顶点与合并顶点处添加对角线，扫描线状态为按从左到右排序的边；
+ * 再用栈在线性时间内剖分每个单调子多边形，总时间复杂度 O(n log n)<br>
+ * “上方”按 (y 较大, y 相同时 x 较小) 的字典序定义，相当于把坐标系旋转一个无穷小的角度，水平边无需特殊处理；
+ * 扫描线状态中边的左右关系与所有转向判断都使用 {@link RobustPredicates}<br>
+ * 结果为 n-2 个三角形，每个三角形是多边形顶点数组中的三个索引，按逆时针排列；有共线的相邻顶点时可能出现面积为0的三角形<br>
+ * 注意：多边形一定要是简单多边形（边不相交、没有重复顶点），顶点可以按顺时针或逆时针排列
+ */
+public final class PolygonTriangulation {
+
+    /**
+     * 扫描线状态中代表查询点的边编号
+     */
+    private static final int QUERY = -1;
+
+    private PolygonTriangulation() {
+    }
+
+    /**
+     * 剖分多边形
+     *
+     * @param polygon 简单多边形
+     * @return 三角形顶点索引，第t个三角形为第 3t, 3t+1, 3t+2 个元素
+     */
+    public static int[] triangulate(Polygon polygon) {
+        int n = polygon.count();
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            Point vertex = polygon.getVertex(i);
+            xs[i] = vertex.getX();
+            ys[i] = vertex.getY();
+        }
+        return triangulate(xs, ys, n);
+    }
+
+    /**
+     * 剖分多边形并创建三角形对象
+     *
+     * @param polygon 简单多边形
+     * @return 三角形，顶点按逆时针排列
+     */
+    public static Triangle[] toTriangles(Polygon polygon) {
+        int[] triangles = triangulate(polygon);
+        Triangle[] result = new Triangle[triangles.length / 3];
+        for (int t = 0; t < result.length; t++) {
+            result[t] = new Triangle(polygon.getVertex(triangles[3 * t]),
+                    polygon.getVertex(triangles[3 * t + 1]), polygon.getVertex(triangles[3 * t + 2]));
+        }
+        return result;
+    }
+
+    /**
+     * 剖分以前n个点为顶点的多边形
+     *
+     * @param xs 横坐标数组
+     * @param ys 纵坐标数组
+     * @param n  顶点数
+     * @return 三角形顶点索引，第t个三角形为第 3t, 3t+1, 3t+2 个元素
+     */
+    public static int[] triangulate(double[] xs, double[] ys, int n) {
+        if (n > xs.length || n > ys.length) {
+            throw new IndexOutOfBoundsException("The number of points exceeds the array length.");
+        }
+        if (n < 3) {
+            return new int[0];
+        }
+        double area = 0;
+        for (int i = 0, j = n - 1; i < n; j = i++) {
+            area += (xs[j] - xs[i]) * (ys[j] + ys[i]);
+        }
+        // 内部按逆时针处理：顺时针输入时第i个内部顶点为第 n-1-i 个输入顶点
+        int[] vertex = new int[n];
+        for (int i = 0; i < n; i++) {
+            vertex[i] = area < 0 ? n - 1 - i : i;
+        }
+        Sweep sweep = new Sweep(xs, ys, vertex, n);
+        sweep.run();
+        return sweep.triangulatePieces();
+    }
+
+    /**
+     * 划分与剖分的状态，顶点编号为逆时针顺序中的位置 0..n-1，边 i 为顶点 i 到 i+1
+     */
+    private static final class Sweep {
+
+        private final double[] xs;
+
+        private final double[] ys;
+
+        /**
+         * 逆时针位置到输入索引的映射
+         */
+        private final int[] vertex;
+
+        private final int n;
+
+        /**
+         * 对角线，第k条为 (diagonals[2k], diagonals[2k+1])
+         */
+        private int[] diagonals = new int[16];
+
+        private int diagonalCount;
+
+        /**
+         * 每条边的辅助顶点
+         */
+        private final int[] helper;
+
+        /**
+         * 扫描线查询的点
+         */
+        private int query;
+
+        /**
+         * 扫描线状态：内部位于其右侧的边，按从左到右排序
+         */
+        private final TreeSet<Integer> status = new TreeSet<>(this::compareEdges);
+
+        private int[] triangles;
+
+        private int triangleCount;
+
+        /**
+         * 剖分单调子多边形时复用的缓冲区：自上而下的顶点、是否在左链、栈
+         */
+        private int[] sorted, stack;
+
+        private boolean[] leftChain, stackLeftChain;
+
+        Sweep(double[] xs, double[] ys, int[] vertex, int n) {
+            this.xs = xs;
+            this.ys = ys;
+            this.vertex = vertex;
+            this.n = n;
+            this.helper = new int[n];
+        }
+
+        void run() {
+            int[] events = IndexSortUtils.identity(n);
+            IndexSortUtils.sort(events, 0, n, (a, b) -> above(a, b) ? -1 : above(b, a) ? 1 : 0);
+            for (int v : events) {
+                int prev = v == 0 ? n - 1 : v - 1;
+                int next = v + 1 == n ? 0 : v + 1;
+                boolean prevBelow = above(v, prev), nextBelow = above(v, next);
+                boolean convex = orient(prev, v, next) > 0;
+                if (prevBelow && nextBelow) {
+                    if (convex) {
+                        startVertex(v);
+                    } else {
+                        splitVertex(v);
+                    }
+                } else if (!prevBelow && !nextBelow) {
+                    if (convex) {
+                        endVertex(v, prev);
+                    } else {
+                        mergeVertex(v, prev);
+                    }
+                } else if (!prevBelow) {
+                    // 逆时针方向自上而下经过 v：v 在左链上，内部在右侧
+                    fixUp(v, prev);
+                    status.remove(prev);
+                    insert(v, v);
+                } else {
+                    int left = leftOf(v);
+                    fixUp(v, left);
+                    helper[left] = v;
+                }
+            }
+        }
+
+        private void startVertex(int v) {
+            insert(v, v);
+        }
+
+        private void endVertex(int v, int prev) {
+            fixUp(v, prev);
+            status.remove(prev);
+        }
+
+        private void splitVertex(int v) {
+            int left = leftOf(v);
+            addDiagonal(v, helper[left]);
+            helper[left] = v;
+            insert(v, v);
+        }
+
+        private void mergeVertex(int v, int prev) {
+            fixUp(v, prev);
+            status.remove(prev);
+            int left = leftOf(v);
+            fixUp(v, left);
+            helper[left] = v;
+        }
+
+        /**
+         * 边 e 的辅助顶点是合并顶点时，连接 v 与它
+         */
+        private void fixUp(int v, int e) {
+            int h = helper[e];
+            if (isMerge(h)) {
+                addDiagonal(v, h);
+            }
+        }
+
+        private boolean isMerge(int v) {
+            int prev = v == 0 ? n - 1 : v - 1;
+            int next = v + 1 == n ? 0 : v + 1;
+            return above(prev, v) && above(next, v) && orient(prev, v, next) < 0;
+        }
+
+        private void insert(int e, int h) {
+            helper[e] = h;
+            status.add(e);
+        }
+
+        /**
+         * 扫描线状态中位于 v 正左方的边
+         */
+        private int leftOf(int v) {
+            query = v;
+            Integer left = status.lower(QUERY);
+            if (left == null) {
+                throw new IllegalArgumentException("The polygon must be simple.");
+            }
+            return left;
+        }
+
+        /**
+         * 比较两条与扫描线相交且互不相交的边的左右关系；QUERY 表示点 query
+         */
+        private int compareEdges(int a, int b) {
+            if (a == b) {
+                return 0;
+            }
+            if (a == QUERY) {
+                return sideOf(b, query);
+            }
+            if (b == QUERY) {
+                return -sideOf(a, query);
+            }
+            int top = upper(b), bottom = lower(b);
+            int s1 = sideOf(a, top), s2 = sideOf(a, bottom);
+            if (s1 + s2 != 0 && s1 * s2 >= 0) {
+                return s1 + s2 > 0 ? -1 : 1;
+            }
+            // b 的两端在 a 所在直线的两侧（或都在直线上），则 a 的两端必在 b 同侧
+            int t1 = sideOf(b, upper(a)), t2 = sideOf(b, lower(a));
+            return t1 + t2 > 0 ? 1 : -1;
+        }
+
+        /**
+         * 点 p 在边 e 的哪一侧
+         *
+         * @return 1=右侧（x 较大的一侧） -1=左侧 0=共线
+         */
+        private int sideOf(int e, int p) {
+            // 自上而下的方向上，左转侧即 x 较大的一侧
+            return orient(upper(e), lower(e), p);
+        }
+
+        private int upper(int e) {
+            int next = e + 1 == n ? 0 : e + 1;
+            return above(e, next) ? e : next;
+        }
+
+        private int lower(int e) {
+            int next = e + 1 == n ? 0 : e + 1;
+            return above(e, next) ? next : e;
+        }
+
+        /**
+         * 判断顶点 a 是否在顶点 b 的上方
+         */
+        private boolean above(int a, int b) {
+            double ay = ys[vertex[a]], by = ys[vertex[b]];
+            return ay > by || ay == by && xs[vertex[a]] < xs[vertex[b]];
+        }
+
+        private int orient(int a, int b, int c) {
+            return RobustPredicates.orientation(xs[vertex[a]], ys[vertex[a]], xs[vertex[b]], ys[vertex[b]],
+                    xs[vertex[c]], ys[vertex[c]]);
+        }
+
+        private void addDiagonal(int a, int b) {
+            if (2 * diagonalCount + 2 > diagonals.length) {
+                diagonals = Arrays.copyOf(diagonals, 2 * diagonals.length);
+            }
+            diagonals[2 * diagonalCount] = a;
+            diagonals[2 * diagonalCount + 1] = b;
+            diagonalCount++;
+        }
+
+        /**
+         * 沿多边形边与对角线找出所有单调子多边形并剖分
+         */
+        int[] triangulatePieces() {
+            // 每个顶点的邻点按逆时针角度排序，存为 CSR
+            int[] degree = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                degree[v] += 2;
+            }
+            for (int k = 0; k < 2 * diagonalCount; k++) {
+                degree[diagonals[k]]++;
+            }
+            int[] start = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                start[v + 1] = start[v] + degree[v];
+            }
+            int[] neighbours = new int[start[n]];
+            int[] fill = Arrays.copyOf(start, n);
+            for (int v = 0; v < n; v++) {
+                neighbours[fill[v]++] = v + 1 == n ? 0 : v + 1;
+                neighbours[fill[v]++] = v == 0 ? n - 1 : v - 1;
+            }
+            for (int k = 0; k < diagonalCount; k++) {
+                int a = diagonals[2 * k], b = diagonals[2 * k + 1];
+                neighbours[fill[a]++] = b;
+                neighbours[fill[b]++] = a;
+            }
+            for (int v = 0; v < n; v++) {
+                int center = v;
+                IndexSortUtils.sort(neighbours, start[v], start[v + 1], (a, b) -> compareAngles(center, a, b));
+            }
+
+            // 半边 v -> neighbours[k] 已被某个子多边形使用；多边形的顺时针边在外部，预先标记
+            boolean[] used = new boolean[start[n]];
+            for (int v = 0; v < n; v++) {
+                used[position(neighbours, start, v, v == 0 ? n - 1 : v - 1)] = true;
+            }
+            triangles = new int[3 * (n - 2)];
+            int[] piece = new int[n];
+            sorted = new int[n];
+            stack = new int[n];
+            leftChain = new boolean[n];
+            stackLeftChain = new boolean[n];
+            for (int v = 0; v < n; v++) {
+                for (int k = start[v]; k < start[v + 1]; k++) {
+                    if (used[k]) {
+                        continue;
+                    }
+                    // 沿内部在左侧的方向绕行：到达 w 后取从 w->u 顺时针方向的第一个邻点
+                    int size = 0, u = v, h = k;
+                    while (!used[h]) {
+                        used[h] = true;
+                        piece[size++] = u;
+                        int w = neighbours[h];
+                        int back = position(neighbours, start, w, u);
+                        h = back == start[w] ? start[w + 1] - 1 : back - 1;
+                        u = w;
+                    }
+                    triangulateMonotone(piece, size);
+                }
+            }
+            int[] result = new int[3 * triangleCount];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = vertex[triangles[i]];
+            }
+            return result;
+        }
+
+        /**
+         * 以 center 为中心按逆时针角度比较两个邻点，从正x轴方向开始
+         */
+        private int compareAngles(int center, int a, int b) {
+            double cx = xs[vertex[center]], cy = ys[vertex[center]];
+            double ax = xs[vertex[a]] - cx, ay = ys[vertex[a]] - cy;
+            double bx = xs[vertex[b]] - cx, by = ys[vertex[b]] - cy;
+            boolean lowerA = ay < 0 || ay == 0 && ax < 0, lowerB = by < 0 || by == 0 && bx < 0;
+            if (lowerA != lowerB) {
+                return lowerA ? 1 : -1;
+            }
+            return -orient(center, a, b);
+        }
+
+        private static int position(int[] neighbours, int[] start, int v, int w) {
+            for (int k = start[v]; k < start[v + 1]; k++) {
+                if (neighbours[k] == w) {
+                    return k;
+                }
+            }
+            throw new IllegalArgumentException("The polygon must be simple.");
+        }
+
+        /**
+         * 用栈剖分逆时针排列的 y 单调多边形
+         */
+        private void triangulateMonotone(int[] piece, int m) {
+            if (m < 3) {
+                return;
+            }
+            int top = 0, bottom = 0;
+            for (int i = 1; i < m; i++) {
+                if (above(piece[i], piece[top])) {
+                    top = i;
+                }
+                if (above(piece[bottom], piece[i])) {
+                    bottom = i;
+                }
+            }
+            // 从最高点逆时针走到最低点（含）为左链，其余为右链；两条链各自自上而下有序，归并即得扫描顺序
+            int[] sorted = this.sorted;
+            boolean[] left = leftChain;
+            int i = top + 1 == m ? 0 : top + 1, j = top == 0 ? m - 1 : top - 1;
+            boolean leftDone = false, rightDone = j == bottom;
+            sorted[0] = piece[top];
+            left[0] = true;
+            for (int k = 1; k < m; k++) {
+                if (rightDone || !leftDone && above(piece[i], piece[j])) {
+                    sorted[k] = piece[i];
+                    left[k] = true;
+                    leftDone = i == bottom;
+                    i = i + 1 == m ? 0 : i + 1;
+                } else {
+                    sorted[k] = piece[j];
+                    left[k] = false;
+                    j = j == 0 ? m - 1 : j - 1;
+                    rightDone = j == bottom;
+                }
+            }
+
+            int[] stack = this.stack;
+            boolean[] stackLeft = stackLeftChain;
+            int size = 0;
+            stack[size] = sorted[0];
+            stackLeft[size++] = left[0];
+            stack[size] = sorted[1];
+            stackLeft[size++] = left[1];
+            for (int s = 2; s < m - 1; s++) {
+                int u = sorted[s];
+                if (left[s] != stackLeft[size - 1]) {
+                    int previous = stack[size - 1];
+                    for (int t = size - 1; t > 0; t--) {
+                        addTriangle(u, stack[t], stack[t - 1]);
+                    }
+                    size = 0;
+                    stack[size] = previous;
+                    stackLeft[size++] = !left[s];
+                    stack[size] = u;
+                    stackLeft[size++] = left[s];
+                } else {
+                    int last = stack[--size];
+                    boolean lastLeft = stackLeft[size];
+                    while (size > 0) {
+                        int candidate = stack[size - 1];
+                        int side = orient(candidate, u, last);
+                        if (left[s] ? side >= 0 : side <= 0) {
+                            break;
+                        }
+                        addTriangle(u, last, candidate);
+                        last = candidate;
+                        lastLeft = stackLeft[size - 1];
+                        size--;
+                    }
+                    stack[size] = last;
+                    stackLeft[size++] = lastLeft;
+                    stack[size] = u;
+                    stackLeft[size++] = left[s];
+                }
+            }
+            int u = sorted[m - 1];
+            for (int t = size - 1; t > 0; t--) {
+                addTriangle(u, stack[t], stack[t - 1]);
+            }
+        }
+
+        private void addTriangle(int a, int b, int c) {
+            if (orient(a, b, c) < 0) {
+                int swap = b;
+                b = c;
+                c = swap;
+            }
+            triangles[3 * triangleCount] = a;
+            triangles[3 * triangleCount + 1] = b;
+            triangles[3 * triangleCount + 2] = c;
+            triangleCount++;
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package io.github.ricky.cg.triangulation;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.sort.IndexSortUtils;
+import io.github.ricky.cg.shape.polygon.Polygon;
+
+import java.util.Arrays;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className VoronoiDiagram
+ * @desc Voronoi 图，由 Delaunay 三角剖分对偶得到，并裁剪到凸多边形边界内<br>
+ * 每个三角形的外心是一个 Voronoi 顶点，保存在共享的坐标数组中；每个点（站点）周围的三角形按 CSR 形式记录，
+ * 构建时间与空间均为 O(n)。单元格只在调用 {@link #cell(int)} 时创建为 {@link Polygon}，不缓存，整个图不会被复制成对象<br>
+ * 内部站点的单元格是其周围三角形外心构成的凸多边形，再用边界裁剪；凸包上的站点单元格无界，
+ * 改为用该站点与各 Delaunay 邻点的中垂线半平面依次裁剪边界多边形<br>
+ * 注意：边界多边形一定要是凸多边形，顶点可以按顺时针或逆时针排列
+ */
+public final class VoronoiDiagram {
+
+    private final DelaunayTriangulation delaunay;
+
+    /**
+     * 第t个三角形的外心
+     */
+    private final double[] circumX, circumY;
+
+    /**
+     * 第i个站点周围的三角形为 cellTriangles[cellStart[i], cellStart[i+1])，按逆时针排列
+     */
+    private final int[] cellStart, cellTriangles;
+
+    /**
+     * 凸包上的站点
+     */
+    private final boolean[] unbounded;
+
+    /**
+     * 逆时针排列的边界顶点
+     */
+    private final double[] boundsX, boundsY;
+
+    /**
+     * 所有点共线时按坐标字典序排列的站点及每个站点的名次，用于求相邻站点；否则为 null
+     */
+    private final int[] collinearOrder, collinearRank;
+
+    public VoronoiDiagram(DelaunayTriangulation delaunay, Polygon bounds) {
+        this.delaunay = delaunay;
+        int count = bounds.count();
+        if (count < 3) {
+            throw new IllegalArgumentException("The bounds must have at least three vertices.");
+        }
+        boolean reversed = bounds.area() < 0;
+        this.boundsX = new double[count];
+        this.boundsY = new double[count];
+        for (int k = 0; k < count; k++) {
+            Point vertex = bounds.getVertex(reversed ? count - 1 - k : k);
+            boundsX[k] = vertex.getX();
+            boundsY[k] = vertex.getY();
+        }
+
+        int n = delaunay.size();
+        int triangles = delaunay.triangleCount();
+        this.circumX = new double[triangles];
+        this.circumY = new double[triangles];
+        for (int t = 0; t < triangles; t++) {
+            int a = delaunay.vertex(3 * t), b = delaunay.vertex(3 * t + 1), c = delaunay.vertex(3 * t + 2);
+            double ax = delaunay.x(a), ay = delaunay.y(a);
+            double bx = delaunay.x(b) - ax, by = delaunay.y(b) - ay;
+            double cx = delaunay.x(c) - ax, cy = delaunay.y(c) - ay;
+            double d = 2 * (bx * cy - by * cx);
+            double b2 = bx * bx + by * by, c2 = cx * cx + cy * cy;
+            circumX[t] = ax + (cy * b2 - by * c2) / d;
+            circumY[t] = ay + (bx * c2 - cx * b2) / d;
+        }
+
+        // 每个站点取一条指向它的半边作为起点，优先取凸包边，使绕行从凸包出发
+        int[] inedge = new int[n];
+        Arrays.fill(inedge, -1);
+        for (int e = 0; e < 3 * triangles; e++) {
+            int v = delaunay.vertex(next(e));
+            if (inedge[v] < 0 || delaunay.twin(e) < 0) {
+                inedge[v] = e;
+            }
+        }
+        this.unbounded = new boolean[n];
+        this.cellStart = new int[n + 1];
+        this.cellTriangles = new int[3 * triangles];
+        int size = 0;
+        for (int v = 0; v < n; v++) {
+            cellStart[v] = size;
+            int start = inedge[v];
+            if (start < 0) {
+                continue;
+            }
+            unbounded[v] = delaunay.twin(start) < 0;
+            // e 指向 v，next(e) 从 v 出发，其反向半边指向 v 且属于顺时针方向的下一个三角形
+            int from = size;
+            int e = start;
+            do {
+                cellTriangles[size++] = e / 3;
+                e = delaunay.twin(next(e));
+            } while (e >= 0 && e != start);
+            reverse(cellTriangles, from, size);
+        }
+        cellStart[n] = size;
+        if (triangles == 0) {
+            this.collinearOrder = collinearOrder(delaunay, n);
+            this.collinearRank = new int[n];
+            for (int rank = 0; rank < n; rank++) {
+                collinearRank[collinearOrder[rank]] = rank;
+            }
+        } else {
+            this.collinearOrder = null;
+            this.collinearRank = null;
+        }
+    }
+
+    /**
+     * 获取站点数
+     *
+     * @return 站点数
+     */
+    public int size() {
+        return delaunay.size();
+    }
+
+    /**
+     * 获取第t个三角形的外心，即 Voronoi 顶点
+     *
+     * @param t 三角形索引
+     * @return 外心
+     */
+    public Point vertex(int t) {
+        return new Point(circumX[t], circumY[t]);
+    }
+
+    /**
+     * 判断站点的单元格（裁剪前）是否无界
+     *
+     * @param site 站点索引
+     * @return true=站点在凸包上
+     */
+    public boolean isUnbounded(int site) {
+        return unbounded[site];
+    }
+
+    /**
+     * 创建站点的单元格
+     *
+     * @param site 站点索引
+     * @return 裁剪到边界内的单元格，顶点按逆时针排列；站点是重复点（不是三角剖分的顶点）或单元格与边界不相交时返回 null
+     */
+    public Polygon cell(int site) {
+        if (site < 0 || site >= size()) {
+            throw new IndexOutOfBoundsException("Incorrect site indexing.");
+        }
+        Clipper clipper;
+        if (collinearOrder != null) {
+            clipper = collinearCell(site);
+        } else if (cellStart[site] == cellStart[site + 1]) {
+            return null;
+        } else if (unbounded[site]) {
+            clipper = unboundedCell(site);
+        } else {
+            clipper = boundedCell(site);
+        }
+        return clipper == null ? null : clipper.toPolygon();
+    }
+
+    /**
+     * 内部站点：外心构成的多边形依次用边界的每条边裁剪
+     */
+    private Clipper boundedCell(int site) {
+        int from = cellStart[site], to = cellStart[site + 1];
+        Clipper clipper = new Clipper(to - from + boundsX.length);
+        for (int i = from; i < to; i++) {
+            clipper.add(circumX[cellTriangles[i]], circumY[cellTriangles[i]]);
+        }
+        int count = boundsX.length;
+        for (int k = 0; k < count && clipper.size > 0; k++) {
+            int next = k + 1 == count ? 0 : k + 1;
+            // 边界逆时针，外法向为边向量顺时针旋转90度
+            clipper.clip(boundsY[next] - boundsY[k], boundsX[k] - boundsX[next], boundsX[k], boundsY[k]);
+        }
+        return clipper;
+    }
+
+    /**
+     * 凸包上的站点：边界多边形依次用与各邻点的中垂线裁剪
+     */
+    private Clipper unboundedCell(int site) {
+        int from = cellStart[site], to = cellStart[site + 1];
+        Clipper clipper = bounds(2 * (to - from) + 2);
+        for (int i = from; i < to && clipper.size > 0; i++) {
+            int t = cellTriangles[i];
+            for (int k = 0; k < 3; k++) {
+                int neighbour = delaunay.vertex(3 * t + k);
+                if (neighbour != site) {
+                    clipBisector(clipper, site, neighbour);
+                }
+            }
+        }
+        return clipper;
+    }
+
+    /**
+     * 所有点共线：相邻站点为按坐标字典序排列后前后两个不重合的站点，重合的站点只有第一个有单元格
+     */
+    private Clipper collinearCell(int site) {
+        int rank = collinearRank[site];
+        if (rank > 0 && sameLocation(collinearOrder[rank - 1], site)) {
+            return null;
+        }
+        Clipper clipper = bounds(2);
+        if (rank > 0) {
+            clipBisector(clipper, site, collinearOrder[rank - 1]);
+        }
+        int next = rank + 1;
+        while (next < collinearOrder.length && sameLocation(collinearOrder[next], site)) {
+            next++;
+        }
+        if (next < collinearOrder.length) {
+            clipBisector(clipper, site, collinearOrder[next]);
+        }
+        return clipper;
+    }
+
+    private boolean sameLocation(int a, int b) {
+        return delaunay.x(a) == delaunay.x(b) && delaunay.y(a) == delaunay.y(b);
+    }
+
+    /**
+     * 保留离 site 不比离 other 远的一侧：(q - p)·(x - m) <= 0，m 为中点
+     */
+    private void clipBisector(Clipper clipper, int site, int other) {
+        double px = delaunay.x(site), py = delaunay.y(site);
+        double qx = delaunay.x(other), qy = delaunay.y(other);
+        clipper.clip(qx - px, qy - py, (px + qx) / 2, (py + qy) / 2);
+    }
+
+    private Clipper bounds(int extra) {
+        Clipper clipper = new Clipper(boundsX.length + extra);
+        for (int k = 0; k < boundsX.length; k++) {
+            clipper.add(boundsX[k], boundsY[k]);
+        }
+        return clipper;
+    }
+
+    private static int[] collinearOrder(DelaunayTriangulation delaunay, int n) {
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = delaunay.x(i);
+            ys[i] = delaunay.y(i);
+        }
+        int[] order = IndexSortUtils.identity(n);
+        IndexSortUtils.sortByXY(order, 0, n, xs, ys);
+        return order;
+    }
+
+    private static int next(int e) {
+        return e % 3 == 2 ? e - 2 : e + 1;
+    }
+
+    private static void reverse(int[] array, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            int swap = array[i];
+            array[i] = array[j];
+            array[j] = swap;
+        }
+    }
+
+    /**
+     * 凸多边形的 Sutherland–Hodgman 半平面裁剪，两个缓冲区交替使用
+     */
+    private static final class Clipper {
+
+        private double[] xs, ys, nextXs, nextYs;
+
+        private int size;
+
+        Clipper(int capacity) {
+            xs = new double[capacity];
+            ys = new double[capacity];
+            nextXs = new double[capacity];
+            nextYs = new double[capacity];
+        }
+
+        void add(double x, double y) {
+            if (size > 0 && xs[size - 1] == x && ys[size - 1] == y) {
+                return;
+            }
+            ensure(size + 1);
+            xs[size] = x;
+            ys[size] = y;
+            size++;
+        }
+
+        /**
+         * 保留满足 nx * (x - px) + ny * (y - py) <= 0 的部分
+         */
+        void clip(double nx, double ny, double px, double py) {
+            ensure(size + 1);
+            int m = 0;
+            for (int i = 0; i < size; i++) {
+                int j = i + 1 == size ? 0 : i + 1;
+                double si = nx * (xs[i] - px) + ny * (ys[i] - py);
+                double sj = nx * (xs[j] - px) + ny * (ys[j] - py);
+                if (si <= 0) {
+                    nextXs[m] = xs[i];
+                    nextYs[m] = ys[i];
+                    m++;
+                }
+                if (si < 0 && sj > 0 || si > 0 && sj < 0) {
+                    double t = si / (si - sj);
+                    nextXs[m] = xs[i] + t * (xs[j] - xs[i]);
+                    nextYs[m] = ys[i] + t * (ys[j] - ys[i]);
+                    m++;
+                }
+            }
+            double[] swap = xs;
+            xs = nextXs;
+            nextXs = swap;
+            swap = ys;
+            ys = nextYs;
+            nextYs = swap;
+            size = m;
+        }
+
+        /**
+         * 凸多边形每次裁剪至多增加一个顶点
+         */
+        private void ensure(int capacity) {
+            if (capacity > xs.length) {
+                int grown = Math.max(capacity, 2 * xs.length);
+                xs = Arrays.copyOf(xs, grown);
+                ys = Arrays.copyOf(ys, grown);
+                nextXs = Arrays.copyOf(nextXs, grown);
+                nextYs = Arrays.copyOf(nextYs, grown);
+            }
+        }
+
+        Polygon toPolygon() {
+            // 去掉相邻的重复顶点（共圆时外心重合）
+            int m = 0;
+            Point[] vertexes = new Point[size];
+            for (int i = 0; i < size; i++) {
+                if (m > 0 && vertexes[m - 1].getX() == xs[i] && vertexes[m - 1].getY() == ys[i]) {
+                    continue;
+                }
+                vertexes[m++] = new Point(xs[i], ys[i]);
+            }
+            while (m > 1 && vertexes[m - 1].getX() == vertexes[0].getX() && vertexes[m - 1].getY() == vertexes[0].getY()) {
+                m--;
+            }
+            if (m == 0) {
+                return null;
+            }
+            return new Polygon(Arrays.copyOf(vertexes, m));
+        }
+    }
+}
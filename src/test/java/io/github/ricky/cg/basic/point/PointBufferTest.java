@@ -0,0 +1,65 @@
+package io.github.ricky.cg.basic.point;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PointBufferTest
+ * @desc
+ */
+class PointBufferTest {
+
+    @Test
+    public void add() {
+        // Given
+        PointBuffer buffer = new PointBuffer(1);
+
+        // When
+        buffer.add(1, 2);
+        buffer.add(new Point(3, 4));
+        buffer.add(5, 6);
+
+        // Then
+        System.out.println(buffer);
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.capacity()).isGreaterThanOrEqualTo(3);
+        assertThat(buffer.get(1)).isEqualTo(new Point(3, 4));
+        assertThat(buffer.getX(2)).isEqualTo(5);
+        assertThat(buffer.getY(0)).isEqualTo(2);
+    }
+
+    @Test
+    public void of() {
+        // Given
+        Point[] points = {Point.ORIGINAL_POINT, new Point(1, 0), new Point(1, 1)};
+
+        // When
+        PointBuffer buffer = PointBuffer.of(points);
+
+        // Then
+        assertThat(buffer.toPoints()).isEqualTo(points);
+        assertThat(buffer.copy().toPoints()).isEqualTo(points);
+    }
+
+    @Test
+    public void resize() {
+        // Given
+        PointBuffer buffer = new PointBuffer(new double[]{1, 2}, new double[]{3, 4});
+
+        // When
+        buffer.resize(10);
+        buffer.set(9, 7, 8);
+
+        // Then
+        assertThat(buffer.size()).isEqualTo(10);
+        assertThat(buffer.get(0)).isEqualTo(new Point(1, 3));
+        assertThat(buffer.get(9)).isEqualTo(new Point(7, 8));
+        assertThatThrownBy(() -> buffer.get(10)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+}
@@ -0,0 +1,62 @@
+package io.github.ricky.cg.common.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className IndexSortUtilsTest
+ * @desc
+ */
+class IndexSortUtilsTest {
+
+    @Test
+    public void sortByXY() {
+        // Given
+        Random random = new Random(1);
+        int n = 1000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextInt(20);
+            ys[i] = random.nextInt(20);
+        }
+        int[] indexes = IndexSortUtils.identity(n);
+
+        // When
+        IndexSortUtils.sortByXY(indexes, 0, n, xs, ys);
+
+        // Then
+        for (int i = 1; i < n; i++) {
+            assertThat(IndexSortUtils.compareXY(xs, ys, indexes[i - 1], indexes[i])).isNegative();
+        }
+    }
+
+    @Test
+    public void sort() {
+        // Given
+        Random random = new Random(2);
+        int n = 777;
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt(10);
+        }
+        int[] indexes = IndexSortUtils.identity(n);
+
+        // When
+        IndexSortUtils.sort(indexes, 0, n, (i, j) -> Integer.compare(keys[i], keys[j]));
+
+        // Then
+        for (int i = 1; i < n; i++) {
+            int a = indexes[i - 1], b = indexes[i];
+            // 稳定排序：键相同时保持原有顺序
+            assertThat(keys[a] < keys[b] || keys[a] == keys[b] && a < b).isTrue();
+        }
+    }
+
+}
@@ -1,18 +1,22 @@
 package io.github.ricky.cg.common.utils;
 
+import com.sun.management.ThreadMXBean;
 import io.github.ricky.cg.basic.line.GeneralEquationLine;
 import io.github.ricky.cg.basic.line.Line;
 import io.github.ricky.cg.basic.line.Segment;
 import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.basic.point.PointBuffer;
 import io.github.ricky.cg.common.constants.MathConstants;
 import io.github.ricky.cg.shape.polygon.Polygon;
 import io.github.ricky.cg.shape.polygon.enums.PositionalRelationshipEnum;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * @author Ricky
@@ -88,6 +92,34 @@ class ComputationalGeometryUtilsTest {
         assertThat(res2).isFalse();
     }
 
+    @Test
+    public void onlineLargeCoordinates() {
+        // Given: 投影坐标量级，点p不在线段上，但直接计算的叉积舍入为0
+        Segment l = new Segment(new Point(730878.1907032909, 410080.81149220164), new Point(207714.84130971707, 332717.0559595112));
+        Point p = new Point(224583.76773354382, 335211.57990019745);
+
+        // When
+        boolean res = ComputationalGeometryUtils.online(l, p);
+
+        // Then
+        System.out.println(ComputationalGeometryUtils.cross(l.getBegin(), p, l.getEnd()));
+        assertThat(res).isFalse();
+    }
+
+    @Test
+    public void onlineTinyCoordinates() {
+        // Given: 线段 (0,0)-(1e-200,1e-200) 与共线、位于终点之外的点 (2e-200,2e-200)，两个坐标差同号且乘积下溢为0
+        double b = 1e-200, p = 2e-200;
+
+        // When
+        boolean res = ComputationalGeometryUtils.online(0, 0, b, b, p, p);
+
+        // Then
+        assertThat((p - 0) * (p - b)).isZero();
+        assertThat(res).isFalse();
+        assertThat(ComputationalGeometryUtils.online(0, 0, b, b, b / 2, b / 2)).isTrue();
+    }
+
     @Test
     public void rotate() {
         // Given
@@ -414,6 +446,30 @@ class ComputationalGeometryUtilsTest {
         assertThat(res4).isEqualTo(PositionalRelationshipEnum.INSIDE);
     }
 
+    @Test
+    public void positionalRelationshipRayThroughVertexes() {
+        // Given: 射线经过多边形顶点
+        Point q1 = new Point(-1, -1); // 斜向射线会穿过对角顶点(0,0)与(1,1)
+        Point q2 = new Point(-1, 0); // 水平射线经过底边
+        Point q3 = new Point(-1, 1);
+        Polygon diamond = new Polygon(new Point[]{
+                new Point(0, -1), new Point(1, 0), new Point(0, 1), new Point(-1, 0)
+        });
+        Point q4 = new Point(-0.5, 0); // 水平射线穿过右侧顶点(1,0)
+
+        // When
+        PositionalRelationshipEnum res1 = ComputationalGeometryUtils.positionalRelationship(polygon, q1);
+        PositionalRelationshipEnum res2 = ComputationalGeometryUtils.positionalRelationship(polygon, q2);
+        PositionalRelationshipEnum res3 = ComputationalGeometryUtils.positionalRelationship(polygon, q3);
+        PositionalRelationshipEnum res4 = ComputationalGeometryUtils.positionalRelationship(diamond, q4);
+
+        // Then
+        assertThat(res1).isEqualTo(PositionalRelationshipEnum.EXTERNAL);
+        assertThat(res2).isEqualTo(PositionalRelationshipEnum.EXTERNAL);
+        assertThat(res3).isEqualTo(PositionalRelationshipEnum.EXTERNAL);
+        assertThat(res4).isEqualTo(PositionalRelationshipEnum.INSIDE);
+    }
+
     @Test
     public void insideConvexPolygon() {
         // Given
@@ -470,4 +526,143 @@ class ComputationalGeometryUtilsTest {
         assertThat(perimeter).isEqualTo(8);
     }
 
+    @Test
+    public void batchCrossAndDot() {
+        // Given
+        PointBuffer o = PointBuffer.of(Point.ORIGINAL_POINT, new Point(1, 1));
+        PointBuffer p1 = PointBuffer.of(new Point(1, 2), new Point(2, 1));
+        PointBuffer p2 = PointBuffer.of(new Point(2, 1), new Point(1, 3));
+        double[] crosses = new double[2];
+        double[] dots = new double[2];
+
+        // When
+        ComputationalGeometryUtils.cross(o, p1, p2, crosses);
+        ComputationalGeometryUtils.dot(o, p1, p2, dots);
+
+        // Then
+        for (int i = 0; i < 2; i++) {
+            assertThat(crosses[i]).isEqualTo(ComputationalGeometryUtils.cross(o.get(i), p1.get(i), p2.get(i)));
+            assertThat(dots[i]).isEqualTo(ComputationalGeometryUtils.dot(o.get(i), p1.get(i), p2.get(i)));
+        }
+        assertThat(ComputationalGeometryUtils.cross(p1, 0, 1, 0)).isEqualTo(ComputationalGeometryUtils.cross(p1.get(0), p1.get(1), p1.get(0)));
+        assertThat(ComputationalGeometryUtils.dot(p2, 1, 0, 0)).isEqualTo(ComputationalGeometryUtils.dot(p2.get(1), p2.get(0), p2.get(0)));
+    }
+
+    @Test
+    public void batchDistance() {
+        // Given
+        PointBuffer p1 = PointBuffer.of(Point.ORIGINAL_POINT, new Point(1, 1));
+        PointBuffer p2 = PointBuffer.of(new Point(3, 4), new Point(1, 1));
+        double[] sqrDistances = new double[2];
+        double[] distances = new double[2];
+
+        // When
+        ComputationalGeometryUtils.sqrDistance(p1, p2, sqrDistances);
+        ComputationalGeometryUtils.distance(p1, p2, distances);
+
+        // Then
+        assertThat(sqrDistances).containsExactly(25, 0);
+        assertThat(distances).containsExactly(5, 0);
+        assertThat(ComputationalGeometryUtils.distance(p2, 0, 1)).isEqualTo(ComputationalGeometryUtils.distance(p2.get(0), p2.get(1)));
+    }
+
+    @Test
+    public void batchRotate() {
+        // Given
+        PointBuffer points = PointBuffer.of(new Point(1, 0), new Point(2, 1));
+
+        // When
+        ComputationalGeometryUtils.rotate(Point.ORIGINAL_POINT, points, MathConstants.PI / 2, points);
+
+        // Then
+        System.out.println(points);
+        assertThat(points.get(0)).isEqualTo(new Point(0, 1));
+        assertThat(points.get(1)).isEqualTo(ComputationalGeometryUtils.rotate(Point.ORIGINAL_POINT, new Point(2, 1), MathConstants.PI / 2));
+    }
+
+    @Test
+    public void batchClosestPointToSegment() {
+        // Given
+        double sqrt3 = Math.sqrt(3);
+        PointBuffer points = PointBuffer.of(new Point(-1, sqrt3), new Point(2.5, 2), new Point(6, sqrt3));
+        Segment l = new Segment(Point.ORIGINAL_POINT, new Point(5, 0));
+        PointBuffer result = new PointBuffer();
+
+        // When
+        ComputationalGeometryUtils.closestPointToSegment(points, l, result);
+
+        // Then
+        System.out.println(result);
+        assertThat(result.toPoints()).containsExactly(Point.ORIGINAL_POINT, new Point(2.5, 0), new Point(5, 0));
+    }
+
+    @Test
+    public void scalarOverloads() {
+        // Given
+        Point o = new Point(1, 1);
+        Point p1 = new Point(3, 2);
+        Point p2 = new Point(2, 4);
+        Segment l = new Segment(Point.ORIGINAL_POINT, new Point(5, 0));
+
+        // When
+        double cross = ComputationalGeometryUtils.cross(1, 1, 3, 2, 2, 4);
+        double dot = ComputationalGeometryUtils.dot(1, 1, 3, 2, 2, 4);
+        double angle = ComputationalGeometryUtils.angle(1, 1, 3, 2, 2, 4);
+        double relation = ComputationalGeometryUtils.relation(1, 2, 0, 0, 5, 0);
+        boolean online = ComputationalGeometryUtils.online(0, 0, 5, 0, 2.5, 0);
+
+        // Then
+        assertThat(cross).isEqualTo(ComputationalGeometryUtils.cross(o, p1, p2));
+        assertThat(dot).isEqualTo(ComputationalGeometryUtils.dot(o, p1, p2));
+        assertThat(angle).isEqualTo(ComputationalGeometryUtils.angle(o, p1, p2));
+        assertThat(relation).isEqualTo(ComputationalGeometryUtils.relation(new Point(1, 2), l));
+        assertThat(online).isTrue();
+        assertThat(ComputationalGeometryUtils.isIntersect(1, 0, 7, 0, 2.5, -1, 5.5, 1)).isTrue();
+        assertThat(ComputationalGeometryUtils.isIntersectExcludingEndpoints(1, 0, 7, 0, 7, -1, 7, 1)).isFalse();
+    }
+
+    @Test
+    public void predicatesAllocateNothing() {
+        // Given 线程分配计数是 HotSpot 的扩展(com.sun.management)，不可用时跳过
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+        long threadId = Thread.currentThread().getId();
+        Point o = new Point(1, 1);
+        Point p1 = new Point(3, 2);
+        Point p2 = new Point(2, 4);
+        Segment u = new Segment(new Point(1, 0), new Point(7, 0));
+        Segment v = new Segment(new Point(2.5, -1), new Point(5.5, 1));
+        Point q = new Point(0.5, 0.5);
+        // 预热 20000 次：类初始化、JIT 编译和覆盖率代理（如 JaCoCo）的探针数组都是一次性分配，应发生在计数之前
+        runPredicates(o, p1, p2, u, v, q, 20_000);
+
+        // When
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        double sink = runPredicates(o, p1, p2, u, v, q, 100_000);
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+        // Then
+        System.out.println(sink);
+        System.out.println(allocated);
+        // 每次调用分配一个对象，10万次调用就远超 1KB；1KB 的余量只用于容纳计数本身的误差
+        assertThat(allocated).isLessThan(1024);
+    }
+
+    private double runPredicates(Point o, Point p1, Point p2, Segment u, Segment v, Point q, int times) {
+        double sink = 0;
+        for (int i = 0; i < times; i++) {
+            sink += ComputationalGeometryUtils.cross(o, p1, p2);
+            sink += ComputationalGeometryUtils.dot(o, p1, p2);
+            sink += ComputationalGeometryUtils.angle(o, p1, p2);
+            sink += ComputationalGeometryUtils.relation(q, u);
+            sink += ComputationalGeometryUtils.online(u, q) ? 1 : 0;
+            sink += ComputationalGeometryUtils.isIntersect(u, v) ? 1 : 0;
+            sink += ComputationalGeometryUtils.isIntersectExcludingEndpoints(u, v) ? 1 : 0;
+            sink += ComputationalGeometryUtils.positionalRelationship(polygon, q).ordinal();
+            sink += ComputationalGeometryUtils.insideConvexPolygon(polygon, q) ? 1 : 0;
+        }
+        return sink;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,178 @@
+package io.github.ricky.cg.enclosing;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.shape.circle.CenterRadiusCircle;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className MinimumEnclosingCircleTest
+ * @desc
+ */
+class MinimumEnclosingCircleTest {
+
+    @Test
+    public void compute() {
+        // Given
+        Point[] points = {
+                new Point(0, 0),
+                new Point(4, 0),
+                new Point(2, 1),
+                new Point(1, -1),
+                new Point(2, 0),
+        };
+
+        // When
+        CenterRadiusCircle circle = MinimumEnclosingCircle.compute(points);
+
+        // Then
+        System.out.println(circle.getCenter() + " " + circle.getRadius());
+        assertThat(circle.getCenter()).isEqualTo(new Point(2, 0));
+        assertThat(circle.getRadius()).isEqualTo(2);
+    }
+
+    @Test
+    public void degenerate() {
+        // Given
+        Point[] single = {new Point(3, 4)};
+        Point[] duplicates = {new Point(1, 1), new Point(1, 1), new Point(1, 1)};
+        Point[] collinear = {new Point(0, 0), new Point(1, 1), new Point(3, 3), new Point(2, 2)};
+
+        // When
+        CenterRadiusCircle a = MinimumEnclosingCircle.compute(single);
+        CenterRadiusCircle b = MinimumEnclosingCircle.compute(duplicates);
+        CenterRadiusCircle c = MinimumEnclosingCircle.compute(collinear);
+
+        // Then
+        assertThat(a.getCenter()).isEqualTo(new Point(3, 4));
+        assertThat(a.getRadius()).isEqualTo(0);
+        assertThat(b.getRadius()).isEqualTo(0);
+        assertThat(c.getCenter()).isEqualTo(new Point(1.5, 1.5));
+        assertThat(c.getRadius()).isCloseTo(1.5 * Math.sqrt(2), within(1e-12));
+        assertThatThrownBy(() -> MinimumEnclosingCircle.compute(new Point[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void sameAsBruteForce() {
+        // Given
+        Random random = new Random(16);
+        for (int round = 0; round < 300; round++) {
+            int n = 1 + random.nextInt(25);
+            double[] xs = new double[n], ys = new double[n];
+            for (int i = 0; i < n; i++) {
+                xs[i] = round % 2 == 0 ? random.nextInt(10) : random.nextGaussian() * 100;
+                ys[i] = round % 2 == 0 ? random.nextInt(10) : random.nextGaussian();
+            }
+
+            // When
+            CenterRadiusCircle circle = MinimumEnclosingCircle.compute(xs, ys, n);
+
+            // Then
+            double brute = bruteForceRadius(xs, ys, n);
+            assertThat(circle.getRadius()).isCloseTo(brute, within(1e-9 * (1 + brute)));
+            assertEncloses(circle, xs, ys, 0, n);
+        }
+    }
+
+    @Test
+    public void largeInput() {
+        // Given
+        Random random = new Random(61);
+        int n = 1000000;
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            double angle = random.nextDouble() * 2 * Math.PI, radius = Math.sqrt(random.nextDouble()) * 50;
+            xs[i] = 7 + radius * Math.cos(angle);
+            ys[i] = -3 + radius * Math.sin(angle);
+        }
+
+        // When
+        CenterRadiusCircle circle = MinimumEnclosingCircle.compute(xs, ys, n);
+
+        // Then
+        System.out.println(circle.getCenter() + " " + circle.getRadius());
+        assertThat(circle.getRadius()).isCloseTo(50, within(0.1));
+        assertEncloses(circle, xs, ys, 0, n);
+    }
+
+    @Test
+    public void computeBatch() {
+        // Given
+        Random random = new Random(66);
+        int groups = 1000;
+        int[] offsets = new int[groups + 1];
+        for (int g = 0; g < groups; g++) {
+            offsets[g + 1] = offsets[g] + 1 + random.nextInt(12);
+        }
+        int n = offsets[groups];
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextDouble() * 100;
+            ys[i] = random.nextDouble() * 100;
+        }
+
+        // When
+        CenterRadiusCircle[] circles = MinimumEnclosingCircle.computeBatch(xs, ys, offsets);
+
+        // Then
+        assertThat(circles).hasSize(groups);
+        for (int g = 0; g < groups; g++) {
+            int m = offsets[g + 1] - offsets[g];
+            double[] gxs = new double[m], gys = new double[m];
+            System.arraycopy(xs, offsets[g], gxs, 0, m);
+            System.arraycopy(ys, offsets[g], gys, 0, m);
+            assertThat(circles[g].getRadius()).isCloseTo(bruteForceRadius(gxs, gys, m), within(1e-9));
+            assertEncloses(circles[g], xs, ys, offsets[g], offsets[g + 1]);
+        }
+    }
+
+    /**
+     * 最小覆盖圆由两点（直径）或三点（外接圆）确定，枚举所有候选圆取覆盖全部点的最小者
+     */
+    private static double bruteForceRadius(double[] xs, double[] ys, int n) {
+        double best = n == 1 ? 0 : Double.POSITIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double cx = (xs[i] + xs[j]) / 2, cy = (ys[i] + ys[j]) / 2;
+                best = Math.min(best, coveringRadius(xs, ys, n, cx, cy, Math.hypot(xs[i] - cx, ys[i] - cy)));
+                for (int k = j + 1; k < n; k++) {
+                    double bx = xs[j] - xs[i], by = ys[j] - ys[i], tx = xs[k] - xs[i], ty = ys[k] - ys[i];
+                    double d = 2 * (bx * ty - by * tx);
+                    if (d == 0) {
+                        continue;
+                    }
+                    double b2 = bx * bx + by * by, t2 = tx * tx + ty * ty;
+                    double ux = (ty * b2 - by * t2) / d, uy = (bx * t2 - tx * b2) / d;
+                    best = Math.min(best, coveringRadius(xs, ys, n, xs[i] + ux, ys[i] + uy, Math.hypot(ux, uy)));
+                }
+            }
+        }
+        return best;
+    }
+
+    private static double coveringRadius(double[] xs, double[] ys, int n, double cx, double cy, double radius) {
+        for (int i = 0; i < n; i++) {
+            if (Math.hypot(xs[i] - cx, ys[i] - cy) > radius * (1 + 1e-9) + 1e-12) {
+                return Double.POSITIVE_INFINITY;
+            }
+        }
+        return radius;
+    }
+
+    private static void assertEncloses(CenterRadiusCircle circle, double[] xs, double[] ys, int from, int to) {
+        double cx = circle.getCenter().getX(), cy = circle.getCenter().getY();
+        for (int i = from; i < to; i++) {
+            assertThat(Math.hypot(xs[i] - cx, ys[i] - cy)).isLessThanOrEqualTo(circle.getRadius() * (1 + 1e-9) + 1e-12);
+        }
+    }
+
+}
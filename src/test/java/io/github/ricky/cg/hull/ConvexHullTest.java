@@ -0,0 +1,130 @@
+package io.github.ricky.cg.hull;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className ConvexHullTest
+ * @desc
+ */
+class ConvexHullTest {
+
+    @Test
+    public void compute() {
+        // Given
+        Point[] points = {
+                new Point(1, 1),
+                new Point(2, 0),
+                new Point(0, 0),
+                new Point(2, 2),
+                new Point(1, 0), // 边上的共线点
+                new Point(0, 2),
+                new Point(2, 2), // 重复点
+                new Point(0.5, 0.5),
+        };
+        Point[] copy = points.clone();
+
+        // When
+        Point[] hull = ConvexHull.compute(points);
+
+        // Then
+        System.out.println(java.util.Arrays.toString(hull));
+        assertThat(hull).containsExactly(
+                new Point(0, 0),
+                new Point(2, 0),
+                new Point(2, 2),
+                new Point(0, 2)
+        );
+        assertThat(points).isEqualTo(copy);
+    }
+
+    @Test
+    public void degenerate() {
+        // Given
+        double[] xs = {3, 1, 2, 0, 2};
+        double[] ys = {3, 1, 2, 0, 2};
+
+        // When
+        int[] empty = ConvexHull.compute(new double[0], new double[0], 0);
+        int[] single = ConvexHull.compute(new double[]{1, 1}, new double[]{2, 2}, 2);
+        int[] collinear = ConvexHull.compute(xs, ys, xs.length);
+
+        // Then
+        assertThat(empty).isEmpty();
+        assertThat(single).containsExactly(0);
+        assertThat(collinear).containsExactly(3, 0);
+    }
+
+    @Test
+    public void aklToussaintFilter() {
+        // Given
+        Random random = new Random(42);
+        int n = 10_000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextDouble();
+            ys[i] = random.nextDouble();
+        }
+
+        // When
+        int[] candidates = ConvexHull.aklToussaintFilter(xs, ys, n);
+        int[] filtered = ConvexHull.compute(xs, ys, n);
+        int[] plain = ConvexHull.monotoneChain(xs, ys, n);
+
+        // Then
+        System.out.println(candidates.length);
+        assertThat(candidates.length).isLessThan(n / 2);
+        assertThat(filtered).isEqualTo(plain);
+        assertConvexHull(xs, ys, n, plain);
+    }
+
+    @Test
+    public void randomIntegerPoints() {
+        // Given
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            int n = 1 + random.nextInt(200);
+            double[] xs = new double[n];
+            double[] ys = new double[n];
+            for (int i = 0; i < n; i++) {
+                // 小范围整数坐标，产生大量共线点与重复点
+                xs[i] = random.nextInt(10);
+                ys[i] = random.nextInt(10);
+            }
+
+            // When
+            int[] hull = ConvexHull.compute(xs, ys, n);
+
+            // Then
+            assertThat(hull).isEqualTo(ConvexHull.monotoneChain(xs, ys, n));
+            assertConvexHull(xs, ys, n, hull);
+        }
+    }
+
+    /**
+     * 校验凸包严格凸、逆时针，且所有点都在凸包内（含边界）
+     */
+    private static void assertConvexHull(double[] xs, double[] ys, int n, int[] hull) {
+        int h = hull.length;
+        if (h < 3) {
+            return;
+        }
+        for (int i = 0; i < h; i++) {
+            int a = hull[i], b = hull[(i + 1) % h], c = hull[(i + 2) % h];
+            assertThat(ComputationalGeometryUtils.cross(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c])).isPositive();
+            for (int p = 0; p < n; p++) {
+                assertThat(ComputationalGeometryUtils.cross(xs[a], ys[a], xs[b], ys[b], xs[p], ys[p])).isGreaterThanOrEqualTo(0);
+            }
+        }
+    }
+
+}
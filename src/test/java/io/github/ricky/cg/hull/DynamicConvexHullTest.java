@@ -0,0 +1,185 @@
+package io.github.ricky.cg.hull;
+
+import io.github.ricky.cg.basic.point.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/18
+ * @className DynamicConvexHullTest
+ * @desc
+ */
+class DynamicConvexHullTest {
+
+    @Test
+    public void addAndRemove() {
+        // Given
+        DynamicConvexHull hull = new DynamicConvexHull();
+        hull.add(new Point(0, 0));
+        hull.add(new Point(4, 0));
+        hull.add(new Point(4, 4));
+        hull.add(new Point(0, 4));
+        hull.add(new Point(1, 1));
+        hull.add(new Point(2, 0));
+
+        // When 删除一个角点，凸包收缩到内部的点
+        boolean removed = hull.remove(new Point(4, 4));
+
+        // Then
+        System.out.println(Arrays.toString(hull.getVertexes()));
+        assertThat(removed).isTrue();
+        assertThat(hull.count()).isEqualTo(5);
+        assertThat(hull.getVertexes()).containsExactly(
+                new Point(0, 0),
+                new Point(4, 0),
+                new Point(0, 4)
+        );
+        assertThat(hull.contains(1, 1)).isTrue();
+        assertThat(hull.contains(3, 3)).isFalse();
+
+        // When 再删除一个角点
+        hull.remove(0, 4);
+
+        // Then
+        assertThat(hull.getVertexes()).containsExactly(
+                new Point(0, 0),
+                new Point(4, 0),
+                new Point(1, 1)
+        );
+    }
+
+    @Test
+    public void degenerate() {
+        // Given
+        DynamicConvexHull hull = new DynamicConvexHull();
+
+        // When Then 空、单点、重复点、共线
+        assertThat(hull.size()).isZero();
+        assertThat(hull.contains(0, 0)).isFalse();
+        assertThat(hull.remove(0, 0)).isFalse();
+        hull.add(1, 1);
+        hull.add(1, 1);
+        assertThat(hull.getVertexes()).containsExactly(new Point(1, 1));
+        hull.add(3, 3);
+        hull.add(2, 2);
+        hull.add(0, 0);
+        assertThat(hull.getVertexes()).containsExactly(new Point(0, 0), new Point(3, 3));
+        assertThat(hull.contains(2, 2)).isTrue();
+        assertThat(hull.contains(2, 1)).isFalse();
+
+        // 重复点删除一次后仍在集合中
+        hull.remove(0, 0);
+        hull.remove(3, 3);
+        assertThat(hull.getVertexes()).containsExactly(new Point(1, 1), new Point(2, 2));
+        assertThat(hull.remove(1, 1)).isTrue();
+        assertThat(hull.remove(5, 5)).isFalse();
+        assertThat(hull.getVertexes()).containsExactly(new Point(1, 1), new Point(2, 2));
+        hull.remove(1, 1);
+        hull.remove(2, 2);
+        assertThat(hull.size()).isZero();
+        assertThat(hull.count()).isZero();
+
+        // 竖直方向共线
+        hull.add(0, 2);
+        hull.add(0, 0);
+        hull.add(0, 1);
+        assertThat(hull.getVertexes()).containsExactly(new Point(0, 0), new Point(0, 2));
+        hull.add(1, 1);
+        assertThat(hull.getVertexes()).containsExactly(new Point(0, 0), new Point(1, 1), new Point(0, 2));
+    }
+
+    @Test
+    public void matchesConvexHull() {
+        // Given 小范围整数坐标，产生大量共线点与重复点；随机交替插入与删除
+        Random random = new Random(24);
+        for (int round = 0; round < 300; round++) {
+            int capacity = 1 + random.nextInt(200);
+            int range = round < 150 ? 8 : 1000;
+            double[] xs = new double[capacity], ys = new double[capacity];
+            int n = 0;
+            DynamicConvexHull hull = new DynamicConvexHull();
+
+            for (int step = 0; step < 3 * capacity; step++) {
+                // When
+                if (n < capacity && (n == 0 || random.nextInt(3) > 0)) {
+                    xs[n] = random.nextInt(range);
+                    ys[n] = random.nextInt(range);
+                    hull.add(xs[n], ys[n]);
+                    n++;
+                } else {
+                    int i = random.nextInt(n);
+                    assertThat(hull.remove(xs[i], ys[i])).isTrue();
+                    xs[i] = xs[--n];
+                    ys[i] = ys[n];
+                }
+
+                // Then
+                assertThat(hull.count()).isEqualTo(n);
+                assertSameHull(hull, xs, ys, n);
+                IncrementalConvexHull expected = new IncrementalConvexHull();
+                for (int i = 0; i < n; i++) {
+                    expected.add(xs[i], ys[i]);
+                }
+                for (int k = 0; k < 4; k++) {
+                    double x = random.nextInt(range + 2) - 1, y = random.nextInt(range + 2) - 1;
+                    assertThat(hull.contains(x, y)).isEqualTo(expected.contains(x, y));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void slidingWindow() {
+        // Given 窗口内保持十万个点，每个事件移出最早的点并加入一个新点
+        Random random = new Random(25);
+        int window = 100_000, events = 200_000;
+        double[] xs = new double[window + events], ys = new double[window + events];
+        for (int i = 0; i < xs.length; i++) {
+            double r = Math.sqrt(random.nextDouble()), theta = 2 * Math.PI * random.nextDouble();
+            xs[i] = r * Math.cos(theta) + i * 1e-5;
+            ys[i] = r * Math.sin(theta);
+        }
+        DynamicConvexHull hull = new DynamicConvexHull();
+        for (int i = 0; i < window; i++) {
+            hull.add(xs[i], ys[i]);
+        }
+
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            hull.remove(xs[i], ys[i]);
+            hull.add(xs[i + window], ys[i + window]);
+        }
+        System.out.println("sliding window: " + (System.nanoTime() - start) / 1_000_000 + " ms, "
+                + hull.size() + " vertices");
+
+        // Then
+        double[] lastXs = Arrays.copyOfRange(xs, events, events + window);
+        double[] lastYs = Arrays.copyOfRange(ys, events, events + window);
+        assertSameHull(hull, lastXs, lastYs, window);
+    }
+
+    /**
+     * 与 {@link ConvexHull} 的结果逐点比较
+     */
+    private static void assertSameHull(DynamicConvexHull hull, double[] xs, double[] ys, int n) {
+        if (n == 0) {
+            assertThat(hull.size()).isZero();
+            return;
+        }
+        int[] expected = ConvexHull.compute(xs, ys, n);
+        assertThat(hull.size()).isEqualTo(expected.length);
+        double[] hx = new double[expected.length], hy = new double[expected.length];
+        assertThat(hull.copyTo(hx, hy)).isEqualTo(expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(hx[i]).isEqualTo(xs[expected[i]]);
+            assertThat(hy[i]).isEqualTo(ys[expected[i]]);
+        }
+    }
+}
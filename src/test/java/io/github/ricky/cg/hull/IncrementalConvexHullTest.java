@@ -0,0 +1,157 @@
+package io.github.ricky.cg.hull;
+
+import io.github.ricky.cg.basic.point.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className IncrementalConvexHullTest
+ * @desc
+ */
+class IncrementalConvexHullTest {
+
+    @Test
+    public void add() {
+        // Given
+        IncrementalConvexHull hull = new IncrementalConvexHull();
+
+        // When
+        boolean a = hull.add(new Point(0, 0));
+        boolean b = hull.add(new Point(2, 0));
+        boolean c = hull.add(new Point(2, 2));
+        boolean d = hull.add(new Point(0, 2));
+        boolean inside = hull.add(new Point(1, 1));
+        boolean onEdge = hull.add(new Point(1, 0));
+        boolean duplicate = hull.add(new Point(2, 2));
+
+        // Then
+        System.out.println(Arrays.toString(hull.snapshot().getVertexes()));
+        assertThat(new boolean[]{a, b, c, d}).containsOnly(true);
+        assertThat(new boolean[]{inside, onEdge, duplicate}).containsOnly(false);
+        assertThat(hull.snapshot().getVertexes()).containsExactly(
+                new Point(0, 0),
+                new Point(2, 0),
+                new Point(2, 2),
+                new Point(0, 2)
+        );
+        assertThat(hull.contains(1, 1)).isTrue();
+        assertThat(hull.contains(2, 1)).isTrue();
+        assertThat(hull.contains(3, 1)).isFalse();
+    }
+
+    @Test
+    public void degenerate() {
+        // Given
+        IncrementalConvexHull hull = new IncrementalConvexHull();
+
+        // When Then 空、单点、共线
+        assertThat(hull.size()).isZero();
+        assertThat(hull.contains(0, 0)).isFalse();
+        hull.add(1, 1);
+        hull.add(1, 1);
+        assertThat(hull.snapshot().getVertexes()).containsExactly(new Point(1, 1));
+        hull.add(3, 3);
+        hull.add(2, 2);
+        hull.add(0, 0);
+        assertThat(hull.snapshot().getVertexes()).containsExactly(new Point(0, 0), new Point(3, 3));
+        hull.add(0, 3);
+        assertThat(hull.snapshot().getVertexes()).containsExactly(new Point(0, 0), new Point(3, 3), new Point(0, 3));
+    }
+
+    @Test
+    public void snapshot() {
+        // Given
+        IncrementalConvexHull hull = new IncrementalConvexHull();
+        hull.add(0, 0);
+        hull.add(1, 0);
+        hull.add(0, 1);
+
+        // When
+        IncrementalConvexHull.Snapshot before = hull.snapshot();
+        hull.add(1, 1);
+        IncrementalConvexHull.Snapshot after = hull.snapshot();
+
+        // Then 快照不随之后的插入改变
+        assertThat(before.size()).isEqualTo(3);
+        assertThat(before.getVertex(2)).isEqualTo(new Point(0, 1));
+        assertThat(after.size()).isEqualTo(4);
+        assertThat(after.getVertex(2)).isEqualTo(new Point(1, 1));
+    }
+
+    @Test
+    public void matchesConvexHull() {
+        // Given 小范围整数坐标，产生大量共线点与重复点
+        Random random = new Random(23);
+        for (int round = 0; round < 300; round++) {
+            int n = 1 + random.nextInt(300);
+            int range = round < 150 ? 10 : 1000;
+            double[] xs = new double[n], ys = new double[n];
+            IncrementalConvexHull hull = new IncrementalConvexHull();
+
+            for (int i = 0; i < n; i++) {
+                xs[i] = random.nextInt(range);
+                ys[i] = random.nextInt(range);
+
+                // When
+                boolean contained = hull.contains(xs[i], ys[i]);
+                boolean changed = hull.add(xs[i], ys[i]);
+
+                // Then
+                assertThat(changed).isEqualTo(!contained);
+                if (i % 17 == 0 || i == n - 1) {
+                    assertSameHull(hull.snapshot(), xs, ys, i + 1);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void largeStream() {
+        // Given 一百万个点，凸包在前期快速增长，之后几乎所有点都被拒绝
+        Random random = new Random(24);
+        int n = 1_000_000;
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            double r = Math.sqrt(random.nextDouble()), theta = 2 * Math.PI * random.nextDouble();
+            xs[i] = r * Math.cos(theta);
+            ys[i] = r * Math.sin(theta);
+        }
+        IncrementalConvexHull hull = new IncrementalConvexHull();
+
+        // When
+        long start = System.nanoTime();
+        int changed = 0;
+        for (int i = 0; i < n; i++) {
+            if (hull.add(xs[i], ys[i])) {
+                changed++;
+            }
+        }
+        System.out.println("stream: " + (System.nanoTime() - start) / 1_000_000 + " ms, " + changed + " changes, "
+                + hull.size() + " vertices");
+
+        // Then
+        assertSameHull(hull.snapshot(), xs, ys, n);
+    }
+
+    /**
+     * 与 {@link ConvexHull} 的结果逐点比较
+     */
+    private static void assertSameHull(IncrementalConvexHull.Snapshot snapshot, double[] xs, double[] ys, int n) {
+        int[] expected = ConvexHull.compute(xs, ys, n);
+        assertThat(snapshot.size()).isEqualTo(expected.length);
+        double[] hx = new double[expected.length], hy = new double[expected.length];
+        assertThat(snapshot.copyTo(hx, hy)).isEqualTo(expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(hx[i]).isEqualTo(xs[expected[i]]);
+            assertThat(hy[i]).isEqualTo(ys[expected[i]]);
+            assertThat(snapshot.getVertex(i)).isEqualTo(new Point(xs[expected[i]], ys[expected[i]]));
+        }
+    }
+}
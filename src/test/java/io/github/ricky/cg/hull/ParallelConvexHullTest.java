@@ -0,0 +1,90 @@
+package io.github.ricky.cg.hull;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className ParallelConvexHullTest
+ * @desc
+ */
+class ParallelConvexHullTest {
+
+    @Test
+    public void sameAsSequential() {
+        // Given
+        Random random = new Random(3);
+        int n = 200_000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextGaussian();
+            ys[i] = random.nextGaussian();
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // When
+        int[] sequential = ConvexHull.compute(xs, ys, n);
+        int[] parallel = ParallelConvexHull.compute(xs, ys, n, pool, 1000);
+        int[] common = ParallelConvexHull.compute(xs, ys, n);
+
+        // Then
+        System.out.println(sequential.length);
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(common).isEqualTo(sequential);
+        pool.shutdown();
+    }
+
+    @Test
+    public void degenerate() {
+        // Given
+        Random random = new Random(4);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        for (int round = 0; round < 50; round++) {
+            int n = 1 + random.nextInt(2000);
+            double[] xs = new double[n];
+            double[] ys = new double[n];
+            for (int i = 0; i < n; i++) {
+                // 大量重复点与共线点
+                xs[i] = random.nextInt(8);
+                ys[i] = round % 5 == 0 ? 2 * xs[i] : random.nextInt(8);
+            }
+
+            // When
+            int[] sequential = ConvexHull.compute(xs, ys, n);
+            int[] parallel = ParallelConvexHull.compute(xs, ys, n, pool, 1 + random.nextInt(64));
+
+            // Then
+            assertThat(parallel).isEqualTo(sequential);
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    public void findingConvexHullsParallel() {
+        // Given
+        Point[] pointSet = {
+                new Point(0, 0),
+                new Point(2, 0),
+                new Point(2, 2),
+                new Point(0, 2),
+                new Point(1, 1),
+                new Point(0.5, 0.5),
+        };
+
+        // When
+        Point[] hull = ComputationalGeometryUtils.findingConvexHullsParallel(pointSet, ForkJoinPool.commonPool(), 2);
+
+        // Then
+        assertThat(hull).isEqualTo(ComputationalGeometryUtils.findingConvexHulls(pointSet));
+    }
+
+}
@@ -0,0 +1,166 @@
+package io.github.ricky.cg.hull;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className RotatingCalipersTest
+ * @desc
+ */
+class RotatingCalipersTest {
+
+    @Test
+    public void rectangle() {
+        // Given
+        Point[] points = {
+                new Point(0, 0),
+                new Point(4, 0),
+                new Point(4, 3),
+                new Point(0, 3),
+                new Point(2, 1),
+                new Point(2, 0), // 边上的共线点
+        };
+
+        // When
+        double diameter = RotatingCalipers.diameter(points);
+        double width = RotatingCalipers.width(points);
+        OrientedRectangle rectangle = RotatingCalipers.minimumAreaRectangle(points);
+
+        // Then
+        System.out.println(rectangle);
+        assertThat(diameter).isEqualTo(5);
+        assertThat(width).isEqualTo(3);
+        assertThat(rectangle.area()).isEqualTo(12);
+        assertThat(rectangle.perimeter()).isEqualTo(14);
+    }
+
+    @Test
+    public void rotatedSquare() {
+        // Given
+        Point[] points = {
+                new Point(0, -1),
+                new Point(1, 0),
+                new Point(0, 1),
+                new Point(-1, 0),
+        };
+
+        // When
+        OrientedRectangle area = RotatingCalipers.minimumAreaRectangle(points);
+        OrientedRectangle perimeter = RotatingCalipers.minimumPerimeterRectangle(points);
+        Point[] corners = area.corners();
+
+        // Then
+        System.out.println(area);
+        assertThat(area.area()).isCloseTo(2, within(1e-12));
+        assertThat(perimeter.perimeter()).isCloseTo(4 * Math.sqrt(2), within(1e-12));
+        assertThat(corners).hasSize(4);
+        assertThat(new Polygon(corners).area()).isCloseTo(2, within(1e-12));
+        assertThat(RotatingCalipers.width(points)).isCloseTo(Math.sqrt(2), within(1e-12));
+        assertThat(RotatingCalipers.diameter(points)).isEqualTo(2);
+    }
+
+    @Test
+    public void degenerate() {
+        // Given
+        double[] xs = {1, 3, 2};
+        double[] ys = {1, 3, 2};
+        int[] single = {0};
+        int[] segment = ConvexHull.compute(xs, ys, xs.length);
+
+        // When
+        OrientedRectangle point = RotatingCalipers.minimumAreaRectangle(xs, ys, single);
+        OrientedRectangle line = RotatingCalipers.minimumPerimeterRectangle(xs, ys, segment);
+
+        // Then
+        assertThat(segment).hasSize(2);
+        assertThat(RotatingCalipers.diameter(xs, ys, single)).isEqualTo(0);
+        assertThat(RotatingCalipers.width(xs, ys, single)).isEqualTo(0);
+        assertThat(point.area()).isEqualTo(0);
+        assertThat(RotatingCalipers.diameter(xs, ys, segment)).isEqualTo(Math.sqrt(8));
+        assertThat(RotatingCalipers.width(xs, ys, segment)).isEqualTo(0);
+        assertThat(line.getWidth()).isCloseTo(Math.sqrt(8), within(1e-12));
+        assertThat(line.getHeight()).isEqualTo(0);
+    }
+
+    @Test
+    public void sameAsBruteForce() {
+        // Given
+        Random random = new Random(14);
+        for (int round = 0; round < 200; round++) {
+            int n = 3 + random.nextInt(round < 100 ? 20 : 2000);
+            double[] xs = new double[n], ys = new double[n];
+            for (int i = 0; i < n; i++) {
+                xs[i] = random.nextGaussian() * (1 + round % 7);
+                ys[i] = random.nextGaussian();
+            }
+            int[] hull = ConvexHull.compute(xs, ys, n);
+
+            // When
+            double diameter = RotatingCalipers.diameter(xs, ys, hull);
+            double width = RotatingCalipers.width(xs, ys, hull);
+            double area = RotatingCalipers.minimumAreaRectangle(xs, ys, hull).area();
+            double perimeter = RotatingCalipers.minimumPerimeterRectangle(xs, ys, hull).perimeter();
+
+            // Then
+            double bruteDiameter = 0;
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    bruteDiameter = Math.max(bruteDiameter, Math.hypot(xs[i] - xs[j], ys[i] - ys[j]));
+                }
+            }
+            double bruteWidth = Double.POSITIVE_INFINITY;
+            double bruteArea = Double.POSITIVE_INFINITY, brutePerimeter = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < hull.length; i++) {
+                int a = hull[i], b = hull[(i + 1) % hull.length];
+                double length = Math.hypot(xs[b] - xs[a], ys[b] - ys[a]);
+                double ux = (xs[b] - xs[a]) / length, uy = (ys[b] - ys[a]) / length;
+                double min = 0, max = 0, height = 0;
+                for (int k = 0; k < n; k++) {
+                    double dx = xs[k] - xs[a], dy = ys[k] - ys[a];
+                    min = Math.min(min, ux * dx + uy * dy);
+                    max = Math.max(max, ux * dx + uy * dy);
+                    height = Math.max(height, ux * dy - uy * dx);
+                }
+                bruteWidth = Math.min(bruteWidth, height);
+                bruteArea = Math.min(bruteArea, (max - min) * height);
+                brutePerimeter = Math.min(brutePerimeter, 2 * (max - min + height));
+            }
+            assertThat(diameter).isCloseTo(bruteDiameter, within(1e-9));
+            assertThat(width).isCloseTo(bruteWidth, within(1e-9));
+            assertThat(area).isCloseTo(bruteArea, within(1e-9));
+            assertThat(perimeter).isCloseTo(brutePerimeter, within(1e-9));
+        }
+    }
+
+    @Test
+    public void enclosesAllPoints() {
+        // Given
+        Random random = new Random(41);
+        int n = 10000;
+        Point[] points = new Point[n];
+        for (int i = 0; i < n; i++) {
+            points[i] = new Point(random.nextDouble() * 100, random.nextDouble() * 30 + i * 0.01);
+        }
+
+        // When
+        OrientedRectangle rectangle = RotatingCalipers.minimumAreaRectangle(points);
+
+        // Then
+        double ux = rectangle.getUx(), uy = rectangle.getUy();
+        for (Point p : points) {
+            double dx = p.getX() - rectangle.getOriginX(), dy = p.getY() - rectangle.getOriginY();
+            assertThat(ux * dx + uy * dy).isBetween(-1e-9, rectangle.getWidth() + 1e-9);
+            assertThat(ux * dy - uy * dx).isBetween(-1e-9, rectangle.getHeight() + 1e-9);
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package io.github.ricky.cg.index;
+
+import io.github.ricky.cg.basic.point.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className KdTreeTest
+ * @desc
+ */
+class KdTreeTest {
+
+    @Test
+    public void nearest() {
+        // Given
+        Point[] points = {
+                new Point(2, 3), new Point(5, 4), new Point(9, 6),
+                new Point(4, 7), new Point(8, 1), new Point(7, 2),
+        };
+        KdTree tree = new KdTree(points);
+
+        // When
+        int nearest = tree.nearest(new Point(9, 2));
+        int[] nearest3 = tree.nearest(new Point(9, 2), 3);
+        int[] within = tree.radius(new Point(5, 5), 3);
+
+        // Then
+        assertThat(nearest).isEqualTo(4);
+        assertThat(nearest3).containsExactly(4, 5, 2);
+        assertThat(within).containsExactlyInAnyOrder(1, 3);
+        assertThat(new KdTree(new Point[0]).nearest(0, 0)).isEqualTo(-1);
+    }
+
+    @Test
+    public void sameAsBruteForce() {
+        // Given: 整数坐标，包含大量重复坐标
+        Random random = new Random(12);
+        int n = 5000;
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextInt(50);
+            ys[i] = random.nextInt(50);
+        }
+        KdTree tree = new KdTree(xs, ys, n);
+
+        for (int round = 0; round < 200; round++) {
+            double x = random.nextDouble() * 60 - 5, y = random.nextDouble() * 60 - 5;
+            double[] distances = new double[n];
+            for (int i = 0; i < n; i++) {
+                distances[i] = (xs[i] - x) * (xs[i] - x) + (ys[i] - y) * (ys[i] - y);
+            }
+            double[] sorted = distances.clone();
+            Arrays.sort(sorted);
+
+            // When
+            int[] knn = tree.nearest(x, y, 20);
+            int[] within = tree.radius(x, y, 3);
+
+            // Then
+            assertThat(Arrays.stream(knn).mapToDouble(i -> distances[i]).toArray()).containsExactly(Arrays.copyOf(sorted, 20));
+            assertThat(within).containsExactlyInAnyOrder(IntStream.range(0, n).filter(i -> distances[i] <= 9).toArray());
+        }
+    }
+
+    @Test
+    public void buildParallel() {
+        // Given
+        Random random = new Random(13);
+        int n = 100_000;
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextGaussian();
+            ys[i] = random.nextGaussian();
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // When
+        KdTree sequential = new KdTree(xs, ys, n);
+        KdTree parallel = KdTree.buildParallel(xs, ys, n, pool, 1000);
+
+        // Then
+        for (int round = 0; round < 100; round++) {
+            double x = random.nextGaussian(), y = random.nextGaussian();
+            assertThat(parallel.nearest(x, y, 5)).containsExactly(sequential.nearest(x, y, 5));
+            int expected = IntStream.range(0, n).boxed()
+                    .min(Comparator.comparingDouble(i -> (xs[i] - x) * (xs[i] - x) + (ys[i] - y) * (ys[i] - y)))
+                    .orElseThrow();
+            assertThat(parallel.nearest(x, y)).isEqualTo(expected);
+        }
+        pool.shutdown();
+    }
+
+}
@@ -0,0 +1,101 @@
+package io.github.ricky.cg.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PackedRTreeTest
+ * @desc
+ */
+class PackedRTreeTest {
+
+    @Test
+    public void search() {
+        // Given
+        Random random = new Random(5);
+        int n = 5000;
+        double[] minXs = new double[n], minYs = new double[n], maxXs = new double[n], maxYs = new double[n];
+        for (int i = 0; i < n; i++) {
+            minXs[i] = random.nextDouble() * 100;
+            minYs[i] = random.nextDouble() * 100;
+            maxXs[i] = minXs[i] + random.nextDouble() * 3;
+            maxYs[i] = minYs[i] + random.nextDouble() * 3;
+        }
+        PackedRTree tree = new PackedRTree(minXs, minYs, maxXs, maxYs, n, 4);
+
+        for (int round = 0; round < 100; round++) {
+            double x = random.nextDouble() * 100, y = random.nextDouble() * 100;
+            double w = random.nextDouble() * 10, h = random.nextDouble() * 10;
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < n; i++) {
+                if (minXs[i] <= x + w && x <= maxXs[i] && minYs[i] <= y + h && y <= maxYs[i]) {
+                    expected.add(i);
+                }
+            }
+
+            // When
+            List<Integer> actual = new ArrayList<>();
+            tree.search(x, y, x + w, y + h, actual::add);
+
+            // Then
+            assertThat(actual).doesNotHaveDuplicates();
+            assertThat(new HashSet<>(actual)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void nearest() {
+        // Given
+        Random random = new Random(6);
+        int n = 3000;
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextDouble();
+            ys[i] = random.nextDouble();
+        }
+        PackedRTree tree = new PackedRTree(xs, ys, xs, ys, n);
+
+        for (int round = 0; round < 100; round++) {
+            double x = random.nextDouble(), y = random.nextDouble();
+            Integer[] all = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = i;
+            }
+            Arrays.sort(all, Comparator.comparingDouble(i -> sqr(xs[i] - x) + sqr(ys[i] - y)));
+
+            // When
+            int[] actual = tree.nearest(x, y, 10, i -> sqr(xs[i] - x) + sqr(ys[i] - y));
+
+            // Then
+            assertThat(actual).containsExactly(Arrays.stream(all, 0, 10).mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    @Test
+    public void degenerate() {
+        // Given
+        PackedRTree empty = new PackedRTree(new double[0], new double[0], new double[0], new double[0], 0);
+        PackedRTree single = new PackedRTree(new double[]{1}, new double[]{1}, new double[]{2}, new double[]{2}, 1);
+        List<Integer> found = new ArrayList<>();
+
+        // When
+        empty.search(0, 0, 10, 10, found::add);
+        single.search(2, 2, found::add);
+
+        // Then
+        assertThat(found).containsExactly(0);
+        assertThat(empty.nearest(0, 0, 3, i -> 0)).isEmpty();
+        assertThat(single.nearest(0, 0, 3, i -> 2)).containsExactly(0);
+    }
+
+    private static double sqr(double v) {
+        return v * v;
+    }
+
+}
@@ -0,0 +1,126 @@
+package io.github.ricky.cg.index;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.shape.BoundingBox;
+import io.github.ricky.cg.shape.Shape;
+import io.github.ricky.cg.shape.circle.CenterRadiusCircle;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import io.github.ricky.cg.shape.polygon.enums.PositionalRelationshipEnum;
+import io.github.ricky.cg.shape.polygon.enums.ShapeTypeEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PolygonIndexTest
+ * @desc
+ */
+class PolygonIndexTest {
+
+    @Test
+    public void locate() {
+        // Given: 10x10 的单位正方形网格，外加一个覆盖整个网格的三角形
+        List<Polygon> polygons = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                polygons.add(new Polygon(new Point[]{
+                        new Point(i, j), new Point(i + 1, j), new Point(i + 1, j + 1), new Point(i, j + 1)
+                }));
+            }
+        }
+        polygons.add(new Polygon(new Point[]{new Point(0, 0), new Point(10, 0), new Point(0, 10)}));
+        PolygonIndex index = new PolygonIndex(polygons);
+        Random random = new Random(9);
+
+        for (int round = 0; round < 200; round++) {
+            // 一半的查询点落在网格线上
+            double x = round % 2 == 0 ? random.nextInt(12) - 1 : random.nextDouble() * 12 - 1;
+            Point q = new Point(x, random.nextDouble() * 12 - 1);
+            List<Polygon> expected = new ArrayList<>();
+            for (Polygon polygon : polygons) {
+                if (ComputationalGeometryUtils.positionalRelationship(polygon, q) != PositionalRelationshipEnum.EXTERNAL) {
+                    expected.add(polygon);
+                }
+            }
+
+            // When
+            List<Polygon> actual = index.locate(q);
+
+            // Then
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    public void nearest() {
+        // Given
+        Polygon near = new Polygon(new Point[]{new Point(3, 0), new Point(4, 0), new Point(4, 1)});
+        Polygon far = new Polygon(new Point[]{new Point(0, 5), new Point(1, 5), new Point(1, 6)});
+        Polygon containing = new Polygon(new Point[]{new Point(-1, -1), new Point(1, -1), new Point(0, 1)});
+        PolygonIndex index = new PolygonIndex(List.of(far, near, containing));
+
+        // When
+        List<Polygon> nearest = index.nearest(new Point(0, 0), 3);
+        List<Polygon> window = index.query(new BoundingBox(2, -1, 5, 0.5));
+
+        // Then
+        assertThat(nearest).containsExactly(containing, near, far);
+        assertThat(window).containsExactly(near);
+    }
+
+    @Test
+    public void shapeIndex() {
+        // Given
+        List<Shape> shapes = List.of(
+                new CenterRadiusCircle(new Point(0, 0), 1),
+                new CenterRadiusCircle(new Point(5, 5), 1),
+                new Polygon(new Point[]{new Point(2, 2), new Point(3, 2), new Point(3, 3)})
+        );
+        ShapeIndex<Shape> index = new ShapeIndex<>(shapes);
+
+        // When
+        List<Shape> containing = index.query(new Point(0.9, 0.9)); // 在圆的包围盒内
+        List<Shape> window = index.query(new BoundingBox(2.5, 2.5, 4.5, 4.5));
+        List<Shape> nearest = index.nearest(new Point(3.5, 3.5), 2);
+
+        // Then
+        assertThat(containing).containsExactly(shapes.get(0));
+        assertThat(window).containsExactlyInAnyOrder(shapes.get(1), shapes.get(2));
+        assertThat(nearest).containsExactlyInAnyOrder(shapes.get(1), shapes.get(2));
+    }
+
+    @Test
+    public void shapeWithoutBoundingBox() {
+        // Given 库外实现的图形，只实现了原有的抽象方法
+        Shape shape = new Shape() {
+            @Override
+            public ShapeTypeEnum type() {
+                return ShapeTypeEnum.POLYGON;
+            }
+
+            @Override
+            public double area() {
+                return 0;
+            }
+
+            @Override
+            public double perimeter() {
+                return 0;
+            }
+        };
+
+        // When Then
+        assertThatThrownBy(shape::boundingBox).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> new ShapeIndex<>(List.of(shape))).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+}
@@ -0,0 +1,72 @@
+package io.github.ricky.cg.index;
+
+import io.github.ricky.cg.basic.line.Segment;
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.shape.BoundingBox;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className SegmentIndexTest
+ * @desc
+ */
+class SegmentIndexTest {
+
+    @Test
+    public void query() {
+        // Given
+        SegmentIndex index = new SegmentIndex(List.of(
+                new Segment(new Point(0, 0), new Point(10, 10)),
+                new Segment(new Point(0, 3), new Point(3, 0)),
+                new Segment(new Point(6, 0), new Point(10, 0))
+        ));
+
+        // When
+        List<Segment> window = index.query(new BoundingBox(4, 0, 5, 1)); // 与前两条线段的包围盒相交，但与线段本身都不相交
+        List<Segment> crossing = index.query(new BoundingBox(4, 3, 5, 6));
+        List<Segment> near = index.query(new Point(7, 1), 1);
+
+        // Then
+        assertThat(window).isEmpty();
+        assertThat(crossing).containsExactly(new Segment(new Point(0, 0), new Point(10, 10)));
+        assertThat(near).containsExactly(new Segment(new Point(6, 0), new Point(10, 0)));
+    }
+
+    @Test
+    public void nearest() {
+        // Given
+        Random random = new Random(8);
+        List<Segment> segments = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Point begin = new Point(random.nextDouble() * 100, random.nextDouble() * 100);
+            segments.add(new Segment(begin, new Point(begin.getX() + random.nextDouble() * 5, begin.getY() + random.nextDouble() * 5)));
+        }
+        SegmentIndex index = new SegmentIndex(segments);
+
+        for (int round = 0; round < 50; round++) {
+            Point p = new Point(random.nextDouble() * 100, random.nextDouble() * 100);
+            double best = Double.POSITIVE_INFINITY;
+            for (Segment segment : segments) {
+                best = Math.min(best, ComputationalGeometryUtils.distance(p, ComputationalGeometryUtils.closestPointToSegment(p, segment)));
+            }
+
+            // When
+            List<Segment> nearest = index.nearest(p, 5);
+
+            // Then
+            assertThat(nearest).hasSize(5);
+            Segment first = nearest.get(0);
+            assertThat(ComputationalGeometryUtils.distance(p, ComputationalGeometryUtils.closestPointToSegment(p, first))).isEqualTo(best);
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+package io.github.ricky.cg.intersection;
+
+import io.github.ricky.cg.basic.line.Segment;
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className SegmentIntersectionsTest
+ * @desc
+ */
+class SegmentIntersectionsTest {
+
+    @Test
+    public void findAll() {
+        // Given
+        List<Segment> segments = List.of(
+                new Segment(new Point(0, 0), new Point(4, 4)), // 0
+                new Segment(new Point(0, 4), new Point(4, 0)), // 1 与0规范相交于(2,2)
+                new Segment(new Point(4, 4), new Point(6, 4)), // 2 与0端点相接于(4,4)
+                new Segment(new Point(5, 4), new Point(5, 0)), // 3 与2形成T形于(5,4)
+                new Segment(new Point(3, 3), new Point(8, 8)), // 4 与0共线重叠，重叠起点(3,3)
+                new Segment(new Point(7, 0), new Point(9, 0))  // 5 与其余线段都不相交
+        );
+        Map<String, Point> result = new HashMap<>();
+
+        // When
+        SegmentIntersections.findAll(segments, (x, y, i, j) -> {
+            System.out.println(i + " x " + j + " @ (" + x + "," + y + ")");
+            assertThat(result.put(i + "-" + j, new Point(x, y))).isNull();
+        });
+
+        // Then
+        assertThat(result).containsOnly(
+                Map.entry("0-1", new Point(2, 2)),
+                Map.entry("0-2", new Point(4, 4)),
+                Map.entry("2-3", new Point(5, 4)),
+                Map.entry("0-4", new Point(3, 3)),
+                Map.entry("2-4", new Point(4, 4))
+        );
+    }
+
+    @Test
+    public void verticalGrid() {
+        // Given
+        List<Segment> segments = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            segments.add(new Segment(new Point(i, -1), new Point(i, 10)));
+            segments.add(new Segment(new Point(-1, i), new Point(10, i)));
+        }
+        int[] count = new int[1];
+
+        // When
+        SegmentIntersections.findAll(segments, (x, y, i, j) -> count[0]++);
+
+        // Then
+        assertThat(count[0]).isEqualTo(100);
+    }
+
+    @Test
+    public void sameAsBruteForceOnDegenerateInput() {
+        Random random = new Random(7);
+        for (int round = 0; round < 300; round++) {
+            // Given: 小范围整数坐标，包含大量共点、共线、竖直、重叠与退化为点的线段
+            int n = 1 + random.nextInt(40);
+            int extent = 2 + random.nextInt(8);
+            List<Segment> segments = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                Point begin = new Point(random.nextInt(extent), random.nextInt(extent));
+                Point end = random.nextInt(10) == 0 ? begin : new Point(random.nextInt(extent), random.nextInt(extent));
+                segments.add(new Segment(begin, end));
+            }
+
+            // When & Then
+            assertSameAsBruteForce(segments);
+        }
+    }
+
+    @Test
+    public void sameAsBruteForceOnRandomInput() {
+        // Given
+        Random random = new Random(11);
+        List<Segment> segments = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            double x = random.nextDouble() * 100, y = random.nextDouble() * 100;
+            segments.add(new Segment(new Point(x, y), new Point(x + random.nextGaussian() * 5, y + random.nextGaussian() * 5)));
+        }
+
+        // When & Then
+        assertSameAsBruteForce(segments);
+    }
+
+    private void assertSameAsBruteForce(List<Segment> segments) {
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < segments.size(); i++) {
+            for (int j = i + 1; j < segments.size(); j++) {
+                if (ComputationalGeometryUtils.isIntersect(segments.get(i), segments.get(j))) {
+                    expected.add((long) i << 32 | j);
+                }
+            }
+        }
+
+        Set<Long> actual = new HashSet<>();
+        SegmentIntersections.findAll(segments, (x, y, i, j) -> {
+            assertThat(i).isLessThan(j);
+            assertThat(actual.add((long) i << 32 | j)).isTrue();
+            Point p = new Point(x, y);
+            assertThat(distance(p, segments.get(i))).isLessThan(1e-9);
+            assertThat(distance(p, segments.get(j))).isLessThan(1e-9);
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private double distance(Point p, Segment segment) {
+        if (segment.sqrLength() == 0) {
+            return ComputationalGeometryUtils.distance(p, segment.getBegin());
+        }
+        return ComputationalGeometryUtils.distance(p, ComputationalGeometryUtils.closestPointToSegment(p, segment));
+    }
+
+}
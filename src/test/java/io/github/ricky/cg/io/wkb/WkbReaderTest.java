@@ -0,0 +1,162 @@
+package io.github.ricky.cg.io.wkb;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.io.wkb.enums.WkbTypeEnum;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/18
+ * @className WkbReaderTest
+ * @desc
+ */
+class WkbReaderTest {
+
+    @Test
+    public void readPoint() {
+        // Given POINT(1 2)，小端序与大端序
+        byte[] little = hex("0101000000000000000000F03F0000000000000040");
+        byte[] big = hex("00000000013FF00000000000004000000000000000");
+
+        // When
+        WkbGeometry a = WkbReader.read(little);
+        WkbGeometry b = WkbReader.read(big);
+
+        // Then
+        assertThat(a.getType()).isEqualTo(WkbTypeEnum.POINT);
+        assertThat(a.getByteLength()).isEqualTo(21);
+        assertThat(a.toPoint()).isEqualTo(new Point(1, 2));
+        assertThat(b.toPoint()).isEqualTo(new Point(1, 2));
+        assertThat(a.getSrid()).isZero();
+    }
+
+    @Test
+    public void readPolygonView() {
+        // Given 大端序的 POLYGON((0 0, 4 0, 4 3, 0 0))，放在堆外缓冲区中，前面有两个无关字节
+        ByteBuffer buffer = ByteBuffer.allocateDirect(128).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) 7).put((byte) 7);
+        ByteBuffer data = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        data.put((byte) 0).putInt(3).putInt(1).putInt(4);
+        double[] ring = {0, 0, 4, 0, 4, 3, 0, 0};
+        for (double v : ring) {
+            data.putDouble(v);
+        }
+        buffer.limit(data.position()).position(2);
+
+        // When
+        WkbGeometry geometry = WkbReader.read(buffer);
+        WkbCoordinates coordinates = geometry.getRing(0, 0);
+
+        // Then 坐标从缓冲区读取，调用方缓冲区的字节序不变，position 移到几何对象之后
+        assertThat(buffer.position()).isEqualTo(buffer.limit());
+        assertThat(buffer.order()).isEqualTo(ByteOrder.LITTLE_ENDIAN);
+        assertThat(geometry.partCount()).isEqualTo(1);
+        assertThat(geometry.ringCount(0)).isEqualTo(1);
+        assertThat(coordinates.size()).isEqualTo(4);
+        assertThat(coordinates.getX(2)).isEqualTo(4);
+        assertThat(coordinates.getY(2)).isEqualTo(3);
+        double[] xs = new double[5], ys = new double[5];
+        assertThat(coordinates.copyTo(xs, ys, 1)).isEqualTo(5);
+        assertThat(xs).containsExactly(0, 0, 4, 4, 0);
+        assertThat(ys).containsExactly(0, 0, 0, 3, 0);
+        assertThat(geometry.toPolygon().getVertexes()).containsExactly(
+                new Point(0, 0), new Point(4, 0), new Point(4, 3));
+
+        // 视图与缓冲区共享内容
+        data.putDouble(2 + 1 + 4 + 4 + 4 + 2 * 8, 5);
+        assertThat(coordinates.getX(1)).isEqualTo(5);
+    }
+
+    @Test
+    public void readExtended() {
+        // Given PostGIS EWKB：SRID=4326;POINT Z(1 2 3)，以及 ISO WKB 的 LINESTRING ZM(1 2 3 4, 5 6 7 8)
+        ByteBuffer buffer = ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) 1).putInt(0xA0000001).putInt(4326).putDouble(1).putDouble(2).putDouble(3);
+        buffer.put((byte) 1).putInt(3002).putInt(2);
+        for (int v = 1; v <= 8; v++) {
+            buffer.putDouble(v);
+        }
+        buffer.flip();
+
+        // When 连续读取两条记录
+        WkbGeometry point = WkbReader.read(buffer);
+        WkbGeometry line = WkbReader.read(buffer);
+
+        // Then
+        assertThat(point.getSrid()).isEqualTo(4326);
+        assertThat(point.toPoint()).isEqualTo(new Point(1, 2));
+        assertThat(line.getType()).isEqualTo(WkbTypeEnum.LINE_STRING);
+        assertThat(line.toSegment().getEnd()).isEqualTo(new Point(5, 6));
+        assertThat(line.getRing(0, 0).toPointBuffer().getXs()).containsExactly(1, 5);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void readMulti() {
+        // Given MULTIPOLYGON：一个带洞的正方形、一个三角形，部件的字节序各不相同；以及空的多点与空点
+        ByteBuffer buffer = ByteBuffer.allocate(512);
+        buffer.order(ByteOrder.LITTLE_ENDIAN).put((byte) 1).putInt(6).putInt(2);
+        buffer.order(ByteOrder.BIG_ENDIAN).put((byte) 0).putInt(3).putInt(2);
+        ring(buffer, 0, 0, 10, 0, 10, 10, 0, 10, 0, 0);
+        ring(buffer, 2, 2, 2, 4, 4, 4, 2, 2);
+        buffer.order(ByteOrder.LITTLE_ENDIAN).put((byte) 1).putInt(3).putInt(1);
+        ring(buffer, 20, 0, 30, 0, 20, 10, 20, 0);
+        buffer.put((byte) 1).putInt(4).putInt(0);
+        buffer.put((byte) 1).putInt(1).putDouble(Double.NaN).putDouble(Double.NaN);
+        buffer.flip();
+
+        // When
+        WkbGeometry multi = WkbReader.read(buffer);
+        WkbGeometry emptyMulti = WkbReader.read(buffer);
+        WkbGeometry emptyPoint = WkbReader.read(buffer);
+
+        // Then
+        assertThat(multi.getType()).isEqualTo(WkbTypeEnum.MULTI_POLYGON);
+        assertThat(multi.partCount()).isEqualTo(2);
+        assertThat(multi.ringCount(0)).isEqualTo(2);
+        assertThat(multi.getRing(0, 1).getPoint(2)).isEqualTo(new Point(4, 4));
+        assertThat(multi.toPolygon(1).area()).isEqualTo(50);
+        assertThatThrownBy(() -> multi.toPolygon(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(multi::toPolygon).isInstanceOf(IllegalArgumentException.class);
+        assertThat(emptyMulti.partCount()).isZero();
+        assertThat(emptyPoint.getRing(0, 0).size()).isZero();
+        assertThatThrownBy(emptyPoint::toPoint).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void illegalData() {
+        // When Then 截断、错误的字节序、几何集合、部件类型不符、超大计数
+        assertThatThrownBy(() -> WkbReader.read(hex("0101000000000000000000F03F")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WkbReader.read(hex("0201000000000000000000F03F0000000000000040")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WkbReader.read(hex("010700000000000000")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WkbReader.read(hex("01040000000100000001020000000000000000")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WkbReader.read(hex("0102000000FFFFFFFF")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void ring(ByteBuffer buffer, double... coordinates) {
+        buffer.putInt(coordinates.length / 2);
+        for (double v : coordinates) {
+            buffer.putDouble(v);
+        }
+    }
+
+    static byte[] hex(String text) {
+        byte[] bytes = new byte[text.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(text.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.ricky.cg.io.wkb;
+
+import io.github.ricky.cg.basic.line.Segment;
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.io.wkb.enums.WkbTypeEnum;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/18
+ * @className WkbWriterTest
+ * @desc
+ */
+class WkbWriterTest {
+
+    @Test
+    public void writePoint() {
+        // Given
+        WkbWriter little = new WkbWriter();
+        WkbWriter big = new WkbWriter(ByteOrder.BIG_ENDIAN, true);
+
+        // When
+        ByteBuffer a = little.write(new Point(1, 2));
+        ByteBuffer b = big.write(new Point(1, 2));
+
+        // Then
+        assertThat(bytes(a)).isEqualTo(WkbReaderTest.hex("0101000000000000000000F03F0000000000000040"));
+        assertThat(bytes(b)).isEqualTo(WkbReaderTest.hex("00000000013FF00000000000004000000000000000"));
+        assertThat(b.isDirect()).isTrue();
+    }
+
+    @Test
+    public void roundTrip() {
+        // Given
+        WkbWriter writer = new WkbWriter(ByteOrder.BIG_ENDIAN, true);
+        Polygon hexagon = new Polygon(6, 2, new Point(1, 1));
+        Polygon square = new Polygon(new Point[]{new Point(0, 0), new Point(1, 0), new Point(1, 1), new Point(0, 1)});
+        Segment segment = new Segment(new Point(1, 2), new Point(3, 4));
+
+        // When Then 多边形的环被闭合，读回时去掉闭合点
+        WkbGeometry polygon = WkbReader.read(writer.write(hexagon));
+        assertThat(polygon.getRing(0, 0).size()).isEqualTo(7);
+        assertThat(polygon.toPolygon().getVertexes()).containsExactly(hexagon.getVertexes());
+
+        WkbGeometry line = WkbReader.read(writer.write(segment));
+        assertThat(line.toSegment()).isEqualTo(segment);
+
+        WkbGeometry multi = WkbReader.read(writer.write(new Polygon[]{hexagon, square}));
+        assertThat(multi.getType()).isEqualTo(WkbTypeEnum.MULTI_POLYGON);
+        assertThat(multi.toPolygon(1).getVertexes()).containsExactly(square.getVertexes());
+
+        double[] xs = {0, 3, 3, 0}, ys = {0, 0, 2, 0};
+        WkbGeometry closed = WkbReader.read(writer.writePolygon(xs, ys, 4));
+        assertThat(closed.getRing(0, 0).size()).isEqualTo(4);
+        WkbGeometry open = WkbReader.read(writer.writePolygon(xs, ys, 3));
+        assertThat(open.getRing(0, 0).size()).isEqualTo(4);
+        assertThat(open.toPolygon().area()).isEqualTo(3);
+        assertThat(WkbReader.read(writer.writePolygon(xs, ys, 0)).ringCount(0)).isZero();
+
+        WkbGeometry lineString = WkbReader.read(writer.writeLineString(xs, ys, 3));
+        assertThat(lineString.getRing(0, 0).toPoints()).containsExactly(
+                new Point(0, 0), new Point(3, 0), new Point(3, 2));
+    }
+
+    @Test
+    public void reuseBuffer() {
+        // Given
+        WkbWriter writer = new WkbWriter();
+        int n = 10_000;
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = Math.cos(2 * Math.PI * i / n);
+            ys[i] = Math.sin(2 * Math.PI * i / n);
+        }
+
+        // When 扩容之后重复写入使用同一个缓冲区
+        ByteBuffer first = writer.writePolygon(xs, ys, n);
+        int length = first.remaining();
+        ByteBuffer second = writer.writePolygon(xs, ys, n);
+        ByteBuffer small = writer.write(new Point(0, 0));
+
+        // Then
+        assertThat(length).isEqualTo(1 + 4 + 4 + 4 + (n + 1) * 16);
+        assertThat(second).isSameAs(first);
+        assertThat(small).isSameAs(first);
+        assertThat(small.remaining()).isEqualTo(21);
+        assertThat(WkbWriter.local()).isSameAs(WkbWriter.local());
+        assertThatThrownBy(() -> writer.writeLineString(xs, ys, n + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
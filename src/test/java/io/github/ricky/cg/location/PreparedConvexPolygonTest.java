@@ -0,0 +1,111 @@
+package io.github.ricky.cg.location;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import io.github.ricky.cg.shape.polygon.enums.PositionalRelationshipEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PreparedConvexPolygonTest
+ * @desc
+ */
+class PreparedConvexPolygonTest {
+
+    @Test
+    public void contains() {
+        // Given: 顺时针排列、含重复顶点和共线顶点的正方形
+        Polygon polygon = new Polygon(new Point[]{
+                new Point(0, 0), new Point(0, 1), new Point(0, 2), new Point(2, 2),
+                new Point(2, 2), new Point(2, 0), new Point(1, 0)
+        });
+        PreparedConvexPolygon prepared = new PreparedConvexPolygon(polygon);
+
+        // When & Then
+        assertThat(prepared.count()).isEqualTo(4);
+        assertThat(prepared.contains(new Point(1, 1))).isTrue();
+        assertThat(prepared.contains(new Point(0, 0))).isTrue();
+        assertThat(prepared.contains(new Point(1, 2))).isTrue();
+        assertThat(prepared.contains(new Point(2, 0.5))).isTrue();
+        assertThat(prepared.contains(new Point(3, 1))).isFalse();
+        assertThat(prepared.contains(new Point(-1, -1))).isFalse();
+        assertThat(prepared.contains(new Point(1, -0.5))).isFalse();
+    }
+
+    @Test
+    public void degenerate() {
+        // Given
+        PreparedConvexPolygon segment = new PreparedConvexPolygon(new Polygon(new Point[]{
+                new Point(0, 0), new Point(1, 1), new Point(3, 3), new Point(2, 2)
+        }));
+        PreparedConvexPolygon point = new PreparedConvexPolygon(new Polygon(new Point[]{new Point(1, 1)}));
+
+        // When & Then
+        assertThat(segment.contains(0.5, 0.5)).isTrue();
+        assertThat(segment.contains(3, 3)).isTrue();
+        assertThat(segment.contains(1, 2)).isFalse();
+        assertThat(segment.contains(4, 4)).isFalse();
+        assertThat(point.contains(1, 1)).isTrue();
+        assertThat(point.contains(1, 1.5)).isFalse();
+    }
+
+    @Test
+    public void sameAsInsideConvexPolygon() {
+        Random random = new Random(10);
+        for (int round = 0; round < 300; round++) {
+            // Given: 随机整数点的凸包
+            int extent = 2 + random.nextInt(20);
+            Point[] points = new Point[3 + random.nextInt(40)];
+            for (int i = 0; i < points.length; i++) {
+                points[i] = new Point(random.nextInt(extent), random.nextInt(extent));
+            }
+            Point[] hull = ComputationalGeometryUtils.findingConvexHulls(points);
+            if (hull.length < 3) {
+                continue;
+            }
+            Polygon polygon = new Polygon(hull);
+            PreparedConvexPolygon prepared = new PreparedConvexPolygon(polygon);
+
+            double[] qxs = new double[300], qys = new double[300];
+            for (int i = 0; i < qxs.length; i++) {
+                qxs[i] = random.nextInt(2 * extent + 2) / 2.0 - 0.5;
+                qys[i] = random.nextInt(2 * extent + 2) / 2.0 - 0.5;
+            }
+
+            // When
+            boolean[] result = prepared.contains(qxs, qys);
+
+            // Then
+            for (int i = 0; i < qxs.length; i++) {
+                Point q = new Point(qxs[i], qys[i]);
+                assertThat(result[i]).isEqualTo(ComputationalGeometryUtils.insideConvexPolygon(polygon, q));
+                assertThat(result[i]).isEqualTo(
+                        ComputationalGeometryUtils.positionalRelationship(polygon, q) != PositionalRelationshipEnum.EXTERNAL);
+            }
+        }
+    }
+
+    @Test
+    public void batch() {
+        // Given
+        PreparedConvexPolygon prepared = new PreparedConvexPolygon(new Polygon(64, 1, new Point(0, 0)));
+        double[] qxs = {0, 0.5, 2, -0.9, 0};
+        double[] qys = {0, 0.5, 0, 0, 1.5};
+        boolean[] result = new boolean[8];
+
+        // When
+        int inside = prepared.contains(qxs, qys, qxs.length, result);
+
+        // Then
+        assertThat(inside).isEqualTo(3);
+        assertThat(result).startsWith(true, true, false, true, false);
+    }
+
+}
@@ -0,0 +1,164 @@
+package io.github.ricky.cg.location;
+
+import com.sun.management.ThreadMXBean;
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import io.github.ricky.cg.shape.polygon.enums.PositionalRelationshipEnum;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PreparedPolygonTest
+ * @desc
+ */
+class PreparedPolygonTest {
+
+    @Test
+    public void locate() {
+        // Given: 带水平边和凹口的多边形
+        Polygon polygon = new Polygon(new Point[]{
+                new Point(0, 0), new Point(4, 0), new Point(4, 4), new Point(2, 2), new Point(0, 4)
+        });
+        PreparedPolygon prepared = new PreparedPolygon(polygon);
+
+        // When & Then
+        assertThat(prepared.locate(new Point(1, 1))).isEqualTo(PositionalRelationshipEnum.INSIDE);
+        assertThat(prepared.locate(new Point(2, 3))).isEqualTo(PositionalRelationshipEnum.EXTERNAL);
+        assertThat(prepared.locate(new Point(2, 0))).isEqualTo(PositionalRelationshipEnum.ONLINE);
+        assertThat(prepared.locate(new Point(2, 2))).isEqualTo(PositionalRelationshipEnum.ONLINE);
+        assertThat(prepared.locate(new Point(3, 3))).isEqualTo(PositionalRelationshipEnum.ONLINE);
+        assertThat(prepared.locate(new Point(1, 2))).isEqualTo(PositionalRelationshipEnum.INSIDE);
+        assertThat(prepared.locate(new Point(-1, 2))).isEqualTo(PositionalRelationshipEnum.EXTERNAL);
+        assertThat(prepared.locate(new Point(1, 5))).isEqualTo(PositionalRelationshipEnum.EXTERNAL);
+    }
+
+    @Test
+    public void sameAsPositionalRelationship() {
+        Random random = new Random(21);
+        for (int round = 0; round < 300; round++) {
+            // Given: 整数坐标的星形多边形（简单）或随机多边形（通常自相交）
+            int n = 1 + random.nextInt(30);
+            int extent = 2 + random.nextInt(12);
+            Point[] vertexes = new Point[n];
+            for (int i = 0; i < n; i++) {
+                vertexes[i] = new Point(random.nextInt(extent), random.nextInt(extent));
+            }
+            if (round % 2 == 0) {
+                double c = extent / 2.0 + 0.25;
+                Arrays.sort(vertexes, Comparator.comparingDouble(p -> Math.atan2(p.getY() - c, p.getX() - c)));
+            }
+            Polygon polygon = new Polygon(vertexes);
+            PreparedPolygon prepared = new PreparedPolygon(polygon);
+
+            for (int i = 0; i < 200; i++) {
+                // 半整数网格上的点：大量落在顶点、边上和经过顶点的水平线上
+                Point q = new Point(random.nextInt(2 * extent + 2) / 2.0 - 0.5, random.nextInt(2 * extent + 2) / 2.0 - 0.5);
+
+                // When & Then
+                assertThat(prepared.locate(q))
+                        .as("%s %s", Arrays.toString(vertexes), q)
+                        .isEqualTo(ComputationalGeometryUtils.positionalRelationship(polygon, q));
+            }
+        }
+    }
+
+    @Test
+    public void largeStarPolygon() {
+        // Given: 两万个随机顶点按极角排序的星形多边形，水平线平均穿过上千条边
+        Random random = new Random(7);
+        int n = 20000;
+        Point[] vertexes = new Point[n];
+        for (int i = 0; i < n; i++) {
+            vertexes[i] = new Point(random.nextDouble() * 1000, random.nextDouble() * 1000);
+        }
+        Arrays.sort(vertexes, Comparator.comparingDouble(p -> Math.atan2(p.getY() - 500, p.getX() - 500)));
+        Polygon polygon = new Polygon(vertexes);
+        PreparedPolygon prepared = new PreparedPolygon(polygon);
+
+        for (int i = 0; i < 2000; i++) {
+            Point q = i % 10 == 0 ? vertexes[random.nextInt(n)] : new Point(random.nextDouble() * 1000, random.nextDouble() * 1000);
+
+            // When & Then
+            assertThat(prepared.locate(q)).isEqualTo(ComputationalGeometryUtils.positionalRelationship(polygon, q));
+        }
+    }
+
+    @Test
+    public void locateParallel() {
+        // Given
+        Random random = new Random(11);
+        Point[] vertexes = new Point[500];
+        for (int i = 0; i < vertexes.length; i++) {
+            vertexes[i] = new Point(random.nextInt(100), random.nextInt(100));
+        }
+        Arrays.sort(vertexes, Comparator.comparingDouble(p -> Math.atan2(p.getY() - 50.25, p.getX() - 50.25)));
+        PreparedPolygon prepared = new PreparedPolygon(new Polygon(vertexes));
+        int n = 100_000;
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextInt(202) / 2.0;
+            ys[i] = random.nextInt(202) / 2.0;
+        }
+        byte[] expected = new byte[n], codes = new byte[n];
+        PositionalRelationshipEnum[] relationships = new PositionalRelationshipEnum[n];
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // When
+        prepared.locate(xs, ys, n, expected);
+        prepared.locateParallel(xs, ys, n, codes, pool, 1000);
+        prepared.locateParallel(xs, ys, n, relationships, pool, 1000);
+        pool.shutdown();
+        PositionalRelationshipEnum[] common = prepared.locateParallel(xs, ys);
+
+        // Then
+        assertThat(codes).isEqualTo(expected);
+        for (int i = 0; i < n; i++) {
+            assertThat(relationships[i]).isEqualTo(PositionalRelationshipEnum.ofCode(expected[i]));
+        }
+        assertThat(common).isEqualTo(relationships);
+    }
+
+    @Test
+    public void locateAllocatesNothing() {
+        // Given 线程分配计数是 HotSpot 的扩展(com.sun.management)，不可用时跳过
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+        Polygon polygon = new Polygon(2000, 10, new Point(0, 0));
+        PreparedPolygon prepared = new PreparedPolygon(polygon);
+        long threadId = Thread.currentThread().getId();
+        // 预热：类初始化、JIT 编译和覆盖率代理的一次性分配应发生在计数之前
+        run(prepared, 20_000);
+
+        // When
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        int sink = run(prepared, 100_000);
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+        // Then
+        System.out.println(sink);
+        System.out.println(allocated);
+        assertThat(allocated).isLessThan(1024);
+    }
+
+    private int run(PreparedPolygon prepared, int times) {
+        int sink = 0;
+        for (int i = 0; i < times; i++) {
+            sink += prepared.locate((i % 300) * 0.1 - 15, (i % 299) * 0.1 - 15).ordinal();
+        }
+        return sink;
+    }
+
+}
@@ -0,0 +1,156 @@
+package io.github.ricky.cg.overlay;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.shape.BoundingBox;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className ConvexClipperTest
+ * @desc
+ */
+class ConvexClipperTest {
+
+    @Test
+    public void rectangle() {
+        // Given
+        ConvexClipper clipper = new ConvexClipper(new BoundingBox(0, 0, 4, 4));
+        Polygon triangle = new Polygon(new Point[]{new Point(-2, 1), new Point(6, 1), new Point(2, 5)});
+
+        // When
+        Polygon result = clipper.clip(triangle);
+
+        // Then 截去三个角，交点落在矩形边上
+        System.out.println(Arrays.toString(result.getVertexes()));
+        assertThat(clipper.isRectangle()).isTrue();
+        assertThat(result.count()).isEqualTo(6);
+        assertThat(result.area()).isCloseTo(16 - 2 - 2 - 1, within(1e-12));
+        for (Point vertex : result.getVertexes()) {
+            assertThat(vertex.getX()).isBetween(0.0, 4.0);
+            assertThat(vertex.getY()).isBetween(0.0, 4.0);
+        }
+    }
+
+    @Test
+    public void insideAndOutside() {
+        // Given
+        ConvexClipper clipper = new ConvexClipper(new Polygon(6, 5, new Point(0, 0)));
+        Polygon inside = new Polygon(new Point[]{new Point(-1, -1), new Point(1, -1), new Point(0, 1)});
+        Polygon outside = new Polygon(new Point[]{new Point(10, 10), new Point(11, 10), new Point(10, 11)});
+        // 包围盒与窗口相交，但整个在窗口的一条边之外
+        Polygon corner = new Polygon(new Point[]{new Point(4.8, 4.8), new Point(5, 4.8), new Point(5, 5)});
+
+        // When
+        Polygon a = clipper.clip(inside);
+        Polygon b = clipper.clip(outside);
+        Polygon c = clipper.clip(corner);
+
+        // Then
+        assertThat(clipper.isRectangle()).isFalse();
+        assertThat(a.getVertexes()).containsExactly(inside.getVertexes());
+        assertThat(b).isNull();
+        assertThat(c).isNull();
+    }
+
+    @Test
+    public void reuseBuffers() {
+        // Given 同一组缓冲区反复使用
+        Random random = new Random(21);
+        ConvexClipper rectangle = new ConvexClipper(new BoundingBox(-3, -2, 3, 2));
+        ConvexClipper hexagon = new ConvexClipper(new Polygon(6, 3, new Point(0.5, 0)));
+        int capacity = Math.max(rectangle.capacity(40), hexagon.capacity(40));
+        double[] subjectXs = new double[40], subjectYs = new double[40];
+        double[] outXs = new double[capacity], outYs = new double[capacity];
+        double[] scratchXs = new double[capacity], scratchYs = new double[capacity];
+
+        for (int round = 0; round < 500; round++) {
+            int count = 3 + random.nextInt(38);
+            Polygon subject = starPolygon(random, count);
+            for (int i = 0; i < count; i++) {
+                subjectXs[i] = subject.getVertex(i).getX();
+                subjectYs[i] = subject.getVertex(i).getY();
+            }
+            ConvexClipper clipper = round % 2 == 0 ? rectangle : hexagon;
+            Polygon window = round % 2 == 0 ? rectangle(-3, -2, 3, 2) : new Polygon(6, 3, new Point(0.5, 0));
+
+            // When
+            int size = clipper.clip(subjectXs, subjectYs, count, outXs, outYs, scratchXs, scratchYs);
+
+            // Then 退化边不影响有向面积，结果面积与布尔运算的交集一致
+            double area = 0;
+            for (int i = 0; i < size; i++) {
+                int j = i + 1 == size ? 0 : i + 1;
+                area += outXs[i] * outYs[j] - outXs[j] * outYs[i];
+            }
+            double expected = 0;
+            for (Polygon ring : PolygonBooleanOperations.intersection(subject, window)) {
+                expected += ring.area();
+            }
+            assertThat(area / 2).isCloseTo(expected, within(1e-9));
+        }
+    }
+
+    @Test
+    public void clockwise() {
+        // Given 顺时针的窗口与被裁剪多边形
+        ConvexClipper clipper = new ConvexClipper(new Polygon(new Point[]{
+                new Point(0, 0), new Point(0, 2), new Point(2, 2), new Point(2, 0),
+        }));
+        Polygon subject = new Polygon(new Point[]{new Point(1, 1), new Point(1, 3), new Point(3, 3), new Point(3, 1)});
+
+        // When
+        Polygon result = clipper.clip(subject);
+
+        // Then 窗口按逆时针处理，结果保持原多边形的方向
+        assertThat(clipper.isRectangle()).isTrue();
+        assertThat(result.area()).isEqualTo(-1);
+    }
+
+    @Test
+    public void degenerateWindow() {
+        // Given
+        Polygon segment = new Polygon(new Point[]{new Point(0, 0), new Point(1, 1), new Point(2, 2)});
+
+        // When Then
+        assertThatThrownBy(() -> new ConvexClipper(segment)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shortBuffers() {
+        // Given 完全在窗口内的多边形，但缓冲区短于 capacity(count)
+        ConvexClipper clipper = new ConvexClipper(new BoundingBox(-1, -1, 1, 1));
+        double[] xs = {0, 0.5, 0}, ys = {0, 0, 0.5};
+        double[] outXs = new double[3], outYs = new double[3];
+        Arrays.fill(outXs, Double.NaN);
+
+        // When Then 在写入之前就拒绝，输出缓冲区保持原样
+        assertThatThrownBy(() -> clipper.clip(xs, ys, 3, outXs, outYs, new double[3], new double[3]))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(outXs).containsOnly(Double.NaN);
+    }
+
+    private static Polygon rectangle(double x1, double y1, double x2, double y2) {
+        return new Polygon(new Point[]{new Point(x1, y1), new Point(x2, y1), new Point(x2, y2), new Point(x1, y2)});
+    }
+
+    private static Polygon starPolygon(Random random, int n) {
+        Point[] vertexes = new Point[n];
+        double cx = random.nextDouble() * 2;
+        for (int i = 0; i < n; i++) {
+            double theta = 2 * Math.PI * i / n;
+            double r = 1 + random.nextDouble() * 4;
+            vertexes[i] = new Point(cx + r * Math.cos(theta), r * Math.sin(theta));
+        }
+        return new Polygon(vertexes);
+    }
+}
@@ -0,0 +1,301 @@
+package io.github.ricky.cg.overlay;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import io.github.ricky.cg.overlay.enums.BooleanOperationEnum;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import io.github.ricky.cg.shape.polygon.enums.PositionalRelationshipEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PolygonBooleanOperationsTest
+ * @desc
+ */
+class PolygonBooleanOperationsTest {
+
+    @Test
+    public void overlappingSquares() {
+        // Given
+        Polygon a = rectangle(0, 0, 2, 2);
+        Polygon b = rectangle(1, 1, 3, 3);
+
+        // When
+        Polygon[] union = PolygonBooleanOperations.union(a, b);
+        Polygon[] intersection = PolygonBooleanOperations.intersection(a, b);
+        Polygon[] difference = PolygonBooleanOperations.difference(a, b);
+        Polygon[] xor = PolygonBooleanOperations.xor(a, b);
+
+        // Then
+        System.out.println(Arrays.toString(union[0].getVertexes()));
+        assertThat(union).hasSize(1);
+        assertThat(union[0].count()).isEqualTo(8);
+        assertThat(area(union)).isEqualTo(7);
+        assertThat(intersection).hasSize(1);
+        assertThat(area(intersection)).isCloseTo(1, within(1e-12));
+        assertThat(difference).hasSize(1);
+        assertThat(area(difference)).isEqualTo(3);
+        assertThat(xor).hasSize(2);
+        assertThat(area(xor)).isEqualTo(6);
+    }
+
+    @Test
+    public void sharedEdges() {
+        // Given 相邻的两个矩形，以及与A完全重合的多边形
+        Polygon a = rectangle(0, 0, 1, 1);
+        Polygon b = rectangle(1, 0, 2, 1);
+        Polygon same = new Polygon(new Point[]{new Point(0, 1), new Point(0, 0), new Point(1, 0), new Point(1, 1)});
+
+        // When
+        Polygon[] union = PolygonBooleanOperations.union(a, b);
+        Polygon[] intersection = PolygonBooleanOperations.intersection(a, b);
+        Polygon[] difference = PolygonBooleanOperations.difference(a, b);
+        Polygon[] selfUnion = PolygonBooleanOperations.union(a, same);
+        Polygon[] selfXor = PolygonBooleanOperations.xor(a, same);
+
+        // Then
+        assertThat(union).hasSize(1);
+        assertThat(union[0].count()).isEqualTo(4);
+        assertThat(area(union)).isEqualTo(2);
+        assertThat(intersection).isEmpty();
+        assertThat(area(difference)).isEqualTo(1);
+        assertThat(selfUnion).hasSize(1);
+        assertThat(area(selfUnion)).isEqualTo(1);
+        assertThat(selfXor).isEmpty();
+    }
+
+    @Test
+    public void hole() {
+        // Given
+        Polygon outer = rectangle(0, 0, 4, 4);
+        Polygon inner = rectangle(1, 1, 3, 3);
+
+        // When
+        Polygon[] difference = PolygonBooleanOperations.difference(outer, inner);
+        Polygon[] union = PolygonBooleanOperations.union(outer, inner);
+        Polygon[] intersection = PolygonBooleanOperations.intersection(outer, inner);
+
+        // Then 外边界逆时针，洞顺时针
+        assertThat(difference).hasSize(2);
+        assertThat(difference).anyMatch(ring -> ring.area() == 16);
+        assertThat(difference).anyMatch(ring -> ring.area() == -4);
+        assertThat(area(union)).isEqualTo(16);
+        assertThat(area(intersection)).isEqualTo(4);
+    }
+
+    @Test
+    public void disjoint() {
+        // Given
+        Polygon a = rectangle(0, 0, 1, 1);
+        Polygon b = rectangle(5, 5, 6, 6);
+
+        // When
+        Polygon[] union = PolygonBooleanOperations.union(a, b);
+        Polygon[] intersection = PolygonBooleanOperations.intersection(a, b);
+
+        // Then
+        assertThat(union).hasSize(2);
+        assertThat(intersection).isEmpty();
+    }
+
+    @Test
+    public void concave() {
+        // Given U 形与横穿其开口的矩形，交集为两块，并集含一个洞
+        Polygon u = new Polygon(new Point[]{
+                new Point(0, 0), new Point(6, 0), new Point(6, 6), new Point(4, 6),
+                new Point(4, 2), new Point(2, 2), new Point(2, 6), new Point(0, 6),
+        });
+        Polygon bar = rectangle(-1, 4, 7, 5);
+
+        // When
+        Polygon[] intersection = PolygonBooleanOperations.intersection(u, bar);
+        Polygon[] union = PolygonBooleanOperations.union(u, bar);
+
+        // Then
+        assertThat(intersection).hasSize(2);
+        assertThat(area(intersection)).isEqualTo(4);
+        assertThat(union).hasSize(2);
+        assertThat(area(union)).isEqualTo(28 + 8 - 4);
+        assertValid(u, bar);
+    }
+
+    @Test
+    public void repeatedVertices() {
+        // Given 含相邻重复顶点的多边形：凸的正方形走快速路径，凹的星形走一般路径
+        Polygon square = new Polygon(new Point[]{
+                new Point(0, 0), new Point(0, 0), new Point(4, 0), new Point(4, 2), new Point(4, 2),
+                new Point(4, 4), new Point(0, 4),
+        });
+        Polygon star = new Polygon(new Point[]{
+                new Point(8, 0), new Point(5, 1), new Point(5, 2), new Point(7, 5), new Point(7, 7),
+                new Point(3, 4), new Point(3, 8), new Point(1, 6), new Point(0, 9), new Point(-1, 6),
+                new Point(-2, 5), new Point(-3, 5), new Point(-5, 5), new Point(-7, 5), new Point(-7, 3),
+                new Point(-6, 1), new Point(-9, 0), new Point(-4, -1), new Point(-4, -2), new Point(-4, -2),
+                new Point(-3, -3), new Point(-5, -8), new Point(-1, -4), new Point(-2, -8), new Point(0, -10),
+                new Point(2, -9), new Point(3, -7), new Point(2, -3), new Point(3, -3), new Point(4, -3),
+                new Point(6, -2), new Point(7, -1),
+        });
+        Polygon other = new Polygon(new Point[]{
+                new Point(7, -2), new Point(6, 5), new Point(0, 4), new Point(-5, 2),
+                new Point(-4, -2), new Point(-6, -7), new Point(0, -6), new Point(3, -5),
+        });
+
+        // When
+        Polygon[] squareIntersection = PolygonBooleanOperations.intersection(square, rectangle(2, -1, 6, 5));
+
+        // Then 重复顶点产生的零长边不会让结果环丢失
+        assertThat(area(squareIntersection)).isEqualTo(8);
+        assertThat(area(PolygonBooleanOperations.union(star, other))).isCloseTo(158.34382108502618, within(1e-9));
+        assertThat(area(PolygonBooleanOperations.intersection(star, other))).isCloseTo(86.15617891497384, within(1e-9));
+        assertThat(area(PolygonBooleanOperations.difference(star, other))).isCloseTo(54.34382108502615, within(1e-9));
+        assertThat(area(PolygonBooleanOperations.xor(star, other))).isCloseTo(72.18764217005231, within(1e-9));
+        assertValid(star, other);
+    }
+
+    @Test
+    public void randomStarPolygons() {
+        // Given 整数坐标的星形多边形，顶点、边常常落在另一个多边形的边界上
+        Random random = new Random(20);
+        for (int round = 0; round < 300; round++) {
+            Polygon a = starPolygon(random, 3 + random.nextInt(10), random.nextInt(5), random.nextInt(5));
+            Polygon b = starPolygon(random, 3 + random.nextInt(10), random.nextInt(5), random.nextInt(5));
+            if (random.nextBoolean()) {
+                b = reversed(b);
+            }
+
+            // When Then
+            assertValid(a, b);
+        }
+    }
+
+    @Test
+    public void convexFastPath() {
+        // Given
+        Random random = new Random(21);
+        for (int round = 0; round < 300; round++) {
+            Polygon a = new Polygon(3 + random.nextInt(20), 1 + random.nextDouble() * 5,
+                    new Point(random.nextDouble() * 4, random.nextDouble() * 4));
+            Polygon b = new Polygon(3 + random.nextInt(20), 1 + random.nextDouble() * 5,
+                    new Point(random.nextDouble() * 4, random.nextDouble() * 4));
+            if (random.nextBoolean()) {
+                b = reversed(b);
+            }
+
+            // When
+            Polygon[] intersection = PolygonBooleanOperations.intersection(a, b);
+            Polygon[] union = PolygonBooleanOperations.union(a, b);
+
+            // Then 快速路径的结果与一般路径的并集满足容斥关系
+            assertThat(intersection.length).isLessThanOrEqualTo(1);
+            double expected = Math.abs(a.area()) + Math.abs(b.area()) - area(union);
+            assertThat(area(intersection)).isCloseTo(expected, within(1e-9));
+        }
+    }
+
+    @Test
+    public void largePolygons() {
+        // Given 两个各有 50000 个顶点、互相缠绕的星形多边形
+        int n = 50000;
+        Point[] pa = new Point[n], pb = new Point[n];
+        for (int i = 0; i < n; i++) {
+            double theta = 2 * Math.PI * i / n;
+            double ra = 100 + 10 * Math.sin(97 * theta), rb = 100 + 10 * Math.cos(89 * theta);
+            pa[i] = new Point(ra * Math.cos(theta), ra * Math.sin(theta));
+            pb[i] = new Point(rb * Math.cos(theta) + 3, rb * Math.sin(theta));
+        }
+        Polygon a = new Polygon(pa), b = new Polygon(pb);
+
+        // When
+        long start = System.nanoTime();
+        Polygon[] union = PolygonBooleanOperations.union(a, b);
+        Polygon[] intersection = PolygonBooleanOperations.intersection(a, b);
+        System.out.println("large: " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        // Then
+        assertThat(area(union) + area(intersection)).isCloseTo(a.area() + b.area(), within(1e-6));
+    }
+
+    /**
+     * 检查四种运算：面积满足容斥关系，随机采样点在结果中的奇偶性与在A、B中的关系一致
+     */
+    private static void assertValid(Polygon a, Polygon b) {
+        Polygon[] union = PolygonBooleanOperations.union(a, b);
+        Polygon[] intersection = PolygonBooleanOperations.intersection(a, b);
+        Polygon[] difference = PolygonBooleanOperations.difference(a, b);
+        Polygon[] xor = PolygonBooleanOperations.xor(a, b);
+        double areaA = Math.abs(a.area()), areaB = Math.abs(b.area());
+        assertThat(area(union) + area(intersection)).isCloseTo(areaA + areaB, within(1e-9));
+        assertThat(area(difference)).isCloseTo(areaA - area(intersection), within(1e-9));
+        assertThat(area(xor)).isCloseTo(area(union) - area(intersection), within(1e-9));
+
+        Random random = new Random(a.count() * 31L + b.count());
+        for (int i = 0; i < 200; i++) {
+            Point q = new Point(-12 + random.nextDouble() * 30, -12 + random.nextDouble() * 30);
+            PositionalRelationshipEnum ra = ComputationalGeometryUtils.positionalRelationship(a, q);
+            PositionalRelationshipEnum rb = ComputationalGeometryUtils.positionalRelationship(b, q);
+            if (ra == PositionalRelationshipEnum.ONLINE || rb == PositionalRelationshipEnum.ONLINE) {
+                continue;
+            }
+            boolean inA = ra == PositionalRelationshipEnum.INSIDE, inB = rb == PositionalRelationshipEnum.INSIDE;
+            assertThat(contains(union, q)).isEqualTo(inA || inB);
+            assertThat(contains(intersection, q)).isEqualTo(inA && inB);
+            assertThat(contains(difference, q)).isEqualTo(inA && !inB);
+            assertThat(contains(xor, q)).isEqualTo(inA != inB);
+        }
+        for (BooleanOperationEnum operation : BooleanOperationEnum.values()) {
+            for (Polygon ring : PolygonBooleanOperations.compute(a, b, operation)) {
+                assertThat(ring.count()).isGreaterThanOrEqualTo(3);
+            }
+        }
+    }
+
+    private static boolean contains(Polygon[] rings, Point q) {
+        boolean inside = false;
+        for (Polygon ring : rings) {
+            if (ComputationalGeometryUtils.positionalRelationship(ring, q) == PositionalRelationshipEnum.INSIDE) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    private static double area(Polygon[] rings) {
+        double area = 0;
+        for (Polygon ring : rings) {
+            area += ring.area();
+        }
+        return area;
+    }
+
+    private static Polygon rectangle(double x1, double y1, double x2, double y2) {
+        return new Polygon(new Point[]{new Point(x1, y1), new Point(x2, y1), new Point(x2, y2), new Point(x1, y2)});
+    }
+
+    private static Polygon reversed(Polygon polygon) {
+        Point[] vertexes = polygon.getVertexes();
+        for (int i = 0, j = vertexes.length - 1; i < j; i++, j--) {
+            Point swap = vertexes[i];
+            vertexes[i] = vertexes[j];
+            vertexes[j] = swap;
+        }
+        return new Polygon(vertexes);
+    }
+
+    private static Polygon starPolygon(Random random, int n, int cx, int cy) {
+        Point[] vertexes = new Point[n];
+        for (int i = 0; i < n; i++) {
+            double theta = 2 * Math.PI * i / n;
+            double r = 4 + random.nextInt(6);
+            vertexes[i] = new Point(cx + Math.rint(r * Math.cos(theta)), cy + Math.rint(r * Math.sin(theta)));
+        }
+        return new Polygon(vertexes);
+    }
+}
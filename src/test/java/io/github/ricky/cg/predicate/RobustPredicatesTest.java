@@ -0,0 +1,141 @@
+package io.github.ricky.cg.predicate;
+
+import io.github.ricky.cg.common.utils.ComputationalGeometryUtils;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className RobustPredicatesTest
+ * @desc
+ */
+class RobustPredicatesTest {
+
+    @Test
+    public void orientation() {
+        // Given a = (0, 0), b = (1, 0), c = (0, 1), d = (2, 0)
+
+        // When
+        int res1 = RobustPredicates.orientation(0, 0, 1, 0, 0, 1);
+        int res2 = RobustPredicates.orientation(0, 0, 0, 1, 1, 0);
+        int res3 = RobustPredicates.orientation(0, 0, 1, 0, 2, 0);
+
+        // Then
+        assertThat(res1).isEqualTo(1);
+        assertThat(res2).isEqualTo(-1);
+        assertThat(res3).isEqualTo(0);
+    }
+
+    @Test
+    public void orientationNearlyCollinear() {
+        Random random = new Random(12);
+        int wrong = 0;
+        for (int i = 0; i < 100_000; i++) {
+            // Given: 投影坐标量级的近似共线三点，第三个点取两点连线上舍入后的位置
+            double ax = 1e6 * random.nextDouble(), ay = 1e6 * random.nextDouble();
+            double bx = 1e6 * random.nextDouble(), by = 1e6 * random.nextDouble();
+            double t = random.nextDouble() * 3 - 1;
+            double cx = ax + t * (bx - ax), cy = ay + t * (by - ay);
+
+            // When
+            int orientation = RobustPredicates.orientation(ax, ay, bx, by, cx, cy);
+
+            // Then
+            int expected = exactOrientation(ax, ay, bx, by, cx, cy);
+            assertThat(orientation).isEqualTo(expected);
+            if (Math.signum(ComputationalGeometryUtils.cross(ax, ay, bx, by, cx, cy)) != expected) {
+                wrong++;
+            }
+        }
+        System.out.println(wrong);
+        assertThat(wrong).isPositive();
+    }
+
+    @Test
+    public void orientationTinyPerturbation() {
+        // Given: 经典的 (0.5 + k*ulp, 0.5 + l*ulp), (12, 12), (24, 24) 网格
+        double ulp = Math.ulp(0.5);
+        for (int k = 0; k < 64; k++) {
+            for (int l = 0; l < 64; l++) {
+                double px = 0.5 + k * ulp, py = 0.5 + l * ulp;
+
+                // When & Then
+                assertThat(RobustPredicates.orientation(px, py, 12, 12, 24, 24))
+                        .isEqualTo(exactOrientation(px, py, 12, 12, 24, 24));
+            }
+        }
+    }
+
+    @Test
+    public void inCircle() {
+        // Given a = (1, 0), b = (0, 1), c = (-1, 0)
+
+        // When
+        double res1 = RobustPredicates.incircle(1, 0, 0, 1, -1, 0, 0, 0);
+        double res2 = RobustPredicates.incircle(1, 0, 0, 1, -1, 0, 0, -1);
+        double res3 = RobustPredicates.incircle(1, 0, 0, 1, -1, 0, 2, 2);
+        double res4 = RobustPredicates.incircle(-1, 0, 0, 1, 1, 0, 0, 0);
+
+        // Then
+        assertThat(res1).isPositive();
+        assertThat(res2).isZero();
+        assertThat(res3).isNegative();
+        assertThat(res4).isNegative();
+    }
+
+    @Test
+    public void inCircleNearlyCocircular() {
+        Random random = new Random(13);
+        for (int i = 0; i < 20_000; i++) {
+            // Given: 圆心与半径为投影坐标量级，四个点取圆上舍入后的位置
+            double ox = 1e6 * random.nextDouble(), oy = 1e6 * random.nextDouble(), r = 1 + 1e3 * random.nextDouble();
+            double[] xs = new double[4], ys = new double[4];
+            for (int k = 0; k < 4; k++) {
+                double theta = 2 * Math.PI * random.nextDouble();
+                xs[k] = ox + r * Math.cos(theta);
+                ys[k] = oy + r * Math.sin(theta);
+            }
+            if (i % 4 == 0) {
+                // 整数坐标上的精确共圆
+                xs = new double[]{3, -3, 0, 5};
+                ys = new double[]{4, 4, -5, 0};
+            }
+
+            // When
+            double det = RobustPredicates.incircle(xs[0], ys[0], xs[1], ys[1], xs[2], ys[2], xs[3], ys[3]);
+
+            // Then
+            assertThat((int) Math.signum(det)).isEqualTo(exactInCircle(xs, ys));
+        }
+    }
+
+    private static int exactOrientation(double ax, double ay, double bx, double by, double cx, double cy) {
+        BigDecimal acx = new BigDecimal(ax).subtract(new BigDecimal(cx));
+        BigDecimal acy = new BigDecimal(ay).subtract(new BigDecimal(cy));
+        BigDecimal bcx = new BigDecimal(bx).subtract(new BigDecimal(cx));
+        BigDecimal bcy = new BigDecimal(by).subtract(new BigDecimal(cy));
+        return acx.multiply(bcy).subtract(acy.multiply(bcx)).signum();
+    }
+
+    private static int exactInCircle(double[] xs, double[] ys) {
+        BigDecimal[][] m = new BigDecimal[3][3];
+        for (int k = 0; k < 3; k++) {
+            BigDecimal dx = new BigDecimal(xs[k]).subtract(new BigDecimal(xs[3]));
+            BigDecimal dy = new BigDecimal(ys[k]).subtract(new BigDecimal(ys[3]));
+            m[k][0] = dx;
+            m[k][1] = dy;
+            m[k][2] = dx.multiply(dx).add(dy.multiply(dy));
+        }
+        BigDecimal det = m[0][0].multiply(m[1][1].multiply(m[2][2]).subtract(m[1][2].multiply(m[2][1])))
+                .subtract(m[0][1].multiply(m[1][0].multiply(m[2][2]).subtract(m[1][2].multiply(m[2][0]))))
+                .add(m[0][2].multiply(m[1][0].multiply(m[2][1]).subtract(m[1][1].multiply(m[2][0]))));
+        return det.signum();
+    }
+
+}
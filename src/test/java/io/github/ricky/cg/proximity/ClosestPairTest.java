@@ -0,0 +1,137 @@
+package io.github.ricky.cg.proximity;
+
+import io.github.ricky.cg.basic.point.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className ClosestPairTest
+ * @desc
+ */
+class ClosestPairTest {
+
+    @Test
+    public void compute() {
+        // Given
+        Point[] points = {
+                new Point(2, 3),
+                new Point(12, 30),
+                new Point(40, 50),
+                new Point(5, 1),
+                new Point(12, 10),
+                new Point(3, 4),
+        };
+
+        // When
+        Point[] pair = ClosestPair.compute(points);
+
+        // Then
+        System.out.println(java.util.Arrays.toString(pair));
+        assertThat(pair).containsExactly(new Point(2, 3), new Point(3, 4));
+    }
+
+    @Test
+    public void degenerate() {
+        // Given
+        double[] xs = {1, 5, 1};
+        double[] ys = {2, 5, 2};
+
+        // When
+        int[] empty = ClosestPair.compute(xs, ys, 0);
+        int[] single = ClosestPair.compute(xs, ys, 1);
+        int[] duplicate = ClosestPair.compute(xs, ys, 3);
+
+        // Then
+        assertThat(empty).isEmpty();
+        assertThat(single).isEmpty();
+        assertThat(duplicate).containsExactly(0, 2);
+    }
+
+    @Test
+    public void sameAsBruteForce() {
+        // Given
+        Random random = new Random(15);
+        for (int round = 0; round < 300; round++) {
+            int n = 2 + random.nextInt(round < 200 ? 50 : 3000);
+            double[] xs = new double[n], ys = new double[n];
+            for (int i = 0; i < n; i++) {
+                if (round % 3 == 0) {
+                    // 整数网格：大量等距点对与共线点
+                    xs[i] = random.nextInt(40);
+                    ys[i] = random.nextInt(40);
+                } else {
+                    xs[i] = random.nextDouble() * 1000;
+                    ys[i] = random.nextDouble() * (round % 2 == 0 ? 1000 : 1);
+                }
+            }
+
+            // When
+            int[] pair = ClosestPair.compute(xs, ys, n);
+            int[] parallel = ClosestPair.computeParallel(xs, ys, n, ForkJoinPool.commonPool(), 16);
+
+            // Then
+            double brute = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    brute = Math.min(brute, distance2(xs, ys, i, j));
+                }
+            }
+            assertThat(pair[0]).isLessThan(pair[1]);
+            assertThat(distance2(xs, ys, pair[0], pair[1])).isEqualTo(brute);
+            assertThat(distance2(xs, ys, parallel[0], parallel[1])).isEqualTo(brute);
+        }
+    }
+
+    @Test
+    public void computeParallel() {
+        // Given
+        Random random = new Random(51);
+        int n = 200000;
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextDouble() * 1e6;
+            ys[i] = random.nextDouble() * 1e6;
+        }
+
+        // When
+        int[] sequential = ClosestPair.compute(xs, ys, n);
+        int[] parallel = ClosestPair.computeParallel(xs, ys, n, ForkJoinPool.commonPool(), 1 << 12);
+
+        // Then
+        System.out.println(Math.sqrt(distance2(xs, ys, sequential[0], sequential[1])));
+        assertThat(distance2(xs, ys, parallel[0], parallel[1]))
+                .isEqualTo(distance2(xs, ys, sequential[0], sequential[1]));
+    }
+
+    @Test
+    public void manyDuplicates() {
+        // Given
+        int n = 1000000;
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = i % 3;
+            ys[i] = 7;
+        }
+
+        // When
+        int[] pair = ClosestPair.compute(xs, ys, n);
+        int[] parallel = ClosestPair.computeParallel(xs, ys, n, ForkJoinPool.commonPool(), 1 << 12);
+
+        // Then
+        assertThat(distance2(xs, ys, pair[0], pair[1])).isEqualTo(0);
+        assertThat(distance2(xs, ys, parallel[0], parallel[1])).isEqualTo(0);
+    }
+
+    private static double distance2(double[] xs, double[] ys, int i, int j) {
+        double dx = xs[i] - xs[j], dy = ys[i] - ys[j];
+        return dx * dx + dy * dy;
+    }
+
+}
@@ -0,0 +1,54 @@
+package io.github.ricky.cg.shape;
+
+import io.github.ricky.cg.basic.line.Segment;
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.shape.circle.CenterRadiusCircle;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import io.github.ricky.cg.shape.polygon.Triangle;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className BoundingBoxTest
+ * @desc
+ */
+class BoundingBoxTest {
+
+    @Test
+    public void boundingBox() {
+        // Given
+        Polygon polygon = new Polygon(new Point[]{new Point(1, 2), new Point(4, -1), new Point(3, 5)});
+        Triangle triangle = new Triangle(new Point(0, 0), new Point(2, 0), new Point(1, 3));
+        CenterRadiusCircle circle = new CenterRadiusCircle(new Point(1, 1), 2);
+        Segment segment = new Segment(new Point(3, 1), new Point(-1, 2));
+
+        // When & Then
+        assertThat(polygon.boundingBox()).isEqualTo(new BoundingBox(1, -1, 4, 5));
+        assertThat(triangle.boundingBox()).isEqualTo(new BoundingBox(0, 0, 2, 3));
+        assertThat(circle.boundingBox()).isEqualTo(new BoundingBox(-1, -1, 3, 3));
+        assertThat(BoundingBox.of(segment)).isEqualTo(new BoundingBox(-1, 1, 3, 2));
+    }
+
+    @Test
+    public void predicates() {
+        // Given
+        BoundingBox box = new BoundingBox(0, 0, 2, 1);
+
+        // When & Then
+        assertThat(box.contains(new Point(2, 1))).isTrue();
+        assertThat(box.contains(new Point(2.5, 1))).isFalse();
+        assertThat(box.intersects(new BoundingBox(2, 1, 3, 3))).isTrue();
+        assertThat(box.intersects(new BoundingBox(2.1, 0, 3, 3))).isFalse();
+        assertThat(box.sqrDistance(1, 0.5)).isEqualTo(0);
+        assertThat(box.sqrDistance(5, 5)).isEqualTo(25);
+        assertThat(box.union(new BoundingBox(-1, 3, 0, 4))).isEqualTo(new BoundingBox(-1, 0, 2, 4));
+        assertThat(box.expand(1)).isEqualTo(new BoundingBox(-1, -1, 3, 2));
+        assertThatThrownBy(() -> new BoundingBox(1, 0, 0, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
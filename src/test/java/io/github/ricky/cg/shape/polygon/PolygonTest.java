@@ -1,8 +1,16 @@
 package io.github.ricky.cg.shape.polygon;
 
 import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.shape.BoundingBox;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -62,4 +70,108 @@ class PolygonTest {
         assertThat(diameter).isEqualTo(2.0);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void diameter3() {
+        // Given
+        Polygon polygon = new Polygon(new Point[]{
+                Point.ORIGINAL_POINT,
+                new Point(1, -10),
+                new Point(2, 0),
+                new Point(1, 10),
+        });
+
+        // When
+        double diameter = polygon.diameter();
+
+        // Then
+        assertThat(diameter).isEqualTo(20);
+    }
+
+    @Test
+    public void defensiveCopy() {
+        // Given
+        Point[] vertexes = {Point.ORIGINAL_POINT, new Point(2, 0), new Point(2, 2), new Point(0, 2)};
+        Polygon polygon = new Polygon(vertexes);
+        double area = polygon.area();
+
+        // When
+        vertexes[2] = new Point(10, 10);
+        polygon.getVertexes()[2] = new Point(10, 10);
+
+        // Then
+        assertThat(polygon.getVertex(2)).isEqualTo(new Point(2, 2));
+        assertThat(polygon.area()).isEqualTo(area);
+        assertThat(new Polygon(polygon.getVertexes()).area()).isEqualTo(area);
+    }
+
+    @Test
+    public void memoizedProperties() {
+        // Given
+        Polygon clockwise = new Polygon(new Point[]{
+                new Point(0, 2),
+                new Point(2, 2),
+                new Point(2, 0),
+                Point.ORIGINAL_POINT,
+        });
+        Polygon triangle = new Polygon(new Point[]{
+                new Point(1, 1),
+                new Point(7, 1),
+                new Point(1, 4),
+        });
+
+        // When
+        Point center = triangle.gravityCenter();
+        BoundingBox box = triangle.boundingBox();
+
+        // Then
+        assertThat(clockwise.area()).isEqualTo(-4);
+        assertThat(clockwise.checkVerticesCounterClockwise()).isFalse();
+        assertThat(clockwise.gravityCenter()).isEqualTo(new Point(1, 1));
+        assertThat(polygon4.checkVerticesCounterClockwise()).isTrue();
+        assertThat(center).isEqualTo(new Point(3, 2));
+        assertThat(triangle.gravityCenter()).isSameAs(center);
+        assertThat(triangle.perimeter()).isEqualTo(6 + 3 + Math.sqrt(45));
+        assertThat(box.getMinX()).isEqualTo(1);
+        assertThat(box.getMinY()).isEqualTo(1);
+        assertThat(box.getMaxX()).isEqualTo(7);
+        assertThat(box.getMaxY()).isEqualTo(4);
+        assertThat(triangle.boundingBox()).isSameAs(box);
+    }
+
+    @Test
+    public void degenerateGravityCenter() {
+        // Given
+        Polygon segment = new Polygon(new Point[]{Point.ORIGINAL_POINT, new Point(4, 2)});
+
+        // When
+        Point center = segment.gravityCenter();
+
+        // Then
+        assertThat(center).isEqualTo(new Point(2, 1));
+        assertThat(segment.area()).isEqualTo(0);
+        assertThat(segment.perimeter()).isEqualTo(2 * Math.sqrt(20));
+    }
+
+    @Test
+    public void concurrentFirstAccess() throws Exception {
+        // Given
+        Polygon polygon = new Polygon(1000, 3.0, new Point(1, 2));
+        double area = new Polygon(polygon.getVertexes()).area();
+        Point center = new Polygon(polygon.getVertexes()).gravityCenter();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            tasks.add(() -> polygon.area() == area && polygon.gravityCenter().equals(center));
+        }
+
+        // When
+        List<Future<Boolean>> results = executor.invokeAll(tasks);
+        executor.shutdown();
+
+        // Then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+    }
+
+}
@@ -0,0 +1,211 @@
+package io.github.ricky.cg.simplification;
+
+import io.github.ricky.cg.basic.point.PointBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PolylineSimplificationTest
+ * @desc
+ */
+class PolylineSimplificationTest {
+
+    @Test
+    public void douglasPeucker() {
+        // Given
+        double[] xs = {0, 1, 2, 3, 4, 5, 6};
+        double[] ys = {0, 0.1, -0.1, 5, 6, 7, 7};
+
+        // When
+        int[] loose = PolylineSimplification.douglasPeucker(xs, ys, xs.length, 10);
+        int[] tight = PolylineSimplification.douglasPeucker(xs, ys, xs.length, 0.5);
+
+        // Then
+        System.out.println(Arrays.toString(tight));
+        assertThat(loose).containsExactly(0, 6);
+        assertThat(tight).containsExactly(0, 2, 3, 5, 6);
+    }
+
+    @Test
+    public void douglasPeuckerMatchesRecursion() {
+        // Given
+        Random random = new Random(22);
+        for (int round = 0; round < 200; round++) {
+            int n = 2 + random.nextInt(200);
+            double[] xs = new double[n], ys = new double[n];
+            randomWalk(random, xs, ys, n);
+            double tolerance = random.nextDouble() * 3;
+
+            // When
+            int[] result = PolylineSimplification.douglasPeucker(xs, ys, n, tolerance);
+
+            // Then
+            List<Integer> expected = new ArrayList<>();
+            expected.add(0);
+            recursiveDouglasPeucker(xs, ys, 0, n - 1, tolerance * tolerance, expected);
+            assertThat(result).containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    @Test
+    public void visvalingamWhyattMatchesNaive() {
+        // Given
+        Random random = new Random(23);
+        for (int round = 0; round < 200; round++) {
+            int n = 1 + random.nextInt(120);
+            double[] xs = new double[n], ys = new double[n];
+            randomWalk(random, xs, ys, n);
+
+            // When
+            double[] areas = PolylineSimplification.effectiveAreas(xs, ys, n);
+
+            // Then
+            assertThat(areas).containsExactly(naiveEffectiveAreas(xs, ys, n));
+            double threshold = random.nextDouble();
+            int[] kept = PolylineSimplification.visvalingamWhyatt(xs, ys, n, threshold);
+            for (int i : kept) {
+                assertThat(areas[i]).isGreaterThanOrEqualTo(threshold);
+            }
+        }
+    }
+
+    @Test
+    public void pointBuffer() {
+        // Given 正弦曲线，阈值越大保留的点越少
+        PointBuffer points = new PointBuffer();
+        for (int i = 0; i <= 1000; i++) {
+            points.add(i * 0.01, Math.sin(i * 0.01));
+        }
+
+        // When
+        PointBuffer dp = PolylineSimplification.douglasPeucker(points, 1e-3);
+        PointBuffer vw = PolylineSimplification.visvalingamWhyatt(points, 1e-4);
+        PointBuffer coarse = PolylineSimplification.visvalingamWhyatt(points, 1e-2);
+
+        // Then
+        System.out.println(dp.size() + " " + vw.size() + " " + coarse.size());
+        assertThat(dp.size()).isBetween(3, 200);
+        assertThat(coarse.size()).isLessThan(vw.size());
+        assertThat(vw.getX(0)).isEqualTo(0);
+        assertThat(vw.getX(vw.size() - 1)).isCloseTo(10, within(1e-12));
+    }
+
+    @Test
+    public void largeTrack() {
+        // Given 一百万个点的随机游走轨迹
+        int n = 1_000_000;
+        double[] xs = new double[n], ys = new double[n];
+        randomWalk(new Random(24), xs, ys, n);
+
+        // When
+        long start = System.nanoTime();
+        int[] dp = PolylineSimplification.douglasPeucker(xs, ys, n, 5);
+        long middle = System.nanoTime();
+        int[] vw = PolylineSimplification.visvalingamWhyatt(xs, ys, n, 25);
+        long end = System.nanoTime();
+
+        // Then
+        System.out.println("dp: " + dp.length + " in " + (middle - start) / 1_000_000 + " ms, vw: "
+                + vw.length + " in " + (end - middle) / 1_000_000 + " ms");
+        assertWithinTolerance(xs, ys, dp, 5);
+        assertThat(vw.length).isLessThan(n);
+    }
+
+    @Test
+    public void illegalArguments() {
+        // Given
+        double[] xs = {0, 1, 2};
+        double[] ys = {0, 1, 0};
+
+        // When Then
+        assertThat(PolylineSimplification.douglasPeucker(xs, ys, 2, 1)).containsExactly(0, 1);
+        assertThatThrownBy(() -> PolylineSimplification.douglasPeucker(xs, ys, 4, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> PolylineSimplification.douglasPeucker(xs, ys, 3, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PolylineSimplification.visvalingamWhyatt(xs, ys, 3, Double.NaN))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 检查被删除的点到化简后对应线段的距离都不超过容差
+     */
+    static void assertWithinTolerance(double[] xs, double[] ys, int[] kept, double tolerance) {
+        for (int r = 0; r + 1 < kept.length; r++) {
+            int i = kept[r], j = kept[r + 1];
+            assertThat(i).isLessThan(j);
+            for (int k = i + 1; k < j; k++) {
+                double distance = PolylineSimplification.sqrDistanceToSegment(xs[k], ys[k], xs[i], ys[i], xs[j], ys[j]);
+                assertThat(distance).isLessThanOrEqualTo(tolerance * tolerance);
+            }
+        }
+    }
+
+    static void randomWalk(Random random, double[] xs, double[] ys, int n) {
+        double heading = 0;
+        for (int i = 1; i < n; i++) {
+            heading += random.nextGaussian() * 0.3;
+            xs[i] = xs[i - 1] + Math.cos(heading);
+            ys[i] = ys[i - 1] + Math.sin(heading);
+        }
+    }
+
+    private static void recursiveDouglasPeucker(double[] xs, double[] ys, int i, int j, double sqrTolerance,
+                                                List<Integer> kept) {
+        int farthest = -1;
+        double farthestDistance = sqrTolerance;
+        for (int k = i + 1; k < j; k++) {
+            double distance = PolylineSimplification.sqrDistanceToSegment(xs[k], ys[k], xs[i], ys[i], xs[j], ys[j]);
+            if (distance > farthestDistance) {
+                farthest = k;
+                farthestDistance = distance;
+            }
+        }
+        if (farthest >= 0) {
+            recursiveDouglasPeucker(xs, ys, i, farthest, sqrTolerance, kept);
+            recursiveDouglasPeucker(xs, ys, farthest, j, sqrTolerance, kept);
+        } else if (j > i) {
+            kept.add(j);
+        }
+    }
+
+    /**
+     * 每次线性扫描找面积最小的顶点
+     */
+    private static double[] naiveEffectiveAreas(double[] xs, double[] ys, int n) {
+        double[] areas = new double[n];
+        Arrays.fill(areas, Double.POSITIVE_INFINITY);
+        List<Integer> alive = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            alive.add(i);
+        }
+        double removed = 0;
+        while (alive.size() > 2) {
+            int best = -1;
+            double bestArea = Double.POSITIVE_INFINITY;
+            for (int r = 1; r + 1 < alive.size(); r++) {
+                int a = alive.get(r - 1), b = alive.get(r), c = alive.get(r + 1);
+                double area = Math.abs((xs[b] - xs[a]) * (ys[c] - ys[a]) - (xs[c] - xs[a]) * (ys[b] - ys[a])) / 2;
+                area = Math.max(area, removed);
+                if (area < bestArea) {
+                    best = r;
+                    bestArea = area;
+                }
+            }
+            removed = bestArea;
+            areas[alive.remove(best)] = bestArea;
+        }
+        return areas;
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.ricky.cg.simplification;
+
+import io.github.ricky.cg.basic.point.PointBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className StreamingSimplifierTest
+ * @desc
+ */
+class StreamingSimplifierTest {
+
+    @Test
+    public void straightLine() {
+        // Given
+        PointBuffer output = new PointBuffer();
+        StreamingSimplifier simplifier = new StreamingSimplifier(0.1, 64, (x, y, index) -> output.add(x, y));
+
+        // When 共线的点只保留首尾，拐角处的点被保留
+        for (int i = 0; i <= 10; i++) {
+            simplifier.add(i, 0);
+        }
+        for (int i = 1; i <= 10; i++) {
+            simplifier.add(10, i);
+        }
+        simplifier.finish();
+
+        // Then
+        assertThat(output.size()).isEqualTo(3);
+        assertThat(output.getX(1)).isEqualTo(10);
+        assertThat(output.getY(1)).isEqualTo(0);
+        assertThat(output.getY(2)).isEqualTo(10);
+    }
+
+    @Test
+    public void withinTolerance() {
+        // Given
+        Random random = new Random(25);
+        for (int round = 0; round < 50; round++) {
+            int n = 1 + random.nextInt(5000);
+            double[] xs = new double[n], ys = new double[n];
+            PolylineSimplificationTest.randomWalk(random, xs, ys, n);
+            double tolerance = random.nextDouble() * 5;
+            int window = 1 + random.nextInt(100);
+            List<Long> indices = new ArrayList<>();
+            StreamingSimplifier simplifier = new StreamingSimplifier(tolerance, window, (x, y, index) -> {
+                assertThat(x).isEqualTo(xs[(int) index]);
+                assertThat(y).isEqualTo(ys[(int) index]);
+                indices.add(index);
+            });
+
+            // When
+            for (int i = 0; i < n; i++) {
+                simplifier.add(xs[i], ys[i]);
+            }
+            simplifier.finish();
+
+            // Then 首尾点保留，相邻输出顶点的间隔不超过窗口大小
+            int[] kept = indices.stream().mapToInt(Long::intValue).toArray();
+            assertThat(kept[0]).isEqualTo(0);
+            assertThat(kept[kept.length - 1]).isEqualTo(n - 1);
+            for (int r = 0; r + 1 < kept.length; r++) {
+                assertThat(kept[r + 1] - kept[r]).isLessThanOrEqualTo(window);
+            }
+            PolylineSimplificationTest.assertWithinTolerance(xs, ys, kept, tolerance);
+        }
+    }
+
+    @Test
+    public void emitsEagerly() {
+        // Given
+        List<Long> indices = new ArrayList<>();
+        StreamingSimplifier simplifier = new StreamingSimplifier(0.5, 4, (x, y, index) -> indices.add(index));
+
+        // When Then 第一个点立即输出；窗口满时前一个点被强制输出
+        simplifier.add(0, 0);
+        assertThat(indices).containsExactly(0L);
+        for (int i = 1; i <= 5; i++) {
+            simplifier.add(i, 0);
+        }
+        assertThat(indices).containsExactly(0L, 4L);
+        simplifier.finish();
+        assertThat(indices).containsExactly(0L, 4L, 5L);
+
+        // 结束后可以开始下一条折线
+        simplifier.add(7, 7);
+        simplifier.finish();
+        assertThat(indices).containsExactly(0L, 4L, 5L, 0L);
+        assertThat(simplifier.count()).isZero();
+    }
+
+    @Test
+    public void illegalArguments() {
+        // When Then
+        assertThatThrownBy(() -> new StreamingSimplifier(-1, 4, (x, y, index) -> {
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StreamingSimplifier(1, 0, (x, y, index) -> {
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,202 @@
+package io.github.ricky.cg.triangulation;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.hull.ConvexHull;
+import io.github.ricky.cg.predicate.RobustPredicates;
+import io.github.ricky.cg.shape.polygon.Triangle;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className DelaunayTriangulationTest
+ * @desc
+ */
+class DelaunayTriangulationTest {
+
+    @Test
+    public void square() {
+        // Given
+        Point[] points = {
+                new Point(0, 0),
+                new Point(2, 0),
+                new Point(2, 2),
+                new Point(0, 2),
+                new Point(1, 1),
+        };
+
+        // When
+        DelaunayTriangulation delaunay = new DelaunayTriangulation(points);
+        Triangle[] triangles = delaunay.toTriangles();
+
+        // Then
+        System.out.println(Arrays.toString(delaunay.getTriangles()));
+        assertThat(triangles).hasSize(4);
+        double area = 0;
+        for (Triangle triangle : triangles) {
+            area += RobustPredicates.orient2d(triangle.getA().getX(), triangle.getA().getY(),
+                    triangle.getB().getX(), triangle.getB().getY(), triangle.getC().getX(), triangle.getC().getY()) / 2;
+        }
+        assertThat(area).isEqualTo(4);
+        assertThat(delaunay.getHull()).containsExactlyInAnyOrder(0, 1, 2, 3);
+        assertValid(delaunay, new double[]{0, 2, 2, 0, 1}, new double[]{0, 0, 2, 2, 1});
+    }
+
+    @Test
+    public void degenerate() {
+        // Given
+        double[] xs = {0, 1, 2, 3, 1};
+        double[] ys = {0, 1, 2, 3, 1};
+
+        // When
+        DelaunayTriangulation empty = new DelaunayTriangulation(xs, ys, 0);
+        DelaunayTriangulation two = new DelaunayTriangulation(xs, ys, 2);
+        DelaunayTriangulation collinear = new DelaunayTriangulation(xs, ys, xs.length);
+
+        // Then
+        assertThat(empty.triangleCount()).isEqualTo(0);
+        assertThat(two.triangleCount()).isEqualTo(0);
+        assertThat(collinear.triangleCount()).isEqualTo(0);
+        assertThat(collinear.getHull()).isEmpty();
+    }
+
+    @Test
+    public void randomPoints() {
+        // Given
+        Random random = new Random(17);
+        for (int round = 0; round < 100; round++) {
+            int n = 3 + random.nextInt(round < 80 ? 60 : 20000);
+            double[] xs = new double[n], ys = new double[n];
+            for (int i = 0; i < n; i++) {
+                xs[i] = random.nextGaussian() * 100;
+                ys[i] = random.nextGaussian() * (round % 4 == 0 ? 1e-3 : 100);
+            }
+
+            // When
+            DelaunayTriangulation delaunay = new DelaunayTriangulation(xs, ys, n);
+
+            // Then
+            assertValid(delaunay, xs, ys);
+        }
+    }
+
+    @Test
+    public void gridWithDuplicates() {
+        // Given
+        Random random = new Random(71);
+        for (int round = 0; round < 100; round++) {
+            int n = 3 + random.nextInt(round < 80 ? 50 : 5000);
+            int side = 2 + random.nextInt(30);
+            double[] xs = new double[n], ys = new double[n];
+            for (int i = 0; i < n; i++) {
+                // 整数网格：大量共圆、共线与重复点
+                xs[i] = random.nextInt(side);
+                ys[i] = random.nextInt(round % 5 == 0 ? 2 : side);
+            }
+
+            // When
+            DelaunayTriangulation delaunay = new DelaunayTriangulation(xs, ys, n);
+
+            // Then
+            assertValid(delaunay, xs, ys);
+        }
+    }
+
+    @Test
+    public void largeInput() {
+        // Given
+        Random random = new Random(77);
+        int n = 1000000;
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextDouble();
+            ys[i] = random.nextDouble();
+        }
+
+        // When
+        long start = System.nanoTime();
+        DelaunayTriangulation delaunay = new DelaunayTriangulation(xs, ys, n);
+        System.out.println((System.nanoTime() - start) / 1e6 + " ms");
+
+        // Then
+        assertThat(delaunay.triangleCount()).isEqualTo(2 * n - 2 - delaunay.getHull().length);
+    }
+
+    /**
+     * 校验：三角形为逆时针、半边互为反向、每条内部边满足空圆性质、覆盖所有不重复的点、
+     * 三角形数满足欧拉公式、{@link ConvexHull} 的顶点都是网格顶点、网格面积等于凸包面积
+     */
+    private static void assertValid(DelaunayTriangulation delaunay, double[] xs, double[] ys) {
+        int n = xs.length;
+        int count = delaunay.triangleCount();
+        boolean[] used = new boolean[n];
+        for (int e = 0; e < 3 * count; e++) {
+            int a = delaunay.vertex(e);
+            int b = delaunay.vertex(next(e));
+            int c = delaunay.vertex(next(next(e)));
+            used[a] = true;
+            assertThat(RobustPredicates.orientation(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c])).isEqualTo(1);
+            int twin = delaunay.twin(e);
+            if (twin < 0) {
+                continue;
+            }
+            assertThat(delaunay.twin(twin)).isEqualTo(e);
+            assertThat(delaunay.vertex(twin)).isEqualTo(b);
+            assertThat(delaunay.vertex(next(twin))).isEqualTo(a);
+            int d = delaunay.vertex(next(next(twin)));
+            assertThat(RobustPredicates.incircle(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c], xs[d], ys[d])).isLessThanOrEqualTo(0);
+        }
+
+        int distinct = 0;
+        Set<Point> seen = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            if (seen.add(new Point(xs[i], ys[i]))) {
+                distinct++;
+            }
+        }
+        int vertices = 0;
+        for (boolean u : used) {
+            vertices += u ? 1 : 0;
+        }
+        int[] hull = delaunay.getHull();
+        if (ConvexHull.compute(xs, ys, n).length < 3) {
+            assertThat(count).isEqualTo(0);
+            return;
+        }
+        assertThat(vertices).isEqualTo(distinct);
+        assertThat(count).isEqualTo(2 * vertices - 2 - hull.length);
+        Set<Point> vertexes = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            if (used[i]) {
+                vertexes.add(new Point(xs[i], ys[i]));
+            }
+        }
+        for (int h : ConvexHull.compute(xs, ys, n)) {
+            assertThat(vertexes).contains(new Point(xs[h], ys[h]));
+        }
+        double hullArea = 0, meshArea = 0;
+        for (int i = 0; i < hull.length; i++) {
+            int a = hull[i], b = hull[(i + 1) % hull.length];
+            hullArea += xs[a] * ys[b] - xs[b] * ys[a];
+        }
+        for (int t = 0; t < count; t++) {
+            int a = delaunay.vertex(3 * t), b = delaunay.vertex(3 * t + 1), c = delaunay.vertex(3 * t + 2);
+            meshArea += (xs[b] - xs[a]) * (ys[c] - ys[a]) - (xs[c] - xs[a]) * (ys[b] - ys[a]);
+        }
+        assertThat(meshArea).isCloseTo(hullArea, within(1e-9 * Math.abs(hullArea)));
+    }
+
+    private static int next(int e) {
+        return e % 3 == 2 ? e - 2 : e + 1;
+    }
+
+}
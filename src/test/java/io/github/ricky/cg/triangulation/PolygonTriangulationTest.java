@@ -0,0 +1,236 @@
+package io.github.ricky.cg.triangulation;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.location.PreparedPolygon;
+import io.github.ricky.cg.predicate.RobustPredicates;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import io.github.ricky.cg.shape.polygon.Triangle;
+import io.github.ricky.cg.shape.polygon.enums.PositionalRelationshipEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className PolygonTriangulationTest
+ * @desc
+ */
+class PolygonTriangulationTest {
+
+    @Test
+    public void convex() {
+        // Given
+        Polygon polygon = new Polygon(new Point[]{
+                new Point(0, 0),
+                new Point(2, 0),
+                new Point(3, 1),
+                new Point(2, 2),
+                new Point(0, 2),
+        });
+
+        // When
+        int[] triangles = PolygonTriangulation.triangulate(polygon);
+        Triangle[] result = PolygonTriangulation.toTriangles(polygon);
+
+        // Then
+        System.out.println(Arrays.toString(triangles));
+        assertThat(result).hasSize(3);
+        assertValid(polygon, triangles);
+    }
+
+    @Test
+    public void concave() {
+        // Given
+        Point[] vertexes = {
+                new Point(0, 0),
+                new Point(6, 0),
+                new Point(6, 4),
+                new Point(5, 4),
+                new Point(5, 1),
+                new Point(3, 3),
+                new Point(1, 1),
+                new Point(1, 4),
+                new Point(0, 4),
+        };
+        Point[] reversed = vertexes.clone();
+        for (int i = 0; i < reversed.length; i++) {
+            reversed[i] = vertexes[vertexes.length - 1 - i];
+        }
+
+        // When
+        int[] ccw = PolygonTriangulation.triangulate(new Polygon(vertexes));
+        int[] cw = PolygonTriangulation.triangulate(new Polygon(reversed));
+
+        // Then
+        System.out.println(Arrays.toString(ccw));
+        System.out.println(Arrays.toString(cw));
+        assertValid(new Polygon(vertexes), ccw);
+        assertValid(new Polygon(reversed), cw);
+    }
+
+    @Test
+    public void comb() {
+        // Given 上下两侧各有 6250 个梯形齿，共 50000 个顶点，每个齿间都是分裂或合并顶点
+        int teeth = 6250;
+        Point[] vertexes = new Point[8 * teeth];
+        int k = 0;
+        for (int t = 0; t < teeth; t++) {
+            vertexes[k++] = new Point(2 * t, 0);
+            vertexes[k++] = new Point(2 * t + 0.25, -10);
+            vertexes[k++] = new Point(2 * t + 0.75, -10);
+            vertexes[k++] = new Point(2 * t + 1, 0);
+        }
+        for (int t = teeth - 1; t >= 0; t--) {
+            vertexes[k++] = new Point(2 * t + 1, 1);
+            vertexes[k++] = new Point(2 * t + 0.75, 11);
+            vertexes[k++] = new Point(2 * t + 0.25, 11);
+            vertexes[k++] = new Point(2 * t, 1);
+        }
+        Polygon polygon = new Polygon(vertexes);
+
+        // When
+        long start = System.nanoTime();
+        int[] triangles = PolygonTriangulation.triangulate(polygon);
+        System.out.println("comb: " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        // Then
+        assertThat(polygon.area()).isEqualTo(2 * teeth * 1 + 2 * teeth * 7.5 - 1);
+        assertValid(polygon, triangles);
+    }
+
+    @Test
+    public void spiral() {
+        // Given 阿基米德螺线形的带状多边形，共 50000 个顶点
+        int m = 25000;
+        Point[] vertexes = new Point[2 * m];
+        for (int i = 0; i < m; i++) {
+            double theta = 20 * Math.PI * i / (m - 1);
+            double inner = 10 + theta, outer = inner + 3;
+            vertexes[i] = new Point(outer * Math.cos(theta), outer * Math.sin(theta));
+            vertexes[2 * m - 1 - i] = new Point(inner * Math.cos(theta), inner * Math.sin(theta));
+        }
+        Polygon polygon = new Polygon(vertexes);
+
+        // When
+        int[] triangles = PolygonTriangulation.triangulate(polygon);
+
+        // Then
+        assertValid(polygon, triangles);
+    }
+
+    @Test
+    public void randomStarPolygons() {
+        // Given 整数坐标的星形多边形，包含大量水平边与等高顶点
+        Random random = new Random(19);
+        for (int round = 0; round < 200; round++) {
+            int n = 3 + random.nextInt(98);
+            Point[] vertexes = new Point[n];
+            for (int i = 0; i < n; i++) {
+                double theta = 2 * Math.PI * i / n;
+                double r = 100 + random.nextInt(round < 100 ? 3 : 900);
+                vertexes[i] = new Point(Math.rint(r * Math.cos(theta)), Math.rint(r * Math.sin(theta)));
+            }
+            Polygon polygon = new Polygon(vertexes);
+
+            // When
+            int[] triangles = PolygonTriangulation.triangulate(polygon);
+
+            // Then
+            assertValid(polygon, triangles);
+        }
+    }
+
+    @Test
+    public void gravityCenter() {
+        // Given 凹多边形，从第0个顶点出发的扇形并不在多边形内
+        Polygon polygon = new Polygon(new Point[]{
+                new Point(0, 0),
+                new Point(4, 4),
+                new Point(8, 0),
+                new Point(8, 8),
+                new Point(0, 8),
+        });
+
+        // When
+        Triangle[] triangles = PolygonTriangulation.toTriangles(polygon);
+
+        // Then 重心等于各三角形重心按面积加权的平均值
+        double weight = 0, cx = 0, cy = 0;
+        for (Triangle triangle : triangles) {
+            double area = triangle.area();
+            Point center = triangle.gravityCenter();
+            weight += area;
+            cx += area * center.getX();
+            cy += area * center.getY();
+        }
+        Point gravityCenter = polygon.gravityCenter();
+        System.out.println(gravityCenter);
+        assertThat(weight).isCloseTo(polygon.area(), within(1e-9));
+        assertThat(gravityCenter.getX()).isCloseTo(cx / weight, within(1e-9));
+        assertThat(gravityCenter.getY()).isCloseTo(cy / weight, within(1e-9));
+    }
+
+    @Test
+    public void degenerate() {
+        // Given
+        double[] xs = {0, 1, 2};
+        double[] ys = {0, 1, 0};
+
+        // When
+        int[] two = PolygonTriangulation.triangulate(xs, ys, 2);
+        int[] three = PolygonTriangulation.triangulate(xs, ys, 3);
+
+        // Then
+        assertThat(two).isEmpty();
+        assertThat(three).containsExactly(2, 1, 0);
+    }
+
+    /**
+     * 检查剖分：n-2 个逆时针三角形，多边形的每条边恰好属于一个三角形，其余边成对出现（即为对角线），
+     * 面积之和等于多边形面积，非退化三角形的重心都在多边形内
+     */
+    private static void assertValid(Polygon polygon, int[] triangles) {
+        int n = polygon.count();
+        assertThat(triangles).hasSize(3 * (n - 2));
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = polygon.getVertex(i).getX();
+            ys[i] = polygon.getVertex(i).getY();
+        }
+        PreparedPolygon prepared = new PreparedPolygon(polygon);
+        Set<Long> edges = new HashSet<>();
+        double area = 0;
+        for (int t = 0; t < triangles.length; t += 3) {
+            int a = triangles[t], b = triangles[t + 1], c = triangles[t + 2];
+            assertThat(RobustPredicates.orientation(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c])).isNotNegative();
+            assertThat(edges.add((long) a * n + b)).isTrue();
+            assertThat(edges.add((long) b * n + c)).isTrue();
+            assertThat(edges.add((long) c * n + a)).isTrue();
+            double doubleArea = RobustPredicates.orient2d(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c]);
+            area += doubleArea / 2;
+            if (doubleArea > 0) {
+                double cx = (xs[a] + xs[b] + xs[c]) / 3, cy = (ys[a] + ys[b] + ys[c]) / 3;
+                assertThat(prepared.locate(cx, cy)).isEqualTo(PositionalRelationshipEnum.INSIDE);
+            }
+        }
+        boolean counterClockwise = polygon.checkVerticesCounterClockwise();
+        for (int i = 0; i < n; i++) {
+            int j = i + 1 == n ? 0 : i + 1;
+            long boundary = counterClockwise ? (long) i * n + j : (long) j * n + i;
+            assertThat(edges.remove(boundary)).isTrue();
+        }
+        for (long edge : edges) {
+            assertThat(edges.contains((edge % n) * n + edge / n)).isTrue();
+        }
+        double expected = Math.abs(polygon.area());
+        assertThat(area).isCloseTo(expected, within(1e-9 * expected));
+    }
+}
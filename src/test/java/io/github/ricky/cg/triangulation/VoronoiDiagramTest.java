@@ -0,0 +1,115 @@
+package io.github.ricky.cg.triangulation;
+
+import io.github.ricky.cg.basic.point.Point;
+import io.github.ricky.cg.shape.polygon.Polygon;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * @author Ricky
+ * @version 1.0
+ * @date 2026/10/17
+ * @className VoronoiDiagramTest
+ * @desc
+ */
+class VoronoiDiagramTest {
+
+    final Polygon square = new Polygon(new Point[]{
+            Point.ORIGINAL_POINT,
+            new Point(3, 0),
+            new Point(3, 3),
+            new Point(0, 3),
+    });
+
+    @Test
+    public void grid() {
+        // Given
+        double[] xs = new double[9], ys = new double[9];
+        for (int i = 0; i < 9; i++) {
+            xs[i] = i % 3 + 0.5;
+            ys[i] = i / 3 + 0.5;
+        }
+
+        // When
+        VoronoiDiagram voronoi = new VoronoiDiagram(new DelaunayTriangulation(xs, ys, 9), square);
+
+        // Then
+        for (int i = 0; i < 9; i++) {
+            Polygon cell = voronoi.cell(i);
+            System.out.println(java.util.Arrays.toString(cell.getVertexes()));
+            assertThat(cell.area()).isCloseTo(1, within(1e-12));
+            assertThat(cell.gravityCenter().getX()).isCloseTo(xs[i], within(1e-12));
+            assertThat(cell.gravityCenter().getY()).isCloseTo(ys[i], within(1e-12));
+            assertThat(voronoi.isUnbounded(i)).isEqualTo(i != 4);
+        }
+    }
+
+    @Test
+    public void degenerate() {
+        // Given
+        double[] xs = {1, 2, 1, 0.5};
+        double[] ys = {1, 2, 1, 0.5};
+
+        // When
+        VoronoiDiagram voronoi = new VoronoiDiagram(new DelaunayTriangulation(xs, ys, 4), square);
+        VoronoiDiagram single = new VoronoiDiagram(new DelaunayTriangulation(xs, ys, 1), square);
+
+        // Then
+        double area = 0;
+        int cells = 0;
+        for (int i = 0; i < 4; i++) {
+            Polygon cell = voronoi.cell(i);
+            if (cell != null) {
+                area += cell.area();
+                cells++;
+            }
+        }
+        assertThat(cells).isEqualTo(3);
+        assertThat(area).isCloseTo(9, within(1e-12));
+        assertThat(single.cell(0).area()).isEqualTo(9);
+    }
+
+    @Test
+    public void randomSites() {
+        // Given
+        Random random = new Random(18);
+        for (int round = 0; round < 50; round++) {
+            int n = 1 + random.nextInt(round < 40 ? 40 : 3000);
+            double[] xs = new double[n], ys = new double[n];
+            for (int i = 0; i < n; i++) {
+                // 部分站点在边界外
+                xs[i] = round % 2 == 0 ? random.nextInt(5) : random.nextDouble() * 4 - 0.5;
+                ys[i] = round % 2 == 0 ? random.nextInt(5) : random.nextDouble() * 4 - 0.5;
+            }
+            Polygon bounds = round % 3 == 0 ? square : new Polygon(new Point[]{
+                    new Point(0, 3), new Point(1.5, 0), new Point(3, 3),
+            });
+
+            // When
+            VoronoiDiagram voronoi = new VoronoiDiagram(new DelaunayTriangulation(xs, ys, n), bounds);
+
+            // Then
+            double area = 0;
+            for (int i = 0; i < n; i++) {
+                Polygon cell = voronoi.cell(i);
+                if (cell == null) {
+                    continue;
+                }
+                area += cell.area();
+                for (int k = 0; k < cell.count(); k++) {
+                    Point v = cell.getVertex(k);
+                    double own = Math.hypot(v.getX() - xs[i], v.getY() - ys[i]);
+                    for (int j = 0; j < n; j++) {
+                        assertThat(own).isLessThanOrEqualTo(Math.hypot(v.getX() - xs[j], v.getY() - ys[j]) + 1e-9);
+                    }
+                }
+            }
+            assertThat(area).isCloseTo(Math.abs(bounds.area()), within(1e-9));
+        }
+    }
+
+}